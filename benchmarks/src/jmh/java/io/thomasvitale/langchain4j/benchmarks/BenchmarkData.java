@@ -0,0 +1,74 @@
+package io.thomasvitale.langchain4j.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.ImageContent;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.TextContent;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.data.message.UserMessage;
+
+/**
+ * Generates the data used by the benchmarks. A fixed seed makes every run work on the same data.
+ */
+public final class BenchmarkData {
+
+    private static final long SEED = 42;
+
+    private BenchmarkData() {}
+
+    /**
+     * Returns a conversation with a system message followed by {@code turns} exchanges,
+     * covering text, image and tool execution messages.
+     */
+    public static List<ChatMessage> conversation(int turns) {
+        List<ChatMessage> messages = new ArrayList<>(turns * 2 + 1);
+        messages.add(SystemMessage.from("You are a helpful assistant. Answer concisely and cite your sources."));
+        for (int i = 0; i < turns; i++) {
+            switch (i % 3) {
+                case 0 -> {
+                    messages.add(UserMessage.from("What's the weather like in Copenhagen on day " + i + "?"));
+                    messages.add(AiMessage.from(ToolExecutionRequest.builder()
+                        .id("call_" + i)
+                        .name("weather")
+                        .arguments("{\"city\":\"Copenhagen\",\"day\":" + i + "}")
+                        .build()));
+                    messages.add(ToolExecutionResultMessage.from("call_" + i, "weather",
+                            "{\"temperature\":12,\"conditions\":\"cloudy\"}"));
+                }
+                case 1 -> {
+                    messages.add(UserMessage.from(TextContent.from("Describe this picture."),
+                            ImageContent.from("https://example.net/images/" + i + ".png")));
+                    messages.add(AiMessage.from("A harbour with colourful houses along the canal."));
+                }
+                default -> {
+                    messages.add(UserMessage.from("Summarize our conversation so far in one sentence."));
+                    messages.add(AiMessage.from("We talked about the weather in Copenhagen and a picture of Nyhavn."));
+                }
+            }
+        }
+        return messages;
+    }
+
+    /**
+     * Returns {@code count} random vectors with the given number of dimensions.
+     */
+    public static List<float[]> vectors(int count, int dimensions) {
+        Random random = new Random(SEED);
+        List<float[]> vectors = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            float[] vector = new float[dimensions];
+            for (int j = 0; j < dimensions; j++) {
+                vector[j] = random.nextFloat() * 2 - 1;
+            }
+            vectors.add(vector);
+        }
+        return vectors;
+    }
+
+}
@@ -0,0 +1,61 @@
+package io.thomasvitale.langchain4j.benchmarks.adapters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.thomasvitale.langchain4j.benchmarks.BenchmarkData;
+import io.thomasvitale.langchain4j.spring.chroma.ChromaAdapters;
+import io.thomasvitale.langchain4j.spring.chroma.api.QueryResponse;
+
+/**
+ * Benchmarks for converting a Chroma query response into embedding matches, done for every search.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChromaAdaptersBenchmark {
+
+    @Param({ "10", "100" })
+    private int results;
+
+    @Param({ "384", "1536" })
+    private int dimensions;
+
+    private QueryResponse queryResponse;
+
+    @Setup
+    public void setup() {
+        List<String> ids = new ArrayList<>(results);
+        List<String> documents = new ArrayList<>(results);
+        List<Map<String, String>> metadata = new ArrayList<>(results);
+        List<Double> distances = new ArrayList<>(results);
+        for (int i = 0; i < results; i++) {
+            ids.add("id-" + i);
+            documents.add("Document number " + i + " about the history of Copenhagen.");
+            metadata.add(Map.of("source", "wiki", "page", String.valueOf(i)));
+            distances.add(0.1 + i * 0.01);
+        }
+        queryResponse = new QueryResponse(List.of(ids), List.of(BenchmarkData.vectors(results, dimensions)),
+                List.of(documents), List.of(metadata), List.of(distances));
+    }
+
+    @Benchmark
+    public List<EmbeddingMatch<TextSegment>> toEmbeddingMatches() {
+        return ChromaAdapters.toEmbeddingMatches(queryResponse);
+    }
+
+}
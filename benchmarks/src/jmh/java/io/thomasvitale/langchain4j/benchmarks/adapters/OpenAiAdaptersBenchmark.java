@@ -0,0 +1,44 @@
+package io.thomasvitale.langchain4j.benchmarks.adapters;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import dev.langchain4j.data.message.ChatMessage;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.thomasvitale.langchain4j.benchmarks.BenchmarkData;
+import io.thomasvitale.langchain4j.spring.openai.OpenAiAdapters;
+import io.thomasvitale.langchain4j.spring.openai.api.chat.ChatCompletionMessage;
+
+/**
+ * Benchmarks for converting LangChain4j messages into OpenAI messages, done for every chat request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OpenAiAdaptersBenchmark {
+
+    @Param({ "1", "10", "100" })
+    private int turns;
+
+    private List<ChatMessage> messages;
+
+    @Setup
+    public void setup() {
+        messages = BenchmarkData.conversation(turns);
+    }
+
+    @Benchmark
+    public List<ChatCompletionMessage> toOpenAiMessages() {
+        return OpenAiAdapters.toOpenAiMessages(messages);
+    }
+
+}
@@ -0,0 +1,63 @@
+package io.thomasvitale.langchain4j.benchmarks.clients;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.web.client.RestClient;
+
+import io.thomasvitale.langchain4j.benchmarks.BenchmarkData;
+import io.thomasvitale.langchain4j.spring.chroma.api.QueryRequest;
+import io.thomasvitale.langchain4j.spring.chroma.api.QueryResponse;
+import io.thomasvitale.langchain4j.spring.chroma.client.ChromaClient;
+import io.thomasvitale.langchain4j.spring.chroma.client.ChromaClientConfig;
+
+/**
+ * End-to-end benchmarks for {@link ChromaClient}, against a server replaying recorded Chroma responses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChromaClientBenchmark {
+
+    private static final String COLLECTION_NAME = "benchmark";
+
+    private RecordedResponsesServer server;
+
+    private ChromaClient chromaClient;
+
+    private QueryRequest queryRequest;
+
+    @Setup
+    public void setup() {
+        server = new RecordedResponsesServer(Map.of(
+                "/api/v1/collections/" + COLLECTION_NAME + "/query", "chroma-query.json"));
+
+        chromaClient = new ChromaClient(ChromaClientConfig.builder()
+            .url(server.baseUrl())
+            .build(), RestClient.builder());
+
+        queryRequest = QueryRequest.builder()
+            .queryEmbeddings(BenchmarkData.vectors(1, 384))
+            .nResults(10)
+            .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public QueryResponse queryCollection() {
+        return chromaClient.queryCollection(COLLECTION_NAME, queryRequest);
+    }
+
+}
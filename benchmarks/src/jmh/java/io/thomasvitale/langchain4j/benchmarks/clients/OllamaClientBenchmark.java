@@ -0,0 +1,81 @@
+package io.thomasvitale.langchain4j.benchmarks.clients;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.web.client.RestClient;
+
+import io.thomasvitale.langchain4j.spring.ollama.api.ChatRequest;
+import io.thomasvitale.langchain4j.spring.ollama.api.ChatResponse;
+import io.thomasvitale.langchain4j.spring.ollama.api.EmbedRequest;
+import io.thomasvitale.langchain4j.spring.ollama.api.EmbedResponse;
+import io.thomasvitale.langchain4j.spring.ollama.api.Message;
+import io.thomasvitale.langchain4j.spring.ollama.client.OllamaClient;
+import io.thomasvitale.langchain4j.spring.ollama.client.OllamaClientConfig;
+
+/**
+ * End-to-end benchmarks for {@link OllamaClient}, against a server replaying recorded Ollama responses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OllamaClientBenchmark {
+
+    private RecordedResponsesServer server;
+
+    private OllamaClient ollamaClient;
+
+    private ChatRequest chatRequest;
+
+    private EmbedRequest embedRequest;
+
+    @Setup
+    public void setup() {
+        server = new RecordedResponsesServer(Map.of(
+                "/api/chat", "ollama-chat.json",
+                "/api/embed", "ollama-embed.json"));
+
+        ollamaClient = new OllamaClient(OllamaClientConfig.builder()
+            .baseUrl(server.baseUrl())
+            .build(), RestClient.builder());
+
+        chatRequest = ChatRequest.builder()
+            .model("llama3")
+            .messages(List.of(
+                    Message.builder().role(Message.Role.SYSTEM).content("You are a helpful assistant.").build(),
+                    Message.builder().role(Message.Role.USER).content("Tell me about Copenhagen.").build()))
+            .stream(false)
+            .build();
+
+        embedRequest = EmbedRequest.builder()
+            .model("nomic-embed-text")
+            .input(List.of("What's the weather like in Copenhagen?"))
+            .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        ollamaClient.close();
+        server.close();
+    }
+
+    @Benchmark
+    public ChatResponse chat() {
+        return ollamaClient.chat(chatRequest);
+    }
+
+    @Benchmark
+    public EmbedResponse embed() {
+        return ollamaClient.embed(embedRequest);
+    }
+
+}
@@ -0,0 +1,80 @@
+package io.thomasvitale.langchain4j.benchmarks.clients;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.web.client.RestClient;
+
+import io.thomasvitale.langchain4j.benchmarks.BenchmarkData;
+import io.thomasvitale.langchain4j.spring.openai.OpenAiAdapters;
+import io.thomasvitale.langchain4j.spring.openai.api.chat.ChatCompletionRequest;
+import io.thomasvitale.langchain4j.spring.openai.api.chat.ChatCompletionResponse;
+import io.thomasvitale.langchain4j.spring.openai.api.embedding.EmbeddingRequest;
+import io.thomasvitale.langchain4j.spring.openai.api.embedding.EmbeddingResponse;
+import io.thomasvitale.langchain4j.spring.openai.client.OpenAiClient;
+import io.thomasvitale.langchain4j.spring.openai.client.OpenAiClientConfig;
+
+/**
+ * End-to-end benchmarks for {@link OpenAiClient}, against a server replaying recorded OpenAI responses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OpenAiClientBenchmark {
+
+    private RecordedResponsesServer server;
+
+    private OpenAiClient openAiClient;
+
+    private ChatCompletionRequest chatCompletionRequest;
+
+    private EmbeddingRequest embeddingRequest;
+
+    @Setup
+    public void setup() {
+        server = new RecordedResponsesServer(Map.of(
+                "/v1/chat/completions", "openai-chat-completion.json",
+                "/v1/embeddings", "openai-embeddings.json"));
+
+        openAiClient = new OpenAiClient(OpenAiClientConfig.builder()
+            .baseUrl(server.baseUrl())
+            .apiKey("benchmark")
+            .build(), RestClient.builder());
+
+        chatCompletionRequest = ChatCompletionRequest.builder()
+            .model("gpt-4o-mini")
+            .messages(OpenAiAdapters.toOpenAiMessages(BenchmarkData.conversation(10)))
+            .build();
+
+        embeddingRequest = EmbeddingRequest.builder()
+            .model("text-embedding-3-small")
+            .input(List.of("What's the weather like in Copenhagen?"))
+            .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        openAiClient.close();
+        server.close();
+    }
+
+    @Benchmark
+    public ChatCompletionResponse chatCompletion() {
+        return openAiClient.chatCompletion(chatCompletionRequest);
+    }
+
+    @Benchmark
+    public EmbeddingResponse embeddings() {
+        return openAiClient.embeddings(embeddingRequest);
+    }
+
+}
@@ -0,0 +1,86 @@
+package io.thomasvitale.langchain4j.benchmarks.clients;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * In-process HTTP server replaying recorded responses, so that the client benchmarks measure
+ * the cost of building requests, going through the HTTP stack and parsing responses,
+ * without depending on the latency of a real server.
+ * <p>
+ * It's based on the HTTP server in the JDK, to avoid adding dependencies to the build.
+ */
+class RecordedResponsesServer implements AutoCloseable {
+
+    private final HttpServer httpServer;
+
+    private final ExecutorService executor;
+
+    /**
+     * Starts a server on a random local port, answering each of the given paths
+     * with the recording found at the mapped classpath resource.
+     */
+    RecordedResponsesServer(Map<String, String> recordingsByPath) {
+        try {
+            this.httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        recordingsByPath.forEach((path, recording) -> {
+            byte[] body = readRecording(recording);
+            httpServer.createContext(path, exchange -> {
+                try (InputStream requestBody = exchange.getRequestBody()) {
+                    requestBody.transferTo(OutputStream.nullOutputStream());
+                }
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream responseBody = exchange.getResponseBody()) {
+                    responseBody.write(body);
+                }
+            });
+        });
+
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "recorded-responses-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        httpServer.setExecutor(executor);
+        httpServer.start();
+    }
+
+    URI baseUrl() {
+        return URI.create("http://" + httpServer.getAddress().getHostString() + ":" + httpServer.getAddress().getPort());
+    }
+
+    @Override
+    public void close() {
+        httpServer.stop(0);
+        executor.shutdownNow();
+    }
+
+    private static byte[] readRecording(String recording) {
+        try (InputStream inputStream = RecordedResponsesServer.class.getResourceAsStream("/recordings/" + recording)) {
+            if (inputStream == null) {
+                throw new IllegalArgumentException("Recording not found: " + recording);
+            }
+            return inputStream.readAllBytes();
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+}
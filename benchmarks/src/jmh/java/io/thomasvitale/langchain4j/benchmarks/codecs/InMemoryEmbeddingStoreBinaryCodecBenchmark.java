@@ -0,0 +1,83 @@
+package io.thomasvitale.langchain4j.benchmarks.codecs;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.thomasvitale.langchain4j.benchmarks.BenchmarkData;
+import io.thomasvitale.langchain4j.spring.core.vectorstore.inmemory.binary.InMemoryEmbeddingStoreBinaryCodec;
+
+/**
+ * Benchmarks for persisting and loading an {@link InMemoryEmbeddingStore}
+ * with {@link InMemoryEmbeddingStoreBinaryCodec}, to compare with the JSON codec.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class InMemoryEmbeddingStoreBinaryCodecBenchmark {
+
+    @Param({ "100", "1000" })
+    private int entries;
+
+    @Param({ "384", "1536" })
+    private int dimensions;
+
+    private final InMemoryEmbeddingStoreBinaryCodec codec = new InMemoryEmbeddingStoreBinaryCodec();
+
+    private InMemoryEmbeddingStore<TextSegment> embeddingStore;
+
+    private Path directory;
+
+    private Path file;
+
+    @Setup
+    public void setup() throws IOException {
+        List<Embedding> embeddings = new ArrayList<>(entries);
+        List<TextSegment> textSegments = new ArrayList<>(entries);
+        for (float[] vector : BenchmarkData.vectors(entries, dimensions)) {
+            embeddings.add(Embedding.from(vector));
+            textSegments.add(TextSegment.from("Text segment number " + textSegments.size()));
+        }
+        embeddingStore = new InMemoryEmbeddingStore<>();
+        embeddingStore.addAll(embeddings, textSegments);
+
+        directory = Files.createTempDirectory("embedding-store-benchmark");
+        file = directory.resolve("read.bin");
+        codec.write(embeddingStore, file);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(directory.resolve("write.bin"));
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public void write() {
+        codec.write(embeddingStore, directory.resolve("write.bin"));
+    }
+
+    @Benchmark
+    public InMemoryEmbeddingStore<TextSegment> read() {
+        return codec.read(file);
+    }
+
+}
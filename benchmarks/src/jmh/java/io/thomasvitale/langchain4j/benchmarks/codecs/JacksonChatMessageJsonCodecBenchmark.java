@@ -0,0 +1,53 @@
+package io.thomasvitale.langchain4j.benchmarks.codecs;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import dev.langchain4j.data.message.ChatMessage;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.thomasvitale.langchain4j.benchmarks.BenchmarkData;
+import io.thomasvitale.langchain4j.spring.core.chat.messages.jackson.JacksonChatMessageJsonCodec;
+
+/**
+ * Benchmarks for serializing and deserializing chat memories with {@link JacksonChatMessageJsonCodec}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JacksonChatMessageJsonCodecBenchmark {
+
+    @Param({ "1", "10", "100" })
+    private int turns;
+
+    private final JacksonChatMessageJsonCodec codec = new JacksonChatMessageJsonCodec();
+
+    private List<ChatMessage> messages;
+
+    private String json;
+
+    @Setup
+    public void setup() {
+        messages = BenchmarkData.conversation(turns);
+        json = codec.messagesToJson(messages);
+    }
+
+    @Benchmark
+    public String messagesToJson() {
+        return codec.messagesToJson(messages);
+    }
+
+    @Benchmark
+    public List<ChatMessage> messagesFromJson() {
+        return codec.messagesFromJson(json);
+    }
+
+}
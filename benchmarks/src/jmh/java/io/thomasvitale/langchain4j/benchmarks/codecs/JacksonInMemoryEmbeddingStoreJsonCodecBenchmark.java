@@ -0,0 +1,107 @@
+package io.thomasvitale.langchain4j.benchmarks.codecs;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.thomasvitale.langchain4j.benchmarks.BenchmarkData;
+import io.thomasvitale.langchain4j.spring.core.vectorstore.inmemory.jackson.JacksonInMemoryEmbeddingStoreJsonCodec;
+
+/**
+ * Benchmarks for persisting and loading an {@link InMemoryEmbeddingStore}
+ * with {@link JacksonInMemoryEmbeddingStoreJsonCodec}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JacksonInMemoryEmbeddingStoreJsonCodecBenchmark {
+
+    @Param({ "100", "1000" })
+    private int entries;
+
+    @Param({ "384", "1536" })
+    private int dimensions;
+
+    private final JacksonInMemoryEmbeddingStoreJsonCodec codec = new JacksonInMemoryEmbeddingStoreJsonCodec();
+
+    private InMemoryEmbeddingStore<TextSegment> embeddingStore;
+
+    private String json;
+
+    private byte[] jsonBytes;
+
+    @Setup
+    public void setup() {
+        List<Embedding> embeddings = new ArrayList<>(entries);
+        List<TextSegment> textSegments = new ArrayList<>(entries);
+        for (float[] vector : BenchmarkData.vectors(entries, dimensions)) {
+            embeddings.add(Embedding.from(vector));
+            textSegments.add(TextSegment.from("Text segment number " + textSegments.size()));
+        }
+        embeddingStore = new InMemoryEmbeddingStore<>();
+        embeddingStore.addAll(embeddings, textSegments);
+        json = codec.toJson(embeddingStore);
+        jsonBytes = json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return codec.toJson(embeddingStore);
+    }
+
+    @Benchmark
+    public InMemoryEmbeddingStore<TextSegment> fromJson() {
+        return codec.fromJson(json);
+    }
+
+    @Benchmark
+    public void write(Blackhole blackhole) {
+        codec.write(embeddingStore, new BlackholeOutputStream(blackhole));
+    }
+
+    @Benchmark
+    public InMemoryEmbeddingStore<TextSegment> read() {
+        return codec.read(new ByteArrayInputStream(jsonBytes));
+    }
+
+    /**
+     * Consumes the written bytes without keeping them, as when writing to a file.
+     */
+    private static class BlackholeOutputStream extends OutputStream {
+
+        private final Blackhole blackhole;
+
+        BlackholeOutputStream(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void write(int b) {
+            blackhole.consume(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            blackhole.consume(b);
+        }
+
+    }
+
+}
@@ -0,0 +1,107 @@
+package io.thomasvitale.langchain4j.autoconfigure.chat.cache;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import dev.langchain4j.model.chat.ChatLanguageModel;
+
+import io.micrometer.observation.ObservationRegistry;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.util.Assert;
+
+import io.thomasvitale.langchain4j.spring.core.chat.cache.CachingChatLanguageModel;
+import io.thomasvitale.langchain4j.spring.core.chat.cache.ChatResponseCache;
+import io.thomasvitale.langchain4j.spring.core.chat.cache.SemanticCachingChatLanguageModel;
+import io.thomasvitale.langchain4j.spring.core.chat.cache.SemanticChatResponseCache;
+
+/**
+ * Wraps the chat model beans of the given type in a {@link CachingChatLanguageModel},
+ * as long as a {@link ChatResponseCache} bean is available, and in a {@link SemanticCachingChatLanguageModel}
+ * before that, as long as a {@link SemanticChatResponseCache} bean is available.
+ */
+public class CachingChatLanguageModelPostProcessor<T extends ChatLanguageModel> implements BeanPostProcessor {
+
+    private final Class<T> chatModelType;
+
+    private final Function<T, String> modelNameExtractor;
+
+    private final Function<T, Object> optionsExtractor;
+
+    private final Predicate<T> deterministic;
+
+    private final ObjectProvider<ChatResponseCache> chatResponseCache;
+
+    private final ObjectProvider<SemanticChatResponseCache> semanticChatResponseCache;
+
+    private final ObjectProvider<ChatCacheProperties> chatCacheProperties;
+
+    private final ObjectProvider<ObservationRegistry> observationRegistry;
+
+    public CachingChatLanguageModelPostProcessor(Class<T> chatModelType, Function<T, String> modelNameExtractor,
+            Function<T, Object> optionsExtractor, Predicate<T> deterministic, ObjectProvider<ChatResponseCache> chatResponseCache,
+            ObjectProvider<SemanticChatResponseCache> semanticChatResponseCache, ObjectProvider<ChatCacheProperties> chatCacheProperties,
+            ObjectProvider<ObservationRegistry> observationRegistry) {
+        Assert.notNull(chatModelType, "chatModelType cannot be null");
+        Assert.notNull(modelNameExtractor, "modelNameExtractor cannot be null");
+        Assert.notNull(optionsExtractor, "optionsExtractor cannot be null");
+        Assert.notNull(deterministic, "deterministic cannot be null");
+        Assert.notNull(chatResponseCache, "chatResponseCache cannot be null");
+        Assert.notNull(semanticChatResponseCache, "semanticChatResponseCache cannot be null");
+        Assert.notNull(chatCacheProperties, "chatCacheProperties cannot be null");
+        Assert.notNull(observationRegistry, "observationRegistry cannot be null");
+
+        this.chatModelType = chatModelType;
+        this.modelNameExtractor = modelNameExtractor;
+        this.optionsExtractor = optionsExtractor;
+        this.deterministic = deterministic;
+        this.chatResponseCache = chatResponseCache;
+        this.semanticChatResponseCache = semanticChatResponseCache;
+        this.chatCacheProperties = chatCacheProperties;
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        if (!chatModelType.isInstance(bean)) {
+            return bean;
+        }
+
+        ChatResponseCache cache = chatResponseCache.getIfUnique();
+        if (cache == null) {
+            return bean;
+        }
+
+        T chatModel = chatModelType.cast(bean);
+        String modelName = modelNameExtractor.apply(chatModel);
+        Object options = optionsExtractor.apply(chatModel);
+        ObservationRegistry registry = Objects.requireNonNullElse(observationRegistry.getIfUnique(), ObservationRegistry.NOOP);
+
+        ChatLanguageModel delegate = chatModel;
+        SemanticChatResponseCache semanticCache = semanticChatResponseCache.getIfUnique();
+        if (semanticCache != null) {
+            delegate = SemanticCachingChatLanguageModel.builder()
+                .delegate(chatModel)
+                .cache(semanticCache)
+                .modelName(modelName)
+                .options(options)
+                .observationRegistry(registry)
+                .build();
+        }
+
+        ChatCacheProperties properties = chatCacheProperties.getIfUnique();
+        return CachingChatLanguageModel.builder()
+            .delegate(delegate)
+            .cache(cache)
+            .modelName(modelName)
+            .options(options)
+            .deterministic(deterministic.test(chatModel))
+            .cacheNonDeterministic(properties != null && properties.isCacheNonDeterministic())
+            .observationRegistry(registry)
+            .build();
+    }
+
+}
@@ -0,0 +1,75 @@
+package io.thomasvitale.langchain4j.autoconfigure.chat.cache;
+
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnSingleCandidate;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+import io.thomasvitale.langchain4j.autoconfigure.models.ollama.OllamaAutoConfiguration;
+import io.thomasvitale.langchain4j.autoconfigure.models.openai.OpenAiAutoConfiguration;
+import io.thomasvitale.langchain4j.autoconfigure.threads.TaskExecutors;
+import io.thomasvitale.langchain4j.autoconfigure.threads.ThreadsAutoConfiguration;
+import io.thomasvitale.langchain4j.spring.core.chat.cache.CachingChatLanguageModel;
+import io.thomasvitale.langchain4j.spring.core.chat.cache.ChatResponseCache;
+import io.thomasvitale.langchain4j.spring.core.chat.cache.InMemoryChatResponseCache;
+import io.thomasvitale.langchain4j.spring.core.chat.cache.SemanticChatResponseCache;
+
+/**
+ * Auto-configuration for caching the responses generated by the chat models.
+ * <p>
+ * The chat models are wrapped in a {@link CachingChatLanguageModel} by the
+ * {@link CachingChatLanguageModelPostProcessor} registered by each model auto-configuration,
+ * so they should be injected as {@link dev.langchain4j.model.chat.ChatLanguageModel}
+ * rather than by their concrete type. When the semantic cache is enabled, it's consulted
+ * for the requests not found in the exact cache. It requires a single {@link EmbeddingModel}
+ * bean, or a primary one when several models are available.
+ */
+@AutoConfiguration(after = { OpenAiAutoConfiguration.class, OllamaAutoConfiguration.class, ThreadsAutoConfiguration.class })
+@ConditionalOnClass(CachingChatLanguageModel.class)
+@ConditionalOnProperty(prefix = ChatCacheProperties.CONFIG_PREFIX, name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ChatCacheProperties.class)
+public class ChatCacheAutoConfiguration {
+
+    /**
+     * Name of the optional {@link EmbeddingStore} bean where to store the responses of the semantic cache.
+     */
+    public static final String EMBEDDING_STORE_BEAN_NAME = "chatCacheEmbeddingStore";
+
+    @Bean
+    @ConditionalOnMissingBean
+    ChatResponseCache chatResponseCache(ChatCacheProperties chatCacheProperties) {
+        return InMemoryChatResponseCache.builder()
+            .maxEntries(chatCacheProperties.getMaxEntries())
+            .timeToLive(chatCacheProperties.getTimeToLive())
+            .build();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnSingleCandidate(EmbeddingModel.class)
+    @ConditionalOnProperty(prefix = ChatCacheProperties.CONFIG_PREFIX + ".semantic", name = "enabled", havingValue = "true")
+    SemanticChatResponseCache semanticChatResponseCache(ChatCacheProperties chatCacheProperties, EmbeddingModel embeddingModel,
+            @Qualifier(EMBEDDING_STORE_BEAN_NAME) ObjectProvider<EmbeddingStore<TextSegment>> embeddingStore,
+            ObjectProvider<TaskExecutors> taskExecutors) {
+        var semanticCacheBuilder = SemanticChatResponseCache.builder()
+            .embeddingModel(embeddingModel)
+            .embeddingStore(embeddingStore.getIfAvailable())
+            .minScore(chatCacheProperties.getSemantic().getMinScore())
+            .timeToLive(chatCacheProperties.getSemantic().getTimeToLive())
+            .maxResults(chatCacheProperties.getSemantic().getMaxResults())
+            .maxEntries(chatCacheProperties.getSemantic().getMaxEntries())
+            .filterByNamespace(chatCacheProperties.getSemantic().getFilterByNamespace());
+        taskExecutors.ifAvailable(executors -> semanticCacheBuilder.executor(executors.create("semantic-cache-")));
+        return semanticCacheBuilder.build();
+    }
+
+}
@@ -0,0 +1,166 @@
+package io.thomasvitale.langchain4j.autoconfigure.chat.cache;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import io.thomasvitale.langchain4j.spring.core.chat.cache.InMemoryChatResponseCache;
+import io.thomasvitale.langchain4j.spring.core.chat.cache.SemanticChatResponseCache;
+
+/**
+ * Configuration properties for caching the responses generated by the chat models.
+ */
+@ConfigurationProperties(prefix = ChatCacheProperties.CONFIG_PREFIX)
+public class ChatCacheProperties {
+
+    public static final String CONFIG_PREFIX = "langchain4j.chat.cache";
+
+    /**
+     * Whether to cache the responses generated by the chat models.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Maximum number of responses kept in memory.
+     */
+    private int maxEntries = InMemoryChatResponseCache.DEFAULT_MAX_ENTRIES;
+
+    /**
+     * How long a response is kept in memory.
+     */
+    private Duration timeToLive = InMemoryChatResponseCache.DEFAULT_TIME_TO_LIVE;
+
+    /**
+     * Whether to cache responses also when the model is not configured to be deterministic,
+     * that is with a zero temperature and a fixed seed.
+     */
+    private boolean cacheNonDeterministic = false;
+
+    /**
+     * Settings for serving cached responses to questions similar to the ones answered before.
+     */
+    private final Semantic semantic = new Semantic();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    public void setTimeToLive(Duration timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    public boolean isCacheNonDeterministic() {
+        return cacheNonDeterministic;
+    }
+
+    public void setCacheNonDeterministic(boolean cacheNonDeterministic) {
+        this.cacheNonDeterministic = cacheNonDeterministic;
+    }
+
+    public Semantic getSemantic() {
+        return semantic;
+    }
+
+    public static class Semantic {
+
+        /**
+         * Whether to serve cached responses to questions similar to the ones answered before.
+         * It requires a single, or primary, EmbeddingModel bean. Responses are stored in memory,
+         * unless an EmbeddingStore bean named "chatCacheEmbeddingStore" is defined.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Minimum relevance score, between 0 and 1, for a question to be considered similar to a cached one.
+         */
+        private double minScore = SemanticChatResponseCache.DEFAULT_MIN_SCORE;
+
+        /**
+         * How long a response is served from the cache.
+         */
+        private Duration timeToLive = SemanticChatResponseCache.DEFAULT_TIME_TO_LIVE;
+
+        /**
+         * Number of similar questions retrieved from the store for each request.
+         */
+        private int maxResults = SemanticChatResponseCache.DEFAULT_MAX_RESULTS;
+
+        /**
+         * Maximum number of responses kept in memory. It doesn't apply to the "chatCacheEmbeddingStore" bean.
+         */
+        private int maxEntries = SemanticChatResponseCache.DEFAULT_MAX_ENTRIES;
+
+        /**
+         * Whether the store applies metadata filters, so that lookups are restricted to the namespace.
+         * Otherwise, more similar questions are retrieved and those of other namespaces are skipped.
+         * If not set, it's enabled only when responses are stored in memory.
+         */
+        private Boolean filterByNamespace;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public double getMinScore() {
+            return minScore;
+        }
+
+        public void setMinScore(double minScore) {
+            this.minScore = minScore;
+        }
+
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+
+        public void setTimeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+
+        public int getMaxResults() {
+            return maxResults;
+        }
+
+        public void setMaxResults(int maxResults) {
+            this.maxResults = maxResults;
+        }
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        public Boolean getFilterByNamespace() {
+            return filterByNamespace;
+        }
+
+        public void setFilterByNamespace(Boolean filterByNamespace) {
+            this.filterByNamespace = filterByNamespace;
+        }
+
+    }
+
+}
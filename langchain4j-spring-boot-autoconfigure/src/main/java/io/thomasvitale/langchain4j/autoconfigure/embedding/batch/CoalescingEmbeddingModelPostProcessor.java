@@ -0,0 +1,56 @@
+package io.thomasvitale.langchain4j.autoconfigure.embedding.batch;
+
+import dev.langchain4j.model.embedding.EmbeddingModel;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.util.Assert;
+
+import io.thomasvitale.langchain4j.autoconfigure.threads.TaskExecutors;
+import io.thomasvitale.langchain4j.spring.core.embedding.batch.CoalescingEmbeddingModel;
+
+/**
+ * Wraps the embedding model beans in a {@link CoalescingEmbeddingModel}.
+ * <p>
+ * It's ordered before the {@link io.thomasvitale.langchain4j.autoconfigure.embedding.cache.CachingEmbeddingModelPostProcessor},
+ * which then wraps the coalescing model, so that cached embeddings are returned without
+ * waiting for a batch.
+ */
+public class CoalescingEmbeddingModelPostProcessor implements BeanPostProcessor, Ordered {
+
+    private final ObjectProvider<EmbeddingBatchProperties> embeddingBatchProperties;
+
+    private final ObjectProvider<TaskExecutors> taskExecutors;
+
+    public CoalescingEmbeddingModelPostProcessor(ObjectProvider<EmbeddingBatchProperties> embeddingBatchProperties,
+            ObjectProvider<TaskExecutors> taskExecutors) {
+        Assert.notNull(embeddingBatchProperties, "embeddingBatchProperties cannot be null");
+        Assert.notNull(taskExecutors, "taskExecutors cannot be null");
+
+        this.embeddingBatchProperties = embeddingBatchProperties;
+        this.taskExecutors = taskExecutors;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        if (!(bean instanceof EmbeddingModel embeddingModel) || bean instanceof CoalescingEmbeddingModel) {
+            return bean;
+        }
+
+        EmbeddingBatchProperties properties = embeddingBatchProperties.getObject();
+        var embeddingModelBuilder = CoalescingEmbeddingModel.builder()
+            .delegate(embeddingModel)
+            .maxBatchSize(properties.getMaxBatchSize())
+            .maxDelay(properties.getMaxDelay());
+        taskExecutors.ifAvailable(executors -> embeddingModelBuilder.executor(executors.create("embedding-coalescing-")));
+        return embeddingModelBuilder.build();
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE - 1;
+    }
+
+}
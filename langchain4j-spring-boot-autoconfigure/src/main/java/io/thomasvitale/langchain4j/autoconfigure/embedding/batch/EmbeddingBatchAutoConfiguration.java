@@ -0,0 +1,32 @@
+package io.thomasvitale.langchain4j.autoconfigure.embedding.batch;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+import io.thomasvitale.langchain4j.autoconfigure.threads.TaskExecutors;
+import io.thomasvitale.langchain4j.spring.core.embedding.batch.CoalescingEmbeddingModel;
+
+/**
+ * Auto-configuration for coalescing concurrent embedding requests into batches.
+ * <p>
+ * The embedding models are wrapped in a {@link CoalescingEmbeddingModel}, so they should
+ * be injected as {@link dev.langchain4j.model.embedding.EmbeddingModel} rather than
+ * by their concrete type.
+ */
+@AutoConfiguration
+@ConditionalOnClass(CoalescingEmbeddingModel.class)
+@ConditionalOnProperty(prefix = EmbeddingBatchProperties.CONFIG_PREFIX, name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(EmbeddingBatchProperties.class)
+public class EmbeddingBatchAutoConfiguration {
+
+    @Bean
+    static CoalescingEmbeddingModelPostProcessor coalescingEmbeddingModelPostProcessor(
+            ObjectProvider<EmbeddingBatchProperties> embeddingBatchProperties, ObjectProvider<TaskExecutors> taskExecutors) {
+        return new CoalescingEmbeddingModelPostProcessor(embeddingBatchProperties, taskExecutors);
+    }
+
+}
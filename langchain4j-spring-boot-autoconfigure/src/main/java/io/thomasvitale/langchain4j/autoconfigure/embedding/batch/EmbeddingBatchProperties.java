@@ -0,0 +1,56 @@
+package io.thomasvitale.langchain4j.autoconfigure.embedding.batch;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import io.thomasvitale.langchain4j.spring.core.embedding.batch.CoalescingEmbeddingModel;
+
+/**
+ * Configuration properties for coalescing concurrent embedding requests into batches.
+ */
+@ConfigurationProperties(prefix = EmbeddingBatchProperties.CONFIG_PREFIX)
+public class EmbeddingBatchProperties {
+
+    public static final String CONFIG_PREFIX = "langchain4j.embedding.batch";
+
+    /**
+     * Whether to coalesce concurrent requests for a single text segment into one batched request.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Number of text segments after which a batch is sent right away.
+     */
+    private int maxBatchSize = CoalescingEmbeddingModel.DEFAULT_MAX_BATCH_SIZE;
+
+    /**
+     * Time after which a batch is sent, even if it's not full.
+     */
+    private Duration maxDelay = CoalescingEmbeddingModel.DEFAULT_MAX_DELAY;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    public void setMaxDelay(Duration maxDelay) {
+        this.maxDelay = maxDelay;
+    }
+
+}
@@ -0,0 +1,86 @@
+package io.thomasvitale.langchain4j.autoconfigure.embedding.cache;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+import dev.langchain4j.model.embedding.EmbeddingModel;
+
+import io.micrometer.observation.ObservationRegistry;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.util.Assert;
+
+import io.thomasvitale.langchain4j.spring.core.embedding.batch.CoalescingEmbeddingModel;
+import io.thomasvitale.langchain4j.spring.core.embedding.cache.CachingEmbeddingModel;
+import io.thomasvitale.langchain4j.spring.core.embedding.cache.EmbeddingCache;
+
+/**
+ * Wraps the embedding model beans of the given type in a {@link CachingEmbeddingModel},
+ * as long as an {@link EmbeddingCache} bean is available.
+ * <p>
+ * It's ordered so that it runs before the unordered post-processors wrapping
+ * any embedding model, which then get the caching model. It runs after the
+ * {@link io.thomasvitale.langchain4j.autoconfigure.embedding.batch.CoalescingEmbeddingModelPostProcessor},
+ * so embedding models of the given type already wrapped in a {@link CoalescingEmbeddingModel}
+ * are cached as well.
+ */
+public class CachingEmbeddingModelPostProcessor<T extends EmbeddingModel> implements BeanPostProcessor, Ordered {
+
+    private final Class<T> embeddingModelType;
+
+    private final Function<T, String> modelNameExtractor;
+
+    private final Function<T, Object> optionsExtractor;
+
+    private final ObjectProvider<EmbeddingCache> embeddingCache;
+
+    private final ObjectProvider<ObservationRegistry> observationRegistry;
+
+    public CachingEmbeddingModelPostProcessor(Class<T> embeddingModelType, Function<T, String> modelNameExtractor,
+            Function<T, Object> optionsExtractor, ObjectProvider<EmbeddingCache> embeddingCache,
+            ObjectProvider<ObservationRegistry> observationRegistry) {
+        Assert.notNull(embeddingModelType, "embeddingModelType cannot be null");
+        Assert.notNull(modelNameExtractor, "modelNameExtractor cannot be null");
+        Assert.notNull(optionsExtractor, "optionsExtractor cannot be null");
+        Assert.notNull(embeddingCache, "embeddingCache cannot be null");
+        Assert.notNull(observationRegistry, "observationRegistry cannot be null");
+
+        this.embeddingModelType = embeddingModelType;
+        this.modelNameExtractor = modelNameExtractor;
+        this.optionsExtractor = optionsExtractor;
+        this.embeddingCache = embeddingCache;
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        Object target = bean instanceof CoalescingEmbeddingModel coalescingEmbeddingModel
+                ? coalescingEmbeddingModel.getDelegate() : bean;
+        if (!embeddingModelType.isInstance(target)) {
+            return bean;
+        }
+
+        EmbeddingCache cache = embeddingCache.getIfUnique();
+        if (cache == null) {
+            return bean;
+        }
+
+        T embeddingModel = embeddingModelType.cast(target);
+        return CachingEmbeddingModel.builder()
+            .delegate((EmbeddingModel) bean)
+            .cache(cache)
+            .modelName(modelNameExtractor.apply(embeddingModel))
+            .options(optionsExtractor.apply(embeddingModel))
+            .observationRegistry(Objects.requireNonNullElse(observationRegistry.getIfUnique(), ObservationRegistry.NOOP))
+            .build();
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+}
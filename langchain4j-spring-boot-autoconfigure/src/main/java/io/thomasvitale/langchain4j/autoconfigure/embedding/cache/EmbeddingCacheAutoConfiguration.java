@@ -0,0 +1,48 @@
+package io.thomasvitale.langchain4j.autoconfigure.embedding.cache;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+import io.thomasvitale.langchain4j.spring.core.embedding.cache.CachingEmbeddingModel;
+import io.thomasvitale.langchain4j.spring.core.embedding.cache.EmbeddingCache;
+import io.thomasvitale.langchain4j.spring.core.embedding.cache.FileSystemEmbeddingCache;
+import io.thomasvitale.langchain4j.spring.core.embedding.cache.InMemoryEmbeddingCache;
+
+/**
+ * Auto-configuration for caching the embeddings computed by the embedding models.
+ * <p>
+ * The embedding models are wrapped in a {@link CachingEmbeddingModel} by the
+ * {@link CachingEmbeddingModelPostProcessor} registered by each model auto-configuration,
+ * so they should be injected as {@link dev.langchain4j.model.embedding.EmbeddingModel}
+ * rather than by their concrete type.
+ */
+@AutoConfiguration
+@ConditionalOnClass(CachingEmbeddingModel.class)
+@ConditionalOnProperty(prefix = EmbeddingCacheProperties.CONFIG_PREFIX, name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(EmbeddingCacheProperties.class)
+public class EmbeddingCacheAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    EmbeddingCache embeddingCache(EmbeddingCacheProperties embeddingCacheProperties) {
+        var embeddingCacheBuilder = InMemoryEmbeddingCache.builder()
+            .maxEntries(embeddingCacheProperties.getMaxEntries())
+            .maxWeight(embeddingCacheProperties.getMaxWeight().toBytes())
+            .evictionPolicy(embeddingCacheProperties.getEvictionPolicy());
+
+        if (embeddingCacheProperties.getFileStore().getDirectory() != null) {
+            embeddingCacheBuilder.spillover(FileSystemEmbeddingCache.builder()
+                .directory(embeddingCacheProperties.getFileStore().getDirectory())
+                .maxSize(embeddingCacheProperties.getFileStore().getMaxSize().toBytes())
+                .evictionPolicy(embeddingCacheProperties.getEvictionPolicy())
+                .build());
+        }
+
+        return embeddingCacheBuilder.build();
+    }
+
+}
@@ -0,0 +1,113 @@
+package io.thomasvitale.langchain4j.autoconfigure.embedding.cache;
+
+import java.nio.file.Path;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import io.thomasvitale.langchain4j.spring.core.embedding.cache.EvictionPolicy;
+import io.thomasvitale.langchain4j.spring.core.embedding.cache.FileSystemEmbeddingCache;
+import io.thomasvitale.langchain4j.spring.core.embedding.cache.InMemoryEmbeddingCache;
+
+/**
+ * Configuration properties for caching the embeddings computed by the embedding models.
+ */
+@ConfigurationProperties(prefix = EmbeddingCacheProperties.CONFIG_PREFIX)
+public class EmbeddingCacheProperties {
+
+    public static final String CONFIG_PREFIX = "langchain4j.embedding.cache";
+
+    /**
+     * Whether to cache the embeddings computed by the embedding models.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Maximum number of embeddings kept in memory.
+     */
+    private int maxEntries = InMemoryEmbeddingCache.DEFAULT_MAX_ENTRIES;
+
+    /**
+     * Maximum memory taken by the embeddings kept in memory.
+     */
+    private DataSize maxWeight = DataSize.ofBytes(InMemoryEmbeddingCache.DEFAULT_MAX_WEIGHT);
+
+    /**
+     * Policy for choosing which embedding to evict from memory, or from the file store,
+     * when it's full.
+     */
+    private EvictionPolicy evictionPolicy = EvictionPolicy.LRU;
+
+    /**
+     * Settings for the local file store receiving the embeddings evicted from memory.
+     */
+    private final FileStore fileStore = new FileStore();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public DataSize getMaxWeight() {
+        return maxWeight;
+    }
+
+    public void setMaxWeight(DataSize maxWeight) {
+        this.maxWeight = maxWeight;
+    }
+
+    public EvictionPolicy getEvictionPolicy() {
+        return evictionPolicy;
+    }
+
+    public void setEvictionPolicy(EvictionPolicy evictionPolicy) {
+        this.evictionPolicy = evictionPolicy;
+    }
+
+    public FileStore getFileStore() {
+        return fileStore;
+    }
+
+    public static class FileStore {
+
+        /**
+         * Directory where to store the embeddings evicted from memory. If not set,
+         * evicted embeddings are discarded.
+         */
+        private Path directory;
+
+        /**
+         * Maximum total size of the embedding files in the directory.
+         */
+        private DataSize maxSize = DataSize.ofBytes(FileSystemEmbeddingCache.DEFAULT_MAX_SIZE);
+
+        public Path getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(Path directory) {
+            this.directory = directory;
+        }
+
+        public DataSize getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(DataSize maxSize) {
+            this.maxSize = maxSize;
+        }
+
+    }
+
+}
@@ -1,6 +1,7 @@
 package io.thomasvitale.langchain4j.autoconfigure.models.ollama;
 
 import java.net.URI;
+import java.util.Arrays;
 import java.util.Objects;
 
 import io.micrometer.observation.ObservationRegistry;
@@ -17,15 +18,26 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean;
 import org.springframework.web.client.RestClient;
 
+import io.thomasvitale.langchain4j.autoconfigure.chat.cache.CachingChatLanguageModelPostProcessor;
+import io.thomasvitale.langchain4j.autoconfigure.chat.cache.ChatCacheProperties;
+import io.thomasvitale.langchain4j.autoconfigure.embedding.cache.CachingEmbeddingModelPostProcessor;
+import io.thomasvitale.langchain4j.autoconfigure.embedding.cache.EmbeddingCacheProperties;
+import io.thomasvitale.langchain4j.autoconfigure.threads.TaskExecutors;
+import io.thomasvitale.langchain4j.autoconfigure.threads.ThreadsAutoConfiguration;
+import io.thomasvitale.langchain4j.spring.core.chat.cache.ChatResponseCache;
+import io.thomasvitale.langchain4j.spring.core.chat.cache.SemanticChatResponseCache;
+import io.thomasvitale.langchain4j.spring.core.embedding.cache.EmbeddingCache;
 import io.thomasvitale.langchain4j.spring.ollama.OllamaChatModel;
 import io.thomasvitale.langchain4j.spring.ollama.OllamaEmbeddingModel;
+import io.thomasvitale.langchain4j.spring.ollama.OllamaStreamingChatModel;
+import io.thomasvitale.langchain4j.spring.ollama.api.Options;
 import io.thomasvitale.langchain4j.spring.ollama.client.OllamaClient;
 import io.thomasvitale.langchain4j.spring.ollama.client.OllamaClientConfig;
 
 /**
  * Auto-configuration for Ollama clients and models.
  */
-@AutoConfiguration(after = RestClientAutoConfiguration.class)
+@AutoConfiguration(after = { RestClientAutoConfiguration.class, ThreadsAutoConfiguration.class })
 @ConditionalOnClass(OllamaChatModel.class)
 @ConditionalOnProperty(prefix = OllamaProperties.CONFIG_PREFIX, name = "enabled", havingValue = "true", matchIfMissing = true)
 @EnableConfigurationProperties({ OllamaProperties.class, OllamaChatProperties.class, OllamaEmbeddingProperties.class })
@@ -51,6 +63,12 @@ public class OllamaAutoConfiguration {
             .sslBundle(ollamaProperties.getClient().getSslBundle())
             .logRequests(ollamaProperties.getClient().isLogRequests())
             .logResponses(ollamaProperties.getClient().isLogResponses())
+            .logMaxBodySize(Math.toIntExact(ollamaProperties.getClient().getLogMaxBodySize().toBytes()))
+            .logSamplingRate(ollamaProperties.getClient().getLogSamplingRate())
+            .maxConnectionsPerRoute(ollamaProperties.getClient().getMaxConnectionsPerRoute())
+            .connectionIdleTimeout(ollamaProperties.getClient().getConnectionIdleTimeout())
+            .http2Enabled(ollamaProperties.getClient().isHttp2Enabled())
+            .tcpKeepAlive(ollamaProperties.getClient().isTcpKeepAlive())
             .build();
 
         if (ollamaProperties.getClient().isLogRequests()) {
@@ -76,16 +94,61 @@ public class OllamaAutoConfiguration {
             .build();
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = ChatCacheProperties.CONFIG_PREFIX, name = "enabled", havingValue = "true")
+    static CachingChatLanguageModelPostProcessor<OllamaChatModel> ollamaCachingChatLanguageModelPostProcessor(
+            ObjectProvider<ChatResponseCache> chatResponseCache, ObjectProvider<SemanticChatResponseCache> semanticChatResponseCache,
+            ObjectProvider<ChatCacheProperties> chatCacheProperties, ObjectProvider<ObservationRegistry> observationRegistry) {
+        return new CachingChatLanguageModelPostProcessor<>(OllamaChatModel.class, OllamaChatModel::getModel,
+                chatModel -> Arrays.asList(chatModel.getFormat(), chatModel.getOptions()),
+                chatModel -> isDeterministic(chatModel.getOptions()), chatResponseCache,
+                semanticChatResponseCache, chatCacheProperties, observationRegistry);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    OllamaStreamingChatModel ollamaStreamingChatModel(OllamaClient ollamaClient, OllamaChatProperties ollamaChatProperties,
+            ObjectProvider<ObservationRegistry> observationRegistry, ObjectProvider<TaskExecutors> taskExecutors) {
+        var streamingChatModelBuilder = OllamaStreamingChatModel.builder()
+            .client(ollamaClient)
+            .model(ollamaChatProperties.getModel())
+            .format(ollamaChatProperties.getFormat())
+            .options(ollamaChatProperties.getOptions())
+            .observationRegistry(Objects.requireNonNullElse(observationRegistry.getIfUnique(), ObservationRegistry.NOOP));
+        taskExecutors.ifAvailable(executors -> streamingChatModelBuilder.executor(executors.create("ollama-streaming-")));
+        return streamingChatModelBuilder.build();
+    }
+
     @Bean
     @ConditionalOnMissingBean
     OllamaEmbeddingModel ollamaEmbeddingModel(OllamaClient ollamaClient,
-            OllamaEmbeddingProperties ollamaEmbeddingProperties, ObjectProvider<ObservationRegistry> observationRegistry) {
-        return OllamaEmbeddingModel.builder()
+            OllamaEmbeddingProperties ollamaEmbeddingProperties, ObjectProvider<ObservationRegistry> observationRegistry,
+            ObjectProvider<TaskExecutors> taskExecutors) {
+        var embeddingModelBuilder = OllamaEmbeddingModel.builder()
             .client(ollamaClient)
             .model(ollamaEmbeddingProperties.getModel())
             .options(ollamaEmbeddingProperties.getOptions())
-            .observationRegistry(Objects.requireNonNullElse(observationRegistry.getIfUnique(), ObservationRegistry.NOOP))
-            .build();
+            .batchSize(ollamaEmbeddingProperties.getBatchSize())
+            .concurrency(ollamaEmbeddingProperties.getConcurrency())
+            .observationRegistry(Objects.requireNonNullElse(observationRegistry.getIfUnique(), ObservationRegistry.NOOP));
+        taskExecutors.ifAvailable(executors -> embeddingModelBuilder.executor(executors.create("ollama-embedding-")));
+        return embeddingModelBuilder.build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = EmbeddingCacheProperties.CONFIG_PREFIX, name = "enabled", havingValue = "true")
+    static CachingEmbeddingModelPostProcessor<OllamaEmbeddingModel> ollamaCachingEmbeddingModelPostProcessor(
+            ObjectProvider<EmbeddingCache> embeddingCache, ObjectProvider<ObservationRegistry> observationRegistry) {
+        return new CachingEmbeddingModelPostProcessor<>(OllamaEmbeddingModel.class, OllamaEmbeddingModel::getModel,
+                OllamaEmbeddingModel::getOptions, embeddingCache, observationRegistry);
+    }
+
+    /**
+     * A seed of -1 means that Ollama picks a random one for each request.
+     */
+    private static boolean isDeterministic(Options options) {
+        return options.getTemperature() != null && options.getTemperature() == 0
+                && options.getSeed() != null && options.getSeed() != -1;
     }
 
     /**
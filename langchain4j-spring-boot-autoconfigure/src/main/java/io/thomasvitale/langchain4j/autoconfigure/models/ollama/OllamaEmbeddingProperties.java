@@ -3,6 +3,7 @@ package io.thomasvitale.langchain4j.autoconfigure.models.ollama;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
+import io.thomasvitale.langchain4j.spring.ollama.OllamaEmbeddingModel;
 import io.thomasvitale.langchain4j.spring.ollama.api.Options;
 
 /**
@@ -18,6 +19,17 @@ public class OllamaEmbeddingProperties {
      */
     private String model = "llama3";
 
+    /**
+     * Maximum number of text segments embedded in a single request.
+     */
+    private int batchSize = OllamaEmbeddingModel.DEFAULT_BATCH_SIZE;
+
+    /**
+     * Maximum number of embedding requests sent to Ollama in parallel.
+     * Values greater than 1 are useful when Ollama is configured with 'OLLAMA_NUM_PARALLEL'.
+     */
+    private int concurrency = 1;
+
     /**
      * Additional model parameters.
      */
@@ -32,6 +44,22 @@ public class OllamaEmbeddingProperties {
         this.model = model;
     }
 
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
     public Options getOptions() {
         return options;
     }
@@ -4,6 +4,7 @@ import java.net.URI;
 import java.time.Duration;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Common configuration properties for Ollama.
@@ -71,6 +72,36 @@ public class OllamaProperties {
          */
         private boolean logResponses = false;
 
+        /**
+         * Maximum size of each request and response body to log.
+         */
+        private DataSize logMaxBodySize = DataSize.ofKilobytes(4);
+
+        /**
+         * Fraction of the requests and responses to log, between 0 and 1.
+         */
+        private double logSamplingRate = 1.0;
+
+        /**
+         * Maximum number of pooled connections to the server.
+         */
+        private int maxConnectionsPerRoute = 20;
+
+        /**
+         * Time after which idle pooled connections are evicted.
+         */
+        private Duration connectionIdleTimeout = Duration.ofSeconds(30);
+
+        /**
+         * Whether to use HTTP/2, multiplexing concurrent requests over a single connection.
+         */
+        private boolean http2Enabled = false;
+
+        /**
+         * Whether to enable TCP keep-alive on the pooled connections.
+         */
+        private boolean tcpKeepAlive = true;
+
         public URI getBaseUrl() {
             return baseUrl;
         }
@@ -119,6 +150,54 @@ public class OllamaProperties {
             this.logResponses = logResponses;
         }
 
+        public DataSize getLogMaxBodySize() {
+            return logMaxBodySize;
+        }
+
+        public void setLogMaxBodySize(DataSize logMaxBodySize) {
+            this.logMaxBodySize = logMaxBodySize;
+        }
+
+        public double getLogSamplingRate() {
+            return logSamplingRate;
+        }
+
+        public void setLogSamplingRate(double logSamplingRate) {
+            this.logSamplingRate = logSamplingRate;
+        }
+
+        public int getMaxConnectionsPerRoute() {
+            return maxConnectionsPerRoute;
+        }
+
+        public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+            this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        }
+
+        public Duration getConnectionIdleTimeout() {
+            return connectionIdleTimeout;
+        }
+
+        public void setConnectionIdleTimeout(Duration connectionIdleTimeout) {
+            this.connectionIdleTimeout = connectionIdleTimeout;
+        }
+
+        public boolean isHttp2Enabled() {
+            return http2Enabled;
+        }
+
+        public void setHttp2Enabled(boolean http2Enabled) {
+            this.http2Enabled = http2Enabled;
+        }
+
+        public boolean isTcpKeepAlive() {
+            return tcpKeepAlive;
+        }
+
+        public void setTcpKeepAlive(boolean tcpKeepAlive) {
+            this.tcpKeepAlive = tcpKeepAlive;
+        }
+
     }
 
 }
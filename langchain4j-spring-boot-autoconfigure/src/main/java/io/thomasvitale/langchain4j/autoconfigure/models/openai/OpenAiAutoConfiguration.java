@@ -1,6 +1,7 @@
 package io.thomasvitale.langchain4j.autoconfigure.models.openai;
 
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
 import io.micrometer.observation.ObservationRegistry;
 
@@ -16,17 +17,31 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean;
 import org.springframework.web.client.RestClient;
 
+import io.thomasvitale.langchain4j.autoconfigure.chat.cache.CachingChatLanguageModelPostProcessor;
+import io.thomasvitale.langchain4j.autoconfigure.chat.cache.ChatCacheProperties;
+import io.thomasvitale.langchain4j.autoconfigure.embedding.cache.CachingEmbeddingModelPostProcessor;
+import io.thomasvitale.langchain4j.autoconfigure.embedding.cache.EmbeddingCacheProperties;
+import io.thomasvitale.langchain4j.autoconfigure.threads.TaskExecutors;
+import io.thomasvitale.langchain4j.autoconfigure.threads.ThreadsAutoConfiguration;
+import io.thomasvitale.langchain4j.spring.core.chat.cache.ChatResponseCache;
+import io.thomasvitale.langchain4j.spring.core.chat.cache.SemanticChatResponseCache;
+import io.thomasvitale.langchain4j.spring.core.embedding.cache.EmbeddingCache;
 import io.thomasvitale.langchain4j.spring.openai.OpenAIModerationModel;
 import io.thomasvitale.langchain4j.spring.openai.OpenAiChatModel;
+import io.thomasvitale.langchain4j.spring.openai.OpenAiChatOptions;
 import io.thomasvitale.langchain4j.spring.openai.OpenAiEmbeddingModel;
 import io.thomasvitale.langchain4j.spring.openai.OpenAiImageModel;
+import io.thomasvitale.langchain4j.spring.openai.OpenAiStreamingChatModel;
 import io.thomasvitale.langchain4j.spring.openai.client.OpenAiClient;
 import io.thomasvitale.langchain4j.spring.openai.client.OpenAiClientConfig;
+import io.thomasvitale.langchain4j.spring.openai.client.OpenAiHedgingPolicy;
+import io.thomasvitale.langchain4j.spring.openai.client.OpenAiRateLimiter;
+import io.thomasvitale.langchain4j.spring.openai.client.OpenAiRetryPolicy;
 
 /**
  * Auto-configuration for OpenAI clients and models.
  */
-@AutoConfiguration(after = {RestClientAutoConfiguration.class})
+@AutoConfiguration(after = { RestClientAutoConfiguration.class, ThreadsAutoConfiguration.class })
 @ConditionalOnClass({ OpenAiChatModel.class })
 @ConditionalOnProperty(prefix = OpenAiProperties.CONFIG_PREFIX, name = "enabled", havingValue = "true", matchIfMissing = true)
 @EnableConfigurationProperties({ OpenAiProperties.class, OpenAiChatProperties.class, OpenAiEmbeddingProperties.class,
@@ -37,7 +52,8 @@ public class OpenAiAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    OpenAiClient openAiClient(OpenAiProperties openAiProperties, RestClient.Builder restClientBuilder) {
+    OpenAiClient openAiClient(OpenAiProperties openAiProperties, RestClient.Builder restClientBuilder,
+            ObjectProvider<ObservationRegistry> observationRegistry, ObjectProvider<TaskExecutors> taskExecutors) {
         OpenAiClientConfig openAiClientConfig = OpenAiClientConfig.builder()
                 .baseUrl(openAiProperties.getClient().getBaseUrl())
                 .connectTimeout(openAiProperties.getClient().getConnectTimeout())
@@ -48,6 +64,12 @@ public class OpenAiAutoConfiguration {
                 .user(openAiProperties.getClient().getUser())
                 .logRequests(openAiProperties.getClient().isLogRequests())
                 .logResponses(openAiProperties.getClient().isLogResponses())
+                .logMaxBodySize(Math.toIntExact(openAiProperties.getClient().getLogMaxBodySize().toBytes()))
+                .logSamplingRate(openAiProperties.getClient().getLogSamplingRate())
+                .maxConnectionsPerRoute(openAiProperties.getClient().getMaxConnectionsPerRoute())
+                .connectionIdleTimeout(openAiProperties.getClient().getConnectionIdleTimeout())
+                .http2Enabled(openAiProperties.getClient().isHttp2Enabled())
+                .tcpKeepAlive(openAiProperties.getClient().isTcpKeepAlive())
                 .build();
 
         if (openAiProperties.getClient().isLogRequests()) {
@@ -58,7 +80,55 @@ public class OpenAiAutoConfiguration {
             logger.warn("You have enabled logging of the entire response from a model, with the risk of exposing sensitive or private information. Please, be careful!");
         }
 
-        return new OpenAiClient(openAiClientConfig, restClientBuilder);
+        var openAiClient = new OpenAiClient(openAiClientConfig, restClientBuilder);
+        openAiClient.setObservationRegistry(Objects.requireNonNullElse(observationRegistry.getIfUnique(), ObservationRegistry.NOOP));
+        taskExecutors.ifAvailable(executors -> {
+            Executor asyncExecutor = executors.create("openai-async-");
+            if (asyncExecutor != null) {
+                openAiClient.setAsyncExecutor(asyncExecutor);
+            }
+        });
+
+        OpenAiProperties.RateLimit rateLimit = openAiProperties.getClient().getRateLimit();
+        if (rateLimit.isEnabled()) {
+            OpenAiRateLimiter.Builder rateLimiterBuilder = OpenAiRateLimiter.builder()
+                    .requestsPerMinute(rateLimit.getRequestsPerMinute())
+                    .tokensPerMinute(rateLimit.getTokensPerMinute())
+                    .maxConcurrentRequests(rateLimit.getMaxConcurrentRequests())
+                    .maxWait(rateLimit.getMaxWait())
+                    .observationRegistry(Objects.requireNonNullElse(observationRegistry.getIfUnique(), ObservationRegistry.NOOP));
+            taskExecutors.ifAvailable(executors -> rateLimiterBuilder.executor(executors.create("openai-rate-limiter-")));
+            openAiClient.setRateLimiter(rateLimiterBuilder.build());
+        }
+
+        OpenAiProperties.Retry retry = openAiProperties.getClient().getRetry();
+        if (retry.isEnabled()) {
+            openAiClient.setRetryPolicy(OpenAiRetryPolicy.builder()
+                    .maxAttempts(retry.getMaxAttempts())
+                    .initialBackoff(retry.getInitialBackoff())
+                    .maxBackoff(retry.getMaxBackoff())
+                    .multiplier(retry.getMultiplier())
+                    .deadline(retry.getDeadline())
+                    .retryableStatusCodes(retry.getRetryableStatusCodes())
+                    .retryNonIdempotent(retry.isRetryNonIdempotent())
+                    .observationRegistry(Objects.requireNonNullElse(observationRegistry.getIfUnique(), ObservationRegistry.NOOP))
+                    .build());
+        }
+
+        OpenAiProperties.Hedging hedging = openAiProperties.getClient().getHedging();
+        if (hedging.isEnabled()) {
+            OpenAiHedgingPolicy.Builder hedgingPolicyBuilder = OpenAiHedgingPolicy.builder()
+                    .percentile(hedging.getPercentile())
+                    .windowSize(hedging.getWindowSize())
+                    .minSamples(hedging.getMinSamples())
+                    .minDelay(hedging.getMinDelay())
+                    .maxHedgeRatio(hedging.getMaxHedgeRatio())
+                    .observationRegistry(Objects.requireNonNullElse(observationRegistry.getIfUnique(), ObservationRegistry.NOOP));
+            taskExecutors.ifAvailable(executors -> hedgingPolicyBuilder.executor(executors.create("openai-hedging-")));
+            openAiClient.setHedgingPolicy(hedgingPolicyBuilder.build());
+        }
+
+        return openAiClient;
     }
 
     @Bean
@@ -71,16 +141,49 @@ public class OpenAiAutoConfiguration {
                 .build();
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = ChatCacheProperties.CONFIG_PREFIX, name = "enabled", havingValue = "true")
+    static CachingChatLanguageModelPostProcessor<OpenAiChatModel> openAiCachingChatLanguageModelPostProcessor(
+            ObjectProvider<ChatResponseCache> chatResponseCache, ObjectProvider<SemanticChatResponseCache> semanticChatResponseCache,
+            ObjectProvider<ChatCacheProperties> chatCacheProperties, ObjectProvider<ObservationRegistry> observationRegistry) {
+        return new CachingChatLanguageModelPostProcessor<>(OpenAiChatModel.class, chatModel -> chatModel.getOptions().getModel(),
+                OpenAiChatModel::getOptions, chatModel -> isDeterministic(chatModel.getOptions()), chatResponseCache,
+                semanticChatResponseCache, chatCacheProperties, observationRegistry);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    OpenAiStreamingChatModel openAiStreamingChatModel(OpenAiClient openAiClient, OpenAiChatProperties openAiChatProperties,
+            ObjectProvider<ObservationRegistry> observationRegistry, ObjectProvider<TaskExecutors> taskExecutors) {
+        var streamingChatModelBuilder = OpenAiStreamingChatModel.builder()
+                .client(openAiClient)
+                .options(openAiChatProperties.getOptions())
+                .observationRegistry(Objects.requireNonNullElse(observationRegistry.getIfUnique(), ObservationRegistry.NOOP));
+        taskExecutors.ifAvailable(executors -> streamingChatModelBuilder.executor(executors.create("openai-streaming-")));
+        return streamingChatModelBuilder.build();
+    }
+
     @Bean
     @ConditionalOnMissingBean
     OpenAiEmbeddingModel openAiEmbeddingModel(OpenAiClient openAiClient, OpenAiEmbeddingProperties openAiEmbeddingProperties, ObjectProvider<ObservationRegistry> observationRegistry) {
         return OpenAiEmbeddingModel.builder()
                 .client(openAiClient)
                 .options(openAiEmbeddingProperties.getOptions())
+                .maxBatchSize(openAiEmbeddingProperties.getMaxBatchSize())
+                .maxBatchTokens(openAiEmbeddingProperties.getMaxBatchTokens())
+                .concurrency(openAiEmbeddingProperties.getConcurrency())
                 .observationRegistry(Objects.requireNonNullElse(observationRegistry.getIfUnique(), ObservationRegistry.NOOP))
                 .build();
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = EmbeddingCacheProperties.CONFIG_PREFIX, name = "enabled", havingValue = "true")
+    static CachingEmbeddingModelPostProcessor<OpenAiEmbeddingModel> openAiCachingEmbeddingModelPostProcessor(
+            ObjectProvider<EmbeddingCache> embeddingCache, ObjectProvider<ObservationRegistry> observationRegistry) {
+        return new CachingEmbeddingModelPostProcessor<>(OpenAiEmbeddingModel.class, embeddingModel -> embeddingModel.getOptions().getModel(),
+                OpenAiEmbeddingModel::getOptions, embeddingCache, observationRegistry);
+    }
+
     @Bean
     @ConditionalOnMissingBean
     OpenAiImageModel openAiImageModel(OpenAiClient openAiClient, OpenAiImageProperties openAiImageProperties, ObjectProvider<ObservationRegistry> observationRegistry) {
@@ -101,4 +204,8 @@ public class OpenAiAutoConfiguration {
                 .build();
     }
 
+    private static boolean isDeterministic(OpenAiChatOptions options) {
+        return options.getTemperature() != null && options.getTemperature() == 0 && options.getSeed() != null;
+    }
+
 }
@@ -3,6 +3,7 @@ package io.thomasvitale.langchain4j.autoconfigure.models.openai;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
+import io.thomasvitale.langchain4j.spring.openai.OpenAiEmbeddingModel;
 import io.thomasvitale.langchain4j.spring.openai.OpenAiEmbeddingOptions;
 
 /**
@@ -13,12 +14,51 @@ public class OpenAiEmbeddingProperties {
 
     public static final String CONFIG_PREFIX = "langchain4j.openai.embedding";
 
+    /**
+     * Maximum number of text segments sent to the model in a single request.
+     */
+    private int maxBatchSize = OpenAiEmbeddingModel.MAX_BATCH_SIZE;
+
+    /**
+     * Maximum number of estimated tokens sent to the model in a single request.
+     */
+    private int maxBatchTokens = OpenAiEmbeddingModel.DEFAULT_MAX_BATCH_TOKENS;
+
+    /**
+     * Maximum number of requests in flight at once when embedding text segments asynchronously.
+     */
+    private int concurrency = OpenAiEmbeddingModel.DEFAULT_CONCURRENCY;
+
     /**
      * Model options.
      */
     @NestedConfigurationProperty
     private OpenAiEmbeddingOptions options = OpenAiEmbeddingOptions.builder().build();
 
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public int getMaxBatchTokens() {
+        return maxBatchTokens;
+    }
+
+    public void setMaxBatchTokens(int maxBatchTokens) {
+        this.maxBatchTokens = maxBatchTokens;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
     public OpenAiEmbeddingOptions getOptions() {
         return options;
     }
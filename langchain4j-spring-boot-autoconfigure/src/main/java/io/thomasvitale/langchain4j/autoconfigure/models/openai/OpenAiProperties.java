@@ -2,10 +2,14 @@ package io.thomasvitale.langchain4j.autoconfigure.models.openai;
 
 import java.net.URI;
 import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 import io.thomasvitale.langchain4j.autoconfigure.models.ollama.OllamaProperties;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Common configuration properties for the OpenAI clients.
@@ -89,6 +93,42 @@ public class OpenAiProperties {
          */
         private boolean logResponses = false;
 
+        /**
+         * Maximum size of each request and response body to log.
+         */
+        private DataSize logMaxBodySize = DataSize.ofKilobytes(4);
+
+        /**
+         * Fraction of the requests and responses to log, between 0 and 1.
+         */
+        private double logSamplingRate = 1.0;
+
+        /**
+         * Maximum number of pooled connections to the server.
+         */
+        private int maxConnectionsPerRoute = 20;
+
+        /**
+         * Time after which idle pooled connections are evicted.
+         */
+        private Duration connectionIdleTimeout = Duration.ofSeconds(30);
+
+        /**
+         * Whether to use HTTP/2, multiplexing concurrent requests over a single connection.
+         */
+        private boolean http2Enabled = false;
+
+        /**
+         * Whether to enable TCP keep-alive on the pooled connections.
+         */
+        private boolean tcpKeepAlive = true;
+
+        private final RateLimit rateLimit = new RateLimit();
+
+        private final Retry retry = new Retry();
+
+        private final Hedging hedging = new Hedging();
+
         public URI getBaseUrl() {
             return baseUrl;
         }
@@ -160,6 +200,324 @@ public class OpenAiProperties {
         public void setLogResponses(boolean logResponses) {
             this.logResponses = logResponses;
         }
+
+        public DataSize getLogMaxBodySize() {
+            return logMaxBodySize;
+        }
+
+        public void setLogMaxBodySize(DataSize logMaxBodySize) {
+            this.logMaxBodySize = logMaxBodySize;
+        }
+
+        public double getLogSamplingRate() {
+            return logSamplingRate;
+        }
+
+        public void setLogSamplingRate(double logSamplingRate) {
+            this.logSamplingRate = logSamplingRate;
+        }
+
+        public int getMaxConnectionsPerRoute() {
+            return maxConnectionsPerRoute;
+        }
+
+        public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+            this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        }
+
+        public Duration getConnectionIdleTimeout() {
+            return connectionIdleTimeout;
+        }
+
+        public void setConnectionIdleTimeout(Duration connectionIdleTimeout) {
+            this.connectionIdleTimeout = connectionIdleTimeout;
+        }
+
+        public boolean isHttp2Enabled() {
+            return http2Enabled;
+        }
+
+        public void setHttp2Enabled(boolean http2Enabled) {
+            this.http2Enabled = http2Enabled;
+        }
+
+        public boolean isTcpKeepAlive() {
+            return tcpKeepAlive;
+        }
+
+        public void setTcpKeepAlive(boolean tcpKeepAlive) {
+            this.tcpKeepAlive = tcpKeepAlive;
+        }
+
+        public RateLimit getRateLimit() {
+            return rateLimit;
+        }
+
+        public Retry getRetry() {
+            return retry;
+        }
+
+        public Hedging getHedging() {
+            return hedging;
+        }
+    }
+
+    public static class RateLimit {
+
+        /**
+         * Whether to limit the rate of the requests sent to OpenAI on the client side.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Maximum number of requests per minute. Unlimited when 0.
+         */
+        private int requestsPerMinute = 0;
+
+        /**
+         * Maximum number of tokens per minute, estimated from each request. Unlimited when 0.
+         */
+        private int tokensPerMinute = 0;
+
+        /**
+         * Maximum number of requests in flight at the same time. Unlimited when 0.
+         */
+        private int maxConcurrentRequests = 0;
+
+        /**
+         * Maximum time a request can wait before being sent. Requests are rejected right away when 0.
+         */
+        private Duration maxWait = Duration.ofSeconds(30);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getRequestsPerMinute() {
+            return requestsPerMinute;
+        }
+
+        public void setRequestsPerMinute(int requestsPerMinute) {
+            this.requestsPerMinute = requestsPerMinute;
+        }
+
+        public int getTokensPerMinute() {
+            return tokensPerMinute;
+        }
+
+        public void setTokensPerMinute(int tokensPerMinute) {
+            this.tokensPerMinute = tokensPerMinute;
+        }
+
+        public int getMaxConcurrentRequests() {
+            return maxConcurrentRequests;
+        }
+
+        public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+            this.maxConcurrentRequests = maxConcurrentRequests;
+        }
+
+        public Duration getMaxWait() {
+            return maxWait;
+        }
+
+        public void setMaxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+        }
+    }
+
+    public static class Retry {
+
+        /**
+         * Whether to retry the requests failing with a transient error.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Maximum number of attempts, including the first one.
+         */
+        private int maxAttempts = 3;
+
+        /**
+         * Maximum delay before the first retry. It's randomized to avoid synchronized retries.
+         */
+        private Duration initialBackoff = Duration.ofMillis(500);
+
+        /**
+         * Maximum delay between two attempts, unless the server asks for a longer one with Retry-After.
+         */
+        private Duration maxBackoff = Duration.ofSeconds(30);
+
+        /**
+         * Multiplier applied to the backoff after each attempt.
+         */
+        private double multiplier = 2.0;
+
+        /**
+         * Maximum time from the first attempt after which no more attempts are started.
+         */
+        private Duration deadline = Duration.ofMinutes(2);
+
+        /**
+         * HTTP status codes of the responses to retry.
+         */
+        private Set<Integer> retryableStatusCodes = new LinkedHashSet<>(List.of(408, 429, 500, 502, 503, 504));
+
+        /**
+         * Whether to also retry chat completions and image generations, which are billed again
+         * when they failed after reaching the model. Embeddings and moderations are always retried.
+         */
+        private boolean retryNonIdempotent = false;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public Duration getInitialBackoff() {
+            return initialBackoff;
+        }
+
+        public void setInitialBackoff(Duration initialBackoff) {
+            this.initialBackoff = initialBackoff;
+        }
+
+        public Duration getMaxBackoff() {
+            return maxBackoff;
+        }
+
+        public void setMaxBackoff(Duration maxBackoff) {
+            this.maxBackoff = maxBackoff;
+        }
+
+        public double getMultiplier() {
+            return multiplier;
+        }
+
+        public void setMultiplier(double multiplier) {
+            this.multiplier = multiplier;
+        }
+
+        public Duration getDeadline() {
+            return deadline;
+        }
+
+        public void setDeadline(Duration deadline) {
+            this.deadline = deadline;
+        }
+
+        public Set<Integer> getRetryableStatusCodes() {
+            return retryableStatusCodes;
+        }
+
+        public void setRetryableStatusCodes(Set<Integer> retryableStatusCodes) {
+            this.retryableStatusCodes = retryableStatusCodes;
+        }
+
+        public boolean isRetryNonIdempotent() {
+            return retryNonIdempotent;
+        }
+
+        public void setRetryNonIdempotent(boolean retryNonIdempotent) {
+            this.retryNonIdempotent = retryNonIdempotent;
+        }
+    }
+
+    public static class Hedging {
+
+        /**
+         * Whether to send a duplicate of the embedding and moderation requests slower than usual,
+         * and use the first response.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Percentile of the recent latencies of an endpoint after which a request is hedged.
+         */
+        private double percentile = 0.95;
+
+        /**
+         * Number of recent latencies per endpoint the percentile is computed from.
+         */
+        private int windowSize = 1000;
+
+        /**
+         * Number of latencies to observe for an endpoint before hedging its requests.
+         */
+        private int minSamples = 100;
+
+        /**
+         * Minimum time to wait before hedging a request.
+         */
+        private Duration minDelay = Duration.ofMillis(50);
+
+        /**
+         * Maximum fraction of the requests that can be hedged.
+         */
+        private double maxHedgeRatio = 0.1;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public double getPercentile() {
+            return percentile;
+        }
+
+        public void setPercentile(double percentile) {
+            this.percentile = percentile;
+        }
+
+        public int getWindowSize() {
+            return windowSize;
+        }
+
+        public void setWindowSize(int windowSize) {
+            this.windowSize = windowSize;
+        }
+
+        public int getMinSamples() {
+            return minSamples;
+        }
+
+        public void setMinSamples(int minSamples) {
+            this.minSamples = minSamples;
+        }
+
+        public Duration getMinDelay() {
+            return minDelay;
+        }
+
+        public void setMinDelay(Duration minDelay) {
+            this.minDelay = minDelay;
+        }
+
+        public double getMaxHedgeRatio() {
+            return maxHedgeRatio;
+        }
+
+        public void setMaxHedgeRatio(double maxHedgeRatio) {
+            this.maxHedgeRatio = maxHedgeRatio;
+        }
     }
 
 }
@@ -0,0 +1,60 @@
+package io.thomasvitale.langchain4j.autoconfigure.threads;
+
+import java.util.concurrent.Executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.lang.Nullable;
+
+/**
+ * Creates the executors used by models and vector stores to offload blocking calls,
+ * such as streaming responses and concurrent embedding or upsert batches.
+ * <p>
+ * When virtual threads are enabled and supported by the running JVM, each call gets
+ * its own virtual thread. Otherwise, no executor is created and each component keeps
+ * its default one. Observations are propagated explicitly by the components; other
+ * context can be propagated by defining a {@link TaskDecorator} bean.
+ */
+public class TaskExecutors {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskExecutors.class);
+
+    private final boolean virtualThreads;
+
+    @Nullable
+    private final TaskDecorator taskDecorator;
+
+    public TaskExecutors(boolean virtualThreads, @Nullable TaskDecorator taskDecorator) {
+        if (virtualThreads && !JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE)) {
+            logger.warn("Virtual threads have been enabled, but they require Java 21 or later. Falling back to platform threads.");
+            virtualThreads = false;
+        }
+        this.virtualThreads = virtualThreads;
+        this.taskDecorator = taskDecorator;
+    }
+
+    /**
+     * Returns a new executor whose threads are named with the given prefix,
+     * or {@code null} if the component should use its default executor.
+     */
+    @Nullable
+    public Executor create(String threadNamePrefix) {
+        if (!virtualThreads) {
+            return null;
+        }
+        var executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        if (taskDecorator != null) {
+            executor.setTaskDecorator(taskDecorator);
+        }
+        return executor;
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+}
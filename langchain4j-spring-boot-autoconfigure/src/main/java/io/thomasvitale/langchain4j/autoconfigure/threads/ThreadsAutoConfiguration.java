@@ -0,0 +1,23 @@
+package io.thomasvitale.langchain4j.autoconfigure.threads;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Auto-configuration for the threads used by LangChain4j models and vector stores.
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(ThreadsProperties.class)
+public class ThreadsAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    TaskExecutors langchain4jTaskExecutors(ThreadsProperties threadsProperties, ObjectProvider<TaskDecorator> taskDecorator) {
+        return new TaskExecutors(threadsProperties.getVirtual().isEnabled(), taskDecorator.getIfUnique());
+    }
+
+}
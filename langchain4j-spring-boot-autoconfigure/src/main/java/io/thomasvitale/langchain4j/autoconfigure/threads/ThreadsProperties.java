@@ -0,0 +1,37 @@
+package io.thomasvitale.langchain4j.autoconfigure.threads;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the threads used by LangChain4j models and vector stores.
+ */
+@ConfigurationProperties(ThreadsProperties.CONFIG_PREFIX)
+public class ThreadsProperties {
+
+    public static final String CONFIG_PREFIX = "langchain4j.threads";
+
+    private final Virtual virtual = new Virtual();
+
+    public Virtual getVirtual() {
+        return virtual;
+    }
+
+    public static class Virtual {
+
+        /**
+         * Whether to run the blocking calls offloaded by models and vector stores on virtual threads.
+         * Requires Java 21 or later.
+         */
+        private boolean enabled = false;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+    }
+
+}
@@ -2,6 +2,7 @@ package io.thomasvitale.langchain4j.autoconfigure.vectorstores.chroma;
 
 import java.net.URI;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -13,6 +14,8 @@ import org.springframework.web.client.RestClient;
 
 import io.thomasvitale.langchain4j.autoconfigure.models.ollama.OllamaConnectionDetails;
 import io.thomasvitale.langchain4j.autoconfigure.models.ollama.OllamaProperties;
+import io.thomasvitale.langchain4j.autoconfigure.threads.TaskExecutors;
+import io.thomasvitale.langchain4j.autoconfigure.threads.ThreadsAutoConfiguration;
 import io.thomasvitale.langchain4j.spring.chroma.ChromaEmbeddingStore;
 import io.thomasvitale.langchain4j.spring.chroma.client.ChromaClient;
 import io.thomasvitale.langchain4j.spring.chroma.client.ChromaClientConfig;
@@ -20,7 +23,7 @@ import io.thomasvitale.langchain4j.spring.chroma.client.ChromaClientConfig;
 /**
  * Auto-configuration for ChromaDB vector store.
  */
-@AutoConfiguration(after = RestClientAutoConfiguration.class)
+@AutoConfiguration(after = { RestClientAutoConfiguration.class, ThreadsAutoConfiguration.class })
 @ConditionalOnClass(ChromaEmbeddingStore.class)
 @ConditionalOnProperty(prefix = ChromaProperties.CONFIG_PREFIX, name = "enabled", havingValue = "true", matchIfMissing = true)
 @EnableConfigurationProperties({ ChromaProperties.class })
@@ -52,11 +55,15 @@ public class ChromaAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    ChromaEmbeddingStore chromaEmbeddingStore(ChromaClient chromaClient, ChromaProperties chromaProperties) {
-        return ChromaEmbeddingStore.builder()
+    ChromaEmbeddingStore chromaEmbeddingStore(ChromaClient chromaClient, ChromaProperties chromaProperties,
+            ObjectProvider<TaskExecutors> taskExecutors) {
+        var embeddingStoreBuilder = ChromaEmbeddingStore.builder()
             .client(chromaClient)
             .collectionName(chromaProperties.getCollectionName())
-            .build();
+            .maxBatchSize(chromaProperties.getMaxBatchSize())
+            .concurrency(chromaProperties.getConcurrency());
+        taskExecutors.ifAvailable(executors -> embeddingStoreBuilder.executor(executors.create("chroma-upsert-")));
+        return embeddingStoreBuilder.build();
     }
 
     /**
@@ -25,6 +25,16 @@ public class ChromaProperties {
      */
     private String collectionName = ChromaEmbeddingStore.DEFAULT_COLLECTION_NAME;
 
+    /**
+     * Maximum number of embeddings upserted in a single request.
+     */
+    private int maxBatchSize = ChromaEmbeddingStore.DEFAULT_MAX_BATCH_SIZE;
+
+    /**
+     * Maximum number of upsert requests sent to Chroma in parallel.
+     */
+    private int concurrency = 1;
+
     /**
      * Chroma Client configuration.
      */
@@ -46,6 +56,22 @@ public class ChromaProperties {
         this.collectionName = collectionName;
     }
 
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
     public Client getClient() {
         return client;
     }
@@ -0,0 +1,31 @@
+package io.thomasvitale.langchain4j.autoconfigure.vectorstores.inmemory;
+
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+import io.thomasvitale.langchain4j.spring.inmemory.OffHeapEmbeddingStore;
+
+/**
+ * Auto-configuration for the in-memory vector store.
+ */
+@AutoConfiguration
+@ConditionalOnClass(OffHeapEmbeddingStore.class)
+@ConditionalOnProperty(prefix = InMemoryProperties.CONFIG_PREFIX, name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties({ InMemoryProperties.class })
+public class InMemoryAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    OffHeapEmbeddingStore offHeapEmbeddingStore(InMemoryProperties inMemoryProperties) {
+        return OffHeapEmbeddingStore.builder()
+            .dimension(inMemoryProperties.getDimension())
+            .parallelism(inMemoryProperties.getParallelism())
+            .parallelThreshold(inMemoryProperties.getParallelThreshold())
+            .build();
+    }
+
+}
@@ -0,0 +1,67 @@
+package io.thomasvitale.langchain4j.autoconfigure.vectorstores.inmemory;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import io.thomasvitale.langchain4j.spring.inmemory.OffHeapEmbeddingStore;
+
+/**
+ * Configuration properties for the in-memory vector store.
+ */
+@ConfigurationProperties(InMemoryProperties.CONFIG_PREFIX)
+public class InMemoryProperties {
+
+    public static final String CONFIG_PREFIX = "langchain4j.vectorstore.inmemory";
+
+    /**
+     * Whether to enable the in-memory vector store integration.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Dimension of the embeddings. If not set, it's the dimension of the first embedding added.
+     */
+    private Integer dimension;
+
+    /**
+     * Maximum number of parallel tasks a search is split into.
+     */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Number of embeddings in the store from which searches are split into parallel tasks.
+     */
+    private int parallelThreshold = OffHeapEmbeddingStore.DEFAULT_PARALLEL_THRESHOLD;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Integer getDimension() {
+        return dimension;
+    }
+
+    public void setDimension(Integer dimension) {
+        this.dimension = dimension;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    public void setParallelThreshold(int parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
+    }
+
+}
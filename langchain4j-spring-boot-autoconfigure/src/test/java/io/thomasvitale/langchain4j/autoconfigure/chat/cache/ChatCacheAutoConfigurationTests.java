@@ -0,0 +1,81 @@
+package io.thomasvitale.langchain4j.autoconfigure.chat.cache;
+
+import dev.langchain4j.model.chat.ChatLanguageModel;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.web.client.RestClientAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import io.thomasvitale.langchain4j.autoconfigure.models.ollama.OllamaAutoConfiguration;
+import io.thomasvitale.langchain4j.autoconfigure.models.openai.OpenAiAutoConfiguration;
+import io.thomasvitale.langchain4j.spring.core.chat.cache.CachingChatLanguageModel;
+import io.thomasvitale.langchain4j.spring.core.chat.cache.ChatResponseCache;
+import io.thomasvitale.langchain4j.spring.core.chat.cache.SemanticCachingChatLanguageModel;
+import io.thomasvitale.langchain4j.spring.core.chat.cache.SemanticChatResponseCache;
+import io.thomasvitale.langchain4j.spring.ollama.OllamaChatModel;
+import io.thomasvitale.langchain4j.spring.openai.OpenAiChatModel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link ChatCacheAutoConfiguration}.
+ */
+class ChatCacheAutoConfigurationTests {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withPropertyValues("langchain4j.openai.client.api-key=demo")
+        .withConfiguration(AutoConfigurations.of(RestClientAutoConfiguration.class, OpenAiAutoConfiguration.class,
+                OllamaAutoConfiguration.class, ChatCacheAutoConfiguration.class));
+
+    @Test
+    void cacheDisabledByDefault() {
+        contextRunner.run(context -> {
+            assertThat(context).doesNotHaveBean(ChatResponseCache.class);
+            assertThat(context).hasSingleBean(OpenAiChatModel.class);
+            assertThat(context).hasSingleBean(OllamaChatModel.class);
+        });
+    }
+
+    @Test
+    void cacheEnabled() {
+        contextRunner.withPropertyValues("langchain4j.chat.cache.enabled=true").run(context -> {
+            assertThat(context).hasSingleBean(ChatResponseCache.class);
+            assertThat(context.getBeansOfType(ChatLanguageModel.class).values())
+                .hasSize(2)
+                .allSatisfy(chatModel -> assertThat(chatModel).isInstanceOf(CachingChatLanguageModel.class))
+                .<Class<?>>map(chatModel -> ((CachingChatLanguageModel) chatModel).getDelegate().getClass())
+                .containsExactlyInAnyOrder(OpenAiChatModel.class, OllamaChatModel.class);
+        });
+    }
+
+    @Test
+    void semanticCacheEnabled() {
+        new ApplicationContextRunner()
+            .withPropertyValues("langchain4j.openai.client.api-key=demo", "langchain4j.chat.cache.enabled=true",
+                    "langchain4j.chat.cache.semantic.enabled=true")
+            .withConfiguration(AutoConfigurations.of(RestClientAutoConfiguration.class, OpenAiAutoConfiguration.class,
+                    ChatCacheAutoConfiguration.class))
+            .run(context -> {
+                assertThat(context).hasSingleBean(SemanticChatResponseCache.class);
+                var chatModel = (CachingChatLanguageModel) context.getBean(ChatLanguageModel.class);
+                assertThat(chatModel.getDelegate()).isInstanceOf(SemanticCachingChatLanguageModel.class);
+                assertThat(((SemanticCachingChatLanguageModel) chatModel.getDelegate()).getDelegate())
+                    .isInstanceOf(OpenAiChatModel.class);
+            });
+    }
+
+    @Test
+    void semanticCacheSkippedWhenSeveralEmbeddingModels() {
+        contextRunner.withPropertyValues("langchain4j.chat.cache.enabled=true", "langchain4j.chat.cache.semantic.enabled=true")
+            .run(context -> {
+                assertThat(context).hasNotFailed();
+                assertThat(context).hasSingleBean(ChatResponseCache.class);
+                assertThat(context).doesNotHaveBean(SemanticChatResponseCache.class);
+                assertThat(context.getBeansOfType(ChatLanguageModel.class).values())
+                    .allSatisfy(chatModel -> assertThat(((CachingChatLanguageModel) chatModel).getDelegate())
+                        .isNotInstanceOf(SemanticCachingChatLanguageModel.class));
+            });
+    }
+
+}
@@ -0,0 +1,58 @@
+package io.thomasvitale.langchain4j.autoconfigure.embedding.batch;
+
+import dev.langchain4j.model.embedding.EmbeddingModel;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.web.client.RestClientAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import io.thomasvitale.langchain4j.autoconfigure.embedding.cache.EmbeddingCacheAutoConfiguration;
+import io.thomasvitale.langchain4j.autoconfigure.models.openai.OpenAiAutoConfiguration;
+import io.thomasvitale.langchain4j.spring.core.embedding.batch.CoalescingEmbeddingModel;
+import io.thomasvitale.langchain4j.spring.core.embedding.cache.CachingEmbeddingModel;
+import io.thomasvitale.langchain4j.spring.openai.OpenAiEmbeddingModel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link EmbeddingBatchAutoConfiguration}.
+ */
+class EmbeddingBatchAutoConfigurationTests {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withPropertyValues("langchain4j.openai.client.api-key=demo")
+        .withConfiguration(AutoConfigurations.of(RestClientAutoConfiguration.class, OpenAiAutoConfiguration.class,
+                EmbeddingCacheAutoConfiguration.class, EmbeddingBatchAutoConfiguration.class));
+
+    @Test
+    void batchingDisabledByDefault() {
+        contextRunner.run(context -> {
+            assertThat(context).doesNotHaveBean(CoalescingEmbeddingModelPostProcessor.class);
+            assertThat(context).hasSingleBean(OpenAiEmbeddingModel.class);
+        });
+    }
+
+    @Test
+    void batchingEnabled() {
+        contextRunner.withPropertyValues("langchain4j.embedding.batch.enabled=true").run(context -> {
+            assertThat(context).hasSingleBean(EmbeddingModel.class);
+            assertThat(context.getBean(EmbeddingModel.class)).isInstanceOf(CoalescingEmbeddingModel.class);
+            assertThat(((CoalescingEmbeddingModel) context.getBean(EmbeddingModel.class)).getDelegate())
+                .isInstanceOf(OpenAiEmbeddingModel.class);
+        });
+    }
+
+    @Test
+    void cachingWrapsBatching() {
+        contextRunner.withPropertyValues("langchain4j.embedding.batch.enabled=true", "langchain4j.embedding.cache.enabled=true")
+            .run(context -> {
+                // Cache hits are returned right away, without waiting for a batch.
+                var embeddingModel = (CachingEmbeddingModel) context.getBean(EmbeddingModel.class);
+                assertThat(embeddingModel.getDelegate()).isInstanceOf(CoalescingEmbeddingModel.class);
+                assertThat(((CoalescingEmbeddingModel) embeddingModel.getDelegate()).getDelegate())
+                    .isInstanceOf(OpenAiEmbeddingModel.class);
+            });
+    }
+
+}
@@ -0,0 +1,46 @@
+package io.thomasvitale.langchain4j.autoconfigure.embedding.cache;
+
+import dev.langchain4j.model.embedding.EmbeddingModel;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.web.client.RestClientAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import io.thomasvitale.langchain4j.autoconfigure.models.openai.OpenAiAutoConfiguration;
+import io.thomasvitale.langchain4j.spring.core.embedding.cache.CachingEmbeddingModel;
+import io.thomasvitale.langchain4j.spring.core.embedding.cache.EmbeddingCache;
+import io.thomasvitale.langchain4j.spring.openai.OpenAiEmbeddingModel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link EmbeddingCacheAutoConfiguration}.
+ */
+class EmbeddingCacheAutoConfigurationTests {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withPropertyValues("langchain4j.openai.client.api-key=demo")
+        .withConfiguration(AutoConfigurations.of(RestClientAutoConfiguration.class, OpenAiAutoConfiguration.class,
+                EmbeddingCacheAutoConfiguration.class));
+
+    @Test
+    void cacheDisabledByDefault() {
+        contextRunner.run(context -> {
+            assertThat(context).doesNotHaveBean(EmbeddingCache.class);
+            assertThat(context).hasSingleBean(OpenAiEmbeddingModel.class);
+        });
+    }
+
+    @Test
+    void cacheEnabled() {
+        contextRunner.withPropertyValues("langchain4j.embedding.cache.enabled=true").run(context -> {
+            assertThat(context).hasSingleBean(EmbeddingCache.class);
+            assertThat(context).hasSingleBean(EmbeddingModel.class);
+            assertThat(context.getBean(EmbeddingModel.class)).isInstanceOf(CachingEmbeddingModel.class);
+            assertThat(((CachingEmbeddingModel) context.getBean(EmbeddingModel.class)).getDelegate())
+                .isInstanceOf(OpenAiEmbeddingModel.class);
+        });
+    }
+
+}
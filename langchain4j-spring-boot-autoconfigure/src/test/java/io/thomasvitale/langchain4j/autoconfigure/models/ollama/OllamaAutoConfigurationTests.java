@@ -7,6 +7,7 @@ import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 
 import io.thomasvitale.langchain4j.spring.ollama.OllamaChatModel;
 import io.thomasvitale.langchain4j.spring.ollama.OllamaEmbeddingModel;
+import io.thomasvitale.langchain4j.spring.ollama.OllamaStreamingChatModel;
 import io.thomasvitale.langchain4j.spring.ollama.client.OllamaClient;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -37,6 +38,7 @@ class OllamaAutoConfigurationTests {
     void chatStreaming() {
         contextRunner.run(context -> {
             assertThat(context).hasSingleBean(OllamaChatModel.class);
+            assertThat(context).hasSingleBean(OllamaStreamingChatModel.class);
         });
     }
 
@@ -9,6 +9,7 @@ import io.thomasvitale.langchain4j.spring.openai.OpenAIModerationModel;
 import io.thomasvitale.langchain4j.spring.openai.OpenAiChatModel;
 import io.thomasvitale.langchain4j.spring.openai.OpenAiEmbeddingModel;
 import io.thomasvitale.langchain4j.spring.openai.OpenAiImageModel;
+import io.thomasvitale.langchain4j.spring.openai.OpenAiStreamingChatModel;
 import io.thomasvitale.langchain4j.spring.openai.client.OpenAiClient;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -29,6 +30,13 @@ class OpenAiAutoConfigurationTests {
         });
     }
 
+    @Test
+    void chatStreaming() {
+        contextRunner.run(context -> {
+            assertThat(context).hasSingleBean(OpenAiStreamingChatModel.class);
+        });
+    }
+
     @Test
     void embedding() {
         contextRunner.run(context -> {
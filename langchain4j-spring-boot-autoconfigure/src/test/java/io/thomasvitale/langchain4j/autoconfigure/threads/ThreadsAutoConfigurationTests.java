@@ -0,0 +1,54 @@
+package io.thomasvitale.langchain4j.autoconfigure.threads;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link ThreadsAutoConfiguration}.
+ */
+class ThreadsAutoConfigurationTests {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ThreadsAutoConfiguration.class));
+
+    @Test
+    void virtualThreadsDisabledByDefault() {
+        contextRunner.run(context -> {
+            assertThat(context).hasSingleBean(TaskExecutors.class);
+            TaskExecutors taskExecutors = context.getBean(TaskExecutors.class);
+            assertThat(taskExecutors.isVirtualThreads()).isFalse();
+            assertThat(taskExecutors.create("test-")).isNull();
+        });
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void virtualThreadsEnabled() {
+        contextRunner
+            .withPropertyValues("langchain4j.threads.virtual.enabled=true")
+            .run(context -> {
+                TaskExecutors taskExecutors = context.getBean(TaskExecutors.class);
+                assertThat(taskExecutors.isVirtualThreads()).isTrue();
+                assertThat(taskExecutors.create("test-")).isInstanceOf(SimpleAsyncTaskExecutor.class);
+            });
+    }
+
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    void virtualThreadsEnabledButNotSupported() {
+        contextRunner
+            .withPropertyValues("langchain4j.threads.virtual.enabled=true")
+            .run(context -> {
+                TaskExecutors taskExecutors = context.getBean(TaskExecutors.class);
+                assertThat(taskExecutors.isVirtualThreads()).isFalse();
+                assertThat(taskExecutors.create("test-")).isNull();
+            });
+    }
+
+}
@@ -0,0 +1,45 @@
+package io.thomasvitale.langchain4j.autoconfigure.vectorstores.inmemory;
+
+import dev.langchain4j.data.embedding.Embedding;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import io.thomasvitale.langchain4j.spring.inmemory.OffHeapEmbeddingStore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link InMemoryAutoConfiguration}.
+ */
+class InMemoryAutoConfigurationTests {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withConfiguration(AutoConfigurations.of(InMemoryAutoConfiguration.class));
+
+    @Test
+    void embeddingStore() {
+        contextRunner.run(context -> {
+            assertThat(context).hasSingleBean(OffHeapEmbeddingStore.class);
+        });
+    }
+
+    @Test
+    void embeddingStoreWithDimension() {
+        contextRunner.withPropertyValues("langchain4j.vectorstore.inmemory.dimension=3").run(context -> {
+            OffHeapEmbeddingStore embeddingStore = context.getBean(OffHeapEmbeddingStore.class);
+            assertThatThrownBy(() -> embeddingStore.add(Embedding.from(new float[] { 1.0f, 2.0f })))
+                .isInstanceOf(IllegalArgumentException.class);
+        });
+    }
+
+    @Test
+    void embeddingStoreDisabled() {
+        contextRunner.withPropertyValues("langchain4j.vectorstore.inmemory.enabled=false").run(context -> {
+            assertThat(context).doesNotHaveBean(OffHeapEmbeddingStore.class);
+        });
+    }
+
+}
@@ -0,0 +1,260 @@
+package io.thomasvitale.langchain4j.spring.core.chat.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import io.thomasvitale.langchain4j.spring.core.chat.cache.observation.ChatCacheObservationContext;
+import io.thomasvitale.langchain4j.spring.core.chat.cache.observation.ChatCacheObservationConvention;
+import io.thomasvitale.langchain4j.spring.core.chat.cache.observation.DefaultChatCacheObservationConvention;
+import io.thomasvitale.langchain4j.spring.core.chat.messages.jackson.JacksonChatMessageJsonCodec;
+import io.thomasvitale.langchain4j.spring.core.json.JsonSerializationException;
+import io.thomasvitale.langchain4j.spring.core.json.jackson.LangChain4jJacksonProvider;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * {@link ChatLanguageModel} decorator serving responses from a {@link ChatResponseCache}
+ * and delegating to the wrapped model only for requests not found there.
+ * <p>
+ * Responses are cached by the SHA-256 hash of the model name, the model options, the messages
+ * and the tools, so that any change in the request results in a new call to the model.
+ * Caching only makes sense when the model answers identical requests in the same way, so by default
+ * requests are passed through to the wrapped model unless it's configured to be {@code deterministic},
+ * for example with a zero temperature and a fixed seed.
+ */
+public class CachingChatLanguageModel implements ChatLanguageModel {
+
+    private static final Observation.Event HIT_EVENT = Observation.Event.of("hit");
+
+    private static final Observation.Event MISS_EVENT = Observation.Event.of("miss");
+
+    private static final JacksonChatMessageJsonCodec chatMessageJsonCodec = new JacksonChatMessageJsonCodec();
+
+    private final ChatLanguageModel delegate;
+
+    private final ChatResponseCache cache;
+
+    private final String modelName;
+
+    private final byte[] keyPrefix;
+
+    private final boolean enabled;
+
+    private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+    private ChatCacheObservationConvention observationConvention = new DefaultChatCacheObservationConvention();
+
+    private CachingChatLanguageModel(ChatLanguageModel delegate, ChatResponseCache cache, String modelName,
+            @Nullable Object options, boolean deterministic, boolean cacheNonDeterministic) {
+        Assert.notNull(delegate, "delegate cannot be null");
+        Assert.notNull(cache, "cache cannot be null");
+        Assert.hasText(modelName, "modelName cannot be null or empty");
+
+        this.delegate = delegate;
+        this.cache = cache;
+        this.modelName = modelName;
+        this.keyPrefix = (modelName + '\u0000' + toJson(options) + '\u0000').getBytes(StandardCharsets.UTF_8);
+        this.enabled = deterministic || cacheNonDeterministic;
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages) {
+        return generate(messages, null, null, () -> delegate.generate(messages));
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications) {
+        return generate(messages, toolSpecifications, null, () -> delegate.generate(messages, toolSpecifications));
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, ToolSpecification toolSpecification) {
+        return generate(messages, singletonList(toolSpecification), toolSpecification, () -> delegate.generate(messages, toolSpecification));
+    }
+
+    private Response<AiMessage> generate(List<ChatMessage> messages, @Nullable List<ToolSpecification> toolSpecifications,
+            @Nullable ToolSpecification toolThatMustBeExecuted, Supplier<Response<AiMessage>> modelCall) {
+        Assert.notNull(messages, "messages cannot be null");
+
+        if (!enabled) {
+            return modelCall.get();
+        }
+
+        ChatCacheObservationContext observationContext = new ChatCacheObservationContext(modelName);
+        Observation observation = Observation.createNotStarted(observationConvention, () -> observationContext, this.observationRegistry);
+
+        Response<AiMessage> modelResponse = observation.observe(() -> {
+            String key = key(messages, toolSpecifications, toolThatMustBeExecuted);
+
+            Response<AiMessage> cachedResponse = cache.get(key);
+            if (cachedResponse != null) {
+                observationContext.setOutcome(ChatCacheObservationContext.OUTCOME_HIT);
+                observation.event(HIT_EVENT);
+                return cachedResponse;
+            }
+
+            observationContext.setOutcome(ChatCacheObservationContext.OUTCOME_MISS);
+            observation.event(MISS_EVENT);
+
+            Response<AiMessage> delegateResponse = modelCall.get();
+            if (delegateResponse != null && delegateResponse.content() != null) {
+                cache.put(key, delegateResponse);
+            }
+            return delegateResponse;
+        });
+
+        if (modelResponse == null) {
+            throw new IllegalStateException("Model response is empty");
+        }
+
+        return modelResponse;
+    }
+
+    /**
+     * Computes the cache key for the given request.
+     */
+    String key(List<ChatMessage> messages, @Nullable List<ToolSpecification> toolSpecifications,
+            @Nullable ToolSpecification toolThatMustBeExecuted) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(keyPrefix);
+            digest.update(chatMessageJsonCodec.messagesToJson(messages).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            // Tool specifications have no JSON mapping, but their string representation covers all their fields.
+            if (toolSpecifications != null) {
+                digest.update(toolSpecifications.toString().getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) 0);
+            if (toolThatMustBeExecuted != null) {
+                digest.update(toolThatMustBeExecuted.name().getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        }
+        catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 algorithm not available", ex);
+        }
+    }
+
+    private static String toJson(@Nullable Object options) {
+        if (options == null) {
+            return "";
+        }
+        try {
+            return LangChain4jJacksonProvider.getObjectMapper().writeValueAsString(options);
+        }
+        catch (JsonProcessingException ex) {
+            throw new JsonSerializationException(ex);
+        }
+    }
+
+    public ChatLanguageModel getDelegate() {
+        return delegate;
+    }
+
+    public void setObservationRegistry(ObservationRegistry observationRegistry) {
+        Assert.notNull(observationRegistry, "observationRegistry cannot be null");
+        this.observationRegistry = observationRegistry;
+    }
+
+    public void setObservationConvention(ChatCacheObservationConvention observationConvention) {
+        Assert.notNull(observationConvention, "observationConvention cannot be null");
+        this.observationConvention = observationConvention;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private ChatLanguageModel delegate;
+        private ChatResponseCache cache;
+        private String modelName;
+        private Object options;
+        private boolean deterministic;
+        private boolean cacheNonDeterministic;
+        private ObservationRegistry observationRegistry;
+        private ChatCacheObservationConvention observationConvention;
+
+        private Builder() {}
+
+        public Builder delegate(ChatLanguageModel delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        public Builder cache(ChatResponseCache cache) {
+            this.cache = cache;
+            return this;
+        }
+
+        public Builder modelName(String modelName) {
+            this.modelName = modelName;
+            return this;
+        }
+
+        /**
+         * Options affecting the responses generated by the model. They are serialized
+         * to JSON and included in the cache key.
+         */
+        public Builder options(Object options) {
+            this.options = options;
+            return this;
+        }
+
+        /**
+         * Whether the model is configured to answer identical requests in the same way.
+         */
+        public Builder deterministic(boolean deterministic) {
+            this.deterministic = deterministic;
+            return this;
+        }
+
+        /**
+         * Whether to cache responses even when the model is not deterministic.
+         */
+        public Builder cacheNonDeterministic(boolean cacheNonDeterministic) {
+            this.cacheNonDeterministic = cacheNonDeterministic;
+            return this;
+        }
+
+        public Builder observationRegistry(ObservationRegistry observationRegistry) {
+            this.observationRegistry = observationRegistry;
+            return this;
+        }
+
+        public Builder observationConvention(ChatCacheObservationConvention observationConvention) {
+            this.observationConvention = observationConvention;
+            return this;
+        }
+
+        public CachingChatLanguageModel build() {
+            var chatModel = new CachingChatLanguageModel(delegate, cache, modelName, options, deterministic, cacheNonDeterministic);
+            if (observationConvention != null) {
+                chatModel.setObservationConvention(observationConvention);
+            }
+            if (observationRegistry != null) {
+                chatModel.setObservationRegistry(observationRegistry);
+            }
+            return chatModel;
+        }
+    }
+
+}
@@ -0,0 +1,29 @@
+package io.thomasvitale.langchain4j.spring.core.chat.cache;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.model.output.Response;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Stores chat responses by key, so that identical requests don't have to be sent to the model again.
+ */
+public interface ChatResponseCache {
+
+    /**
+     * Returns the response stored for the given key, or null if there is none.
+     */
+    @Nullable
+    Response<AiMessage> get(String key);
+
+    /**
+     * Stores the response for the given key, replacing any existing one.
+     */
+    void put(String key, Response<AiMessage> response);
+
+    /**
+     * Removes all the responses from the cache.
+     */
+    void clear();
+
+}
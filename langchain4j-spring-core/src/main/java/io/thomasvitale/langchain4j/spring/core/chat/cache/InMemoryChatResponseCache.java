@@ -0,0 +1,127 @@
+package io.thomasvitale.langchain4j.spring.core.chat.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.model.output.Response;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ChatResponseCache} keeping the responses in memory, bounded by number of entries
+ * and by how long each entry is kept.
+ * <p>
+ * Expired entries are removed when looked up. When the cache is full,
+ * the least recently used entry is evicted.
+ */
+public class InMemoryChatResponseCache implements ChatResponseCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 1_000;
+
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofHours(1);
+
+    private final int maxEntries;
+
+    private final long timeToLiveNanos;
+
+    private final LongSupplier nanoClock;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private InMemoryChatResponseCache(int maxEntries, Duration timeToLive, LongSupplier nanoClock) {
+        Assert.isTrue(maxEntries > 0, "maxEntries must be greater than 0");
+        Assert.notNull(timeToLive, "timeToLive cannot be null");
+        Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "timeToLive must be positive");
+        Assert.notNull(nanoClock, "nanoClock cannot be null");
+
+        this.maxEntries = maxEntries;
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    @Nullable
+    public Response<AiMessage> get(String key) {
+        Assert.notNull(key, "key cannot be null");
+
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (nanoClock.getAsLong() - entry.createdAtNanos() >= timeToLiveNanos) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.response();
+        }
+    }
+
+    @Override
+    public void put(String key, Response<AiMessage> response) {
+        Assert.notNull(key, "key cannot be null");
+        Assert.notNull(response, "response cannot be null");
+
+        synchronized (entries) {
+            entries.put(key, new Entry(response, nanoClock.getAsLong()));
+
+            Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+            while (entries.size() > maxEntries && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private record Entry(Response<AiMessage> response, long createdAtNanos) {}
+
+    public static class Builder {
+        private int maxEntries = DEFAULT_MAX_ENTRIES;
+        private Duration timeToLive = DEFAULT_TIME_TO_LIVE;
+        private LongSupplier nanoClock = System::nanoTime;
+
+        private Builder() {}
+
+        public Builder maxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        public Builder timeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        Builder nanoClock(LongSupplier nanoClock) {
+            this.nanoClock = nanoClock;
+            return this;
+        }
+
+        public InMemoryChatResponseCache build() {
+            return new InMemoryChatResponseCache(maxEntries, timeToLive, nanoClock);
+        }
+    }
+
+}
@@ -0,0 +1,250 @@
+package io.thomasvitale.langchain4j.spring.core.chat.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.TextContent;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import io.thomasvitale.langchain4j.spring.core.chat.cache.observation.ChatCacheObservationContext;
+import io.thomasvitale.langchain4j.spring.core.chat.cache.observation.ChatCacheObservationConvention;
+import io.thomasvitale.langchain4j.spring.core.chat.cache.observation.DefaultChatCacheObservationConvention;
+import io.thomasvitale.langchain4j.spring.core.chat.messages.jackson.JacksonChatMessageJsonCodec;
+import io.thomasvitale.langchain4j.spring.core.json.JsonSerializationException;
+import io.thomasvitale.langchain4j.spring.core.json.jackson.LangChain4jJacksonProvider;
+
+/**
+ * {@link ChatLanguageModel} decorator serving responses from a {@link SemanticChatResponseCache}
+ * when the last user message is similar enough to a question answered before.
+ * <p>
+ * Only the last user message is compared by similarity. The model name, the model options and
+ * the previous messages, such as the system message, must match exactly, so they're hashed into
+ * the namespace of the cached responses. Requests with tools, requests whose last message is not
+ * a text user message, and responses requesting tool executions are not cached. If the question
+ * can't be embedded or looked up, the request is treated as a miss and sent to the model.
+ */
+public class SemanticCachingChatLanguageModel implements ChatLanguageModel {
+
+    private static final Logger logger = LoggerFactory.getLogger(SemanticCachingChatLanguageModel.class);
+
+    private static final Observation.Event HIT_EVENT = Observation.Event.of("hit");
+
+    private static final Observation.Event MISS_EVENT = Observation.Event.of("miss");
+
+    private static final JacksonChatMessageJsonCodec chatMessageJsonCodec = new JacksonChatMessageJsonCodec();
+
+    private final ChatLanguageModel delegate;
+
+    private final SemanticChatResponseCache cache;
+
+    private final String modelName;
+
+    private final byte[] namespacePrefix;
+
+    private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+    private ChatCacheObservationConvention observationConvention = new DefaultChatCacheObservationConvention();
+
+    private SemanticCachingChatLanguageModel(ChatLanguageModel delegate, SemanticChatResponseCache cache, String modelName,
+            @Nullable Object options) {
+        Assert.notNull(delegate, "delegate cannot be null");
+        Assert.notNull(cache, "cache cannot be null");
+        Assert.hasText(modelName, "modelName cannot be null or empty");
+
+        this.delegate = delegate;
+        this.cache = cache;
+        this.modelName = modelName;
+        this.namespacePrefix = (modelName + '\u0000' + toJson(options) + '\u0000').getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages) {
+        Assert.notEmpty(messages, "messages cannot be null or empty");
+
+        String question = question(messages.get(messages.size() - 1));
+        if (question == null) {
+            return delegate.generate(messages);
+        }
+
+        ChatCacheObservationContext observationContext = new ChatCacheObservationContext(modelName, ChatCacheObservationContext.TYPE_SEMANTIC);
+        Observation observation = Observation.createNotStarted(observationConvention, () -> observationContext, this.observationRegistry);
+
+        Response<AiMessage> modelResponse = observation.observe(() -> {
+            String namespace = namespace(messages.subList(0, messages.size() - 1));
+            Embedding questionEmbedding = null;
+            String cachedResponse = null;
+            try {
+                questionEmbedding = cache.embed(question);
+                cachedResponse = cache.get(namespace, questionEmbedding);
+            }
+            catch (RuntimeException ex) {
+                logger.warn("Failed to look up the semantic cache, the request is sent to the model", ex);
+            }
+
+            if (cachedResponse != null) {
+                observationContext.setOutcome(ChatCacheObservationContext.OUTCOME_HIT);
+                observation.event(HIT_EVENT);
+                return Response.from(AiMessage.from(cachedResponse));
+            }
+
+            observationContext.setOutcome(ChatCacheObservationContext.OUTCOME_MISS);
+            observation.event(MISS_EVENT);
+
+            Response<AiMessage> delegateResponse = delegate.generate(messages);
+            if (questionEmbedding != null && delegateResponse != null && delegateResponse.content() != null
+                    && !delegateResponse.content().hasToolExecutionRequests()
+                    && StringUtils.hasText(delegateResponse.content().text())) {
+                cache.put(namespace, questionEmbedding, delegateResponse.content().text());
+            }
+            return delegateResponse;
+        });
+
+        if (modelResponse == null) {
+            throw new IllegalStateException("Model response is empty");
+        }
+
+        return modelResponse;
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications) {
+        return delegate.generate(messages, toolSpecifications);
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages, ToolSpecification toolSpecification) {
+        return delegate.generate(messages, toolSpecification);
+    }
+
+    @Nullable
+    private static String question(ChatMessage message) {
+        if (message instanceof UserMessage userMessage && userMessage.contents().size() == 1
+                && userMessage.contents().get(0) instanceof TextContent textContent
+                && StringUtils.hasText(textContent.text())) {
+            return textContent.text();
+        }
+        return null;
+    }
+
+    /**
+     * Computes the namespace of the responses for the given previous messages.
+     */
+    String namespace(List<ChatMessage> previousMessages) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(namespacePrefix);
+            return HexFormat.of().formatHex(digest.digest(
+                    chatMessageJsonCodec.messagesToJson(previousMessages).getBytes(StandardCharsets.UTF_8)));
+        }
+        catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 algorithm not available", ex);
+        }
+    }
+
+    private static String toJson(@Nullable Object options) {
+        if (options == null) {
+            return "";
+        }
+        try {
+            return LangChain4jJacksonProvider.getObjectMapper().writeValueAsString(options);
+        }
+        catch (JsonProcessingException ex) {
+            throw new JsonSerializationException(ex);
+        }
+    }
+
+    public ChatLanguageModel getDelegate() {
+        return delegate;
+    }
+
+    public void setObservationRegistry(ObservationRegistry observationRegistry) {
+        Assert.notNull(observationRegistry, "observationRegistry cannot be null");
+        this.observationRegistry = observationRegistry;
+    }
+
+    public void setObservationConvention(ChatCacheObservationConvention observationConvention) {
+        Assert.notNull(observationConvention, "observationConvention cannot be null");
+        this.observationConvention = observationConvention;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private ChatLanguageModel delegate;
+        private SemanticChatResponseCache cache;
+        private String modelName;
+        private Object options;
+        private ObservationRegistry observationRegistry;
+        private ChatCacheObservationConvention observationConvention;
+
+        private Builder() {}
+
+        public Builder delegate(ChatLanguageModel delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        public Builder cache(SemanticChatResponseCache cache) {
+            this.cache = cache;
+            return this;
+        }
+
+        public Builder modelName(String modelName) {
+            this.modelName = modelName;
+            return this;
+        }
+
+        /**
+         * Options affecting the responses generated by the model. They are serialized
+         * to JSON and included in the namespace of the cached responses.
+         */
+        public Builder options(Object options) {
+            this.options = options;
+            return this;
+        }
+
+        public Builder observationRegistry(ObservationRegistry observationRegistry) {
+            this.observationRegistry = observationRegistry;
+            return this;
+        }
+
+        public Builder observationConvention(ChatCacheObservationConvention observationConvention) {
+            this.observationConvention = observationConvention;
+            return this;
+        }
+
+        public SemanticCachingChatLanguageModel build() {
+            var chatModel = new SemanticCachingChatLanguageModel(delegate, cache, modelName, options);
+            if (observationConvention != null) {
+                chatModel.setObservationConvention(observationConvention);
+            }
+            if (observationRegistry != null) {
+                chatModel.setObservationRegistry(observationRegistry);
+            }
+            return chatModel;
+        }
+    }
+
+}
@@ -0,0 +1,387 @@
+package io.thomasvitale.langchain4j.spring.core.chat.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.filter.MetadataFilterBuilder;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import io.thomasvitale.langchain4j.spring.core.json.JsonSerializationException;
+import io.thomasvitale.langchain4j.spring.core.json.jackson.LangChain4jJacksonProvider;
+
+/**
+ * Stores chat responses in an {@link EmbeddingStore}, by the embedding of the question they answer,
+ * so that they can be served again for questions with a similar meaning.
+ * <p>
+ * Each entry is stored as a text segment holding the response, the namespace and the creation time,
+ * since not every store keeps the metadata of the text segments. The namespace separates responses
+ * that are not interchangeable, for example because they come from different models or conversations.
+ * It's also stored as metadata, so that lookups are restricted to the namespace with a metadata filter
+ * when {@code filterByNamespace} is enabled, which is the default for the in-memory store. Otherwise,
+ * or when the store turns out not to support filters, {@value #UNFILTERED_FETCH_FACTOR} times
+ * {@code maxResults} similar questions are fetched, and those of other namespaces are skipped,
+ * so that they don't take the place of the ones of the requested namespace.
+ * Entries older than the {@code timeToLive} or created before the last call to {@link #invalidate()}
+ * are ignored, and removed from the store when a lookup finds them, so that they don't take
+ * the place of valid entries among the most similar results. Entries that are never looked up
+ * again are not removed, so an external store should be configured to expire them. The default
+ * in-memory store is bounded to {@code maxEntries}, evicting the oldest entries first.
+ */
+public class SemanticChatResponseCache {
+
+    public static final double DEFAULT_MIN_SCORE = 0.95;
+
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofHours(1);
+
+    public static final int DEFAULT_MAX_RESULTS = 3;
+
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+    static final String NAMESPACE_METADATA_KEY = "semantic_cache_namespace";
+
+    static final int UNFILTERED_FETCH_FACTOR = 5;
+
+    private static final Logger logger = LoggerFactory.getLogger(SemanticChatResponseCache.class);
+
+    private final EmbeddingModel embeddingModel;
+
+    private final EmbeddingStore<TextSegment> embeddingStore;
+
+    private final double minScore;
+
+    private final Duration timeToLive;
+
+    private final int maxResults;
+
+    private final Clock clock;
+
+    /**
+     * Ids of the stored entries, oldest first, when the store is bounded.
+     */
+    @Nullable
+    private final Set<String> entryIds;
+
+    private final int maxEntries;
+
+    private volatile boolean removalSupported = true;
+
+    private volatile boolean filterByNamespace;
+
+    private volatile long invalidatedAtMillis = Long.MIN_VALUE;
+
+    private Executor executor = new SimpleAsyncTaskExecutor("semantic-cache-");
+
+    private SemanticChatResponseCache(EmbeddingModel embeddingModel, EmbeddingStore<TextSegment> embeddingStore,
+            double minScore, Duration timeToLive, int maxResults, Clock clock, int maxEntries, boolean bounded,
+            boolean filterByNamespace) {
+        Assert.notNull(embeddingModel, "embeddingModel cannot be null");
+        Assert.notNull(embeddingStore, "embeddingStore cannot be null");
+        Assert.isTrue(minScore >= 0 && minScore <= 1, "minScore must be between 0 and 1");
+        Assert.notNull(timeToLive, "timeToLive cannot be null");
+        Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "timeToLive must be positive");
+        Assert.isTrue(maxResults > 0, "maxResults must be greater than 0");
+        Assert.notNull(clock, "clock cannot be null");
+        Assert.isTrue(maxEntries > 0, "maxEntries must be greater than 0");
+
+        this.embeddingModel = embeddingModel;
+        this.embeddingStore = embeddingStore;
+        this.minScore = minScore;
+        this.timeToLive = timeToLive;
+        this.maxResults = maxResults;
+        this.clock = clock;
+        this.maxEntries = maxEntries;
+        this.entryIds = bounded ? new LinkedHashSet<>() : null;
+        this.filterByNamespace = filterByNamespace;
+    }
+
+    /**
+     * Computes the embedding of the given question, to look it up and then store its response.
+     */
+    public Embedding embed(String question) {
+        Assert.hasText(question, "question cannot be null or empty");
+        return embeddingModel.embed(question).content();
+    }
+
+    /**
+     * Returns the most similar valid response stored in the given namespace, or null if there is none.
+     */
+    @Nullable
+    public String get(String namespace, Embedding questionEmbedding) {
+        Assert.hasText(namespace, "namespace cannot be null or empty");
+        Assert.notNull(questionEmbedding, "questionEmbedding cannot be null");
+
+        long validAfterMillis = Math.max(clock.millis() - timeToLive.toMillis(), invalidatedAtMillis);
+
+        List<String> staleIds = new ArrayList<>();
+        String response = null;
+        // Matches are sorted by decreasing score, so the first valid one is the most similar.
+        for (EmbeddingMatch<TextSegment> match : search(namespace, questionEmbedding)) {
+            Entry entry = toEntry(match.embedded());
+            if (entry == null) {
+                continue;
+            }
+            if (entry.createdAt() <= validAfterMillis) {
+                staleIds.add(match.embeddingId());
+            }
+            else if (response == null && entry.namespace().equals(namespace)) {
+                response = entry.response();
+            }
+        }
+
+        if (!staleIds.isEmpty()) {
+            executor.execute(() -> remove(staleIds));
+        }
+        return response;
+    }
+
+    /**
+     * Searches the questions similar to the given one, restricted to the namespace when the store
+     * supports metadata filters, and over-fetching otherwise.
+     */
+    private List<EmbeddingMatch<TextSegment>> search(String namespace, Embedding questionEmbedding) {
+        if (filterByNamespace) {
+            var searchRequest = EmbeddingSearchRequest.builder()
+                .queryEmbedding(questionEmbedding)
+                .maxResults(maxResults)
+                .minScore(minScore)
+                .filter(MetadataFilterBuilder.metadataKey(NAMESPACE_METADATA_KEY).isEqualTo(namespace))
+                .build();
+            try {
+                return embeddingStore.search(searchRequest).matches();
+            }
+            catch (UnsupportedOperationException ex) {
+                filterByNamespace = false;
+                logger.warn("The embedding store doesn't support metadata filters, so the semantic cache "
+                        + "will fetch more similar questions and skip the ones of other namespaces");
+            }
+        }
+        var searchRequest = EmbeddingSearchRequest.builder()
+            .queryEmbedding(questionEmbedding)
+            .maxResults(maxResults * UNFILTERED_FETCH_FACTOR)
+            .minScore(minScore)
+            .build();
+        return embeddingStore.search(searchRequest).matches();
+    }
+
+    /**
+     * Stores the response to the question with the given embedding. The store is updated
+     * on the configured executor, so that the caller doesn't wait for it.
+     */
+    public void put(String namespace, Embedding questionEmbedding, String response) {
+        Assert.hasText(namespace, "namespace cannot be null or empty");
+        Assert.notNull(questionEmbedding, "questionEmbedding cannot be null");
+        Assert.notNull(response, "response cannot be null");
+
+        TextSegment textSegment = TextSegment.from(toJson(new Entry(namespace, clock.millis(), response)),
+                Metadata.from(NAMESPACE_METADATA_KEY, namespace));
+        executor.execute(() -> {
+            String id;
+            try {
+                id = embeddingStore.add(questionEmbedding, textSegment);
+            }
+            catch (RuntimeException ex) {
+                logger.warn("Failed to store response in the semantic cache", ex);
+                return;
+            }
+            if (entryIds != null) {
+                evict(id);
+            }
+        });
+    }
+
+    /**
+     * Records the id of a new entry and removes the oldest ones beyond {@code maxEntries}.
+     */
+    private void evict(String id) {
+        Assert.state(entryIds != null, "the store is not bounded");
+        List<String> evictedIds = new ArrayList<>();
+        synchronized (entryIds) {
+            entryIds.add(id);
+            Iterator<String> iterator = entryIds.iterator();
+            while (entryIds.size() > maxEntries) {
+                evictedIds.add(iterator.next());
+                iterator.remove();
+            }
+        }
+        if (!evictedIds.isEmpty()) {
+            remove(evictedIds);
+        }
+    }
+
+    private void remove(List<String> ids) {
+        if (!removalSupported) {
+            return;
+        }
+        try {
+            embeddingStore.removeAll(ids);
+        }
+        catch (UnsupportedOperationException ex) {
+            removalSupported = false;
+            logger.warn("The embedding store doesn't support removing entries, so the expired responses "
+                    + "of the semantic cache will be kept until the store expires them");
+            return;
+        }
+        catch (RuntimeException ex) {
+            logger.warn("Failed to remove expired responses from the semantic cache", ex);
+            return;
+        }
+        if (entryIds != null) {
+            synchronized (entryIds) {
+                ids.forEach(entryIds::remove);
+            }
+        }
+    }
+
+    /**
+     * Ignores all the responses stored so far.
+     */
+    public void invalidate() {
+        invalidatedAtMillis = clock.millis();
+    }
+
+    @Nullable
+    private static Entry toEntry(@Nullable TextSegment textSegment) {
+        if (textSegment == null) {
+            return null;
+        }
+        try {
+            Entry entry = LangChain4jJacksonProvider.getObjectMapper().readValue(textSegment.text(), Entry.class);
+            return entry.namespace() != null && entry.response() != null ? entry : null;
+        }
+        catch (JsonProcessingException ex) {
+            // Not written by this cache, for example because the store is shared.
+            return null;
+        }
+    }
+
+    private static String toJson(Entry entry) {
+        try {
+            return LangChain4jJacksonProvider.getObjectMapper().writeValueAsString(entry);
+        }
+        catch (JsonProcessingException ex) {
+            throw new JsonSerializationException(ex);
+        }
+    }
+
+    public void setExecutor(Executor executor) {
+        Assert.notNull(executor, "executor cannot be null");
+        this.executor = executor;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private record Entry(String namespace, long createdAt, String response) {}
+
+    public static class Builder {
+        private EmbeddingModel embeddingModel;
+        private EmbeddingStore<TextSegment> embeddingStore;
+        private double minScore = DEFAULT_MIN_SCORE;
+        private Duration timeToLive = DEFAULT_TIME_TO_LIVE;
+        private int maxResults = DEFAULT_MAX_RESULTS;
+        private int maxEntries = DEFAULT_MAX_ENTRIES;
+        private Clock clock = Clock.systemUTC();
+        private Executor executor;
+        private Boolean filterByNamespace;
+
+        private Builder() {}
+
+        public Builder embeddingModel(EmbeddingModel embeddingModel) {
+            this.embeddingModel = embeddingModel;
+            return this;
+        }
+
+        /**
+         * Store for the cached responses. If not set, they are kept in memory.
+         */
+        public Builder embeddingStore(EmbeddingStore<TextSegment> embeddingStore) {
+            this.embeddingStore = embeddingStore;
+            return this;
+        }
+
+        /**
+         * Minimum relevance score, between 0 and 1, for a stored question to be considered
+         * similar enough to reuse its response.
+         */
+        public Builder minScore(double minScore) {
+            this.minScore = minScore;
+            return this;
+        }
+
+        public Builder timeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        /**
+         * Number of similar questions retrieved from the store, among which the first valid one is used.
+         */
+        public Builder maxResults(int maxResults) {
+            this.maxResults = maxResults;
+            return this;
+        }
+
+        /**
+         * Maximum number of responses kept in the default in-memory store. It doesn't apply
+         * to a store set with {@link #embeddingStore(EmbeddingStore)}.
+         */
+        public Builder maxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * Whether the store applies metadata filters, so that lookups are restricted to the namespace.
+         * It should be enabled only for such stores, since the others would return the similar questions
+         * of every namespace, without over-fetching. If not set, it's enabled for the default in-memory store.
+         */
+        public Builder filterByNamespace(Boolean filterByNamespace) {
+            this.filterByNamespace = filterByNamespace;
+            return this;
+        }
+
+        Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public SemanticChatResponseCache build() {
+            var cache = new SemanticChatResponseCache(embeddingModel,
+                    embeddingStore != null ? embeddingStore : new InMemoryEmbeddingStore<>(), minScore, timeToLive,
+                    maxResults, clock, maxEntries, embeddingStore == null,
+                    filterByNamespace != null ? filterByNamespace : embeddingStore == null);
+            if (executor != null) {
+                cache.setExecutor(executor);
+            }
+            return cache;
+        }
+    }
+
+}
@@ -0,0 +1,73 @@
+package io.thomasvitale.langchain4j.spring.core.chat.cache.observation;
+
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.observation.docs.ObservationDocumentation;
+
+/**
+ * Observation created around a chat request served through a cache.
+ * <p>
+ * Each request is tagged with whether its response was found in the cache, so that
+ * the hit ratio can be computed from the {@code langchain4j.chat.cache} timer counts.
+ * It's also signalled with a {@code hit} or {@code miss} event, which a meter observation
+ * handler exports as the {@code langchain4j.chat.cache.hit} and
+ * {@code langchain4j.chat.cache.miss} counters.
+ */
+public enum ChatCacheObservation implements ObservationDocumentation {
+
+    CHAT_CACHE_OBSERVATION {
+        @Override
+        public String getName() {
+            return "langchain4j.chat.cache";
+        }
+
+        @Override
+        public String getContextualName() {
+            return "langchain4j chat cache";
+        }
+
+        @Override
+        public KeyName[] getLowCardinalityKeyNames() {
+            return ChatCacheLowCardinalityTags.values();
+        }
+
+        @Override
+        public String getPrefix() {
+            return "langchain4j";
+        }
+    };
+
+    enum ChatCacheLowCardinalityTags implements KeyName {
+
+        /**
+         * Name of the chat model.
+         */
+        MODEL_NAME {
+            @Override
+            public String asString() {
+                return "langchain4j.chat.model.name";
+            }
+        },
+
+        /**
+         * Type of cache, matching requests exactly ("exact") or by similarity ("semantic").
+         */
+        CACHE_TYPE {
+            @Override
+            public String asString() {
+                return "langchain4j.chat.cache.type";
+            }
+        },
+
+        /**
+         * Whether the response was found in the cache ("hit") or generated by the model ("miss").
+         */
+        OUTCOME {
+            @Override
+            public String asString() {
+                return "langchain4j.chat.cache.outcome";
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,53 @@
+package io.thomasvitale.langchain4j.spring.core.chat.cache.observation;
+
+import io.micrometer.observation.Observation;
+
+import org.springframework.util.Assert;
+
+/**
+ * Observation context for chat requests served through a cache.
+ */
+public class ChatCacheObservationContext extends Observation.Context {
+
+    public static final String OUTCOME_HIT = "hit";
+
+    public static final String OUTCOME_MISS = "miss";
+
+    public static final String TYPE_EXACT = "exact";
+
+    public static final String TYPE_SEMANTIC = "semantic";
+
+    private final String model;
+
+    private final String type;
+
+    private String outcome = OUTCOME_MISS;
+
+    public ChatCacheObservationContext(String model) {
+        this(model, TYPE_EXACT);
+    }
+
+    public ChatCacheObservationContext(String model, String type) {
+        Assert.hasText(model, "model cannot be null or empty");
+        Assert.hasText(type, "type cannot be null or empty");
+        this.model = model;
+        this.type = type;
+    }
+
+    public String getModel() {
+        return model;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getOutcome() {
+        return outcome;
+    }
+
+    public void setOutcome(String outcome) {
+        Assert.hasText(outcome, "outcome cannot be null or empty");
+        this.outcome = outcome;
+    }
+}
@@ -0,0 +1,16 @@
+package io.thomasvitale.langchain4j.spring.core.chat.cache.observation;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationConvention;
+
+/**
+ * {@link ObservationConvention} for {@link ChatCacheObservationContext}.
+ */
+public interface ChatCacheObservationConvention extends ObservationConvention<ChatCacheObservationContext> {
+
+    @Override
+    default boolean supportsContext(Observation.Context context) {
+        return context instanceof ChatCacheObservationContext;
+    }
+
+}
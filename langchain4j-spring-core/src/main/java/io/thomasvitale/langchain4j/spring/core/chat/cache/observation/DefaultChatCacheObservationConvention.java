@@ -0,0 +1,29 @@
+package io.thomasvitale.langchain4j.spring.core.chat.cache.observation;
+
+import io.micrometer.common.KeyValues;
+
+/**
+ * Default {@link ChatCacheObservationConvention} implementation.
+ */
+public final class DefaultChatCacheObservationConvention implements ChatCacheObservationConvention {
+
+    @Override
+    public String getName() {
+        return ChatCacheObservation.CHAT_CACHE_OBSERVATION.getName();
+    }
+
+    @Override
+    public String getContextualName(ChatCacheObservationContext context) {
+        return ChatCacheObservation.CHAT_CACHE_OBSERVATION.getContextualName();
+    }
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ChatCacheObservationContext context) {
+        return KeyValues.of(
+                ChatCacheObservation.ChatCacheLowCardinalityTags.MODEL_NAME.withValue(context.getModel()),
+                ChatCacheObservation.ChatCacheLowCardinalityTags.CACHE_TYPE.withValue(context.getType()),
+                ChatCacheObservation.ChatCacheLowCardinalityTags.OUTCOME.withValue(context.getOutcome())
+        );
+    }
+
+}
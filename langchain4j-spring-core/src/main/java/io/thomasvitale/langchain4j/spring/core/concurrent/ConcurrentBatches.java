@@ -0,0 +1,107 @@
+package io.thomasvitale.langchain4j.spring.core.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import org.springframework.util.Assert;
+
+/**
+ * Processes batches of items, one at a time or by a bounded number of concurrent workers.
+ * <p>
+ * Batches are identified by their index, so that each batch task can store its results
+ * at the positions of its items and the original order is preserved whatever the order
+ * in which batches complete.
+ */
+public final class ConcurrentBatches {
+
+    private ConcurrentBatches() {
+    }
+
+    /**
+     * Splits {@code itemCount} items into batches of at most {@code batchSize} items
+     * and returns the number of batches.
+     */
+    public static int batchCount(int itemCount, int batchSize) {
+        Assert.isTrue(itemCount >= 0, "itemCount must be greater than or equal to 0");
+        Assert.isTrue(batchSize > 0, "batchSize must be greater than 0");
+        return (itemCount + batchSize - 1) / batchSize;
+    }
+
+    /**
+     * Runs the batch task for each batch index from 0 to {@code batchCount}, on the calling thread
+     * when {@code concurrency} is 1, or by up to {@code concurrency} workers on the executor otherwise.
+     * The method returns when all the batches are processed.
+     */
+    public static void forEach(int batchCount, int concurrency, Executor executor, IntConsumer batchTask) {
+        forEach(batchCount, concurrency, executor, ObservationRegistry.NOOP, batchTask);
+    }
+
+    /**
+     * Runs the batch task for each batch index from 0 to {@code batchCount}, on the calling thread
+     * when {@code concurrency} is 1, or by up to {@code concurrency} workers on the executor otherwise.
+     * Each worker takes the next pending batch, within the scope of the observation current
+     * on the calling thread, if any. As soon as a batch fails, the workers stop taking new batches
+     * and the failure is propagated to the caller without waiting for the batches still in flight.
+     */
+    public static void forEach(int batchCount, int concurrency, Executor executor,
+            ObservationRegistry observationRegistry, IntConsumer batchTask) {
+        Assert.isTrue(batchCount >= 0, "batchCount must be greater than or equal to 0");
+        Assert.isTrue(concurrency > 0, "concurrency must be greater than 0");
+        Assert.notNull(executor, "executor cannot be null");
+        Assert.notNull(observationRegistry, "observationRegistry cannot be null");
+        Assert.notNull(batchTask, "batchTask cannot be null");
+
+        if (concurrency == 1 || batchCount <= 1) {
+            for (int i = 0; i < batchCount; i++) {
+                batchTask.accept(i);
+            }
+            return;
+        }
+
+        var nextBatch = new AtomicInteger();
+        var failed = new AtomicBoolean();
+        var result = new CompletableFuture<Void>();
+
+        int workers = Math.min(concurrency, batchCount);
+        var pendingWorkers = new AtomicInteger(workers);
+        Observation parentObservation = observationRegistry.getCurrentObservation();
+
+        Runnable worker = () -> {
+            int batchIndex;
+            while (!failed.get() && (batchIndex = nextBatch.getAndIncrement()) < batchCount) {
+                batchTask.accept(batchIndex);
+            }
+        };
+
+        for (int i = 0; i < workers; i++) {
+            Runnable task = parentObservation != null ? () -> parentObservation.scoped(worker) : worker;
+            CompletableFuture.runAsync(task, executor).whenComplete((ignored, ex) -> {
+                if (ex != null) {
+                    failed.set(true);
+                    result.completeExceptionally(ex);
+                }
+                else if (pendingWorkers.decrementAndGet() == 0) {
+                    result.complete(null);
+                }
+            });
+        }
+
+        try {
+            result.join();
+        }
+        catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+}
@@ -0,0 +1,224 @@
+package io.thomasvitale.langchain4j.spring.core.embedding.batch;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link EmbeddingModel} decorator coalescing concurrent single text segment requests
+ * into one batched request to the wrapped model.
+ * <p>
+ * The first request starts a batch, which is sent to the wrapped model as soon as it holds
+ * {@code maxBatchSize} text segments or {@code maxDelay} has elapsed, whichever comes first.
+ * Each caller is then given the embedding of its own text segment, so a single request
+ * is delayed by at most {@code maxDelay}. Requests for several text segments are
+ * already batched and passed through to the wrapped model.
+ * <p>
+ * The wrapped model reports token usage for the whole batch, which can't be attributed
+ * to the single callers, so the coalesced responses don't include it.
+ */
+public class CoalescingEmbeddingModel implements EmbeddingModel {
+
+    public static final int DEFAULT_MAX_BATCH_SIZE = 64;
+
+    public static final Duration DEFAULT_MAX_DELAY = Duration.ofMillis(2);
+
+    private final EmbeddingModel delegate;
+
+    private final int maxBatchSize;
+
+    private final Duration maxDelay;
+
+    private final Object lock = new Object();
+
+    @Nullable
+    private Batch currentBatch;
+
+    private Executor executor = new SimpleAsyncTaskExecutor("embedding-coalescing-");
+
+    private CoalescingEmbeddingModel(EmbeddingModel delegate, int maxBatchSize, Duration maxDelay) {
+        Assert.notNull(delegate, "delegate cannot be null");
+        Assert.isTrue(maxBatchSize > 0, "maxBatchSize must be greater than 0");
+        Assert.notNull(maxDelay, "maxDelay cannot be null");
+        Assert.isTrue(!maxDelay.isNegative(), "maxDelay cannot be negative");
+
+        this.delegate = delegate;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelay = maxDelay;
+    }
+
+    @Override
+    public Response<Embedding> embed(TextSegment textSegment) {
+        Assert.notNull(textSegment, "textSegment cannot be null");
+
+        CompletableFuture<Embedding> embedding = new CompletableFuture<>();
+        Batch startedBatch = null;
+        Batch fullBatch = null;
+
+        synchronized (lock) {
+            if (currentBatch == null) {
+                currentBatch = new Batch();
+                startedBatch = currentBatch;
+            }
+            currentBatch.add(textSegment, embedding);
+            if (currentBatch.size() >= maxBatchSize) {
+                fullBatch = currentBatch;
+                currentBatch = null;
+            }
+        }
+
+        if (fullBatch != null) {
+            // The caller filling the batch sends it, since it would be waiting for it anyway.
+            send(fullBatch);
+        }
+        else if (startedBatch != null) {
+            Batch batch = startedBatch;
+            CompletableFuture.delayedExecutor(maxDelay.toNanos(), TimeUnit.NANOSECONDS, executor)
+                .execute(() -> sendIfPending(batch));
+        }
+
+        return Response.from(await(embedding));
+    }
+
+    @Override
+    public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+        Assert.notNull(textSegments, "textSegments cannot be null");
+        if (textSegments.size() == 1) {
+            return Response.from(List.of(embed(textSegments.get(0)).content()));
+        }
+        return delegate.embedAll(textSegments);
+    }
+
+    /**
+     * Sends the given batch, unless it has already been sent because it was full.
+     */
+    private void sendIfPending(Batch batch) {
+        synchronized (lock) {
+            if (currentBatch != batch) {
+                return;
+            }
+            currentBatch = null;
+        }
+        send(batch);
+    }
+
+    private void send(Batch batch) {
+        try {
+            Response<List<Embedding>> delegateResponse = delegate.embedAll(batch.textSegments);
+
+            if (delegateResponse == null || delegateResponse.content() == null
+                    || delegateResponse.content().size() != batch.size()) {
+                throw new IllegalStateException("Model response doesn't contain an embedding for each text segment");
+            }
+
+            for (int i = 0; i < batch.size(); i++) {
+                batch.embeddings.get(i).complete(delegateResponse.content().get(i));
+            }
+        }
+        catch (RuntimeException ex) {
+            batch.embeddings.forEach(embedding -> embedding.completeExceptionally(ex));
+        }
+    }
+
+    private static Embedding await(CompletableFuture<Embedding> embedding) {
+        try {
+            return embedding.join();
+        }
+        catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    public EmbeddingModel getDelegate() {
+        return delegate;
+    }
+
+    public void setExecutor(Executor executor) {
+        Assert.notNull(executor, "executor cannot be null");
+        this.executor = executor;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Text segments waiting to be sent together, with the futures of their callers.
+     */
+    private static class Batch {
+
+        private final List<TextSegment> textSegments = new ArrayList<>();
+
+        private final List<CompletableFuture<Embedding>> embeddings = new ArrayList<>();
+
+        void add(TextSegment textSegment, CompletableFuture<Embedding> embedding) {
+            textSegments.add(textSegment);
+            embeddings.add(embedding);
+        }
+
+        int size() {
+            return textSegments.size();
+        }
+
+    }
+
+    public static class Builder {
+        private EmbeddingModel delegate;
+        private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+        private Duration maxDelay = DEFAULT_MAX_DELAY;
+        private Executor executor;
+
+        private Builder() {}
+
+        public Builder delegate(EmbeddingModel delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * Number of text segments after which a batch is sent right away.
+         */
+        public Builder maxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Time after which a batch is sent, even if it's not full.
+         */
+        public Builder maxDelay(Duration maxDelay) {
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public CoalescingEmbeddingModel build() {
+            var embeddingModel = new CoalescingEmbeddingModel(delegate, maxBatchSize, maxDelay);
+            if (executor != null) {
+                embeddingModel.setExecutor(executor);
+            }
+            return embeddingModel;
+        }
+    }
+
+}
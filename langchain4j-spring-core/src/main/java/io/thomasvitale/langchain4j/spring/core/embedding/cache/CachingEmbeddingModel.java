@@ -0,0 +1,241 @@
+package io.thomasvitale.langchain4j.spring.core.embedding.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import io.thomasvitale.langchain4j.spring.core.embedding.cache.observation.DefaultEmbeddingCacheObservationConvention;
+import io.thomasvitale.langchain4j.spring.core.embedding.cache.observation.EmbeddingCacheObservationContext;
+import io.thomasvitale.langchain4j.spring.core.embedding.cache.observation.EmbeddingCacheObservationConvention;
+import io.thomasvitale.langchain4j.spring.core.json.JsonSerializationException;
+import io.thomasvitale.langchain4j.spring.core.json.jackson.LangChain4jJacksonProvider;
+
+/**
+ * {@link EmbeddingModel} decorator serving embeddings from an {@link EmbeddingCache}
+ * and delegating to the wrapped model only for the text segments not found there.
+ * <p>
+ * Embeddings are cached by the SHA-256 hash of the model name, the model options and the text,
+ * so that changing model or options never returns stale embeddings. The token usage
+ * in the response only accounts for the text segments computed by the wrapped model.
+ */
+public class CachingEmbeddingModel implements EmbeddingModel {
+
+    private static final Observation.Event HIT_EVENT = Observation.Event.of("hit");
+
+    private static final Observation.Event MISS_EVENT = Observation.Event.of("miss");
+
+    private final EmbeddingModel delegate;
+
+    private final EmbeddingCache cache;
+
+    private final String modelName;
+
+    private final byte[] keyPrefix;
+
+    private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+    private EmbeddingCacheObservationConvention observationConvention = new DefaultEmbeddingCacheObservationConvention();
+
+    private CachingEmbeddingModel(EmbeddingModel delegate, EmbeddingCache cache, String modelName, @Nullable Object options) {
+        Assert.notNull(delegate, "delegate cannot be null");
+        Assert.notNull(cache, "cache cannot be null");
+        Assert.hasText(modelName, "modelName cannot be null or empty");
+
+        this.delegate = delegate;
+        this.cache = cache;
+        this.modelName = modelName;
+        this.keyPrefix = (modelName + '\u0000' + toJson(options) + '\u0000').getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+        Assert.notNull(textSegments, "textSegments cannot be null");
+
+        EmbeddingCacheObservationContext observationContext = new EmbeddingCacheObservationContext(modelName);
+        Observation observation = Observation.createNotStarted(observationConvention, () -> observationContext, this.observationRegistry);
+
+        Response<List<Embedding>> modelResponse = observation.observe(() -> {
+            Embedding[] embeddings = new Embedding[textSegments.size()];
+            // Identical texts are sent to the model only once, even within the same request.
+            Map<String, List<Integer>> missingIndexesByKey = new LinkedHashMap<>();
+            List<TextSegment> missingTextSegments = new ArrayList<>();
+
+            for (int i = 0; i < textSegments.size(); i++) {
+                TextSegment textSegment = textSegments.get(i);
+                String key = key(textSegment.text());
+                Embedding embedding = cache.get(key);
+                if (embedding != null) {
+                    embeddings[i] = embedding;
+                }
+                else {
+                    missingIndexesByKey.computeIfAbsent(key, k -> {
+                        missingTextSegments.add(textSegment);
+                        return new ArrayList<>();
+                    }).add(i);
+                }
+            }
+
+            observationContext.setHits(textSegments.size() - missingIndexesByKey.values().stream().mapToInt(List::size).sum());
+            observationContext.setMisses(textSegments.size() - observationContext.getHits());
+            // At most one event of each kind per request, rather than one per text segment,
+            // keeps the overhead independent of the request size.
+            if (observationContext.getHits() > 0) {
+                observation.event(HIT_EVENT);
+            }
+            if (observationContext.getMisses() > 0) {
+                observation.event(MISS_EVENT);
+            }
+
+            if (missingTextSegments.isEmpty()) {
+                return Response.from(Arrays.asList(embeddings));
+            }
+
+            Response<List<Embedding>> delegateResponse = delegate.embedAll(missingTextSegments);
+
+            if (delegateResponse == null || delegateResponse.content() == null
+                    || delegateResponse.content().size() != missingTextSegments.size()) {
+                throw new IllegalStateException("Model response doesn't contain an embedding for each text segment");
+            }
+
+            int missingIndex = 0;
+            for (Map.Entry<String, List<Integer>> entry : missingIndexesByKey.entrySet()) {
+                Embedding embedding = delegateResponse.content().get(missingIndex++);
+                cache.put(entry.getKey(), embedding);
+                // Identical texts get their own copy, since embeddings can be changed in place.
+                List<Integer> indexes = entry.getValue();
+                embeddings[indexes.get(0)] = embedding;
+                for (int i = 1; i < indexes.size(); i++) {
+                    embeddings[indexes.get(i)] = Embedding.from(embedding.vector().clone());
+                }
+            }
+
+            return Response.from(Arrays.asList(embeddings), delegateResponse.tokenUsage(), delegateResponse.finishReason());
+        });
+
+        if (modelResponse == null) {
+            throw new IllegalStateException("Model response is empty");
+        }
+
+        return modelResponse;
+    }
+
+    /**
+     * Computes the cache key for the given text.
+     */
+    String key(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(keyPrefix);
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        }
+        catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 algorithm not available", ex);
+        }
+    }
+
+    private static String toJson(@Nullable Object options) {
+        if (options == null) {
+            return "";
+        }
+        try {
+            return LangChain4jJacksonProvider.getObjectMapper().writeValueAsString(options);
+        }
+        catch (JsonProcessingException ex) {
+            throw new JsonSerializationException(ex);
+        }
+    }
+
+    public EmbeddingModel getDelegate() {
+        return delegate;
+    }
+
+    public void setObservationRegistry(ObservationRegistry observationRegistry) {
+        Assert.notNull(observationRegistry, "observationRegistry cannot be null");
+        this.observationRegistry = observationRegistry;
+    }
+
+    public void setObservationConvention(EmbeddingCacheObservationConvention observationConvention) {
+        Assert.notNull(observationConvention, "observationConvention cannot be null");
+        this.observationConvention = observationConvention;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private EmbeddingModel delegate;
+        private EmbeddingCache cache;
+        private String modelName;
+        private Object options;
+        private ObservationRegistry observationRegistry;
+        private EmbeddingCacheObservationConvention observationConvention;
+
+        private Builder() {}
+
+        public Builder delegate(EmbeddingModel delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        public Builder cache(EmbeddingCache cache) {
+            this.cache = cache;
+            return this;
+        }
+
+        public Builder modelName(String modelName) {
+            this.modelName = modelName;
+            return this;
+        }
+
+        /**
+         * Options affecting the embeddings computed by the model. They are serialized
+         * to JSON and included in the cache key.
+         */
+        public Builder options(Object options) {
+            this.options = options;
+            return this;
+        }
+
+        public Builder observationRegistry(ObservationRegistry observationRegistry) {
+            this.observationRegistry = observationRegistry;
+            return this;
+        }
+
+        public Builder observationConvention(EmbeddingCacheObservationConvention observationConvention) {
+            this.observationConvention = observationConvention;
+            return this;
+        }
+
+        public CachingEmbeddingModel build() {
+            var embeddingModel = new CachingEmbeddingModel(delegate, cache, modelName, options);
+            if (observationConvention != null) {
+                embeddingModel.setObservationConvention(observationConvention);
+            }
+            if (observationRegistry != null) {
+                embeddingModel.setObservationRegistry(observationRegistry);
+            }
+            return embeddingModel;
+        }
+    }
+
+}
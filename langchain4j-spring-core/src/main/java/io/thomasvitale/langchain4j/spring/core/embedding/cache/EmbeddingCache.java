@@ -0,0 +1,31 @@
+package io.thomasvitale.langchain4j.spring.core.embedding.cache;
+
+import dev.langchain4j.data.embedding.Embedding;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Stores embeddings by key, so that they don't have to be computed again by the model.
+ */
+public interface EmbeddingCache {
+
+    /**
+     * Returns the embedding stored for the given key, or null if there is none. The returned
+     * embedding belongs to the caller, so changing it, for example by normalizing it,
+     * doesn't affect the cache.
+     */
+    @Nullable
+    Embedding get(String key);
+
+    /**
+     * Stores the embedding for the given key, replacing any existing one. Later changes
+     * to the given embedding don't affect the cache.
+     */
+    void put(String key, Embedding embedding);
+
+    /**
+     * Removes all the embeddings from the cache.
+     */
+    void clear();
+
+}
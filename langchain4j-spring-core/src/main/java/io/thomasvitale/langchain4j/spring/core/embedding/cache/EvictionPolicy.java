@@ -0,0 +1,19 @@
+package io.thomasvitale.langchain4j.spring.core.embedding.cache;
+
+/**
+ * Policy for choosing which entry to evict when an {@link InMemoryEmbeddingCache}
+ * or a {@link FileSystemEmbeddingCache} is full.
+ */
+public enum EvictionPolicy {
+
+    /**
+     * Evict the least recently used entry.
+     */
+    LRU,
+
+    /**
+     * Evict the oldest entry, regardless of how recently it was used.
+     */
+    FIFO
+
+}
@@ -0,0 +1,261 @@
+package io.thomasvitale.langchain4j.spring.core.embedding.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import dev.langchain4j.data.embedding.Embedding;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link EmbeddingCache} storing each embedding in a binary file in a local directory.
+ * It's meant to be used as spillover for an {@link InMemoryEmbeddingCache}.
+ * <p>
+ * Keys are used as file names, so they must be safe to use as such. Failures to read
+ * or write a file are logged and treated as cache misses, so that they never break
+ * the embedding of a text.
+ * <p>
+ * The total size of the files is bounded. When it's exceeded, the files are deleted
+ * according to the {@link EvictionPolicy}, using their last modified time, which is
+ * refreshed on every read for {@link EvictionPolicy#LRU}. To amortize the cost of
+ * listing the directory, files are deleted until the size drops below 90% of the bound.
+ */
+public class FileSystemEmbeddingCache implements EmbeddingCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileSystemEmbeddingCache.class);
+
+    public static final long DEFAULT_MAX_SIZE = 1024L * 1024 * 1024;
+
+    private static final String FILE_EXTENSION = ".embedding";
+
+    private static final double EVICTION_LOW_WATERMARK = 0.9;
+
+    private final Path directory;
+
+    private final long maxSize;
+
+    private final EvictionPolicy evictionPolicy;
+
+    private final AtomicLong size = new AtomicLong();
+
+    private final Object evictionLock = new Object();
+
+    private FileSystemEmbeddingCache(Path directory, long maxSize, EvictionPolicy evictionPolicy) {
+        Assert.notNull(directory, "directory cannot be null");
+        Assert.isTrue(maxSize > 0, "maxSize must be greater than 0");
+        Assert.notNull(evictionPolicy, "evictionPolicy cannot be null");
+
+        try {
+            this.directory = Files.createDirectories(directory);
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException("Failed to create the embedding cache directory " + directory, ex);
+        }
+        this.maxSize = maxSize;
+        this.evictionPolicy = evictionPolicy;
+
+        // Files left by a previous run count towards the bound.
+        this.size.set(listFiles().stream().mapToLong(CacheFile::size).sum());
+        evictIfNeeded();
+    }
+
+    @Override
+    @Nullable
+    public Embedding get(String key) {
+        Assert.hasText(key, "key cannot be null or empty");
+
+        Path file = resolve(key);
+        float[] vector;
+        try (var input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            vector = new float[input.readInt()];
+            for (int i = 0; i < vector.length; i++) {
+                vector[i] = input.readFloat();
+            }
+        }
+        catch (NoSuchFileException ex) {
+            return null;
+        }
+        catch (IOException ex) {
+            logger.warn("Failed to read embedding from the cache for key {}", key, ex);
+            return null;
+        }
+
+        if (evictionPolicy == EvictionPolicy.LRU) {
+            try {
+                Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+            }
+            catch (IOException ex) {
+                // The file was evicted in the meantime, which is fine since it's been read already.
+                logger.debug("Failed to update the last modified time of embedding cache file {}", file, ex);
+            }
+        }
+
+        return Embedding.from(vector);
+    }
+
+    @Override
+    public void put(String key, Embedding embedding) {
+        Assert.hasText(key, "key cannot be null or empty");
+        Assert.notNull(embedding, "embedding cannot be null");
+
+        try {
+            // Write to a temporary file first, so that readers never see a partial file.
+            Path tempFile = Files.createTempFile(directory, key, ".tmp");
+            try (var output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                float[] vector = embedding.vector();
+                output.writeInt(vector.length);
+                for (float value : vector) {
+                    output.writeFloat(value);
+                }
+            }
+            long fileSize = Files.size(tempFile);
+            Path file = resolve(key);
+            long previousFileSize = Files.exists(file) ? Files.size(file) : 0;
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            size.addAndGet(fileSize - previousFileSize);
+        }
+        catch (IOException ex) {
+            logger.warn("Failed to write embedding to the cache for key {}", key, ex);
+        }
+
+        evictIfNeeded();
+    }
+
+    @Override
+    public void clear() {
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> file.getFileName().toString().endsWith(FILE_EXTENSION)).forEach(file -> {
+                try {
+                    Files.deleteIfExists(file);
+                }
+                catch (IOException ex) {
+                    logger.warn("Failed to delete embedding cache file {}", file, ex);
+                }
+            });
+        }
+        catch (IOException ex) {
+            logger.warn("Failed to clear the embedding cache directory {}", directory, ex);
+        }
+        size.set(listFiles().stream().mapToLong(CacheFile::size).sum());
+    }
+
+    /**
+     * The total size in bytes of the embedding files, as tracked by this cache.
+     */
+    public long size() {
+        return size.get();
+    }
+
+    private void evictIfNeeded() {
+        if (size.get() <= maxSize) {
+            return;
+        }
+
+        synchronized (evictionLock) {
+            if (size.get() <= maxSize) {
+                return;
+            }
+
+            // The listing is the source of truth, which also corrects any drift from concurrent writes.
+            List<CacheFile> files = listFiles();
+            files.sort(Comparator.comparing(CacheFile::lastModifiedTime));
+            long currentSize = files.stream().mapToLong(CacheFile::size).sum();
+            long targetSize = (long) (maxSize * EVICTION_LOW_WATERMARK);
+
+            for (CacheFile file : files) {
+                if (currentSize <= targetSize) {
+                    break;
+                }
+                try {
+                    Files.deleteIfExists(file.path());
+                    currentSize -= file.size();
+                }
+                catch (IOException ex) {
+                    logger.warn("Failed to delete embedding cache file {}", file.path(), ex);
+                }
+            }
+
+            size.set(currentSize);
+        }
+    }
+
+    private List<CacheFile> listFiles() {
+        List<CacheFile> files = new ArrayList<>();
+        try (Stream<Path> paths = Files.list(directory)) {
+            paths.filter(path -> path.getFileName().toString().endsWith(FILE_EXTENSION)).forEach(path -> {
+                try {
+                    BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                    files.add(new CacheFile(path, attributes.size(), attributes.lastModifiedTime()));
+                }
+                catch (IOException ex) {
+                    // The file was deleted in the meantime.
+                    logger.debug("Failed to read the attributes of embedding cache file {}", path, ex);
+                }
+            });
+        }
+        catch (IOException ex) {
+            logger.warn("Failed to list the embedding cache directory {}", directory, ex);
+        }
+        return files;
+    }
+
+    private Path resolve(String key) {
+        return directory.resolve(key + FILE_EXTENSION);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private Path directory;
+        private long maxSize = DEFAULT_MAX_SIZE;
+        private EvictionPolicy evictionPolicy = EvictionPolicy.LRU;
+
+        private Builder() {}
+
+        public Builder directory(Path directory) {
+            this.directory = directory;
+            return this;
+        }
+
+        /**
+         * Maximum total size in bytes of the embedding files.
+         */
+        public Builder maxSize(long maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        public Builder evictionPolicy(EvictionPolicy evictionPolicy) {
+            this.evictionPolicy = evictionPolicy;
+            return this;
+        }
+
+        public FileSystemEmbeddingCache build() {
+            return new FileSystemEmbeddingCache(directory, maxSize, evictionPolicy);
+        }
+    }
+
+    private record CacheFile(Path path, long size, FileTime lastModifiedTime) {}
+
+}
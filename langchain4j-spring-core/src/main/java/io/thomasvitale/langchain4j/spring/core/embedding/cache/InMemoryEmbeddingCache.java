@@ -0,0 +1,172 @@
+package io.thomasvitale.langchain4j.spring.core.embedding.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import dev.langchain4j.data.embedding.Embedding;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link EmbeddingCache} keeping the embeddings in memory, bounded both by number of entries
+ * and by total weight, that is the memory taken by the embedding vectors.
+ * <p>
+ * When a bound is exceeded, entries are evicted according to the {@link EvictionPolicy}.
+ * If a spillover cache is configured, evicted entries are moved there, and entries
+ * missing from memory are looked up there and promoted back into memory.
+ */
+public class InMemoryEmbeddingCache implements EmbeddingCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+    public static final long DEFAULT_MAX_WEIGHT = 64L * 1024 * 1024;
+
+    private final int maxEntries;
+
+    private final long maxWeight;
+
+    @Nullable
+    private final EmbeddingCache spillover;
+
+    private final LinkedHashMap<String, Embedding> entries;
+
+    private long weight;
+
+    private InMemoryEmbeddingCache(int maxEntries, long maxWeight, EvictionPolicy evictionPolicy, @Nullable EmbeddingCache spillover) {
+        Assert.isTrue(maxEntries > 0, "maxEntries must be greater than 0");
+        Assert.isTrue(maxWeight > 0, "maxWeight must be greater than 0");
+        Assert.notNull(evictionPolicy, "evictionPolicy cannot be null");
+
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.spillover = spillover;
+        this.entries = new LinkedHashMap<>(16, 0.75f, evictionPolicy == EvictionPolicy.LRU);
+    }
+
+    @Override
+    @Nullable
+    public Embedding get(String key) {
+        Assert.notNull(key, "key cannot be null");
+
+        synchronized (entries) {
+            Embedding embedding = entries.get(key);
+            if (embedding != null || spillover == null) {
+                return embedding != null ? copy(embedding) : null;
+            }
+        }
+
+        Embedding embedding = spillover.get(key);
+        if (embedding != null) {
+            put(key, embedding);
+        }
+        return embedding;
+    }
+
+    @Override
+    public void put(String key, Embedding embedding) {
+        Assert.notNull(key, "key cannot be null");
+        Assert.notNull(embedding, "embedding cannot be null");
+
+        Embedding stored = copy(embedding);
+        Map<String, Embedding> evicted = new LinkedHashMap<>();
+
+        synchronized (entries) {
+            Embedding previous = entries.put(key, stored);
+            if (previous != null) {
+                weight -= weigh(previous);
+            }
+            weight += weigh(stored);
+
+            Iterator<Map.Entry<String, Embedding>> iterator = entries.entrySet().iterator();
+            while ((entries.size() > maxEntries || weight > maxWeight) && iterator.hasNext()) {
+                Map.Entry<String, Embedding> eldest = iterator.next();
+                iterator.remove();
+                weight -= weigh(eldest.getValue());
+                evicted.put(eldest.getKey(), eldest.getValue());
+            }
+        }
+
+        // Spilling over involves I/O, so it's done outside the lock.
+        if (spillover != null) {
+            evicted.forEach(spillover::put);
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            weight = 0;
+        }
+        if (spillover != null) {
+            spillover.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long weight() {
+        synchronized (entries) {
+            return weight;
+        }
+    }
+
+    /**
+     * Embeddings are mutable, for example through {@link Embedding#normalize()},
+     * so the cache never shares its own instances.
+     */
+    private static Embedding copy(Embedding embedding) {
+        return Embedding.from(embedding.vector().clone());
+    }
+
+    private static long weigh(Embedding embedding) {
+        return (long) embedding.dimension() * Float.BYTES;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private int maxEntries = DEFAULT_MAX_ENTRIES;
+        private long maxWeight = DEFAULT_MAX_WEIGHT;
+        private EvictionPolicy evictionPolicy = EvictionPolicy.LRU;
+        private EmbeddingCache spillover;
+
+        private Builder() {}
+
+        public Builder maxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * Maximum memory in bytes taken by the embedding vectors.
+         */
+        public Builder maxWeight(long maxWeight) {
+            this.maxWeight = maxWeight;
+            return this;
+        }
+
+        public Builder evictionPolicy(EvictionPolicy evictionPolicy) {
+            this.evictionPolicy = evictionPolicy;
+            return this;
+        }
+
+        public Builder spillover(EmbeddingCache spillover) {
+            this.spillover = spillover;
+            return this;
+        }
+
+        public InMemoryEmbeddingCache build() {
+            return new InMemoryEmbeddingCache(maxEntries, maxWeight, evictionPolicy, spillover);
+        }
+    }
+
+}
@@ -0,0 +1,36 @@
+package io.thomasvitale.langchain4j.spring.core.embedding.cache.observation;
+
+import io.micrometer.common.KeyValues;
+
+/**
+ * Default {@link EmbeddingCacheObservationConvention} implementation.
+ */
+public final class DefaultEmbeddingCacheObservationConvention implements EmbeddingCacheObservationConvention {
+
+    @Override
+    public String getName() {
+        return EmbeddingCacheObservation.EMBEDDING_CACHE_OBSERVATION.getName();
+    }
+
+    @Override
+    public String getContextualName(EmbeddingCacheObservationContext context) {
+        return EmbeddingCacheObservation.EMBEDDING_CACHE_OBSERVATION.getContextualName();
+    }
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(EmbeddingCacheObservationContext context) {
+        return KeyValues.of(
+                EmbeddingCacheObservation.EmbeddingCacheLowCardinalityTags.MODEL_NAME.withValue(context.getModel()),
+                EmbeddingCacheObservation.EmbeddingCacheLowCardinalityTags.OUTCOME.withValue(context.getOutcome())
+        );
+    }
+
+    @Override
+    public KeyValues getHighCardinalityKeyValues(EmbeddingCacheObservationContext context) {
+        return KeyValues.of(
+                EmbeddingCacheObservation.EmbeddingCacheHighCardinalityTags.CACHE_HITS.withValue(String.valueOf(context.getHits())),
+                EmbeddingCacheObservation.EmbeddingCacheHighCardinalityTags.CACHE_MISSES.withValue(String.valueOf(context.getMisses()))
+        );
+    }
+
+}
@@ -0,0 +1,92 @@
+package io.thomasvitale.langchain4j.spring.core.embedding.cache.observation;
+
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.observation.docs.ObservationDocumentation;
+
+/**
+ * Observation created around an embedding request served through a cache.
+ * <p>
+ * The outcome of each request is a low cardinality key value, so that the hit ratio can be
+ * computed from the metrics. A {@code hit} event is signalled when any text segment is found
+ * in the cache, and a {@code miss} event when any is computed by the model. The number of text
+ * segments of each kind is available as high cardinality key values.
+ */
+public enum EmbeddingCacheObservation implements ObservationDocumentation {
+
+    EMBEDDING_CACHE_OBSERVATION {
+        @Override
+        public String getName() {
+            return "langchain4j.embedding.cache";
+        }
+
+        @Override
+        public String getContextualName() {
+            return "langchain4j embedding cache";
+        }
+
+        @Override
+        public KeyName[] getLowCardinalityKeyNames() {
+            return EmbeddingCacheLowCardinalityTags.values();
+        }
+
+        @Override
+        public KeyName[] getHighCardinalityKeyNames() {
+            return EmbeddingCacheHighCardinalityTags.values();
+        }
+
+        @Override
+        public String getPrefix() {
+            return "langchain4j";
+        }
+    };
+
+    enum EmbeddingCacheLowCardinalityTags implements KeyName {
+
+        /**
+         * Name of the embedding model.
+         */
+        MODEL_NAME {
+            @Override
+            public String asString() {
+                return "langchain4j.embedding.model.name";
+            }
+        },
+
+        /**
+         * Whether all the text segments were found in the cache ("hit"), only some of them ("partial"),
+         * or none of them ("miss").
+         */
+        OUTCOME {
+            @Override
+            public String asString() {
+                return "langchain4j.embedding.cache.outcome";
+            }
+        }
+
+    }
+
+    enum EmbeddingCacheHighCardinalityTags implements KeyName {
+
+        /**
+         * Number of text segments found in the cache.
+         */
+        CACHE_HITS {
+            @Override
+            public String asString() {
+                return "langchain4j.embedding.cache.hits";
+            }
+        },
+
+        /**
+         * Number of text segments computed by the model.
+         */
+        CACHE_MISSES {
+            @Override
+            public String asString() {
+                return "langchain4j.embedding.cache.misses";
+            }
+        }
+
+    }
+
+}
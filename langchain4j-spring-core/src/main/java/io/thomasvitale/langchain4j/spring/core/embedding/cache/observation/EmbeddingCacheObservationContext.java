@@ -0,0 +1,59 @@
+package io.thomasvitale.langchain4j.spring.core.embedding.cache.observation;
+
+import io.micrometer.observation.Observation;
+
+import org.springframework.util.Assert;
+
+/**
+ * Observation context for embedding requests served through a cache.
+ */
+public class EmbeddingCacheObservationContext extends Observation.Context {
+
+    public static final String OUTCOME_HIT = "hit";
+
+    public static final String OUTCOME_PARTIAL = "partial";
+
+    public static final String OUTCOME_MISS = "miss";
+
+    private final String model;
+
+    private int hits;
+
+    private int misses;
+
+    public EmbeddingCacheObservationContext(String model) {
+        Assert.hasText(model, "model cannot be null or empty");
+        this.model = model;
+    }
+
+    public String getModel() {
+        return model;
+    }
+
+    public int getHits() {
+        return hits;
+    }
+
+    public void setHits(int hits) {
+        this.hits = hits;
+    }
+
+    public int getMisses() {
+        return misses;
+    }
+
+    public void setMisses(int misses) {
+        this.misses = misses;
+    }
+
+    /**
+     * Whether all the text segments were found in the cache ("hit"), only some of them ("partial"),
+     * or none of them ("miss").
+     */
+    public String getOutcome() {
+        if (misses == 0) {
+            return OUTCOME_HIT;
+        }
+        return hits == 0 ? OUTCOME_MISS : OUTCOME_PARTIAL;
+    }
+}
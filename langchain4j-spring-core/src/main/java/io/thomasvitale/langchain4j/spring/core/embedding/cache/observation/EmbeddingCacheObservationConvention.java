@@ -0,0 +1,16 @@
+package io.thomasvitale.langchain4j.spring.core.embedding.cache.observation;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationConvention;
+
+/**
+ * {@link ObservationConvention} for {@link EmbeddingCacheObservationContext}.
+ */
+public interface EmbeddingCacheObservationConvention extends ObservationConvention<EmbeddingCacheObservationContext> {
+
+    @Override
+    default boolean supportsContext(Observation.Context context) {
+        return context instanceof EmbeddingCacheObservationContext;
+    }
+
+}
@@ -34,6 +34,36 @@ public class HttpClientConfig {
      */
     private boolean logResponses = false;
 
+    /**
+     * Maximum number of bytes of each request and response body to log.
+     */
+    private int logMaxBodySize = HttpLoggingInterceptor.DEFAULT_MAX_BODY_SIZE;
+
+    /**
+     * Fraction of the requests and responses to log, between 0 and 1.
+     */
+    private double logSamplingRate = HttpLoggingInterceptor.DEFAULT_SAMPLING_RATE;
+
+    /**
+     * Maximum number of pooled connections to the same host.
+     */
+    private int maxConnectionsPerRoute = 20;
+
+    /**
+     * Time after which idle pooled connections are evicted.
+     */
+    private Duration connectionIdleTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Whether to use HTTP/2, multiplexing concurrent requests over a single connection.
+     */
+    private boolean http2Enabled = false;
+
+    /**
+     * Whether to enable TCP keep-alive on the pooled connections.
+     */
+    private boolean tcpKeepAlive = true;
+
     // Getters and Setters
 
     public Duration getConnectTimeout() {
@@ -76,6 +106,54 @@ public class HttpClientConfig {
         this.logResponses = logResponses;
     }
 
+    public int getLogMaxBodySize() {
+        return logMaxBodySize;
+    }
+
+    public void setLogMaxBodySize(int logMaxBodySize) {
+        this.logMaxBodySize = logMaxBodySize;
+    }
+
+    public double getLogSamplingRate() {
+        return logSamplingRate;
+    }
+
+    public void setLogSamplingRate(double logSamplingRate) {
+        this.logSamplingRate = logSamplingRate;
+    }
+
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+    }
+
+    public Duration getConnectionIdleTimeout() {
+        return connectionIdleTimeout;
+    }
+
+    public void setConnectionIdleTimeout(Duration connectionIdleTimeout) {
+        this.connectionIdleTimeout = connectionIdleTimeout;
+    }
+
+    public boolean isHttp2Enabled() {
+        return http2Enabled;
+    }
+
+    public void setHttp2Enabled(boolean http2Enabled) {
+        this.http2Enabled = http2Enabled;
+    }
+
+    public boolean isTcpKeepAlive() {
+        return tcpKeepAlive;
+    }
+
+    public void setTcpKeepAlive(boolean tcpKeepAlive) {
+        this.tcpKeepAlive = tcpKeepAlive;
+    }
+
     // Builders
 
     public static HttpClientConfig create() {
@@ -109,4 +187,38 @@ public class HttpClientConfig {
         return this;
     }
 
+    public HttpClientConfig withLogMaxBodySize(int logMaxBodySize) {
+        Assert.isTrue(logMaxBodySize >= 0, "logMaxBodySize must be greater than or equal to 0");
+        this.logMaxBodySize = logMaxBodySize;
+        return this;
+    }
+
+    public HttpClientConfig withLogSamplingRate(double logSamplingRate) {
+        Assert.isTrue(logSamplingRate >= 0 && logSamplingRate <= 1, "logSamplingRate must be between 0 and 1");
+        this.logSamplingRate = logSamplingRate;
+        return this;
+    }
+
+    public HttpClientConfig withMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        Assert.isTrue(maxConnectionsPerRoute > 0, "maxConnectionsPerRoute must be greater than 0");
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        return this;
+    }
+
+    public HttpClientConfig withConnectionIdleTimeout(Duration connectionIdleTimeout) {
+        Assert.notNull(connectionIdleTimeout, "connectionIdleTimeout cannot be null");
+        this.connectionIdleTimeout = connectionIdleTimeout;
+        return this;
+    }
+
+    public HttpClientConfig withHttp2Enabled(boolean http2Enabled) {
+        this.http2Enabled = http2Enabled;
+        return this;
+    }
+
+    public HttpClientConfig withTcpKeepAlive(boolean tcpKeepAlive) {
+        this.tcpKeepAlive = tcpKeepAlive;
+        return this;
+    }
+
 }
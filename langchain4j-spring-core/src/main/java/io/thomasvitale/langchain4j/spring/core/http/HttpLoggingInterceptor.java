@@ -1,49 +1,86 @@
 package io.thomasvitale.langchain4j.spring.core.http;
 
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.client.ClientHttpRequestExecution;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.http.client.ClientHttpResponse;
-import org.springframework.util.StreamUtils;
+import org.springframework.util.Assert;
 
 /**
  * HTTP interceptor for logging requests and responses.
+ * <p>
+ * The response body is not consumed by the interceptor: it's copied as the caller reads it
+ * and logged once the response is closed, so no buffering request factory is needed and
+ * streaming responses still reach the caller as they arrive. At most {@code maxBodySize} bytes
+ * of each body are kept and logged. Only a {@code samplingRate} fraction of the exchanges is
+ * logged, and nothing is formatted when the logger is disabled.
  */
 public class HttpLoggingInterceptor implements ClientHttpRequestInterceptor {
 
+    public static final int DEFAULT_MAX_BODY_SIZE = 4096;
+
+    public static final double DEFAULT_SAMPLING_RATE = 1.0;
+
     private static final Logger logger = LoggerFactory.getLogger(HttpLoggingInterceptor.class);
 
     private final boolean logRequests;
 
     private final boolean logResponses;
 
+    private final int maxBodySize;
+
+    private final double samplingRate;
+
     public HttpLoggingInterceptor(boolean logRequests, boolean logResponses) {
+        this(logRequests, logResponses, DEFAULT_MAX_BODY_SIZE, DEFAULT_SAMPLING_RATE);
+    }
+
+    public HttpLoggingInterceptor(boolean logRequests, boolean logResponses, int maxBodySize, double samplingRate) {
+        Assert.isTrue(maxBodySize >= 0, "maxBodySize must be greater than or equal to 0");
+        Assert.isTrue(samplingRate >= 0 && samplingRate <= 1, "samplingRate must be between 0 and 1");
         this.logRequests = logRequests;
         this.logResponses = logResponses;
+        this.maxBodySize = maxBodySize;
+        this.samplingRate = samplingRate;
     }
 
     @Override
     public ClientHttpResponse intercept(HttpRequest request, byte[] requestBody, ClientHttpRequestExecution execution)
             throws IOException {
+        if (!logger.isInfoEnabled() || !isSampled()) {
+            return execution.execute(request, requestBody);
+        }
+
         if (logRequests) {
             logRequest(request, requestBody);
         }
 
+        ClientHttpResponse response = execution.execute(request, requestBody);
+
         if (logResponses) {
-            return logResponse(request, requestBody, execution);
+            return new LoggingClientHttpResponse(response);
         }
         else {
-            return execution.execute(request, requestBody);
+            return response;
         }
     }
 
+    private boolean isSampled() {
+        return samplingRate >= 1 || (samplingRate > 0 && ThreadLocalRandom.current().nextDouble() < samplingRate);
+    }
+
     private void logRequest(HttpRequest request, byte[] requestBody) {
         logger.info("Request.\n Method: {}.\n URI: {}.\n Headers: {}.\n Body: {}", request.getMethod(),
                 request.getURI(),
@@ -54,24 +91,165 @@ public class HttpLoggingInterceptor implements ClientHttpRequestInterceptor {
                     .filter(e -> !e.getKey().equals(HttpHeaders.AUTHORIZATION))
                     .map(e -> e.getKey() + ":" + e.getValue())
                     .collect(Collectors.joining(", ")),
-                new String(requestBody, StandardCharsets.UTF_8));
+                formatBody(requestBody, maxBodySize));
     }
 
-    private ClientHttpResponse logResponse(HttpRequest request, byte[] requestBody,
-            ClientHttpRequestExecution execution) throws IOException {
-        ClientHttpResponse response = execution.execute(request, requestBody);
-        String responseBody = StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8);
+    private void logResponse(ClientHttpResponse response, byte[] responseBody, long responseBodySize) {
+        String statusText;
+        try {
+            statusText = response.getStatusText();
+        }
+        catch (IOException ex) {
+            statusText = "unknown";
+        }
 
-        logger.info("Response.\n Status Code: {}.\n Headers: {}.\n Body: {}", response.getStatusText(),
+        logger.info("Response.\n Status Code: {}.\n Headers: {}.\n Body: {}", statusText,
                 response.getHeaders()
                     .toSingleValueMap()
                     .entrySet()
                     .stream()
                     .map(e -> e.getKey() + ":" + e.getValue())
                     .collect(Collectors.joining(", ")),
-                responseBody);
+                formatBody(responseBody, responseBody.length, responseBodySize));
+    }
+
+    /**
+     * Formats the given body for logging, truncated to {@code maxBodySize} bytes.
+     */
+    public static String formatBody(byte[] body, int maxBodySize) {
+        Assert.notNull(body, "body cannot be null");
+        return formatBody(body, Math.min(body.length, maxBodySize), body.length);
+    }
+
+    private static String formatBody(byte[] body, int length, long totalSize) {
+        String text = new String(body, 0, length, StandardCharsets.UTF_8);
+        if (totalSize > length) {
+            return text + "... [truncated, " + totalSize + " bytes in total]";
+        }
+        return text;
+    }
+
+    /**
+     * Response whose body is copied, up to {@code maxBodySize} bytes, while read
+     * and logged when the response is closed.
+     */
+    private class LoggingClientHttpResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+
+        private final ByteArrayOutputStream copy = new ByteArrayOutputStream(Math.min(maxBodySize, 1024));
+
+        private long bodySize;
+
+        private InputStream body;
+
+        private boolean logged;
+
+        LoggingClientHttpResponse(ClientHttpResponse delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            if (body == null) {
+                body = new TeeInputStream(delegate.getBody());
+            }
+            return body;
+        }
+
+        @Override
+        public void close() {
+            try {
+                log();
+            }
+            finally {
+                delegate.close();
+            }
+        }
+
+        private void copy(byte[] bytes, int offset, int length) {
+            bodySize += length;
+            // Bytes past the limit are only counted, so memory stays bounded whatever the body size.
+            int remaining = maxBodySize - copy.size();
+            if (remaining > 0) {
+                copy.write(bytes, offset, Math.min(length, remaining));
+            }
+        }
+
+        private void log() {
+            if (!logged) {
+                logged = true;
+                logResponse(delegate, copy.toByteArray(), bodySize);
+            }
+        }
+
+        private class TeeInputStream extends FilterInputStream {
+
+            TeeInputStream(InputStream in) {
+                super(in);
+            }
+
+            @Override
+            public int read() throws IOException {
+                int b = super.read();
+                if (b != -1) {
+                    bodySize++;
+                    if (copy.size() < maxBodySize) {
+                        copy.write(b);
+                    }
+                }
+                return b;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                int n = super.read(b, off, len);
+                if (n > 0) {
+                    copy(b, off, n);
+                }
+                return n;
+            }
+
+            @Override
+            public long skip(long n) throws IOException {
+                // Skipped bytes must still be copied, so they are read instead.
+                byte[] buffer = new byte[(int) Math.min(n, 8192)];
+                int read = read(buffer, 0, buffer.length);
+                return Math.max(read, 0);
+            }
+
+            @Override
+            public boolean markSupported() {
+                return false;
+            }
+
+            @Override
+            public void close() throws IOException {
+                try {
+                    log();
+                }
+                finally {
+                    super.close();
+                }
+            }
+
+        }
 
-        return response;
     }
 
 }
@@ -0,0 +1,83 @@
+package io.thomasvitale.langchain4j.spring.core.http;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.util.Assert;
+
+import io.thomasvitale.langchain4j.spring.core.json.jackson.LangChain4jJacksonProvider;
+
+/**
+ * HTTP request body serializing a value as JSON directly to the connection output stream
+ * through a Jackson {@link JsonGenerator}, without materializing the whole payload in memory.
+ * <p>
+ * When used with a streaming request factory, peak memory is bounded by the generator buffer
+ * rather than by the size of the payload, which matters for large embedding batches.
+ *
+ * @param <T> the type of the value to serialize
+ */
+public final class JsonStreamingBody<T> implements StreamingHttpOutputMessage.Body {
+
+    private final ObjectMapper objectMapper = LangChain4jJacksonProvider.getObjectMapper();
+
+    private final T value;
+
+    private final JsonBodyWriter<T> bodyWriter;
+
+    private JsonStreamingBody(T value, JsonBodyWriter<T> bodyWriter) {
+        Assert.notNull(value, "value cannot be null");
+        Assert.notNull(bodyWriter, "bodyWriter cannot be null");
+        this.value = value;
+        this.bodyWriter = bodyWriter;
+    }
+
+    /**
+     * Serializes the value with the LangChain4j {@link ObjectMapper}.
+     */
+    public static <T> JsonStreamingBody<T> of(T value) {
+        return new JsonStreamingBody<>(value, (v, generator, objectMapper) -> objectMapper.writeValue(generator, v));
+    }
+
+    /**
+     * Serializes the value with the given writer, for payloads benefiting from
+     * a hand-written serialization.
+     */
+    public static <T> JsonStreamingBody<T> of(T value, JsonBodyWriter<T> bodyWriter) {
+        return new JsonStreamingBody<>(value, bodyWriter);
+    }
+
+    @Override
+    public void writeTo(OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            // The output stream is managed by the HTTP client.
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            bodyWriter.write(value, generator, objectMapper);
+        }
+    }
+
+    @Override
+    public boolean repeatable() {
+        return true;
+    }
+
+    /**
+     * Writes a value as JSON to a {@link JsonGenerator}.
+     *
+     * @param <T> the type of the value to serialize
+     */
+    @FunctionalInterface
+    public interface JsonBodyWriter<T> {
+
+        /**
+         * Writes the value to the generator. The {@link ObjectMapper} can be used to serialize
+         * the parts of the value which don't need a hand-written serialization.
+         */
+        void write(T value, JsonGenerator generator, ObjectMapper objectMapper) throws IOException;
+
+    }
+
+}
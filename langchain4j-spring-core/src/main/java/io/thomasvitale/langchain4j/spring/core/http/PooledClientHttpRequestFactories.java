@@ -0,0 +1,167 @@
+package io.thomasvitale.langchain4j.spring.core.http;
+
+import java.net.http.HttpClient;
+import java.util.Objects;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Creates {@link ClientHttpRequestFactory} instances backed by a connection pool configured
+ * from an {@link HttpClientConfig}. A factory should be created once per client and shared by
+ * all its requests, so that connections and TLS sessions are reused.
+ * <p>
+ * When HTTP/2 is enabled, or Apache HttpClient 5 is not on the classpath, the JDK {@link HttpClient}
+ * is used. It multiplexes concurrent HTTP/2 requests over a single connection, whereas its HTTP/1.1
+ * pool is only configurable JVM-wide via the {@code jdk.httpclient.connectionPoolSize} and
+ * {@code jdk.httpclient.keepalive.timeout} system properties. Otherwise, Apache HttpClient 5 is used
+ * with a pool honouring all the settings. Since the pool settings would be silently ignored
+ * without it, a warning is logged when they're customized and Apache HttpClient 5 is missing.
+ * <p>
+ * The factories hold the pooled connections until they're closed with {@link #close(ClientHttpRequestFactory)}.
+ */
+public final class PooledClientHttpRequestFactories {
+
+    private static final Logger logger = LoggerFactory.getLogger(PooledClientHttpRequestFactories.class);
+
+    private static final boolean APACHE_HTTP_CLIENT_PRESENT = ClassUtils.isPresent(
+            "org.apache.hc.client5.http.impl.classic.HttpClients", PooledClientHttpRequestFactories.class.getClassLoader());
+
+    private PooledClientHttpRequestFactories() {
+    }
+
+    public static ClientHttpRequestFactory create(HttpClientConfig httpClientConfig) {
+        Assert.notNull(httpClientConfig, "httpClientConfig cannot be null");
+
+        if (httpClientConfig.isHttp2Enabled()) {
+            return createJdk(httpClientConfig);
+        }
+        if (!APACHE_HTTP_CLIENT_PRESENT) {
+            if (hasCustomPoolSettings(httpClientConfig)) {
+                logger.warn("The HTTP connection pool settings (max connections per route, connection idle timeout, "
+                        + "TCP keep-alive) are ignored because Apache HttpClient 5 is not on the classpath. "
+                        + "Add 'org.apache.httpcomponents.client5:httpclient5' to apply them.");
+            }
+            return createJdk(httpClientConfig);
+        }
+        return HttpComponents.create(httpClientConfig);
+    }
+
+    /**
+     * Releases the pooled connections held by the given factory, if it was created by this class.
+     */
+    public static void close(ClientHttpRequestFactory requestFactory) {
+        Assert.notNull(requestFactory, "requestFactory cannot be null");
+
+        if (requestFactory instanceof DisposableBean disposableRequestFactory) {
+            try {
+                disposableRequestFactory.destroy();
+            }
+            catch (Exception ex) {
+                logger.warn("Failed to close the HTTP client", ex);
+            }
+        }
+    }
+
+    private static boolean hasCustomPoolSettings(HttpClientConfig httpClientConfig) {
+        HttpClientConfig defaults = HttpClientConfig.create();
+        return httpClientConfig.getMaxConnectionsPerRoute() != defaults.getMaxConnectionsPerRoute()
+                || !Objects.equals(httpClientConfig.getConnectionIdleTimeout(), defaults.getConnectionIdleTimeout())
+                || httpClientConfig.isTcpKeepAlive() != defaults.isTcpKeepAlive();
+    }
+
+    private static ClientHttpRequestFactory createJdk(HttpClientConfig httpClientConfig) {
+        var httpClient = HttpClient.newBuilder()
+                .connectTimeout(httpClientConfig.getConnectTimeout())
+                .version(httpClientConfig.isHttp2Enabled() ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .build();
+        var requestFactory = new DisposableJdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(httpClientConfig.getReadTimeout());
+        return requestFactory;
+    }
+
+    /**
+     * Closes the JDK {@link HttpClient} on destruction, which is only supported from Java 21.
+     */
+    static final class DisposableJdkClientHttpRequestFactory extends JdkClientHttpRequestFactory implements DisposableBean {
+
+        private final HttpClient httpClient;
+
+        DisposableJdkClientHttpRequestFactory(HttpClient httpClient) {
+            super(httpClient);
+            this.httpClient = httpClient;
+        }
+
+        HttpClient getHttpClient() {
+            return httpClient;
+        }
+
+        @Override
+        public void destroy() throws Exception {
+            if (httpClient instanceof AutoCloseable closeableHttpClient) {
+                closeableHttpClient.close();
+            }
+        }
+
+    }
+
+    /**
+     * Isolates the Apache HttpClient types, so that they are only loaded when available.
+     */
+    static final class HttpComponents {
+
+        /**
+         * Creates a factory whose {@code destroy()} method closes the {@link CloseableHttpClient}
+         * and its connection pool.
+         */
+        static ClientHttpRequestFactory create(HttpClientConfig httpClientConfig) {
+            CloseableHttpClient httpClient = HttpClients.custom()
+                    .setConnectionManager(connectionManager(httpClientConfig))
+                    .evictExpiredConnections()
+                    .evictIdleConnections(TimeValue.ofMilliseconds(httpClientConfig.getConnectionIdleTimeout().toMillis()))
+                    .build();
+
+            return new HttpComponentsClientHttpRequestFactory(httpClient);
+        }
+
+        static PoolingHttpClientConnectionManager connectionManager(HttpClientConfig httpClientConfig) {
+            return PoolingHttpClientConnectionManagerBuilder.create()
+                    // Each client talks to a single host, so the pool is sized for one route.
+                    .setMaxConnPerRoute(httpClientConfig.getMaxConnectionsPerRoute())
+                    .setMaxConnTotal(httpClientConfig.getMaxConnectionsPerRoute())
+                    .setDefaultSocketConfig(socketConfig(httpClientConfig))
+                    .setDefaultConnectionConfig(connectionConfig(httpClientConfig))
+                    .build();
+        }
+
+        static SocketConfig socketConfig(HttpClientConfig httpClientConfig) {
+            return SocketConfig.custom()
+                    .setSoKeepAlive(httpClientConfig.isTcpKeepAlive())
+                    .build();
+        }
+
+        static ConnectionConfig connectionConfig(HttpClientConfig httpClientConfig) {
+            return ConnectionConfig.custom()
+                    .setConnectTimeout(Timeout.ofMilliseconds(httpClientConfig.getConnectTimeout().toMillis()))
+                    .setSocketTimeout(Timeout.ofMilliseconds(httpClientConfig.getReadTimeout().toMillis()))
+                    .build();
+        }
+
+    }
+
+}
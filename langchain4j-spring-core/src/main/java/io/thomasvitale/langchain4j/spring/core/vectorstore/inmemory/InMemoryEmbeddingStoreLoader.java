@@ -0,0 +1,52 @@
+package io.thomasvitale.langchain4j.spring.core.vectorstore.inmemory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Loads the entries of an {@link InMemoryEmbeddingStore} one at a time, as they're read from a file.
+ * <p>
+ * Adding an entry to the store copies all the previous ones, so loading a large store that way
+ * takes quadratic time. Entries are added to small batches instead, all merged into the store
+ * at once when it's loaded.
+ */
+public class InMemoryEmbeddingStoreLoader {
+
+    private static final int BATCH_SIZE = 64;
+
+    private final List<InMemoryEmbeddingStore<TextSegment>> batches = new ArrayList<>();
+
+    private InMemoryEmbeddingStore<TextSegment> batch = new InMemoryEmbeddingStore<>();
+
+    private int batchSize;
+
+    public void add(String id, Embedding embedding, @Nullable TextSegment textSegment) {
+        Assert.hasText(id, "id cannot be null or empty");
+        Assert.notNull(embedding, "embedding cannot be null");
+
+        batch.add(id, embedding, textSegment);
+        batchSize++;
+        if (batchSize == BATCH_SIZE) {
+            batches.add(batch);
+            batch = new InMemoryEmbeddingStore<>();
+            batchSize = 0;
+        }
+    }
+
+    /**
+     * Returns the store with all the entries added so far.
+     */
+    public InMemoryEmbeddingStore<TextSegment> load() {
+        List<InMemoryEmbeddingStore<TextSegment>> stores = new ArrayList<>(batches);
+        stores.add(batch);
+        return InMemoryEmbeddingStore.merge(stores);
+    }
+
+}
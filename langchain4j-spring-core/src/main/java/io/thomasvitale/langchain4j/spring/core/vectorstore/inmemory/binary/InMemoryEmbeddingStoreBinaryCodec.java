@@ -0,0 +1,282 @@
+package io.thomasvitale.langchain4j.spring.core.vectorstore.inmemory.binary;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+import io.thomasvitale.langchain4j.spring.core.json.JsonSerializationException;
+import io.thomasvitale.langchain4j.spring.core.json.jackson.LangChain4jJacksonProvider;
+import io.thomasvitale.langchain4j.spring.core.vectorstore.inmemory.InMemoryEmbeddingStoreLoader;
+
+/**
+ * A codec for persisting {@link InMemoryEmbeddingStore} objects in a compact binary format,
+ * loaded through a memory-mapped file instead of being parsed.
+ * <p>
+ * Compared to the JSON format, vectors are stored as raw floats and the file is never
+ * held in memory as a whole. The format is described in {@link MappedEmbeddingStoreFile},
+ * which can also be used directly to access the entries without loading them on the heap.
+ */
+public class InMemoryEmbeddingStoreBinaryCodec {
+
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    // InMemoryEmbeddingStore doesn't expose its entries, so they're read
+    // from the same fields serialized by the JSON codec.
+    private static final Field ENTRIES_FIELD = field(InMemoryEmbeddingStore.class, "entries");
+
+    private static final Class<?> ENTRY_CLASS = entryClass();
+
+    private static final Field ENTRY_ID_FIELD = field(ENTRY_CLASS, "id");
+
+    private static final Field ENTRY_EMBEDDING_FIELD = field(ENTRY_CLASS, "embedding");
+
+    private static final Field ENTRY_EMBEDDED_FIELD = field(ENTRY_CLASS, "embedded");
+
+    /**
+     * Writes the given embedding store to a file, replacing it if it already exists.
+     * <p>
+     * The store is written to a temporary file in the same directory, which is then moved
+     * in place, so that the existing file is never left incomplete and readers that mapped it
+     * keep seeing its previous content.
+     */
+    public void write(InMemoryEmbeddingStore<TextSegment> embeddingStore, Path path) {
+        Assert.notNull(embeddingStore, "embeddingStore cannot be null");
+        Assert.notNull(path, "path cannot be null");
+
+        List<?> entries = new ArrayList<>((List<?>) ReflectionUtils.getField(ENTRIES_FIELD, embeddingStore));
+        int dimension = entries.isEmpty() ? 0 : embedding(entries.get(0)).dimension();
+        Assert.isTrue(entries.isEmpty() || dimension > 0, "embeddings cannot be empty");
+
+        Path tempFile = null;
+        try {
+            Path directory = path.toAbsolutePath().getParent();
+            tempFile = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+            write(entries, dimension, tempFile);
+            move(tempFile, path);
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException("Failed to write the embedding store file " + path, ex);
+        }
+        finally {
+            deleteIfExists(tempFile);
+        }
+    }
+
+    private void write(List<?> entries, int dimension, Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            var output = new ChannelOutput(channel, MappedEmbeddingStoreFile.HEADER_SIZE);
+
+            for (Object entry : entries) {
+                float[] vector = embedding(entry).vector();
+                Assert.isTrue(vector.length == dimension, "All embeddings must have the same dimension");
+                output.putFloats(vector);
+            }
+
+            long dataOffset = output.position();
+            long[] offsets = new long[entries.size()];
+            int[] lengths = new int[entries.size() * 3];
+            for (int i = 0; i < entries.size(); i++) {
+                byte[] id = ((String) ReflectionUtils.getField(ENTRY_ID_FIELD, entries.get(i))).getBytes(StandardCharsets.UTF_8);
+                offsets[i] = output.position();
+                lengths[i * 3] = id.length;
+                output.putBytes(id);
+
+                var textSegment = (TextSegment) ReflectionUtils.getField(ENTRY_EMBEDDED_FIELD, entries.get(i));
+                if (textSegment == null) {
+                    lengths[i * 3 + 1] = -1;
+                    lengths[i * 3 + 2] = -1;
+                    continue;
+                }
+                byte[] text = textSegment.text().getBytes(StandardCharsets.UTF_8);
+                byte[] metadata = toJson(textSegment);
+                lengths[i * 3 + 1] = text.length;
+                lengths[i * 3 + 2] = metadata.length;
+                output.putBytes(text);
+                output.putBytes(metadata);
+            }
+
+            long entriesOffset = output.position();
+            for (int i = 0; i < entries.size(); i++) {
+                output.putLong(offsets[i]);
+                output.putInt(lengths[i * 3]);
+                output.putInt(lengths[i * 3 + 1]);
+                output.putInt(lengths[i * 3 + 2]);
+                output.putInt(0);
+            }
+            output.flush();
+
+            // The header is written last, so that an incomplete file is never mistaken for a valid one.
+            ByteBuffer header = ByteBuffer.allocate(MappedEmbeddingStoreFile.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN)
+                .putInt(MappedEmbeddingStoreFile.MAGIC)
+                .putInt(MappedEmbeddingStoreFile.VERSION)
+                .putInt(entries.size())
+                .putInt(dimension)
+                .putLong(MappedEmbeddingStoreFile.HEADER_SIZE)
+                .putLong(dataOffset)
+                .putLong(entriesOffset)
+                .clear();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            channel.force(true);
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        }
+        catch (AtomicMoveNotSupportedException ex) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void deleteIfExists(@Nullable Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        }
+        catch (IOException ex) {
+            // The temporary file is left behind, but the target file is unaffected.
+        }
+    }
+
+    /**
+     * Reads an embedding store from a file written by {@link #write(InMemoryEmbeddingStore, Path)}.
+     */
+    public InMemoryEmbeddingStore<TextSegment> read(Path path) {
+        Assert.notNull(path, "path cannot be null");
+
+        try (var file = MappedEmbeddingStoreFile.open(path)) {
+            var loader = new InMemoryEmbeddingStoreLoader();
+            for (int i = 0; i < file.size(); i++) {
+                loader.add(file.id(i), file.embedding(i), file.textSegment(i));
+            }
+            return loader.load();
+        }
+    }
+
+    /**
+     * Opens a file written by {@link #write(InMemoryEmbeddingStore, Path)} without loading it.
+     */
+    public MappedEmbeddingStoreFile map(Path path) {
+        return MappedEmbeddingStoreFile.open(path);
+    }
+
+    private static Embedding embedding(Object entry) {
+        return (Embedding) ReflectionUtils.getField(ENTRY_EMBEDDING_FIELD, entry);
+    }
+
+    private static byte[] toJson(TextSegment textSegment) {
+        try {
+            return LangChain4jJacksonProvider.getObjectMapper().writeValueAsBytes(textSegment.metadata());
+        }
+        catch (JsonProcessingException ex) {
+            throw new JsonSerializationException(ex);
+        }
+    }
+
+    private static Field field(Class<?> type, String name) {
+        Field field = ReflectionUtils.findField(type, name);
+        Assert.state(field != null, () -> "Field " + name + " not found in " + type.getName());
+        ReflectionUtils.makeAccessible(field);
+        return field;
+    }
+
+    private static Class<?> entryClass() {
+        try {
+            return Class.forName(InMemoryEmbeddingStore.class.getName() + "$Entry", false,
+                    InMemoryEmbeddingStore.class.getClassLoader());
+        }
+        catch (ClassNotFoundException ex) {
+            throw new IllegalStateException("InMemoryEmbeddingStore entry class not found", ex);
+        }
+    }
+
+    /**
+     * Buffered little-endian writer to a file channel.
+     */
+    private static class ChannelOutput {
+
+        private final FileChannel channel;
+
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+        private long position;
+
+        ChannelOutput(FileChannel channel, long position) {
+            this.channel = channel;
+            this.position = position;
+        }
+
+        long position() {
+            return position + buffer.position();
+        }
+
+        void putInt(int value) throws IOException {
+            ensureRemaining(Integer.BYTES);
+            buffer.putInt(value);
+        }
+
+        void putLong(long value) throws IOException {
+            ensureRemaining(Long.BYTES);
+            buffer.putLong(value);
+        }
+
+        void putFloats(float[] values) throws IOException {
+            for (float value : values) {
+                ensureRemaining(Float.BYTES);
+                buffer.putFloat(value);
+            }
+        }
+
+        void putBytes(byte[] bytes) throws IOException {
+            int written = 0;
+            while (written < bytes.length) {
+                ensureRemaining(1);
+                int length = Math.min(bytes.length - written, buffer.remaining());
+                buffer.put(bytes, written, length);
+                written += length;
+            }
+        }
+
+        private void ensureRemaining(int length) throws IOException {
+            if (buffer.remaining() < length) {
+                flush();
+            }
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            buffer.clear();
+        }
+
+    }
+
+}
@@ -0,0 +1,245 @@
+package io.thomasvitale.langchain4j.spring.core.vectorstore.inmemory.binary;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import io.thomasvitale.langchain4j.spring.core.json.JsonDeserializationException;
+import io.thomasvitale.langchain4j.spring.core.json.jackson.LangChain4jJacksonProvider;
+
+/**
+ * Read-only view of an embedding store file written by {@link InMemoryEmbeddingStoreBinaryCodec},
+ * memory-mapped so that opening it doesn't depend on its size and the vectors stay off-heap.
+ * <p>
+ * All numbers in the file are little-endian. The file is made of:
+ * <ul>
+ *     <li>a header of {@value #HEADER_SIZE} bytes, with the magic number, the format version,
+ *     the number of entries, the dimension of the vectors and the offsets of the sections below;</li>
+ *     <li>the vectors of all the entries, as a contiguous block of floats;</li>
+ *     <li>the data of all the entries: the id, the text and the metadata serialized to JSON,
+ *     all encoded in UTF-8;</li>
+ *     <li>the entries table, with the offset of the data of each entry and the length of its id,
+ *     text and metadata, the last two being -1 for entries without a text segment.</li>
+ * </ul>
+ * Accessors can be called concurrently. The mapped memory is released when it's garbage collected,
+ * so the buffers returned by {@link #vector(int)} remain valid after the file is closed.
+ */
+public class MappedEmbeddingStoreFile implements AutoCloseable {
+
+    static final int MAGIC = 0x454A344C; // "L4JE"
+
+    static final int VERSION = 1;
+
+    static final int HEADER_SIZE = 64;
+
+    static final int ENTRY_SIZE = 24;
+
+    // A single mapping can't exceed 2 GB, so larger sections are mapped in chunks.
+    private static final long MAX_CHUNK_SIZE = 1L << 30;
+
+    private final FileChannel channel;
+
+    private final int size;
+
+    private final int dimension;
+
+    private final int vectorsPerChunk;
+
+    private final ByteBuffer[] vectorChunks;
+
+    private final long dataOffset;
+
+    private final ByteBuffer[] dataChunks;
+
+    private final ByteBuffer entries;
+
+    private MappedEmbeddingStoreFile(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long fileSize = channel.size();
+            Assert.isTrue(fileSize >= HEADER_SIZE, () -> path + " is not an embedding store file");
+
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE)
+                .order(ByteOrder.LITTLE_ENDIAN);
+            Assert.isTrue(header.getInt(0) == MAGIC, () -> path + " is not an embedding store file");
+            Assert.isTrue(header.getInt(4) == VERSION,
+                    () -> "Unsupported embedding store file version " + header.getInt(4) + " in " + path);
+
+            this.size = header.getInt(8);
+            this.dimension = header.getInt(12);
+            long vectorsOffset = header.getLong(16);
+            this.dataOffset = header.getLong(24);
+            long entriesOffset = header.getLong(32);
+
+            long vectorSize = (long) dimension * Float.BYTES;
+            Assert.isTrue(size >= 0 && (size == 0 || dimension > 0) && vectorsOffset == HEADER_SIZE
+                    && dataOffset == vectorsOffset + size * vectorSize && entriesOffset >= dataOffset
+                    && fileSize == entriesOffset + (long) size * ENTRY_SIZE, () -> path + " is corrupted");
+
+            long vectorChunkSize = vectorSize == 0 ? MAX_CHUNK_SIZE : Math.max(1, MAX_CHUNK_SIZE / vectorSize) * vectorSize;
+            this.vectorsPerChunk = vectorSize == 0 ? Integer.MAX_VALUE : (int) (vectorChunkSize / vectorSize);
+            this.vectorChunks = map(vectorsOffset, size * vectorSize, vectorChunkSize);
+            this.dataChunks = map(dataOffset, entriesOffset - dataOffset, MAX_CHUNK_SIZE);
+            this.entries = channel.map(FileChannel.MapMode.READ_ONLY, entriesOffset, (long) size * ENTRY_SIZE)
+                .order(ByteOrder.LITTLE_ENDIAN);
+            validateEntries(path, entriesOffset);
+        }
+        catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Checks that the data of each entry lies within the data section, so that the accessors
+     * never read outside of it.
+     */
+    private void validateEntries(Path path, long entriesOffset) {
+        for (int i = 0; i < size; i++) {
+            int entryOffset = i * ENTRY_SIZE;
+            long offset = entries.getLong(entryOffset);
+            int idLength = entries.getInt(entryOffset + 8);
+            int textLength = entries.getInt(entryOffset + 12);
+            int metadataLength = entries.getInt(entryOffset + 16);
+
+            boolean validLengths = idLength >= 0 && ((textLength == -1 && metadataLength == -1)
+                    || (textLength >= 0 && metadataLength >= 0));
+            long end = offset + idLength + Math.max(textLength, 0) + Math.max(metadataLength, 0);
+            Assert.isTrue(validLengths && offset >= dataOffset && offset <= entriesOffset && end <= entriesOffset,
+                    () -> path + " is corrupted");
+        }
+    }
+
+    /**
+     * Opens and maps the given embedding store file.
+     */
+    public static MappedEmbeddingStoreFile open(Path path) {
+        Assert.notNull(path, "path cannot be null");
+        try {
+            return new MappedEmbeddingStoreFile(path);
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException("Failed to open the embedding store file " + path, ex);
+        }
+    }
+
+    private ByteBuffer[] map(long offset, long length, long chunkSize) throws IOException {
+        var chunks = new ByteBuffer[(int) ((length + chunkSize - 1) / chunkSize)];
+        for (int i = 0; i < chunks.length; i++) {
+            long chunkOffset = i * chunkSize;
+            MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, offset + chunkOffset,
+                    Math.min(chunkSize, length - chunkOffset));
+            chunks[i] = chunk.order(ByteOrder.LITTLE_ENDIAN);
+        }
+        return chunks;
+    }
+
+    /**
+     * Number of entries in the file.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Dimension of the vectors in the file, or 0 if it has no entries.
+     */
+    public int dimension() {
+        return dimension;
+    }
+
+    public String id(int index) {
+        checkIndex(index);
+        int entryOffset = index * ENTRY_SIZE;
+        return new String(readData(entries.getLong(entryOffset), entries.getInt(entryOffset + 8)), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns a read-only view of the vector of the given entry, backed by the mapped file.
+     */
+    public FloatBuffer vector(int index) {
+        checkIndex(index);
+        int vectorSize = dimension * Float.BYTES;
+        return vectorChunks[index / vectorsPerChunk].slice((index % vectorsPerChunk) * vectorSize, vectorSize)
+            .order(ByteOrder.LITTLE_ENDIAN)
+            .asFloatBuffer();
+    }
+
+    /**
+     * Returns the embedding of the given entry, copying its vector on the heap.
+     */
+    public Embedding embedding(int index) {
+        float[] vector = new float[dimension];
+        vector(index).get(vector);
+        return Embedding.from(vector);
+    }
+
+    @Nullable
+    public TextSegment textSegment(int index) {
+        checkIndex(index);
+        int entryOffset = index * ENTRY_SIZE;
+        long offset = entries.getLong(entryOffset);
+        int idLength = entries.getInt(entryOffset + 8);
+        int textLength = entries.getInt(entryOffset + 12);
+        int metadataLength = entries.getInt(entryOffset + 16);
+
+        if (textLength < 0) {
+            return null;
+        }
+
+        String text = new String(readData(offset + idLength, textLength), StandardCharsets.UTF_8);
+        try {
+            Metadata metadata = LangChain4jJacksonProvider.getObjectMapper()
+                .readValue(readData(offset + idLength + textLength, metadataLength), Metadata.class);
+            return TextSegment.from(text, metadata);
+        }
+        catch (IOException ex) {
+            throw new JsonDeserializationException(ex);
+        }
+    }
+
+    private byte[] readData(long offset, int length) {
+        byte[] bytes = new byte[length];
+        int read = 0;
+        while (read < length) {
+            long position = offset + read - dataOffset;
+            ByteBuffer chunk = dataChunks[(int) (position / MAX_CHUNK_SIZE)];
+            int chunkPosition = (int) (position % MAX_CHUNK_SIZE);
+            int chunkLength = Math.min(length - read, chunk.capacity() - chunkPosition);
+            chunk.get(chunkPosition, bytes, read, chunkLength);
+            read += chunkLength;
+        }
+        return bytes;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+}
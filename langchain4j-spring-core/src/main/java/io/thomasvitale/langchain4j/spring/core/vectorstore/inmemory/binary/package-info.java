@@ -0,0 +1,6 @@
+@NonNullApi
+@NonNullFields
+package io.thomasvitale.langchain4j.spring.core.vectorstore.inmemory.binary;
+
+import org.springframework.lang.NonNullApi;
+import org.springframework.lang.NonNullFields;
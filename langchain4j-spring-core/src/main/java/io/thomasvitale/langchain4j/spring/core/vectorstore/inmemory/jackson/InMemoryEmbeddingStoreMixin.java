@@ -14,6 +14,8 @@ import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
 
+import io.thomasvitale.langchain4j.spring.core.vectorstore.inmemory.InMemoryEmbeddingStoreLoader;
+
 /**
  * Mixin used to serialize / deserialize {@link InMemoryEmbeddingStore}.
  * <p>
@@ -38,16 +40,16 @@ abstract class InMemoryEmbeddingStoreMixin {
             public List<InMemoryEmbeddingStoreEntryMirror> entries;
 
             public InMemoryEmbeddingStore<TextSegment> toInMemoryEmbeddingStore() {
-                var result = new InMemoryEmbeddingStore<TextSegment>();
+                var loader = new InMemoryEmbeddingStoreLoader();
                 for (var entry : entries) {
-                    result.add(entry.id(), entry.embedding(), entry.embedded());
+                    loader.add(entry.id(), entry.embedding(), entry.embedded());
                 }
-                return result;
+                return loader.load();
             }
 
         }
 
-        private record InMemoryEmbeddingStoreEntryMirror(String id, Embedding embedding, TextSegment embedded) {}
+        record InMemoryEmbeddingStoreEntryMirror(String id, Embedding embedding, TextSegment embedded) {}
 
     }
 
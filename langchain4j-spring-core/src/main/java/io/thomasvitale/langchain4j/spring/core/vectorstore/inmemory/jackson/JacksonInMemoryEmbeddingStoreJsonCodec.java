@@ -1,6 +1,13 @@
 package io.thomasvitale.langchain4j.spring.core.vectorstore.inmemory.jackson;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -8,20 +15,29 @@ import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
 import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStoreJsonCodec;
 
+import org.springframework.util.Assert;
+
 import io.thomasvitale.langchain4j.spring.core.json.JsonDeserializationException;
 import io.thomasvitale.langchain4j.spring.core.json.JsonSerializationException;
 import io.thomasvitale.langchain4j.spring.core.json.jackson.LangChain4jJacksonProvider;
+import io.thomasvitale.langchain4j.spring.core.vectorstore.inmemory.InMemoryEmbeddingStoreLoader;
+import io.thomasvitale.langchain4j.spring.core.vectorstore.inmemory.jackson.InMemoryEmbeddingStoreMixin.InMemoryEmbeddingStoreDeserializer.InMemoryEmbeddingStoreEntryMirror;
 
 /**
  * A codec for serializing/deserializing {@link InMemoryEmbeddingStore} objects using
  * Jackson.
  * <p>
+ * Besides the {@code String} based methods, it can write to and read from streams,
+ * one entry at a time, so that large stores are never held in memory as a whole document.
+ * <p>
  * Adapted from GsonInMemoryEmbeddingStoreJsonCodec in the LangChain4j project.
  */
 public class JacksonInMemoryEmbeddingStoreJsonCodec implements InMemoryEmbeddingStoreJsonCodec {
 
     private static final TypeReference<InMemoryEmbeddingStore<TextSegment>> TEXT_SEGMENT_TYPE = new TypeReference<>() {};
 
+    private static final String ENTRIES_FIELD_NAME = "entries";
+
     private final ObjectMapper objectMapper;
 
     public JacksonInMemoryEmbeddingStoreJsonCodec() {
@@ -46,4 +62,60 @@ public class JacksonInMemoryEmbeddingStoreJsonCodec implements InMemoryEmbedding
         }
     }
 
+    /**
+     * Writes the given embedding store as JSON to the output stream, in the same format as
+     * {@link #toJson(InMemoryEmbeddingStore)}. Entries are serialized one at a time straight
+     * to the stream, which is left open.
+     */
+    public void write(InMemoryEmbeddingStore<?> embeddingStore, OutputStream outputStream) {
+        Assert.notNull(embeddingStore, "embeddingStore cannot be null");
+        Assert.notNull(outputStream, "outputStream cannot be null");
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            objectMapper.writeValue(generator, embeddingStore);
+        } catch (IOException ex) {
+            throw new JsonSerializationException(ex);
+        }
+    }
+
+    /**
+     * Reads an embedding store from JSON in the format written by {@link #toJson(InMemoryEmbeddingStore)}.
+     * Entries are parsed one at a time and added to the store as they're read. The stream is left open.
+     */
+    public InMemoryEmbeddingStore<TextSegment> read(InputStream inputStream) {
+        Assert.notNull(inputStream, "inputStream cannot be null");
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            var loader = new InMemoryEmbeddingStoreLoader();
+
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonDeserializationException("Expected the embedding store to be a JSON object");
+            }
+
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                if (parser.nextToken() == JsonToken.START_ARRAY && ENTRIES_FIELD_NAME.equals(fieldName)) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        var entry = objectMapper.readValue(parser, InMemoryEmbeddingStoreEntryMirror.class);
+                        loader.add(entry.id(), entry.embedding(), entry.embedded());
+                    }
+                }
+                else {
+                    parser.skipChildren();
+                }
+            }
+
+            if (token != JsonToken.END_OBJECT) {
+                throw new JsonDeserializationException("Unexpected end of the embedding store JSON");
+            }
+
+            return loader.load();
+        } catch (IOException ex) {
+            throw new JsonDeserializationException(ex);
+        }
+    }
+
 }
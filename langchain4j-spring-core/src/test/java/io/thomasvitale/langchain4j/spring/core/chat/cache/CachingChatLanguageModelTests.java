@@ -0,0 +1,142 @@
+package io.thomasvitale.langchain4j.spring.core.chat.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link CachingChatLanguageModel}.
+ */
+class CachingChatLanguageModelTests {
+
+    private final CountingChatModel delegate = new CountingChatModel();
+
+    @Test
+    void servesIdenticalRequestsFromCache() {
+        var chatModel = CachingChatLanguageModel.builder()
+            .delegate(delegate)
+            .cache(InMemoryChatResponseCache.builder().build())
+            .modelName("test")
+            .deterministic(true)
+            .build();
+
+        var first = chatModel.generate(List.of(UserMessage.from("Hello")));
+        var second = chatModel.generate(List.of(UserMessage.from("Hello")));
+        var third = chatModel.generate(List.of(SystemMessage.from("Be brief"), UserMessage.from("Hello")));
+
+        assertThat(first.content().text()).isEqualTo("1");
+        assertThat(second.content().text()).isEqualTo("1");
+        assertThat(third.content().text()).isEqualTo("2");
+        assertThat(delegate.calls).hasSize(2);
+    }
+
+    @Test
+    void passesThroughWhenNotDeterministic() {
+        var chatModel = CachingChatLanguageModel.builder()
+            .delegate(delegate)
+            .cache(InMemoryChatResponseCache.builder().build())
+            .modelName("test")
+            .build();
+
+        chatModel.generate(List.of(UserMessage.from("Hello")));
+        chatModel.generate(List.of(UserMessage.from("Hello")));
+
+        assertThat(delegate.calls).hasSize(2);
+    }
+
+    @Test
+    void cachesNonDeterministicWhenEnabled() {
+        var chatModel = CachingChatLanguageModel.builder()
+            .delegate(delegate)
+            .cache(InMemoryChatResponseCache.builder().build())
+            .modelName("test")
+            .cacheNonDeterministic(true)
+            .build();
+
+        chatModel.generate(List.of(UserMessage.from("Hello")));
+        chatModel.generate(List.of(UserMessage.from("Hello")));
+
+        assertThat(delegate.calls).hasSize(1);
+    }
+
+    @Test
+    void cacheKeyDependsOnModelOptionsAndTools() {
+        var cache = InMemoryChatResponseCache.builder().build();
+        var calculator = ToolSpecification.builder().name("calculator").description("Sums two numbers").build();
+        List<ChatMessage> messages = List.of(UserMessage.from("2+2=?"));
+
+        var chatModel = CachingChatLanguageModel.builder().delegate(delegate).cache(cache).modelName("test").build();
+        var otherModel = CachingChatLanguageModel.builder().delegate(delegate).cache(cache).modelName("other").build();
+        var otherOptions = CachingChatLanguageModel.builder().delegate(delegate).cache(cache).modelName("test")
+            .options(new TestOptions(42)).build();
+
+        assertThat(chatModel.key(messages, null, null)).isEqualTo(chatModel.key(messages, null, null));
+        assertThat(chatModel.key(messages, null, null)).isNotEqualTo(otherModel.key(messages, null, null));
+        assertThat(chatModel.key(messages, null, null)).isNotEqualTo(otherOptions.key(messages, null, null));
+        assertThat(chatModel.key(messages, null, null)).isNotEqualTo(chatModel.key(messages, List.of(calculator), null));
+        assertThat(chatModel.key(messages, List.of(calculator), null))
+            .isNotEqualTo(chatModel.key(messages, List.of(calculator), calculator));
+    }
+
+    @Test
+    void observesHitsAndMisses() {
+        var observationRegistry = TestObservationRegistry.create();
+        var chatModel = CachingChatLanguageModel.builder()
+            .delegate(delegate)
+            .cache(InMemoryChatResponseCache.builder().build())
+            .modelName("test")
+            .deterministic(true)
+            .observationRegistry(observationRegistry)
+            .build();
+
+        chatModel.generate(List.of(UserMessage.from("Hello")));
+
+        TestObservationRegistryAssert.assertThat(observationRegistry)
+            .hasObservationWithNameEqualTo("langchain4j.chat.cache")
+            .that()
+            .hasLowCardinalityKeyValue("langchain4j.chat.model.name", "test")
+            .hasLowCardinalityKeyValue("langchain4j.chat.cache.outcome", "miss");
+
+        observationRegistry.clear();
+        chatModel.generate(List.of(UserMessage.from("Hello")));
+
+        TestObservationRegistryAssert.assertThat(observationRegistry)
+            .hasObservationWithNameEqualTo("langchain4j.chat.cache")
+            .that()
+            .hasLowCardinalityKeyValue("langchain4j.chat.cache.outcome", "hit")
+            .hasBeenStarted()
+            .hasBeenStopped();
+    }
+
+    private record TestOptions(int seed) {}
+
+    /**
+     * Answers with the number of calls received so far and records the requests.
+     */
+    private static class CountingChatModel implements ChatLanguageModel {
+
+        private final List<List<ChatMessage>> calls = new ArrayList<>();
+
+        @Override
+        public Response<AiMessage> generate(List<ChatMessage> messages) {
+            calls.add(messages);
+            return Response.from(AiMessage.from(String.valueOf(calls.size())));
+        }
+
+    }
+
+}
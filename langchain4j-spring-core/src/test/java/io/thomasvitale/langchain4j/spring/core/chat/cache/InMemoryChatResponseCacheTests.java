@@ -0,0 +1,50 @@
+package io.thomasvitale.langchain4j.spring.core.chat.cache;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.model.output.Response;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link InMemoryChatResponseCache}.
+ */
+class InMemoryChatResponseCacheTests {
+
+    @Test
+    void evictsLeastRecentlyUsedEntryWhenFull() {
+        var cache = InMemoryChatResponseCache.builder().maxEntries(2).build();
+
+        cache.put("a", Response.from(AiMessage.from("a")));
+        cache.put("b", Response.from(AiMessage.from("b")));
+        cache.get("a");
+        cache.put("c", Response.from(AiMessage.from("c")));
+
+        assertThat(cache.get("a")).isNotNull();
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isNotNull();
+    }
+
+    @Test
+    void expiresEntriesAfterTimeToLive() {
+        var now = new AtomicLong();
+        var cache = InMemoryChatResponseCache.builder()
+            .timeToLive(Duration.ofSeconds(10))
+            .nanoClock(now::get)
+            .build();
+
+        cache.put("a", Response.from(AiMessage.from("a")));
+
+        now.set(Duration.ofSeconds(9).toNanos());
+        assertThat(cache.get("a")).isNotNull();
+
+        now.set(Duration.ofSeconds(10).toNanos());
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+}
@@ -0,0 +1,133 @@
+package io.thomasvitale.langchain4j.spring.core.chat.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link SemanticCachingChatLanguageModel}.
+ */
+class SemanticCachingChatLanguageModelTests {
+
+    private static final Map<String, float[]> VECTORS = Map.of(
+            "What is the capital of Italy?", new float[] { 1, 0 },
+            "What's the capital of Italy?", new float[] { 0.99f, 0.1f },
+            "What is the capital of Denmark?", new float[] { 0, 1 });
+
+    private final CountingChatModel delegate = new CountingChatModel();
+
+    private final SemanticChatResponseCache cache = SemanticChatResponseCache.builder()
+        .embeddingModel(new LookupEmbeddingModel())
+        .minScore(0.9)
+        .executor(Runnable::run)
+        .build();
+
+    @Test
+    void servesSimilarQuestionsFromCache() {
+        var chatModel = SemanticCachingChatLanguageModel.builder().delegate(delegate).cache(cache).modelName("test").build();
+
+        var first = chatModel.generate(List.of(UserMessage.from("What is the capital of Italy?")));
+        var second = chatModel.generate(List.of(UserMessage.from("What's the capital of Italy?")));
+        var third = chatModel.generate(List.of(UserMessage.from("What is the capital of Denmark?")));
+
+        assertThat(first.content().text()).isEqualTo("1");
+        assertThat(second.content().text()).isEqualTo("1");
+        assertThat(third.content().text()).isEqualTo("2");
+        assertThat(delegate.calls).hasSize(2);
+    }
+
+    @Test
+    void previousMessagesMustMatchExactly() {
+        var chatModel = SemanticCachingChatLanguageModel.builder().delegate(delegate).cache(cache).modelName("test").build();
+
+        chatModel.generate(List.of(UserMessage.from("What is the capital of Italy?")));
+        var response = chatModel.generate(List.of(SystemMessage.from("Answer in Italian"), UserMessage.from("What is the capital of Italy?")));
+
+        assertThat(response.content().text()).isEqualTo("2");
+        assertThat(chatModel.namespace(List.of())).isNotEqualTo(chatModel.namespace(List.of(SystemMessage.from("Answer in Italian"))));
+    }
+
+    @Test
+    void observesHitsAndMisses() {
+        var observationRegistry = TestObservationRegistry.create();
+        var chatModel = SemanticCachingChatLanguageModel.builder()
+            .delegate(delegate)
+            .cache(cache)
+            .modelName("test")
+            .observationRegistry(observationRegistry)
+            .build();
+
+        chatModel.generate(List.of(UserMessage.from("What is the capital of Italy?")));
+        observationRegistry.clear();
+        chatModel.generate(List.of(UserMessage.from("What's the capital of Italy?")));
+
+        TestObservationRegistryAssert.assertThat(observationRegistry)
+            .hasObservationWithNameEqualTo("langchain4j.chat.cache")
+            .that()
+            .hasLowCardinalityKeyValue("langchain4j.chat.model.name", "test")
+            .hasLowCardinalityKeyValue("langchain4j.chat.cache.type", "semantic")
+            .hasLowCardinalityKeyValue("langchain4j.chat.cache.outcome", "hit")
+            .hasBeenStarted()
+            .hasBeenStopped();
+    }
+
+    @Test
+    void sendsRequestToModelWhenLookupFails() {
+        var failingCache = SemanticChatResponseCache.builder()
+            .embeddingModel(textSegments -> {
+                throw new IllegalStateException("Embedding model unavailable");
+            })
+            .executor(Runnable::run)
+            .build();
+        var chatModel = SemanticCachingChatLanguageModel.builder().delegate(delegate).cache(failingCache).modelName("test").build();
+
+        var first = chatModel.generate(List.of(UserMessage.from("What is the capital of Italy?")));
+        var second = chatModel.generate(List.of(UserMessage.from("What is the capital of Italy?")));
+
+        assertThat(first.content().text()).isEqualTo("1");
+        assertThat(second.content().text()).isEqualTo("2");
+        assertThat(delegate.calls).hasSize(2);
+    }
+
+    /**
+     * Answers with the number of calls received so far and records the requests.
+     */
+    private static class CountingChatModel implements ChatLanguageModel {
+
+        private final List<List<ChatMessage>> calls = new ArrayList<>();
+
+        @Override
+        public Response<AiMessage> generate(List<ChatMessage> messages) {
+            calls.add(messages);
+            return Response.from(AiMessage.from(String.valueOf(calls.size())));
+        }
+
+    }
+
+    private static class LookupEmbeddingModel implements EmbeddingModel {
+
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+            return Response.from(textSegments.stream().map(textSegment -> Embedding.from(VECTORS.get(textSegment.text()))).toList());
+        }
+
+    }
+
+}
@@ -0,0 +1,215 @@
+package io.thomasvitale.langchain4j.spring.core.chat.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link SemanticChatResponseCache}.
+ */
+class SemanticChatResponseCacheTests {
+
+    private final MutableClock clock = new MutableClock();
+
+    private final InMemoryEmbeddingStore<TextSegment> embeddingStore = new InMemoryEmbeddingStore<>();
+
+    private final SemanticChatResponseCache cache = SemanticChatResponseCache.builder()
+        .embeddingModel(new FixedEmbeddingModel())
+        .embeddingStore(embeddingStore)
+        .minScore(0.9)
+        .timeToLive(Duration.ofMinutes(10))
+        .clock(clock)
+        .executor(Runnable::run)
+        .build();
+
+    @Test
+    void returnsResponseOfSimilarQuestion() {
+        cache.put("namespace", Embedding.from(new float[] { 1, 0 }), "Rome");
+
+        assertThat(cache.get("namespace", Embedding.from(new float[] { 0.99f, 0.1f }))).isEqualTo("Rome");
+        assertThat(cache.get("namespace", Embedding.from(new float[] { 0, 1 }))).isNull();
+        assertThat(cache.get("other", Embedding.from(new float[] { 1, 0 }))).isNull();
+    }
+
+    @Test
+    void ignoresExpiredResponses() {
+        cache.put("namespace", Embedding.from(new float[] { 1, 0 }), "Rome");
+
+        clock.advance(Duration.ofMinutes(9));
+        assertThat(cache.get("namespace", Embedding.from(new float[] { 1, 0 }))).isEqualTo("Rome");
+
+        clock.advance(Duration.ofMinutes(1));
+        assertThat(cache.get("namespace", Embedding.from(new float[] { 1, 0 }))).isNull();
+    }
+
+    @Test
+    void ignoresResponsesStoredBeforeInvalidation() {
+        cache.put("namespace", Embedding.from(new float[] { 1, 0 }), "Rome");
+        cache.invalidate();
+
+        assertThat(cache.get("namespace", Embedding.from(new float[] { 1, 0 }))).isNull();
+
+        clock.advance(Duration.ofMillis(1));
+        cache.put("namespace", Embedding.from(new float[] { 1, 0 }), "Roma");
+
+        assertThat(cache.get("namespace", Embedding.from(new float[] { 1, 0 }))).isEqualTo("Roma");
+    }
+
+    @Test
+    void removesExpiredResponsesFoundByLookup() {
+        var cache = SemanticChatResponseCache.builder()
+            .embeddingModel(new FixedEmbeddingModel())
+            .embeddingStore(embeddingStore)
+            .timeToLive(Duration.ofMinutes(10))
+            .maxResults(1)
+            .clock(clock)
+            .executor(Runnable::run)
+            .build();
+        cache.put("namespace", Embedding.from(new float[] { 1, 0 }), "Rome");
+
+        clock.advance(Duration.ofMinutes(10));
+        assertThat(cache.get("namespace", Embedding.from(new float[] { 1, 0 }))).isNull();
+        assertThat(search(Embedding.from(new float[] { 1, 0 }))).isEmpty();
+
+        cache.put("namespace", Embedding.from(new float[] { 1, 0 }), "Roma");
+        assertThat(cache.get("namespace", Embedding.from(new float[] { 1, 0 }))).isEqualTo("Roma");
+    }
+
+    @Test
+    void keepsValidResponsesOfOtherNamespaces() {
+        cache.put("other", Embedding.from(new float[] { 1, 0 }), "Rome");
+
+        assertThat(cache.get("namespace", Embedding.from(new float[] { 1, 0 }))).isNull();
+        assertThat(search(Embedding.from(new float[] { 1, 0 }))).hasSize(1);
+    }
+
+    @Test
+    void filtersByNamespaceWhenStoreSupportsFilters() {
+        var cache = namespaceCache(embeddingStore, true);
+        cache.put("other", Embedding.from(new float[] { 1, 0 }), "Roma");
+        cache.put("namespace", Embedding.from(new float[] { 0.99f, 0.1f }), "Rome");
+
+        assertThat(cache.get("namespace", Embedding.from(new float[] { 1, 0 }))).isEqualTo("Rome");
+    }
+
+    @Test
+    void overFetchesWhenNotFilteringByNamespace() {
+        var cache = namespaceCache(embeddingStore, false);
+        cache.put("other", Embedding.from(new float[] { 1, 0 }), "Roma");
+        cache.put("namespace", Embedding.from(new float[] { 0.99f, 0.1f }), "Rome");
+
+        assertThat(cache.get("namespace", Embedding.from(new float[] { 1, 0 }))).isEqualTo("Rome");
+    }
+
+    @Test
+    void overFetchesWhenStoreDoesNotSupportFilters() {
+        var filterlessStore = new InMemoryEmbeddingStore<TextSegment>() {
+            @Override
+            public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest request) {
+                if (request.filter() != null) {
+                    throw new UnsupportedOperationException("Filters are not supported");
+                }
+                return super.search(request);
+            }
+        };
+        var cache = namespaceCache(filterlessStore, true);
+        cache.put("other", Embedding.from(new float[] { 1, 0 }), "Roma");
+        cache.put("namespace", Embedding.from(new float[] { 0.99f, 0.1f }), "Rome");
+
+        assertThat(cache.get("namespace", Embedding.from(new float[] { 1, 0 }))).isEqualTo("Rome");
+        assertThat(cache.get("namespace", Embedding.from(new float[] { 1, 0 }))).isEqualTo("Rome");
+    }
+
+    @Test
+    void evictsOldestResponsesFromDefaultStore() {
+        var cache = SemanticChatResponseCache.builder()
+            .embeddingModel(new FixedEmbeddingModel())
+            .minScore(0.9)
+            .maxEntries(2)
+            .clock(clock)
+            .executor(Runnable::run)
+            .build();
+
+        cache.put("namespace", Embedding.from(new float[] { 1, 0 }), "Rome");
+        cache.put("namespace", Embedding.from(new float[] { 0, 1 }), "Copenhagen");
+        cache.put("namespace", Embedding.from(new float[] { -1, 0 }), "Oslo");
+
+        assertThat(cache.get("namespace", Embedding.from(new float[] { 1, 0 }))).isNull();
+        assertThat(cache.get("namespace", Embedding.from(new float[] { 0, 1 }))).isEqualTo("Copenhagen");
+        assertThat(cache.get("namespace", Embedding.from(new float[] { -1, 0 }))).isEqualTo("Oslo");
+    }
+
+    @Test
+    void ignoresTextSegmentsNotWrittenByCache() {
+        embeddingStore.add(Embedding.from(new float[] { 1, 0 }), TextSegment.from("Some document"));
+
+        assertThat(cache.get("namespace", Embedding.from(new float[] { 1, 0 }))).isNull();
+    }
+
+    private SemanticChatResponseCache namespaceCache(InMemoryEmbeddingStore<TextSegment> embeddingStore, boolean filterByNamespace) {
+        return SemanticChatResponseCache.builder()
+            .embeddingModel(new FixedEmbeddingModel())
+            .embeddingStore(embeddingStore)
+            .minScore(0.9)
+            .maxResults(1)
+            .filterByNamespace(filterByNamespace)
+            .clock(clock)
+            .executor(Runnable::run)
+            .build();
+    }
+
+    private List<?> search(Embedding embedding) {
+        return embeddingStore.search(EmbeddingSearchRequest.builder().queryEmbedding(embedding).minScore(0.9).build())
+            .matches();
+    }
+
+    private static class FixedEmbeddingModel implements EmbeddingModel {
+
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+            return Response.from(textSegments.stream().map(textSegment -> Embedding.from(new float[] { 1, 0 })).toList());
+        }
+
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant = Instant.parse("2024-07-01T10:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+
+    }
+
+}
@@ -0,0 +1,107 @@
+package io.thomasvitale.langchain4j.spring.core.concurrent;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.tck.TestObservationRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link ConcurrentBatches}.
+ */
+class ConcurrentBatchesTests {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void batchCount() {
+        assertThat(ConcurrentBatches.batchCount(0, 3)).isZero();
+        assertThat(ConcurrentBatches.batchCount(3, 3)).isEqualTo(1);
+        assertThat(ConcurrentBatches.batchCount(7, 3)).isEqualTo(3);
+    }
+
+    @Test
+    void sequentialRunsOnCallingThreadInOrder() {
+        List<Integer> batches = new CopyOnWriteArrayList<>();
+        Thread caller = Thread.currentThread();
+
+        ConcurrentBatches.forEach(4, 1, executor, batchIndex -> {
+            assertThat(Thread.currentThread()).isSameAs(caller);
+            batches.add(batchIndex);
+        });
+
+        assertThat(batches).containsExactly(0, 1, 2, 3);
+    }
+
+    @Test
+    void concurrentRunsEachBatchOnceWithBoundedWorkers() {
+        List<Integer> batches = new CopyOnWriteArrayList<>();
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+
+        ConcurrentBatches.forEach(20, 3, executor, batchIndex -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(2);
+            batches.add(batchIndex);
+            running.decrementAndGet();
+        });
+
+        assertThat(batches).hasSize(20).doesNotHaveDuplicates();
+        assertThat(maxRunning.get()).isBetween(1, 3);
+    }
+
+    @Test
+    void whenBatchFailsThenFailurePropagatedAndNoNewBatchesTaken() {
+        var started = new AtomicInteger();
+
+        assertThatThrownBy(() -> ConcurrentBatches.forEach(100, 2, executor, batchIndex -> {
+            started.incrementAndGet();
+            if (batchIndex == 1) {
+                throw new IllegalStateException("batch failed");
+            }
+            sleep(5);
+        })).isInstanceOf(IllegalStateException.class).hasMessage("batch failed");
+
+        assertThat(started.get()).isLessThan(100);
+    }
+
+    @Test
+    void workersRunInScopeOfCurrentObservation() {
+        var observationRegistry = TestObservationRegistry.create();
+        var parentObservation = Observation.start("parent", observationRegistry);
+        List<Observation> observations = new CopyOnWriteArrayList<>();
+
+        try (Observation.Scope scope = parentObservation.openScope()) {
+            ConcurrentBatches.forEach(4, 2, executor, observationRegistry, batchIndex -> {
+                observations.add(observationRegistry.getCurrentObservation());
+            });
+        }
+        parentObservation.stop();
+
+        assertThat(observations).hasSize(4).allSatisfy(observation -> assertThat(observation).isSameAs(parentObservation));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
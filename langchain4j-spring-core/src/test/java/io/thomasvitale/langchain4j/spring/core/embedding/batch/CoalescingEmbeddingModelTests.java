@@ -0,0 +1,118 @@
+package io.thomasvitale.langchain4j.spring.core.embedding.batch;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link CoalescingEmbeddingModel}.
+ */
+class CoalescingEmbeddingModelTests {
+
+    private final BatchRecordingEmbeddingModel delegate = new BatchRecordingEmbeddingModel();
+
+    private final ExecutorService callers = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void shutdown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    void coalescesConcurrentRequestsUntilBatchIsFull() throws Exception {
+        var embeddingModel = CoalescingEmbeddingModel.builder()
+            .delegate(delegate)
+            .maxBatchSize(4)
+            .maxDelay(Duration.ofMinutes(1))
+            .build();
+
+        List<CompletableFuture<Embedding>> embeddings = IntStream.rangeClosed(1, 4)
+            .mapToObj(i -> CompletableFuture.supplyAsync(() -> embeddingModel.embed("x".repeat(i)).content(), callers))
+            .toList();
+
+        for (int i = 0; i < embeddings.size(); i++) {
+            assertThat(embeddings.get(i).get(5, TimeUnit.SECONDS).vector()).containsExactly(i + 1);
+        }
+        assertThat(delegate.batchSizes).containsExactly(4);
+    }
+
+    @Test
+    void sendsPartialBatchAfterMaxDelay() {
+        var embeddingModel = CoalescingEmbeddingModel.builder()
+            .delegate(delegate)
+            .maxBatchSize(100)
+            .maxDelay(Duration.ofMillis(10))
+            .build();
+
+        var first = embeddingModel.embed("a");
+        var second = embeddingModel.embedAll(List.of(TextSegment.from("bb")));
+
+        assertThat(first.content().vector()).containsExactly(1);
+        assertThat(second.content()).extracting(Embedding::vector).containsExactly(new float[] { 2 });
+        assertThat(delegate.batchSizes).containsExactly(1, 1);
+    }
+
+    @Test
+    void passesThroughMultipleTextSegments() {
+        var embeddingModel = CoalescingEmbeddingModel.builder().delegate(delegate).build();
+
+        var response = embeddingModel.embedAll(List.of(TextSegment.from("a"), TextSegment.from("bb")));
+
+        assertThat(response.content()).extracting(Embedding::vector)
+            .containsExactly(new float[] { 1 }, new float[] { 2 });
+        assertThat(delegate.batchSizes).containsExactly(2);
+    }
+
+    @Test
+    void propagatesErrorToEveryCaller() {
+        var embeddingModel = CoalescingEmbeddingModel.builder()
+            .delegate(textSegments -> {
+                throw new IllegalArgumentException("boom");
+            })
+            .maxBatchSize(2)
+            .maxDelay(Duration.ofMinutes(1))
+            .build();
+
+        List<CompletableFuture<Embedding>> embeddings = IntStream.range(0, 2)
+            .mapToObj(i -> CompletableFuture.supplyAsync(() -> embeddingModel.embed("a").content(), callers))
+            .toList();
+
+        embeddings.forEach(embedding -> assertThatThrownBy(() -> embedding.get(5, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(IllegalArgumentException.class)
+            .hasRootCauseMessage("boom"));
+    }
+
+    /**
+     * Returns the embedding [text length] for each text segment and records the size of each batch.
+     */
+    private static class BatchRecordingEmbeddingModel implements EmbeddingModel {
+
+        private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+            batchSizes.add(textSegments.size());
+            return Response.from(textSegments.stream()
+                .map(textSegment -> Embedding.from(new float[] { textSegment.text().length() }))
+                .toList());
+        }
+
+    }
+
+}
@@ -0,0 +1,151 @@
+package io.thomasvitale.langchain4j.spring.core.embedding.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link CachingEmbeddingModel}.
+ */
+class CachingEmbeddingModelTests {
+
+    private final CountingEmbeddingModel delegate = new CountingEmbeddingModel();
+
+    @Test
+    void embedsOnlyTextsMissingFromCache() {
+        var embeddingModel = CachingEmbeddingModel.builder()
+            .delegate(delegate)
+            .cache(InMemoryEmbeddingCache.builder().build())
+            .modelName("test")
+            .build();
+
+        var first = embeddingModel.embedAll(List.of(TextSegment.from("a"), TextSegment.from("bb"), TextSegment.from("a")));
+
+        assertThat(first.content()).extracting(Embedding::vector)
+            .containsExactly(new float[] { 1 }, new float[] { 2 }, new float[] { 1 });
+        assertThat(delegate.embeddedTexts).containsExactly("a", "bb");
+        assertThat(first.tokenUsage().inputTokenCount()).isEqualTo(2);
+
+        var second = embeddingModel.embedAll(List.of(TextSegment.from("ccc"), TextSegment.from("bb")));
+
+        assertThat(second.content()).extracting(Embedding::vector)
+            .containsExactly(new float[] { 3 }, new float[] { 2 });
+        assertThat(delegate.embeddedTexts).containsExactly("a", "bb", "ccc");
+    }
+
+    @Test
+    void changingReturnedEmbeddingsDoesNotAffectCache() {
+        var embeddingModel = CachingEmbeddingModel.builder()
+            .delegate(delegate)
+            .cache(InMemoryEmbeddingCache.builder().build())
+            .modelName("test")
+            .build();
+
+        var first = embeddingModel.embedAll(List.of(TextSegment.from("bb"), TextSegment.from("bb")));
+        first.content().get(0).normalize();
+
+        assertThat(first.content().get(1).vector()).containsExactly(2);
+
+        var second = embeddingModel.embedAll(List.of(TextSegment.from("bb")));
+        second.content().get(0).normalize();
+
+        assertThat(embeddingModel.embedAll(List.of(TextSegment.from("bb"))).content().get(0).vector()).containsExactly(2);
+        assertThat(delegate.embeddedTexts).containsExactly("bb");
+    }
+
+    @Test
+    void cacheKeyDependsOnModelAndOptions() {
+        var cache = InMemoryEmbeddingCache.builder().build();
+
+        var embeddingModel = CachingEmbeddingModel.builder().delegate(delegate).cache(cache).modelName("test").build();
+        var otherModel = CachingEmbeddingModel.builder().delegate(delegate).cache(cache).modelName("other").build();
+        var otherOptions = CachingEmbeddingModel.builder().delegate(delegate).cache(cache).modelName("test")
+            .options(new TestOptions(42)).build();
+
+        assertThat(embeddingModel.key("text")).isEqualTo(embeddingModel.key("text"));
+        assertThat(embeddingModel.key("text")).isNotEqualTo(embeddingModel.key("other text"));
+        assertThat(embeddingModel.key("text")).isNotEqualTo(otherModel.key("text"));
+        assertThat(embeddingModel.key("text")).isNotEqualTo(otherOptions.key("text"));
+    }
+
+    @Test
+    void observesHitsAndMisses() {
+        var observationRegistry = TestObservationRegistry.create();
+        List<Observation.Event> events = new ArrayList<>();
+        observationRegistry.observationConfig().observationHandler(new ObservationHandler<>() {
+            @Override
+            public void onEvent(Observation.Event event, Observation.Context context) {
+                events.add(event);
+            }
+
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+        });
+        var embeddingModel = CachingEmbeddingModel.builder()
+            .delegate(delegate)
+            .cache(InMemoryEmbeddingCache.builder().build())
+            .modelName("test")
+            .observationRegistry(observationRegistry)
+            .build();
+
+        embeddingModel.embedAll(List.of(TextSegment.from("a")));
+        observationRegistry.clear();
+        embeddingModel.embedAll(List.of(TextSegment.from("a"), TextSegment.from("bb")));
+
+        TestObservationRegistryAssert.assertThat(observationRegistry)
+            .hasObservationWithNameEqualTo("langchain4j.embedding.cache")
+            .that()
+            .hasLowCardinalityKeyValue("langchain4j.embedding.model.name", "test")
+            .hasLowCardinalityKeyValue("langchain4j.embedding.cache.outcome", "partial")
+            .hasHighCardinalityKeyValue("langchain4j.embedding.cache.hits", "1")
+            .hasHighCardinalityKeyValue("langchain4j.embedding.cache.misses", "1")
+            .hasBeenStarted()
+            .hasBeenStopped();
+
+        assertThat(events).extracting(Observation.Event::getName).containsExactly("miss", "hit", "miss");
+
+        observationRegistry.clear();
+        embeddingModel.embedAll(List.of(TextSegment.from("a"), TextSegment.from("bb")));
+
+        TestObservationRegistryAssert.assertThat(observationRegistry)
+            .hasObservationWithNameEqualTo("langchain4j.embedding.cache")
+            .that()
+            .hasLowCardinalityKeyValue("langchain4j.embedding.cache.outcome", "hit");
+    }
+
+    private record TestOptions(int dimensions) {}
+
+    /**
+     * Returns the embedding [text length] for each text segment and records the embedded texts.
+     */
+    private static class CountingEmbeddingModel implements EmbeddingModel {
+
+        private final List<String> embeddedTexts = new ArrayList<>();
+
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+            textSegments.forEach(textSegment -> embeddedTexts.add(textSegment.text()));
+            return Response.from(textSegments.stream()
+                .map(textSegment -> Embedding.from(new float[] { textSegment.text().length() }))
+                .toList(), new TokenUsage(textSegments.size()));
+        }
+
+    }
+
+}
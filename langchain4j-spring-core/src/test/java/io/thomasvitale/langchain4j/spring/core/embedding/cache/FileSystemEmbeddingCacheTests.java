@@ -0,0 +1,115 @@
+package io.thomasvitale.langchain4j.spring.core.embedding.cache;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+
+import dev.langchain4j.data.embedding.Embedding;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link FileSystemEmbeddingCache}.
+ */
+class FileSystemEmbeddingCacheTests {
+
+    // Each file holds the dimension and two floats.
+    private static final long FILE_SIZE = Integer.BYTES + 2 * Float.BYTES;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void putAndGet() {
+        var cache = FileSystemEmbeddingCache.builder().directory(tempDir).build();
+
+        cache.put("a", Embedding.from(new float[] { 1, 2 }));
+
+        assertThat(cache.get("a").vector()).containsExactly(1, 2);
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.size()).isEqualTo(FILE_SIZE);
+
+        cache.put("a", Embedding.from(new float[] { 3, 4 }));
+
+        assertThat(cache.get("a").vector()).containsExactly(3, 4);
+        assertThat(cache.size()).isEqualTo(FILE_SIZE);
+
+        cache.clear();
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedFilesWhenFull() throws IOException {
+        var cache = FileSystemEmbeddingCache.builder()
+            .directory(tempDir)
+            .maxSize(FILE_SIZE * 10)
+            .evictionPolicy(EvictionPolicy.LRU)
+            .build();
+        fill(cache, 10);
+
+        cache.get("k0");
+        cache.put("k10", Embedding.from(new float[] { 10, 10 }));
+
+        // Files are evicted down to 90% of the bound, so the two least recently used ones go.
+        assertThat(cache.get("k0")).isNotNull();
+        assertThat(cache.get("k1")).isNull();
+        assertThat(cache.get("k2")).isNull();
+        assertThat(cache.get("k3")).isNotNull();
+        assertThat(cache.get("k10")).isNotNull();
+        assertThat(cache.size()).isEqualTo(FILE_SIZE * 9);
+    }
+
+    @Test
+    void evictsOldestFilesWhenFull() throws IOException {
+        var cache = FileSystemEmbeddingCache.builder()
+            .directory(tempDir)
+            .maxSize(FILE_SIZE * 10)
+            .evictionPolicy(EvictionPolicy.FIFO)
+            .build();
+        fill(cache, 10);
+
+        cache.get("k0");
+        cache.put("k10", Embedding.from(new float[] { 10, 10 }));
+
+        assertThat(cache.get("k0")).isNull();
+        assertThat(cache.get("k1")).isNull();
+        assertThat(cache.get("k2")).isNotNull();
+        assertThat(cache.get("k10")).isNotNull();
+        assertThat(cache.size()).isEqualTo(FILE_SIZE * 9);
+    }
+
+    @Test
+    void existingFilesCountTowardsMaxSize() {
+        var cache = FileSystemEmbeddingCache.builder().directory(tempDir).build();
+        cache.put("a", Embedding.from(new float[] { 1, 2 }));
+        cache.put("b", Embedding.from(new float[] { 3, 4 }));
+        cache.put("c", Embedding.from(new float[] { 5, 6 }));
+
+        var reopened = FileSystemEmbeddingCache.builder().directory(tempDir).maxSize(FILE_SIZE * 2).build();
+
+        assertThat(reopened.size()).isLessThanOrEqualTo(FILE_SIZE * 2);
+    }
+
+    /**
+     * Puts the given number of files, from "k0" to the oldest one.
+     */
+    private void fill(FileSystemEmbeddingCache cache, int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            cache.put("k" + i, Embedding.from(new float[] { i, i }));
+            age("k" + i, Duration.ofMinutes(count - i));
+        }
+    }
+
+    private void age(String key, Duration age) throws IOException {
+        Files.setLastModifiedTime(tempDir.resolve(key + ".embedding"), FileTime.from(Instant.now().minus(age)));
+    }
+
+}
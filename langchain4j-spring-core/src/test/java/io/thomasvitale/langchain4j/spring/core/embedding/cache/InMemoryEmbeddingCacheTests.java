@@ -0,0 +1,81 @@
+package io.thomasvitale.langchain4j.spring.core.embedding.cache;
+
+import java.nio.file.Path;
+
+import dev.langchain4j.data.embedding.Embedding;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link InMemoryEmbeddingCache}.
+ */
+class InMemoryEmbeddingCacheTests {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void evictsLeastRecentlyUsedEntryWhenFull() {
+        var cache = InMemoryEmbeddingCache.builder().maxEntries(2).evictionPolicy(EvictionPolicy.LRU).build();
+
+        cache.put("a", Embedding.from(new float[] { 1 }));
+        cache.put("b", Embedding.from(new float[] { 2 }));
+        cache.get("a");
+        cache.put("c", Embedding.from(new float[] { 3 }));
+
+        assertThat(cache.get("a")).isNotNull();
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isNotNull();
+    }
+
+    @Test
+    void evictsOldestEntryWhenFull() {
+        var cache = InMemoryEmbeddingCache.builder().maxEntries(2).evictionPolicy(EvictionPolicy.FIFO).build();
+
+        cache.put("a", Embedding.from(new float[] { 1 }));
+        cache.put("b", Embedding.from(new float[] { 2 }));
+        cache.get("a");
+        cache.put("c", Embedding.from(new float[] { 3 }));
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.get("b")).isNotNull();
+        assertThat(cache.get("c")).isNotNull();
+    }
+
+    @Test
+    void evictsEntriesWhenWeightExceeded() {
+        var cache = InMemoryEmbeddingCache.builder().maxWeight(4 * Float.BYTES).build();
+
+        cache.put("a", Embedding.from(new float[] { 1, 2 }));
+        cache.put("b", Embedding.from(new float[] { 3, 4 }));
+        cache.put("c", Embedding.from(new float[] { 5, 6 }));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.weight()).isEqualTo(4 * Float.BYTES);
+        assertThat(cache.get("a")).isNull();
+    }
+
+    @Test
+    void spillsEvictedEntriesOverToFileStore() {
+        var cache = InMemoryEmbeddingCache.builder()
+            .maxEntries(1)
+            .spillover(FileSystemEmbeddingCache.builder().directory(tempDir).build())
+            .build();
+
+        cache.put("a", Embedding.from(new float[] { 1, 2 }));
+        cache.put("b", Embedding.from(new float[] { 3, 4 }));
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get("a").vector()).containsExactly(1, 2);
+        assertThat(cache.get("b").vector()).containsExactly(3, 4);
+
+        cache.clear();
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.get("b")).isNull();
+    }
+
+}
@@ -0,0 +1,89 @@
+package io.thomasvitale.langchain4j.spring.core.http;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link HttpLoggingInterceptor}.
+ */
+@ExtendWith(OutputCaptureExtension.class)
+class HttpLoggingInterceptorTests {
+
+    private static final String BODY = "{\"message\":\"Hello\"}";
+
+    @Test
+    void whenLoggingResponsesThenBodyIsNotConsumed() throws IOException {
+        var interceptor = new HttpLoggingInterceptor(true, true);
+        var originalResponse = new MockClientHttpResponse(BODY.getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+
+        try (ClientHttpResponse response = interceptor.intercept(new MockClientHttpRequest(HttpMethod.POST, "/chat"),
+                new byte[0], (request, body) -> originalResponse)) {
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+        }
+    }
+
+    @Test
+    void whenNotLoggingResponsesThenResponseIsReturnedAsIs() throws IOException {
+        var interceptor = new HttpLoggingInterceptor(false, false);
+        var originalResponse = new MockClientHttpResponse(BODY.getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+
+        ClientHttpResponse response = interceptor.intercept(new MockClientHttpRequest(HttpMethod.POST, "/chat"),
+                new byte[0], (request, body) -> originalResponse);
+
+        assertThat(response).isSameAs(originalResponse);
+    }
+
+    @Test
+    void whenBodyExceedsMaxSizeThenLoggedBodyIsTruncated(CapturedOutput output) throws IOException {
+        var interceptor = new HttpLoggingInterceptor(false, true, 5, 1.0);
+        var originalResponse = new MockClientHttpResponse(BODY.getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+
+        try (ClientHttpResponse response = interceptor.intercept(new MockClientHttpRequest(HttpMethod.POST, "/chat"),
+                new byte[0], (request, body) -> originalResponse)) {
+            assertThat(StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+        }
+
+        assertThat(output).contains("{\"mes... [truncated, " + BODY.length() + " bytes in total]");
+    }
+
+    @Test
+    void whenSamplingRateIsZeroThenNothingIsLogged() throws IOException {
+        var interceptor = new HttpLoggingInterceptor(true, true, 1024, 0.0);
+        var originalResponse = new MockClientHttpResponse(BODY.getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+
+        ClientHttpResponse response = interceptor.intercept(new MockClientHttpRequest(HttpMethod.POST, "/chat"),
+                new byte[0], (request, body) -> originalResponse);
+
+        assertThat(response).isSameAs(originalResponse);
+    }
+
+    @Test
+    void whenSamplingRateIsOutOfRangeThenThrow() {
+        assertThatThrownBy(() -> new HttpLoggingInterceptor(true, true, 1024, 1.5))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("samplingRate must be between 0 and 1");
+    }
+
+    @Test
+    void formatBodyWithinMaxSize() {
+        assertThat(HttpLoggingInterceptor.formatBody(BODY.getBytes(StandardCharsets.UTF_8), 1024)).isEqualTo(BODY);
+    }
+
+}
@@ -0,0 +1,84 @@
+package io.thomasvitale.langchain4j.spring.core.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.json.JSONException;
+import org.junit.jupiter.api.Test;
+import org.skyscreamer.jsonassert.JSONAssert;
+import org.skyscreamer.jsonassert.JSONCompareMode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link JsonStreamingBody}.
+ */
+class JsonStreamingBodyTests {
+
+    @Test
+    void whenDefaultWriterThenSerializeWithObjectMapper() throws IOException, JSONException {
+        var body = JsonStreamingBody.of(new TestRequest("test", List.of(0.1f, 0.2f)));
+
+        JSONAssert.assertEquals("""
+                {
+                  "name": "test",
+                  "values": [0.1, 0.2]
+                }
+                """, write(body), JSONCompareMode.STRICT);
+    }
+
+    @Test
+    void whenCustomWriterThenSerializeWithWriter() throws IOException, JSONException {
+        var body = JsonStreamingBody.of(new float[] { 1.5f, 2.5f }, (value, generator, objectMapper) -> {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("embedding");
+            for (float element : value) {
+                generator.writeNumber(element);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        });
+
+        JSONAssert.assertEquals("""
+                {
+                  "embedding": [1.5, 2.5]
+                }
+                """, write(body), JSONCompareMode.STRICT);
+    }
+
+    @Test
+    void whenWrittenThenOutputStreamLeftOpen() throws IOException {
+        var outputStream = new ByteArrayOutputStream() {
+            boolean closed = false;
+
+            @Override
+            public void close() {
+                closed = true;
+            }
+        };
+
+        JsonStreamingBody.of("test").writeTo(outputStream);
+
+        assertThat(outputStream.closed).isFalse();
+        assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo("\"test\"");
+    }
+
+    @Test
+    void whenValueIsNullThenThrow() {
+        assertThatThrownBy(() -> JsonStreamingBody.of(null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("value cannot be null");
+    }
+
+    private static String write(JsonStreamingBody<?> body) throws IOException {
+        var outputStream = new ByteArrayOutputStream();
+        body.writeTo(outputStream);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    record TestRequest(String name, List<Float> values) {}
+
+}
@@ -0,0 +1,86 @@
+package io.thomasvitale.langchain4j.spring.core.http;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hc.core5.util.Timeout;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link PooledClientHttpRequestFactories}.
+ */
+class PooledClientHttpRequestFactoriesTests {
+
+    @Test
+    void whenHttp2DisabledThenApacheHttpClient() {
+        var requestFactory = PooledClientHttpRequestFactories.create(HttpClientConfig.create());
+        assertThat(requestFactory).isInstanceOf(HttpComponentsClientHttpRequestFactory.class);
+    }
+
+    @Test
+    void whenHttp2EnabledThenJdkHttpClient() {
+        var requestFactory = PooledClientHttpRequestFactories.create(HttpClientConfig.create().withHttp2Enabled(true));
+        assertThat(requestFactory).isInstanceOf(JdkClientHttpRequestFactory.class);
+    }
+
+    @Test
+    void apacheHttpClientPoolHonoursConfig() {
+        var httpClientConfig = HttpClientConfig.create()
+                .withMaxConnectionsPerRoute(7)
+                .withConnectTimeout(Duration.ofSeconds(3))
+                .withReadTimeout(Duration.ofSeconds(42))
+                .withTcpKeepAlive(false);
+
+        try (var connectionManager = PooledClientHttpRequestFactories.HttpComponents.connectionManager(httpClientConfig)) {
+            assertThat(connectionManager.getMaxTotal()).isEqualTo(7);
+            assertThat(connectionManager.getDefaultMaxPerRoute()).isEqualTo(7);
+        }
+
+        var socketConfig = PooledClientHttpRequestFactories.HttpComponents.socketConfig(httpClientConfig);
+        assertThat(socketConfig.isSoKeepAlive()).isFalse();
+
+        var connectionConfig = PooledClientHttpRequestFactories.HttpComponents.connectionConfig(httpClientConfig);
+        assertThat(connectionConfig.getConnectTimeout()).isEqualTo(Timeout.of(3, TimeUnit.SECONDS));
+        assertThat(connectionConfig.getSocketTimeout()).isEqualTo(Timeout.of(42, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void jdkHttpClientHonoursConfig() {
+        var requestFactory = PooledClientHttpRequestFactories.create(HttpClientConfig.create()
+                .withHttp2Enabled(true)
+                .withConnectTimeout(Duration.ofSeconds(3)));
+
+        assertThat(requestFactory).isInstanceOfSatisfying(PooledClientHttpRequestFactories.DisposableJdkClientHttpRequestFactory.class,
+                jdkRequestFactory -> {
+                    assertThat(jdkRequestFactory.getHttpClient().connectTimeout()).contains(Duration.ofSeconds(3));
+                    assertThat(jdkRequestFactory.getHttpClient().version()).isEqualTo(HttpClient.Version.HTTP_2);
+                });
+    }
+
+    @Test
+    void closeReleasesApacheHttpClient() {
+        var requestFactory = (HttpComponentsClientHttpRequestFactory) PooledClientHttpRequestFactories.create(HttpClientConfig.create());
+
+        PooledClientHttpRequestFactories.close(requestFactory);
+
+        assertThatThrownBy(() -> requestFactory.createRequest(URI.create("http://localhost:1"), HttpMethod.GET).execute())
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void whenConfigIsNullThenThrow() {
+        assertThatThrownBy(() -> PooledClientHttpRequestFactories.create(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("httpClientConfig cannot be null");
+    }
+
+}
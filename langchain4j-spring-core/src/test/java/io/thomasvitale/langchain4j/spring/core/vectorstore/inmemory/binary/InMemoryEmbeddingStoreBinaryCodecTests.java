@@ -0,0 +1,199 @@
+package io.thomasvitale.langchain4j.spring.core.vectorstore.inmemory.binary;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link InMemoryEmbeddingStoreBinaryCodec} and {@link MappedEmbeddingStoreFile}.
+ */
+class InMemoryEmbeddingStoreBinaryCodecTests {
+
+    private final InMemoryEmbeddingStoreBinaryCodec codec = new InMemoryEmbeddingStoreBinaryCodec();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void writeAndReadInMemoryEmbeddingStore() {
+        var embeddingStore = new InMemoryEmbeddingStore<TextSegment>();
+        embeddingStore.add(Embedding.from(new float[] { 0.1f, 0.2f, 0.3f }), TextSegment.from("first"));
+        embeddingStore.add(Embedding.from(new float[] { -0.4f, 0.5f, 0.6f }),
+                TextSegment.from("s\u00e9cond \u2713", Metadata.from(Map.of("key1", "value1", "key2", "value2"))));
+        embeddingStore.add("third", Embedding.from(new float[] { 0.7f, 0.8f, -0.9f }));
+        Path path = tempDir.resolve("store.bin");
+
+        codec.write(embeddingStore, path);
+        var readEmbeddingStore = codec.read(path);
+
+        var expectedEntries = ReflectionTestUtils.getField(embeddingStore, "entries");
+        var actualEntries = ReflectionTestUtils.getField(readEmbeddingStore, "entries");
+        assertThat(actualEntries).isEqualTo(expectedEntries);
+    }
+
+    @Test
+    void writeAndReadManyEntries() {
+        var embeddingStore = new InMemoryEmbeddingStore<TextSegment>();
+        for (int i = 0; i < 1_000; i++) {
+            embeddingStore.add(Embedding.from(new float[] { i, i + 1, i + 2, i + 3 }), TextSegment.from("text " + i));
+        }
+        Path path = tempDir.resolve("store.bin");
+
+        codec.write(embeddingStore, path);
+        var readEmbeddingStore = codec.read(path);
+
+        var expectedEntries = ReflectionTestUtils.getField(embeddingStore, "entries");
+        var actualEntries = ReflectionTestUtils.getField(readEmbeddingStore, "entries");
+        assertThat(actualEntries).isEqualTo(expectedEntries);
+    }
+
+    @Test
+    void writeAndReadEmptyInMemoryEmbeddingStore() {
+        Path path = tempDir.resolve("store.bin");
+
+        codec.write(new InMemoryEmbeddingStore<>(), path);
+
+        try (var file = codec.map(path)) {
+            assertThat(file.size()).isZero();
+            assertThat(file.dimension()).isZero();
+        }
+        assertThat((Iterable<?>) ReflectionTestUtils.getField(codec.read(path), "entries")).isEmpty();
+    }
+
+    @Test
+    void mapInMemoryEmbeddingStore() {
+        var embeddingStore = new InMemoryEmbeddingStore<TextSegment>();
+        embeddingStore.add("first", Embedding.from(new float[] { 0.1f, 0.2f }), TextSegment.from("one"));
+        embeddingStore.add("second", Embedding.from(new float[] { 0.3f, 0.4f }));
+        Path path = tempDir.resolve("store.bin");
+        codec.write(embeddingStore, path);
+
+        try (var file = codec.map(path)) {
+            assertThat(file.size()).isEqualTo(2);
+            assertThat(file.dimension()).isEqualTo(2);
+            assertThat(file.id(0)).isEqualTo("first");
+            assertThat(file.id(1)).isEqualTo("second");
+            assertThat(file.vector(1).get(0)).isEqualTo(0.3f);
+            assertThat(file.vector(1).get(1)).isEqualTo(0.4f);
+            assertThat(file.vector(1).isReadOnly()).isTrue();
+            assertThat(file.embedding(0).vector()).containsExactly(0.1f, 0.2f);
+            assertThat(file.textSegment(0)).isEqualTo(TextSegment.from("one"));
+            assertThat(file.textSegment(1)).isNull();
+            assertThatThrownBy(() -> file.id(2)).isInstanceOf(IndexOutOfBoundsException.class);
+        }
+    }
+
+    @Test
+    void writeReplacesExistingFileWithoutAffectingMappedViews() throws IOException {
+        var embeddingStore = new InMemoryEmbeddingStore<TextSegment>();
+        embeddingStore.add("first", Embedding.from(new float[] { 0.1f, 0.2f }), TextSegment.from("one"));
+        Path path = tempDir.resolve("store.bin");
+        codec.write(embeddingStore, path);
+
+        try (var file = codec.map(path)) {
+            var newEmbeddingStore = new InMemoryEmbeddingStore<TextSegment>();
+            newEmbeddingStore.add("second", Embedding.from(new float[] { 0.3f, 0.4f, 0.5f }), TextSegment.from("two"));
+            codec.write(newEmbeddingStore, path);
+
+            assertThat(file.id(0)).isEqualTo("first");
+            assertThat(file.textSegment(0)).isEqualTo(TextSegment.from("one"));
+        }
+
+        try (var file = codec.map(path)) {
+            assertThat(file.id(0)).isEqualTo("second");
+            assertThat(file.dimension()).isEqualTo(3);
+        }
+        try (var files = Files.list(tempDir)) {
+            assertThat(files).containsExactly(path);
+        }
+    }
+
+    @Test
+    void whenEmbeddingsHaveDifferentDimensionsThenThrow() {
+        var embeddingStore = new InMemoryEmbeddingStore<TextSegment>();
+        embeddingStore.add(Embedding.from(new float[] { 0.1f, 0.2f }));
+        embeddingStore.add(Embedding.from(new float[] { 0.1f, 0.2f, 0.3f }));
+
+        assertThatThrownBy(() -> codec.write(embeddingStore, tempDir.resolve("store.bin")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("All embeddings must have the same dimension");
+    }
+
+    @Test
+    void whenFileIsNotAnEmbeddingStoreThenThrow() throws IOException {
+        Path path = Files.writeString(tempDir.resolve("store.json"), "{\"entries\":[]}".repeat(10));
+
+        assertThatThrownBy(() -> codec.read(path))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("is not an embedding store file");
+    }
+
+    @Test
+    void whenFileIsTruncatedThenThrow() throws IOException {
+        var embeddingStore = new InMemoryEmbeddingStore<TextSegment>();
+        embeddingStore.add(Embedding.from(new float[] { 0.1f, 0.2f }), TextSegment.from("first"));
+        Path path = tempDir.resolve("store.bin");
+        codec.write(embeddingStore, path);
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 4));
+
+        assertThatThrownBy(() -> codec.read(path))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("is corrupted");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { -2, 1_000, Integer.MAX_VALUE })
+    void whenEntryLengthIsOutOfBoundsThenThrow(int idLength) throws IOException {
+        var embeddingStore = new InMemoryEmbeddingStore<TextSegment>();
+        embeddingStore.add(Embedding.from(new float[] { 0.1f, 0.2f }), TextSegment.from("first"));
+        Path path = tempDir.resolve("store.bin");
+        codec.write(embeddingStore, path);
+
+        // The entries table is at the end of the file, with the id length 8 bytes into each entry.
+        byte[] bytes = Files.readAllBytes(path);
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN)
+            .putInt(bytes.length - MappedEmbeddingStoreFile.ENTRY_SIZE + 8, idLength);
+        Files.write(path, bytes);
+
+        assertThatThrownBy(() -> codec.read(path))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("is corrupted");
+    }
+
+    @Test
+    void whenEntryOffsetIsOutOfBoundsThenThrow() throws IOException {
+        var embeddingStore = new InMemoryEmbeddingStore<TextSegment>();
+        embeddingStore.add(Embedding.from(new float[] { 0.1f, 0.2f }), TextSegment.from("first"));
+        Path path = tempDir.resolve("store.bin");
+        codec.write(embeddingStore, path);
+
+        byte[] bytes = Files.readAllBytes(path);
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN)
+            .putLong(bytes.length - MappedEmbeddingStoreFile.ENTRY_SIZE, 0);
+        Files.write(path, bytes);
+
+        assertThatThrownBy(() -> codec.read(path))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("is corrupted");
+    }
+
+}
@@ -0,0 +1,122 @@
+package io.thomasvitale.langchain4j.spring.core.vectorstore.inmemory.jackson;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.thomasvitale.langchain4j.spring.core.json.JsonDeserializationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link JacksonInMemoryEmbeddingStoreJsonCodec}.
+ */
+class JacksonInMemoryEmbeddingStoreJsonCodecTests {
+
+    private final JacksonInMemoryEmbeddingStoreJsonCodec codec = new JacksonInMemoryEmbeddingStoreJsonCodec();
+
+    @Test
+    void writeProducesSameJsonAsToJson() {
+        var embeddingStore = embeddingStore();
+        var outputStream = new ByteArrayOutputStream();
+
+        codec.write(embeddingStore, outputStream);
+
+        assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo(codec.toJson(embeddingStore));
+    }
+
+    @Test
+    void readJsonProducedByToJson() {
+        var embeddingStore = embeddingStore();
+        var inputStream = new ByteArrayInputStream(codec.toJson(embeddingStore).getBytes(StandardCharsets.UTF_8));
+
+        var readEmbeddingStore = codec.read(inputStream);
+
+        var expectedEntries = ReflectionTestUtils.getField(embeddingStore, "entries");
+        var actualEntries = ReflectionTestUtils.getField(readEmbeddingStore, "entries");
+        assertThat(actualEntries).isEqualTo(expectedEntries);
+    }
+
+    @Test
+    void writeAndReadManyEntries() {
+        var embeddingStore = new InMemoryEmbeddingStore<TextSegment>();
+        for (int i = 0; i < 1_000; i++) {
+            embeddingStore.add(Embedding.from(new float[] { i, i + 1, i + 2 }), TextSegment.from("text " + i));
+        }
+        var outputStream = new ByteArrayOutputStream();
+
+        codec.write(embeddingStore, outputStream);
+        var readEmbeddingStore = codec.read(new ByteArrayInputStream(outputStream.toByteArray()));
+
+        var expectedEntries = ReflectionTestUtils.getField(embeddingStore, "entries");
+        var actualEntries = ReflectionTestUtils.getField(readEmbeddingStore, "entries");
+        assertThat(actualEntries).isEqualTo(expectedEntries);
+    }
+
+    @Test
+    void writeAndReadLeaveStreamsOpen() {
+        var closed = new AtomicBoolean();
+        OutputStream outputStream = new FilterOutputStream(new ByteArrayOutputStream()) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+        InputStream inputStream = new FilterInputStream(new ByteArrayInputStream("{\"entries\":[]}".getBytes(StandardCharsets.UTF_8))) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+
+        codec.write(embeddingStore(), outputStream);
+        codec.read(inputStream);
+
+        assertThat(closed).isFalse();
+    }
+
+    @Test
+    void readIgnoresUnknownFields() {
+        var json = "{\"other\":{\"entries\":[]},\"entries\":[{\"id\":\"1\",\"embedding\":{\"vector\":[0.1,0.2]}}]}";
+
+        var readEmbeddingStore = codec.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        var expectedEmbeddingStore = new InMemoryEmbeddingStore<TextSegment>();
+        expectedEmbeddingStore.add("1", Embedding.from(new float[] { 0.1f, 0.2f }));
+        var expectedEntries = ReflectionTestUtils.getField(expectedEmbeddingStore, "entries");
+        var actualEntries = ReflectionTestUtils.getField(readEmbeddingStore, "entries");
+        assertThat(actualEntries).isEqualTo(expectedEntries);
+    }
+
+    @Test
+    void whenJsonIsTruncatedThenThrow() {
+        var json = codec.toJson(embeddingStore());
+        var inputStream = new ByteArrayInputStream(json.substring(0, json.length() / 2).getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> codec.read(inputStream)).isInstanceOf(JsonDeserializationException.class);
+    }
+
+    private static InMemoryEmbeddingStore<TextSegment> embeddingStore() {
+        var embeddingStore = new InMemoryEmbeddingStore<TextSegment>();
+        embeddingStore.add(Embedding.from(new float[] { 0.1f, 0.2f, 0.3f }), TextSegment.from("first"));
+        embeddingStore.add(Embedding.from(new float[] { 0.4f, 0.5f, 0.6f }),
+                TextSegment.from("second", Metadata.from(Map.of("key1", "value1"))));
+        return embeddingStore;
+    }
+
+}
@@ -97,6 +97,19 @@ public class OllamaChatModel implements ChatLanguageModel {
         return modelResponse;
     }
 
+    public String getModel() {
+        return model;
+    }
+
+    @Nullable
+    public String getFormat() {
+        return format;
+    }
+
+    public Options getOptions() {
+        return options;
+    }
+
     public void setObservationRegistry(ObservationRegistry observationRegistry) {
         Assert.notNull(observationRegistry, "observationRegistry cannot be null");
         this.observationRegistry = observationRegistry;
@@ -1,7 +1,8 @@
 package io.thomasvitale.langchain4j.spring.ollama;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
@@ -11,31 +12,58 @@ import dev.langchain4j.model.output.Response;
 import io.micrometer.observation.Observation;
 import io.micrometer.observation.ObservationRegistry;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.util.Assert;
 
+import io.thomasvitale.langchain4j.spring.core.concurrent.ConcurrentBatches;
 import io.thomasvitale.langchain4j.spring.core.embedding.observation.DefaultEmbeddingObservationConvention;
 import io.thomasvitale.langchain4j.spring.core.embedding.observation.EmbeddingObservationContext;
 import io.thomasvitale.langchain4j.spring.core.embedding.observation.EmbeddingObservationConvention;
+import io.thomasvitale.langchain4j.spring.ollama.api.EmbedRequest;
+import io.thomasvitale.langchain4j.spring.ollama.api.EmbedResponse;
 import io.thomasvitale.langchain4j.spring.ollama.api.EmbeddingRequest;
 import io.thomasvitale.langchain4j.spring.ollama.api.EmbeddingResponse;
 import io.thomasvitale.langchain4j.spring.ollama.api.Options;
 import io.thomasvitale.langchain4j.spring.ollama.client.OllamaClient;
+import io.thomasvitale.langchain4j.spring.ollama.client.OllamaEndpointNotFoundException;
 
 /**
  * Model for embedding documents using Ollama.
  * <p>
+ * Text segments are embedded in batches through the /api/embed endpoint. On Ollama servers
+ * older than 0.3.0, which don't support it, each text segment is embedded with a separate
+ * request to the /api/embeddings endpoint.
+ * <p>
+ * By default, batches are embedded one at a time. When the concurrency level is
+ * greater than one, up to that many requests are sent in parallel, which is useful when
+ * Ollama is configured to serve parallel requests ({@code OLLAMA_NUM_PARALLEL}).
+ * <p>
  * Based on the original LangChain4j implementation.
  */
 public class OllamaEmbeddingModel implements EmbeddingModel {
 
     public static final String DEFAULT_MODEL = "llama3";
 
+    public static final int DEFAULT_BATCH_SIZE = 32;
+
+    private static final Logger logger = LoggerFactory.getLogger(OllamaEmbeddingModel.class);
+
     private final OllamaClient ollamaClient;
 
     private final String model;
 
     private final Options options;
 
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    private volatile boolean batchEndpointSupported = true;
+
+    private int concurrency = 1;
+
+    private Executor executor = new SimpleAsyncTaskExecutor("ollama-embedding-");
+
     private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
 
     private EmbeddingObservationConvention observationConvention = new DefaultEmbeddingObservationConvention();
@@ -52,29 +80,20 @@ public class OllamaEmbeddingModel implements EmbeddingModel {
 
     @Override
     public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
-        List<Embedding> embeddings = new ArrayList<>();
+        Assert.notNull(textSegments, "textSegments cannot be null");
+
+        Embedding[] embeddings = new Embedding[textSegments.size()];
+        int batchCount = ConcurrentBatches.batchCount(textSegments.size(), batchSize);
 
         EmbeddingObservationContext observationContext = new EmbeddingObservationContext("ollama");
         observationContext.setModel(model);
 
         Response<List<Embedding>> modelResponse = Observation.createNotStarted(observationConvention, () -> observationContext, this.observationRegistry).observe(() -> {
-            textSegments.forEach(textSegment -> {
-                EmbeddingRequest embeddingRequest = EmbeddingRequest.builder()
-                        .model(model)
-                        .prompt(textSegment.text())
-                        .options(options)
-                        .build();
-
-                EmbeddingResponse embeddingResponse = ollamaClient.embeddings(embeddingRequest);
-
-                if (embeddingResponse == null) {
-                    throw new IllegalStateException("Embedding response is empty");
-                }
+            // Each batch stores its embeddings at the text segment positions, so the original order is preserved.
+            ConcurrentBatches.forEach(batchCount, concurrency, executor, observationRegistry,
+                    batchIndex -> embedBatch(textSegments, batchIndex, embeddings));
 
-                embeddings.add(Embedding.from(embeddingResponse.embedding()));
-            });
-
-            return Response.from(embeddings);
+            return Response.from(Arrays.asList(embeddings));
         });
 
         if (modelResponse == null) {
@@ -84,6 +103,94 @@ public class OllamaEmbeddingModel implements EmbeddingModel {
         return modelResponse;
     }
 
+    /**
+     * Embeds the text segments in the given batch and stores the results at their positions.
+     * The batch endpoint is used until the server turns out not to support it,
+     * then each text segment in the batch is embedded with a separate request.
+     */
+    private void embedBatch(List<TextSegment> textSegments, int batchIndex, Embedding[] embeddings) {
+        int fromIndex = batchIndex * batchSize;
+        List<TextSegment> batch = textSegments.subList(fromIndex, Math.min(fromIndex + batchSize, textSegments.size()));
+
+        if (batchEndpointSupported) {
+            try {
+                List<Embedding> batchEmbeddings = embed(batch);
+                for (int i = 0; i < batchEmbeddings.size(); i++) {
+                    embeddings[fromIndex + i] = batchEmbeddings.get(i);
+                }
+                return;
+            }
+            catch (OllamaEndpointNotFoundException ex) {
+                logger.info("The Ollama server doesn't support batch embeddings, falling back to one request per text segment");
+                batchEndpointSupported = false;
+            }
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            embeddings[fromIndex + i] = embedSingle(batch.get(i));
+        }
+    }
+
+    private List<Embedding> embed(List<TextSegment> textSegments) {
+        EmbedRequest embedRequest = EmbedRequest.builder()
+                .model(model)
+                .input(textSegments.stream().map(TextSegment::text).toList())
+                .options(options)
+                .build();
+
+        EmbedResponse embedResponse = ollamaClient.embed(embedRequest);
+
+        if (embedResponse == null || embedResponse.embeddings() == null) {
+            throw new IllegalStateException("Embedding response is empty");
+        }
+
+        if (embedResponse.embeddings().size() != textSegments.size()) {
+            throw new IllegalStateException("Expected %s embeddings, but received %s"
+                    .formatted(textSegments.size(), embedResponse.embeddings().size()));
+        }
+
+        return embedResponse.embeddings().stream().map(Embedding::from).toList();
+    }
+
+    private Embedding embedSingle(TextSegment textSegment) {
+        EmbeddingRequest embeddingRequest = EmbeddingRequest.builder()
+                .model(model)
+                .prompt(textSegment.text())
+                .options(options)
+                .build();
+
+        EmbeddingResponse embeddingResponse = ollamaClient.embeddings(embeddingRequest);
+
+        if (embeddingResponse == null) {
+            throw new IllegalStateException("Embedding response is empty");
+        }
+
+        return Embedding.from(embeddingResponse.embedding());
+    }
+
+    public String getModel() {
+        return model;
+    }
+
+    public Options getOptions() {
+        return options;
+    }
+
+    public void setBatchSize(int batchSize) {
+        Assert.isTrue(batchSize > 0, "batchSize must be greater than 0");
+        this.batchSize = batchSize;
+    }
+
+    public void setConcurrency(int concurrency) {
+        Assert.isTrue(concurrency > 0, "concurrency must be greater than 0");
+        this.concurrency = concurrency;
+    }
+
+    public void setExecutor(Executor executor) {
+        Assert.notNull(executor, "executor cannot be null");
+        this.executor = executor;
+    }
+
     public void setObservationRegistry(ObservationRegistry observationRegistry) {
         Assert.notNull(observationRegistry, "observationRegistry cannot be null");
         this.observationRegistry = observationRegistry;
@@ -102,6 +209,9 @@ public class OllamaEmbeddingModel implements EmbeddingModel {
         private OllamaClient ollamaClient;
         private String model = DEFAULT_MODEL;
         private Options options = Options.builder().build();
+        private Integer batchSize;
+        private Integer concurrency;
+        private Executor executor;
         private ObservationRegistry observationRegistry;
         private EmbeddingObservationConvention observationConvention;
 
@@ -122,6 +232,21 @@ public class OllamaEmbeddingModel implements EmbeddingModel {
             return this;
         }
 
+        public Builder batchSize(Integer batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public Builder concurrency(Integer concurrency) {
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
         public Builder observationRegistry(ObservationRegistry observationRegistry) {
             this.observationRegistry = observationRegistry;
             return this;
@@ -134,6 +259,15 @@ public class OllamaEmbeddingModel implements EmbeddingModel {
 
         public OllamaEmbeddingModel build() {
             var embeddingModel = new OllamaEmbeddingModel(ollamaClient, model, options);
+            if (batchSize != null) {
+                embeddingModel.setBatchSize(batchSize);
+            }
+            if (concurrency != null) {
+                embeddingModel.setConcurrency(concurrency);
+            }
+            if (executor != null) {
+                embeddingModel.setExecutor(executor);
+            }
             if (observationConvention != null) {
                 embeddingModel.setObservationConvention(observationConvention);
             }
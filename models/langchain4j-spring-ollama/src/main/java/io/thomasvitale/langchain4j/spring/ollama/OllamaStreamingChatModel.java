@@ -0,0 +1,206 @@
+package io.thomasvitale.langchain4j.spring.ollama;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.ChatMessageType;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import io.thomasvitale.langchain4j.spring.core.chat.observation.ChatObservationContext;
+import io.thomasvitale.langchain4j.spring.core.chat.observation.ChatObservationConvention;
+import io.thomasvitale.langchain4j.spring.core.chat.observation.DefaultChatObservationConvention;
+import io.thomasvitale.langchain4j.spring.ollama.api.ChatRequest;
+import io.thomasvitale.langchain4j.spring.ollama.api.Options;
+import io.thomasvitale.langchain4j.spring.ollama.client.OllamaClient;
+
+/**
+ * Model for streaming chat-based language generation using Ollama.
+ * <p>
+ * Tokens are passed to the {@link StreamingResponseHandler} as soon as they are received
+ * from the server. The blocking HTTP exchange runs on the configured {@link Executor},
+ * so that the calling thread is released right away.
+ * <p>
+ * Based on the original LangChain4j implementation.
+ */
+public class OllamaStreamingChatModel implements StreamingChatLanguageModel {
+
+    private final OllamaClient ollamaClient;
+
+    private final String model;
+
+    @Nullable
+    private final String format;
+
+    private final Options options;
+
+    private Executor executor = new SimpleAsyncTaskExecutor("ollama-streaming-");
+
+    private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+    private ChatObservationConvention observationConvention = new DefaultChatObservationConvention();
+
+    private OllamaStreamingChatModel(OllamaClient ollamaClient, String model, @Nullable String format, Options options) {
+        Assert.notNull(ollamaClient, "ollamaClient cannot be null");
+        Assert.hasText(model, "model cannot be null or empty");
+        Assert.notNull(options, "options cannot be null");
+
+        this.ollamaClient = ollamaClient;
+        this.model = model;
+        this.format = format;
+        this.options = options;
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages, StreamingResponseHandler<AiMessage> handler) {
+        Assert.notNull(handler, "handler cannot be null");
+
+        ChatRequest chatRequest = ChatRequest.builder()
+            .messages(messages.stream()
+                .filter(OllamaStreamingChatModel::isMessageWithSupportedType)
+                .map(OllamaAdapters::toOllamaMessage)
+                .collect(Collectors.toList()))
+            .model(model)
+            .format(format)
+            .options(options.toMap())
+            .stream(true)
+            .build();
+
+        ChatObservationContext observationContext = new ChatObservationContext("ollama");
+        observationContext.setModel(model);
+        observationContext.setMessages(messages);
+        observationContext.setTemperature(options.getTemperature());
+
+        Observation observation = Observation.createNotStarted(observationConvention, () -> observationContext, this.observationRegistry).start();
+
+        executor.execute(() -> {
+            try (Observation.Scope scope = observation.openScope()) {
+                var contentBuilder = new StringBuilder();
+                var tokenUsage = new AtomicReference<TokenUsage>();
+
+                ollamaClient.streamingChat(chatRequest, chunk -> {
+                    if (chunk.message() != null && StringUtils.hasLength(chunk.message().content())) {
+                        contentBuilder.append(chunk.message().content());
+                        handler.onNext(chunk.message().content());
+                    }
+                    if (Boolean.TRUE.equals(chunk.done())) {
+                        tokenUsage.set(OllamaAdapters.toTokenUsage(chunk));
+                    }
+                });
+
+                if (tokenUsage.get() != null) {
+                    observationContext.setTokenUsage(tokenUsage.get());
+                }
+
+                handler.onComplete(Response.from(AiMessage.from(contentBuilder.toString()), tokenUsage.get()));
+            }
+            catch (Exception ex) {
+                observation.error(ex);
+                handler.onError(ex);
+            }
+            finally {
+                observation.stop();
+            }
+        });
+    }
+
+    public void setExecutor(Executor executor) {
+        Assert.notNull(executor, "executor cannot be null");
+        this.executor = executor;
+    }
+
+    public void setObservationRegistry(ObservationRegistry observationRegistry) {
+        Assert.notNull(observationRegistry, "observationRegistry cannot be null");
+        this.observationRegistry = observationRegistry;
+    }
+
+    public void setObservationConvention(ChatObservationConvention observationConvention) {
+        Assert.notNull(observationConvention, "observationConvention cannot be null");
+        this.observationConvention = observationConvention;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private OllamaClient ollamaClient;
+        private String model = OllamaChatModel.DEFAULT_MODEL;
+        private String format;
+        private Options options = Options.builder().build();
+        private Executor executor;
+        private ObservationRegistry observationRegistry;
+        private ChatObservationConvention observationConvention;
+
+        private Builder() {}
+
+        public Builder client(OllamaClient ollamaClient) {
+            this.ollamaClient = ollamaClient;
+            return this;
+        }
+
+        public Builder model(String model) {
+            this.model = model;
+            return this;
+        }
+
+        public Builder format(String format) {
+            this.format = format;
+            return this;
+        }
+
+        public Builder options(Options options) {
+            this.options = options;
+            return this;
+        }
+
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public Builder observationRegistry(ObservationRegistry observationRegistry) {
+            this.observationRegistry = observationRegistry;
+            return this;
+        }
+
+        public Builder observationConvention(ChatObservationConvention observationConvention) {
+            this.observationConvention = observationConvention;
+            return this;
+        }
+
+        public OllamaStreamingChatModel build() {
+            var chatModel = new OllamaStreamingChatModel(ollamaClient, model, format, options);
+            if (executor != null) {
+                chatModel.setExecutor(executor);
+            }
+            if (observationConvention != null) {
+                chatModel.setObservationConvention(observationConvention);
+            }
+            if (observationRegistry != null) {
+                chatModel.setObservationRegistry(observationRegistry);
+            }
+            return chatModel;
+        }
+    }
+
+    private static boolean isMessageWithSupportedType(ChatMessage chatMessage) {
+        return chatMessage.type() == ChatMessageType.USER || chatMessage.type() == ChatMessageType.AI
+                || chatMessage.type() == ChatMessageType.SYSTEM;
+    }
+
+}
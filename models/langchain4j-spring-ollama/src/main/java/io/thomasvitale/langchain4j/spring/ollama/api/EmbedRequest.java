@@ -0,0 +1,91 @@
+package io.thomasvitale.langchain4j.spring.ollama.api;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generate embeddings for one or more inputs with a provided model (POST /api/embed).
+ *
+ * @param model name of model to generate embeddings from
+ * @param input list of texts to generate embeddings for
+ * @param truncate truncates the end of each input to fit within context length.
+ *                 Returns error if false and context length is exceeded (default: true)
+ * @param keepAlive controls how long the model will stay loaded into memory
+ *                  following the request (default: 5m)
+ * @param options (optional) additional model parameters listed in the documentation for
+ *                the Modelfile such as temperature
+ *
+ * @see <a href="https://github.com/ollama/ollama/blob/main/api/types.go">Ollama Types</a>
+ * @see <a href="https://github.com/ollama/ollama/blob/main/docs/api.md">Ollama API</a>
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record EmbedRequest(
+        String model,
+        List<String> input,
+        Boolean truncate,
+        Duration keepAlive,
+        Map<String, Object> options
+) {
+
+    public EmbedRequest {
+        Assert.hasText(model, "model must not be null or empty");
+        Assert.notEmpty(input, "input must not be null or empty");
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private String model;
+        private List<String> input;
+        private Boolean truncate;
+        private Duration keepAlive;
+        private Map<String, Object> options;
+
+        private Builder() {}
+
+        public Builder model(String model) {
+            this.model = model;
+            return this;
+        }
+
+        public Builder input(List<String> input) {
+            this.input = input;
+            return this;
+        }
+
+        public Builder truncate(Boolean truncate) {
+            this.truncate = truncate;
+            return this;
+        }
+
+        public Builder keepAlive(Duration keepAlive) {
+            this.keepAlive = keepAlive;
+            return this;
+        }
+
+        public Builder options(Map<String, Object> options) {
+            this.options = options;
+            return this;
+        }
+
+        public Builder options(Options options) {
+            this.options = options.toMap();
+            return this;
+        }
+
+        public EmbedRequest build() {
+            return new EmbedRequest(model, input, truncate, keepAlive, options);
+        }
+    }
+
+}
@@ -0,0 +1,21 @@
+package io.thomasvitale.langchain4j.spring.ollama.api;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Represents the response from the Ollama API for embedding requests to /api/embed.
+ *
+ * @param model the model name
+ * @param embeddings the embedding representations generated by the model,
+ *                   in the same order as the inputs
+ *
+ * @see <a href="https://github.com/ollama/ollama/blob/main/api/types.go">Ollama Types</a>
+ * @see <a href="https://github.com/ollama/ollama/blob/main/docs/api.md">Ollama API</a>
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record EmbedResponse(
+        String model,
+        List<float[]> embeddings
+) {}
@@ -1,7 +1,5 @@
 package io.thomasvitale.langchain4j.spring.ollama.api;
 
-import java.util.List;
-
 import com.fasterxml.jackson.annotation.JsonInclude;
 
 /**
@@ -14,5 +12,5 @@ import com.fasterxml.jackson.annotation.JsonInclude;
  */
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public record EmbeddingResponse(
-        List<Float> embedding
+        float[] embedding
 ) {}
@@ -25,7 +25,8 @@ public record Message(
 
     public Message {
         Assert.notNull(role, "role must not be null");
-        Assert.hasText(content, "content must not be null or empty");
+        // Streamed chunks can carry whitespace-only or empty content.
+        Assert.notNull(content, "content must not be null");
     }
 
     public enum Role {
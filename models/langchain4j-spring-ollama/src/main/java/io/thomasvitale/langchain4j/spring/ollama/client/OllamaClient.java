@@ -1,23 +1,36 @@
 package io.thomasvitale.langchain4j.spring.ollama.client;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.function.Consumer;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.boot.web.client.ClientHttpRequestFactories;
-import org.springframework.boot.web.client.ClientHttpRequestFactorySettings;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.http.client.BufferingClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.web.client.RestClient;
 
 import io.thomasvitale.langchain4j.spring.core.http.HttpLoggingInterceptor;
 import io.thomasvitale.langchain4j.spring.core.http.HttpResponseErrorHandler;
+import io.thomasvitale.langchain4j.spring.core.http.JsonStreamingBody;
+import io.thomasvitale.langchain4j.spring.core.http.PooledClientHttpRequestFactories;
+import io.thomasvitale.langchain4j.spring.core.json.jackson.LangChain4jJacksonProvider;
 import io.thomasvitale.langchain4j.spring.ollama.api.ChatRequest;
 import io.thomasvitale.langchain4j.spring.ollama.api.ChatResponse;
+import io.thomasvitale.langchain4j.spring.ollama.api.EmbedRequest;
+import io.thomasvitale.langchain4j.spring.ollama.api.EmbedResponse;
 import io.thomasvitale.langchain4j.spring.ollama.api.EmbeddingRequest;
 import io.thomasvitale.langchain4j.spring.ollama.api.EmbeddingResponse;
 import io.thomasvitale.langchain4j.spring.ollama.api.GenerateRequest;
@@ -27,31 +40,38 @@ import io.thomasvitale.langchain4j.spring.ollama.api.GenerateResponse;
  * Client for the Ollama API.
  * <p>
  * Based on the Spring AI implementation.
+ * <p>
+ * The client holds a pool of HTTP connections, released when it's closed.
  *
  * @see <a href="https://github.com/ollama/ollama/blob/main/docs/api.md">Ollama API</a>
  */
-public class OllamaClient {
+public class OllamaClient implements AutoCloseable {
 
     private static final Logger logger = LoggerFactory.getLogger(OllamaClient.class);
 
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final ObjectMapper objectMapper = LangChain4jJacksonProvider.getObjectMapper();
+
     private final HttpResponseErrorHandler responseErrorHandler;
 
     private final RestClient restClient;
 
+    private final ClientHttpRequestFactory clientHttpRequestFactory;
+
     public OllamaClient(OllamaClientConfig clientConfig, RestClient.Builder restClientBuilder) {
         Assert.notNull(clientConfig, "clientOptions must not be null");
         Assert.notNull(restClientBuilder, "restClientBuilder must not be null");
 
         this.responseErrorHandler = new HttpResponseErrorHandler();
-        this.restClient = buildRestClient(clientConfig, restClientBuilder);
-    }
 
-    private RestClient buildRestClient(OllamaClientConfig clientConfig, RestClient.Builder restClientBuilder) {
-        var clientHttpRequestFactory = new BufferingClientHttpRequestFactory(ClientHttpRequestFactories.get(
-                ClientHttpRequestFactorySettings.DEFAULTS
-                        .withConnectTimeout(clientConfig.connectTimeout())
-                        .withReadTimeout(clientConfig.readTimeout())));
+        this.clientHttpRequestFactory = PooledClientHttpRequestFactories.create(clientConfig.toHttpClientConfig());
+
+        this.restClient = buildRestClient(clientConfig, restClientBuilder.clone(), clientHttpRequestFactory);
+    }
 
+    private RestClient buildRestClient(OllamaClientConfig clientConfig, RestClient.Builder restClientBuilder,
+            ClientHttpRequestFactory clientHttpRequestFactory) {
         Consumer<HttpHeaders> defaultHeaders = headers -> {
             headers.setContentType(MediaType.APPLICATION_JSON);
             headers.setAccept(List.of(MediaType.APPLICATION_JSON));
@@ -60,11 +80,12 @@ public class OllamaClient {
         return restClientBuilder.requestFactory(clientHttpRequestFactory)
             .baseUrl(clientConfig.baseUrl().toString())
             .defaultHeaders(defaultHeaders)
-                .defaultStatusHandler(this.responseErrorHandler)
+            .defaultStatusHandler(this.responseErrorHandler)
             .requestInterceptors(interceptors -> {
                 if (clientConfig.logRequests() || clientConfig.logResponses()) {
                     interceptors
-                        .add(new HttpLoggingInterceptor(clientConfig.logRequests(), clientConfig.logResponses()));
+                        .add(new HttpLoggingInterceptor(clientConfig.logRequests(), clientConfig.logResponses(),
+                                clientConfig.logMaxBodySize(), clientConfig.logSamplingRate()));
                 }
             })
             .build();
@@ -84,6 +105,29 @@ public class OllamaClient {
             .body(GenerateResponse.class);
     }
 
+    /**
+     * Generate a completion for the given prompt, streaming it back as newline-delimited
+     * JSON objects. Each object is parsed and passed to the consumer as soon as its line is
+     * received. The last object has 'done' set to true and carries the generation stats.
+     * The method returns when the stream is complete.
+     */
+    public void streamingGenerate(GenerateRequest completionRequest, Consumer<GenerateResponse> chunkConsumer) {
+        Assert.notNull(completionRequest, "completionRequest must not be null");
+        Assert.notNull(chunkConsumer, "chunkConsumer must not be null");
+        Assert.isTrue(Boolean.TRUE.equals(completionRequest.stream()), "Stream mode must be enabled");
+
+        logger.debug("Sending streaming completion request: {}", completionRequest);
+
+        this.restClient.post()
+            .uri("/api/generate")
+            .accept(APPLICATION_NDJSON)
+            .body(completionRequest)
+            .exchange((request, response) -> {
+                readNdJson(request, response, GenerateResponse.class, chunkConsumer);
+                return null;
+            });
+    }
+
     @Nullable
     public ChatResponse chat(ChatRequest chatRequest) {
         Assert.notNull(chatRequest, "chatRequest must not be null");
@@ -98,6 +142,55 @@ public class OllamaClient {
             .body(ChatResponse.class);
     }
 
+    /**
+     * Generate the next message in a chat, streaming it back as newline-delimited JSON
+     * objects. Each object is parsed and passed to the consumer as soon as its line is
+     * received. The last object has 'done' set to true and carries the generation stats.
+     * The method returns when the stream is complete.
+     */
+    public void streamingChat(ChatRequest chatRequest, Consumer<ChatResponse> chunkConsumer) {
+        Assert.notNull(chatRequest, "chatRequest must not be null");
+        Assert.notNull(chunkConsumer, "chunkConsumer must not be null");
+        Assert.isTrue(Boolean.TRUE.equals(chatRequest.stream()), "Stream mode must be enabled");
+
+        logger.debug("Sending streaming chat request: {}", chatRequest);
+
+        this.restClient.post()
+            .uri("/api/chat")
+            .accept(APPLICATION_NDJSON)
+            .body(chatRequest)
+            .exchange((request, response) -> {
+                readNdJson(request, response, ChatResponse.class, chunkConsumer);
+                return null;
+            });
+    }
+
+    /**
+     * Reads the response body one line at a time, without buffering the whole body,
+     * and parses each non-empty line as a JSON object of the given type. A line carrying
+     * an 'error' field ends the stream with an {@link OllamaStreamingException}.
+     */
+    private <T> void readNdJson(HttpRequest request, ClientHttpResponse response, Class<T> type,
+            Consumer<T> chunkConsumer) throws IOException {
+        if (responseErrorHandler.hasError(response)) {
+            responseErrorHandler.handleError(request.getURI(), request.getMethod(), response);
+        }
+        try (var reader = new BufferedReader(new InputStreamReader(response.getBody(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    JsonNode chunk = objectMapper.readTree(line);
+                    JsonNode error = chunk.get("error");
+                    if (error != null && !error.isNull()) {
+                        throw new OllamaStreamingException("Ollama server failed to stream the response: "
+                                + (error.isTextual() ? error.asText() : error.toString()));
+                    }
+                    chunkConsumer.accept(objectMapper.treeToValue(chunk, type));
+                }
+            }
+        }
+    }
+
     @Nullable
     public EmbeddingResponse embeddings(EmbeddingRequest embeddingRequest) {
         Assert.notNull(embeddingRequest, "embeddingRequest must not be null");
@@ -106,9 +199,42 @@ public class OllamaClient {
 
         return this.restClient.post()
             .uri("/api/embeddings")
-            .body(embeddingRequest)
+            .body(JsonStreamingBody.of(embeddingRequest))
             .retrieve()
             .body(EmbeddingResponse.class);
     }
 
+    /**
+     * Generate embeddings for all the given inputs in a single request. Available since
+     * Ollama 0.3.0, it throws an {@link OllamaEndpointNotFoundException} when the server
+     * doesn't support it.
+     */
+    @Nullable
+    public EmbedResponse embed(EmbedRequest embedRequest) {
+        Assert.notNull(embedRequest, "embedRequest must not be null");
+
+        logger.debug("Sending embed request: {}", embedRequest);
+
+        return this.restClient.post()
+            .uri("/api/embed")
+            .body(JsonStreamingBody.of(embedRequest))
+            .retrieve()
+            .onStatus(status -> status.isSameCodeAs(HttpStatus.NOT_FOUND), (request, response) -> {
+                // A missing model is reported as a JSON error, a missing endpoint as plain text.
+                if (!MediaType.APPLICATION_JSON.isCompatibleWith(response.getHeaders().getContentType())) {
+                    throw new OllamaEndpointNotFoundException("Ollama server doesn't support the /api/embed endpoint");
+                }
+                responseErrorHandler.handleError(request.getURI(), request.getMethod(), response);
+            })
+            .body(EmbedResponse.class);
+    }
+
+    /**
+     * Releases the pooled HTTP connections.
+     */
+    @Override
+    public void close() {
+        PooledClientHttpRequestFactories.close(clientHttpRequestFactory);
+    }
+
 }
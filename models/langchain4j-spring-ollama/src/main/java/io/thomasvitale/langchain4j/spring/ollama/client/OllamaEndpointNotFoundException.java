@@ -0,0 +1,13 @@
+package io.thomasvitale.langchain4j.spring.ollama.client;
+
+/**
+ * Thrown when the Ollama server doesn't expose the requested API endpoint,
+ * typically because it runs an older version.
+ */
+public class OllamaEndpointNotFoundException extends RuntimeException {
+
+    public OllamaEndpointNotFoundException(String message) {
+        super(message);
+    }
+
+}
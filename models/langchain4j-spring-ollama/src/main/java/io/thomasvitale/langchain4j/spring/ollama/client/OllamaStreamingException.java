@@ -0,0 +1,13 @@
+package io.thomasvitale.langchain4j.spring.ollama.client;
+
+/**
+ * Thrown when the Ollama server reports an error in the middle of a streamed response,
+ * after it has already answered with a successful status code.
+ */
+public class OllamaStreamingException extends RuntimeException {
+
+    public OllamaStreamingException(String message) {
+        super(message);
+    }
+
+}
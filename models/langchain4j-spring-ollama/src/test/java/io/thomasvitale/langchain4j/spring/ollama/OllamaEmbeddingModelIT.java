@@ -77,4 +77,32 @@ class OllamaEmbeddingModelIT {
         assertThat(response.tokenUsage()).isNull();
     }
 
+    @Test
+    void generateEmbeddingsConcurrently() {
+        var sequentialEmbeddingModel = OllamaEmbeddingModel.builder()
+            .client(ollamaClient)
+            .model(MODEL_NAME)
+            .options(Options.builder().build())
+            .build();
+
+        var concurrentEmbeddingModel = OllamaEmbeddingModel.builder()
+            .client(ollamaClient)
+            .model(MODEL_NAME)
+            .options(Options.builder().build())
+            .batchSize(1)
+            .concurrency(3)
+            .build();
+
+        var textSegments = List.of(TextSegment.from("Welcome to the jungle"), TextSegment.from("Welcome to Jumanji"),
+                TextSegment.from("Hello, world"), TextSegment.from("Ahoy, captain"), TextSegment.from("Good morning"));
+
+        var expected = sequentialEmbeddingModel.embedAll(textSegments);
+        var response = concurrentEmbeddingModel.embedAll(textSegments);
+
+        assertThat(response.content()).hasSize(textSegments.size());
+        for (int i = 0; i < textSegments.size(); i++) {
+            assertThat(response.content().get(i).vector()).isEqualTo(expected.content().get(i).vector());
+        }
+    }
+
 }
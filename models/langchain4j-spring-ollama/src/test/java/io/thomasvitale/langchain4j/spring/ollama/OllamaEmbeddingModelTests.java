@@ -0,0 +1,162 @@
+package io.thomasvitale.langchain4j.spring.ollama;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+import io.thomasvitale.langchain4j.spring.ollama.client.OllamaClient;
+import io.thomasvitale.langchain4j.spring.ollama.client.OllamaClientConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link OllamaEmbeddingModel}, run against a local HTTP stub of the Ollama API.
+ * The stub returns the embedding [text length, first character] for each input text.
+ */
+class OllamaEmbeddingModelTests {
+
+    private static final List<TextSegment> TEXT_SEGMENTS = List.of(TextSegment.from("a"), TextSegment.from("bb"),
+            TextSegment.from("ccc"), TextSegment.from("dddd"), TextSegment.from("eeeee"));
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final AtomicInteger embedRequests = new AtomicInteger();
+
+    private final AtomicInteger embeddingsRequests = new AtomicInteger();
+
+    private HttpServer server;
+
+    @AfterEach
+    void stopServer() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void embedAllInBatches() throws IOException {
+        var embeddingModel = embeddingModel(startServer(true), 2, 1);
+
+        var response = embeddingModel.embedAll(TEXT_SEGMENTS);
+
+        assertEmbeddingsInOrder(response.content());
+        assertThat(embedRequests.get()).isEqualTo(3);
+        assertThat(embeddingsRequests.get()).isZero();
+    }
+
+    @Test
+    void embedAllInBatchesConcurrently() throws IOException {
+        var embeddingModel = embeddingModel(startServer(true), 2, 3);
+
+        var response = embeddingModel.embedAll(TEXT_SEGMENTS);
+
+        assertEmbeddingsInOrder(response.content());
+        assertThat(embedRequests.get()).isEqualTo(3);
+    }
+
+    @Test
+    void embedAllFallsBackToSingleRequestsOnOlderServers() throws IOException {
+        var embeddingModel = embeddingModel(startServer(false), 2, 1);
+
+        var response = embeddingModel.embedAll(TEXT_SEGMENTS);
+
+        assertEmbeddingsInOrder(response.content());
+        assertThat(embedRequests.get()).isEqualTo(1);
+        assertThat(embeddingsRequests.get()).isEqualTo(TEXT_SEGMENTS.size());
+
+        embeddingModel.embedAll(TEXT_SEGMENTS);
+
+        assertThat(embedRequests.get()).isEqualTo(1);
+    }
+
+    @Test
+    void embedAllFailsWhenModelIsMissing() throws IOException {
+        var ollamaClient = startServer(true);
+        var embeddingModel = OllamaEmbeddingModel.builder().client(ollamaClient).model("missing").build();
+
+        assertThatThrownBy(() -> embeddingModel.embedAll(TEXT_SEGMENTS)).hasMessageContaining("not found");
+        assertThat(embeddingsRequests.get()).isZero();
+    }
+
+    private OllamaEmbeddingModel embeddingModel(OllamaClient ollamaClient, int batchSize, int concurrency) {
+        return OllamaEmbeddingModel.builder()
+            .client(ollamaClient)
+            .model("test")
+            .batchSize(batchSize)
+            .concurrency(concurrency)
+            .build();
+    }
+
+    private static void assertEmbeddingsInOrder(List<Embedding> embeddings) {
+        assertThat(embeddings).hasSize(TEXT_SEGMENTS.size());
+        for (int i = 0; i < TEXT_SEGMENTS.size(); i++) {
+            assertThat(embeddings.get(i).vector()).containsExactly(embeddingFor(TEXT_SEGMENTS.get(i).text()));
+        }
+    }
+
+    private static float[] embeddingFor(String text) {
+        return new float[] { text.length(), text.charAt(0) };
+    }
+
+    private OllamaClient startServer(boolean batchEndpointSupported) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+
+        server.createContext("/api/embed", exchange -> {
+            embedRequests.incrementAndGet();
+            if (!batchEndpointSupported) {
+                respond(exchange, 404, "text/plain", "404 page not found");
+                return;
+            }
+            JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+            if ("missing".equals(request.get("model").asText())) {
+                respond(exchange, 404, "application/json", "{\"error\":\"model \\\"missing\\\" not found\"}");
+                return;
+            }
+            var embeddings = new ArrayList<float[]>();
+            request.get("input").forEach(input -> embeddings.add(embeddingFor(input.asText())));
+            respond(exchange, 200, "application/json",
+                    objectMapper.writeValueAsString(Map.of("model", "test", "embeddings", embeddings)));
+        });
+
+        server.createContext("/api/embeddings", exchange -> {
+            embeddingsRequests.incrementAndGet();
+            JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+            respond(exchange, 200, "application/json",
+                    objectMapper.writeValueAsString(Map.of("embedding", embeddingFor(request.get("prompt").asText()))));
+        });
+
+        server.start();
+
+        return new OllamaClient(OllamaClientConfig.builder()
+            .baseUrl(URI.create("http://localhost:" + server.getAddress().getPort()))
+            .build(), RestClient.builder());
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (var responseBody = exchange.getResponseBody()) {
+            responseBody.write(bytes);
+        }
+    }
+
+}
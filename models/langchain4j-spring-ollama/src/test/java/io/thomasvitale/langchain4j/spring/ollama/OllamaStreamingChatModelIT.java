@@ -0,0 +1,129 @@
+package io.thomasvitale.langchain4j.spring.ollama;
+
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.output.Response;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.client.RestClient;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.ollama.OllamaContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import io.thomasvitale.langchain4j.spring.ollama.api.Options;
+import io.thomasvitale.langchain4j.spring.ollama.client.OllamaClient;
+import io.thomasvitale.langchain4j.spring.ollama.client.OllamaClientConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for {@link OllamaStreamingChatModel}.
+ * <p>
+ * Adapted from OllamaStreamingChatModelIT in the LangChain4j project.
+ */
+@Testcontainers
+class OllamaStreamingChatModelIT {
+
+    private static final Logger logger = LoggerFactory.getLogger(OllamaStreamingChatModelIT.class);
+
+    private static final String MODEL_NAME = "orca-mini";
+
+    @Container
+    static OllamaContainer ollama = new OllamaContainer(DockerImageName
+            .parse("ghcr.io/thomasvitale/ollama-%s".formatted(MODEL_NAME))
+            .asCompatibleSubstituteFor("ollama/ollama"));
+
+    private static OllamaClient ollamaClient;
+
+    private static String getBaseUrl() {
+        return "http://%s:%s".formatted(ollama.getHost(), ollama.getMappedPort(11434));
+    }
+
+    @BeforeAll
+    static void beforeAll() {
+        ollamaClient = new OllamaClient(OllamaClientConfig.builder().baseUrl(URI.create(getBaseUrl())).build(),
+                RestClient.builder());
+    }
+
+    @Test
+    void generateText() throws Exception {
+        var ollamaChatModel = OllamaStreamingChatModel.builder()
+            .client(ollamaClient)
+            .model(MODEL_NAME)
+            .options(Options.builder().build())
+            .build();
+
+        var tokens = new StringBuilder();
+        var futureResponse = new CompletableFuture<Response<AiMessage>>();
+
+        ollamaChatModel.generate(UserMessage.from("What is the capital of Italy?"),
+                new TestStreamingResponseHandler(tokens, futureResponse));
+
+        var response = futureResponse.get(60, TimeUnit.SECONDS);
+        logger.info("Response: \n" + response);
+
+        var aiMessage = response.content();
+        assertThat(aiMessage.text()).contains("Italy");
+        assertThat(aiMessage.text()).isEqualTo(tokens.toString());
+        assertThat(aiMessage.toolExecutionRequests()).isNull();
+
+        var tokenUsage = response.tokenUsage();
+        assertThat(tokenUsage.inputTokenCount()).isGreaterThan(0);
+        assertThat(tokenUsage.outputTokenCount()).isGreaterThan(0);
+        assertThat(tokenUsage.totalTokenCount())
+            .isEqualTo(tokenUsage.inputTokenCount() + tokenUsage.outputTokenCount());
+    }
+
+    @Test
+    void generateTextWithNumPredict() throws Exception {
+        var maximumOutputTokens = 1;
+        var ollamaChatModel = OllamaStreamingChatModel.builder()
+            .client(ollamaClient)
+            .model(MODEL_NAME)
+            .options(Options.builder().numPredict(maximumOutputTokens).build())
+            .build();
+
+        var futureResponse = new CompletableFuture<Response<AiMessage>>();
+
+        ollamaChatModel.generate(UserMessage.from("What is the capital of Italy?"),
+                new TestStreamingResponseHandler(new StringBuilder(), futureResponse));
+
+        var response = futureResponse.get(60, TimeUnit.SECONDS);
+        logger.info("Response: \n" + response);
+
+        assertThat(response.content().text()).doesNotContain("Italy");
+        assertThat(response.tokenUsage().outputTokenCount()).isEqualTo(maximumOutputTokens);
+    }
+
+    private record TestStreamingResponseHandler(
+            StringBuilder tokens,
+            CompletableFuture<Response<AiMessage>> futureResponse
+    ) implements StreamingResponseHandler<AiMessage> {
+
+        @Override
+        public void onNext(String token) {
+            tokens.append(token);
+        }
+
+        @Override
+        public void onComplete(Response<AiMessage> response) {
+            futureResponse.complete(response);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            futureResponse.completeExceptionally(error);
+        }
+
+    }
+
+}
@@ -0,0 +1,133 @@
+package io.thomasvitale.langchain4j.spring.ollama;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.sun.net.httpserver.HttpServer;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.output.Response;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+import io.thomasvitale.langchain4j.spring.ollama.client.OllamaClient;
+import io.thomasvitale.langchain4j.spring.ollama.client.OllamaClientConfig;
+import io.thomasvitale.langchain4j.spring.ollama.client.OllamaStreamingException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link OllamaStreamingChatModel}, run against a local HTTP stub
+ * of the Ollama API returning canned newline-delimited JSON.
+ */
+class OllamaStreamingChatModelTests {
+
+    private HttpServer server;
+
+    @AfterEach
+    void stopServer() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void streamChatTokens() throws Exception {
+        var chatModel = chatModel(startServer("""
+                {"model":"test","message":{"role":"assistant","content":"Hello"},"done":false}
+
+                {"model":"test","message":{"role":"assistant","content":" world"},"done":false}
+                {"model":"test","message":{"role":"assistant","content":""},"done":true,"prompt_eval_count":5,"eval_count":2}
+                """));
+
+        var handler = new RecordingHandler();
+        chatModel.generate(List.of(UserMessage.from("Hi")), handler);
+        Response<AiMessage> response = handler.response.get(5, TimeUnit.SECONDS);
+
+        assertThat(handler.tokens).containsExactly("Hello", " world");
+        assertThat(response.content().text()).isEqualTo("Hello world");
+        assertThat(response.tokenUsage().inputTokenCount()).isEqualTo(5);
+        assertThat(response.tokenUsage().outputTokenCount()).isEqualTo(2);
+    }
+
+    @Test
+    void whenErrorLineThenStreamFails() throws Exception {
+        var chatModel = chatModel(startServer("""
+                {"model":"test","message":{"role":"assistant","content":"Hello"},"done":false}
+                {"error":"an unexpected error occurred while generating the response"}
+                {"model":"test","message":{"role":"assistant","content":" ignored"},"done":false}
+                """));
+
+        var handler = new RecordingHandler();
+        chatModel.generate(List.of(UserMessage.from("Hi")), handler);
+
+        assertThat(handler.response).failsWithin(5, TimeUnit.SECONDS)
+            .withThrowableThat()
+            .havingCause()
+            .isInstanceOf(OllamaStreamingException.class)
+            .withMessageContaining("an unexpected error occurred while generating the response");
+        assertThat(handler.tokens).containsExactly("Hello");
+    }
+
+    private static OllamaStreamingChatModel chatModel(OllamaClient ollamaClient) {
+        return OllamaStreamingChatModel.builder()
+            .client(ollamaClient)
+            .model("test")
+            .executor(Runnable::run)
+            .build();
+    }
+
+    private OllamaClient startServer(String ndJson) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+
+        server.createContext("/api/chat", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            byte[] bytes = ndJson.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/x-ndjson");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (var responseBody = exchange.getResponseBody()) {
+                responseBody.write(bytes);
+            }
+        });
+
+        server.start();
+
+        return new OllamaClient(OllamaClientConfig.builder()
+            .baseUrl(URI.create("http://localhost:" + server.getAddress().getPort()))
+            .build(), RestClient.builder());
+    }
+
+    private static class RecordingHandler implements StreamingResponseHandler<AiMessage> {
+
+        private final List<String> tokens = new ArrayList<>();
+
+        private final CompletableFuture<Response<AiMessage>> response = new CompletableFuture<>();
+
+        @Override
+        public void onNext(String token) {
+            tokens.add(token);
+        }
+
+        @Override
+        public void onComplete(Response<AiMessage> response) {
+            this.response.complete(response);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            response.completeExceptionally(error);
+        }
+
+    }
+
+}
@@ -0,0 +1,98 @@
+package io.thomasvitale.langchain4j.spring.ollama.client;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.sun.net.httpserver.HttpServer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+import io.thomasvitale.langchain4j.spring.ollama.api.GenerateRequest;
+import io.thomasvitale.langchain4j.spring.ollama.api.GenerateResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link OllamaClient}, run against a local HTTP stub
+ * of the Ollama API returning canned newline-delimited JSON.
+ */
+class OllamaClientTests {
+
+    private HttpServer server;
+
+    @AfterEach
+    void stopServer() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void streamGenerateChunks() throws Exception {
+        var ollamaClient = startServer("""
+                {"model":"test","response":"Hello","done":false}
+
+                {"model":"test","response":" world","done":false}
+                {"model":"test","response":"","done":true,"context":[1,2,3],"prompt_eval_count":5,"eval_count":2}
+                """);
+
+        List<GenerateResponse> chunks = new ArrayList<>();
+        ollamaClient.streamingGenerate(generateRequest(), chunks::add);
+
+        assertThat(chunks).extracting(GenerateResponse::response).containsExactly("Hello", " world", "");
+        assertThat(chunks).last().satisfies(chunk -> {
+            assertThat(chunk.done()).isTrue();
+            assertThat(chunk.context()).containsExactly(1, 2, 3);
+            assertThat(chunk.promptEvalCount()).isEqualTo(5);
+            assertThat(chunk.evalCount()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void whenErrorLineThenStreamGenerateFails() throws Exception {
+        var ollamaClient = startServer("""
+                {"model":"test","response":"Hello","done":false}
+                {"error":"an unexpected error occurred while generating the response"}
+                {"model":"test","response":" ignored","done":false}
+                """);
+
+        List<GenerateResponse> chunks = new ArrayList<>();
+
+        assertThatThrownBy(() -> ollamaClient.streamingGenerate(generateRequest(), chunks::add))
+            .isInstanceOf(OllamaStreamingException.class)
+            .hasMessageContaining("an unexpected error occurred while generating the response");
+        assertThat(chunks).extracting(GenerateResponse::response).containsExactly("Hello");
+    }
+
+    private static GenerateRequest generateRequest() {
+        return GenerateRequest.builder().model("test").prompt("Hi").stream(true).build();
+    }
+
+    private OllamaClient startServer(String ndJson) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+
+        server.createContext("/api/generate", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            byte[] bytes = ndJson.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/x-ndjson");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (var responseBody = exchange.getResponseBody()) {
+                responseBody.write(bytes);
+            }
+        });
+
+        server.start();
+
+        return new OllamaClient(OllamaClientConfig.builder()
+            .baseUrl(URI.create("http://localhost:" + server.getAddress().getPort()))
+            .build(), RestClient.builder());
+    }
+
+}
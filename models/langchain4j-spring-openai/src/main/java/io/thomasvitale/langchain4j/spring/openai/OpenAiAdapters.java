@@ -258,10 +258,7 @@ public final class OpenAiAdapters {
      * Converts from OpenAI EmbeddingData to LangChain4J Embedding.
      */
     public static Embedding toEmbedding(EmbeddingResponse.EmbeddingData embeddingData) {
-        var floatVectors = embeddingData.embedding().stream()
-                .map(Double::floatValue)
-                .toList();
-        return Embedding.from(floatVectors);
+        return Embedding.from(embeddingData.embedding());
     }
 
     /**
@@ -1,6 +1,8 @@
 package io.thomasvitale.langchain4j.spring.openai;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import dev.langchain4j.agent.tool.ToolSpecification;
 import dev.langchain4j.data.message.AiMessage;
@@ -29,6 +31,11 @@ import static java.util.Collections.singletonList;
 /**
  * Model for chat completions using OpenAI.
  * <p>
+ * The {@code generateAsync} methods return without waiting for the response, releasing
+ * the calling thread. The request is still sent with a blocking call, holding a thread of
+ * the client's async executor while the completion is generated. By default, that executor
+ * is sized to the maximum number of connections per route (20, unless configured otherwise).
+ * <p>
  * Based on the original LangChain4j implementation.
  */
 public class OpenAiChatModel implements ChatLanguageModel {
@@ -63,7 +70,74 @@ public class OpenAiChatModel implements ChatLanguageModel {
         return generate(messages, singletonList(toolSpecification), toolSpecification);
     }
 
+    /**
+     * Generates a response from the model based on a sequence of messages, without blocking.
+     */
+    public CompletableFuture<Response<AiMessage>> generateAsync(List<ChatMessage> messages) {
+        return generateAsync(messages, null, null);
+    }
+
+    /**
+     * Generates a response from the model based on a list of messages and a list of tool specifications,
+     * without blocking.
+     */
+    public CompletableFuture<Response<AiMessage>> generateAsync(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications) {
+        return generateAsync(messages, toolSpecifications, null);
+    }
+
+    /**
+     * Generates a response from the model based on a list of messages and a single tool specification,
+     * without blocking. The model is forced to execute the specified tool.
+     */
+    public CompletableFuture<Response<AiMessage>> generateAsync(List<ChatMessage> messages, ToolSpecification toolSpecification) {
+        return generateAsync(messages, singletonList(toolSpecification), toolSpecification);
+    }
+
     private Response<AiMessage> generate(List<ChatMessage> messages, @Nullable List<ToolSpecification> toolSpecifications, @Nullable ToolSpecification toolThatMustBeExecuted) {
+        ChatCompletionRequest request = toChatCompletionRequest(messages, toolSpecifications, toolThatMustBeExecuted);
+        ChatObservationContext observationContext = toObservationContext(messages);
+
+        Response<AiMessage> modelResponse = Observation.createNotStarted(observationConvention, () -> observationContext, this.observationRegistry).observe(() -> {
+            ChatCompletionResponse response = openAiClient.chatCompletion(request);
+            return response != null ? toModelResponse(response, observationContext) : null;
+        });
+
+        if (modelResponse == null) {
+            throw new IllegalStateException("Model response is empty");
+        }
+
+        return modelResponse;
+    }
+
+    private CompletableFuture<Response<AiMessage>> generateAsync(List<ChatMessage> messages, @Nullable List<ToolSpecification> toolSpecifications, @Nullable ToolSpecification toolThatMustBeExecuted) {
+        ChatCompletionRequest request = toChatCompletionRequest(messages, toolSpecifications, toolThatMustBeExecuted);
+        ChatObservationContext observationContext = toObservationContext(messages);
+
+        Observation observation = Observation.createNotStarted(observationConvention, () -> observationContext, this.observationRegistry).start();
+
+        try (Observation.Scope scope = observation.openScope()) {
+            return openAiClient.chatCompletionAsync(request)
+                    .thenApply(response -> {
+                        if (response == null) {
+                            throw new IllegalStateException("Model response is empty");
+                        }
+                        return toModelResponse(response, observationContext);
+                    })
+                    .whenComplete((response, ex) -> {
+                        if (ex != null) {
+                            observation.error(ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+                        }
+                        observation.stop();
+                    });
+        }
+        catch (RuntimeException ex) {
+            observation.error(ex);
+            observation.stop();
+            throw ex;
+        }
+    }
+
+    private ChatCompletionRequest toChatCompletionRequest(List<ChatMessage> messages, @Nullable List<ToolSpecification> toolSpecifications, @Nullable ToolSpecification toolThatMustBeExecuted) {
         ChatCompletionRequest.Builder chatCompletionRequestBuilder = ChatCompletionRequest.builder()
                 .messages(OpenAiAdapters.toOpenAiMessages(messages))
                 .model(options.getModel())
@@ -89,34 +163,29 @@ public class OpenAiChatModel implements ChatLanguageModel {
             chatCompletionRequestBuilder.toolChoice(OpenAiAdapters.toOpenAiToolChoice(toolThatMustBeExecuted));
         }
 
-        ChatCompletionRequest request = chatCompletionRequestBuilder.build();
+        return chatCompletionRequestBuilder.build();
+    }
 
+    private ChatObservationContext toObservationContext(List<ChatMessage> messages) {
         ChatObservationContext observationContext = new ChatObservationContext("openai");
         observationContext.setModel(options.getModel());
         observationContext.setMessages(messages);
         observationContext.setTemperature(options.getTemperature());
+        return observationContext;
+    }
 
-        Response<AiMessage> modelResponse = Observation.createNotStarted(observationConvention, () -> observationContext, this.observationRegistry).observe(() -> {
-            ChatCompletionResponse response = openAiClient.chatCompletion(request);
-
-            if (response == null) {
-                return null;
-            }
-
-            TokenUsage tokenUsage = OpenAiAdapters.toTokenUsage(response.usage());
-            FinishReason finishReason = OpenAiAdapters.toFinishReason(response.choices().get(0).finishReason());
+    private Response<AiMessage> toModelResponse(ChatCompletionResponse response, ChatObservationContext observationContext) {
+        TokenUsage tokenUsage = OpenAiAdapters.toTokenUsage(response.usage());
+        FinishReason finishReason = OpenAiAdapters.toFinishReason(response.choices().get(0).finishReason());
 
-            observationContext.setTokenUsage(tokenUsage);
-            observationContext.setFinishReason(finishReason);
+        observationContext.setTokenUsage(tokenUsage);
+        observationContext.setFinishReason(finishReason);
 
-            return Response.from(OpenAiAdapters.toAiMessage(response), tokenUsage, finishReason);
-        });
-
-        if (modelResponse == null) {
-            throw new IllegalStateException("Model response is empty");
-        }
+        return Response.from(OpenAiAdapters.toAiMessage(response), tokenUsage, finishReason);
+    }
 
-        return modelResponse;
+    public OpenAiChatOptions getOptions() {
+        return options;
     }
 
     public void setObservationRegistry(ObservationRegistry observationRegistry) {
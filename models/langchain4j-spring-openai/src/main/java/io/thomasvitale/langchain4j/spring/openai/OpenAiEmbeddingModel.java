@@ -1,7 +1,11 @@
 package io.thomasvitale.langchain4j.spring.openai;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import dev.langchain4j.data.embedding.Embedding;
@@ -13,6 +17,7 @@ import dev.langchain4j.model.output.TokenUsage;
 import io.micrometer.observation.Observation;
 import io.micrometer.observation.ObservationRegistry;
 
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 import io.thomasvitale.langchain4j.spring.core.embedding.observation.DefaultEmbeddingObservationConvention;
@@ -25,14 +30,40 @@ import io.thomasvitale.langchain4j.spring.openai.client.OpenAiClient;
 /**
  * Model for embedding documents using OpenAI.
  * <p>
+ * Text segments are sent to the API in batches, each bounded by a maximum number
+ * of inputs and a maximum number of estimated tokens. The batches are sent one after
+ * the other by {@link #embedAll(List)}, and up to the concurrency level at a time by
+ * {@link #embedAllAsync(List)}.
+ * <p>
  * Based on the original LangChain4j implementation.
  */
 public class OpenAiEmbeddingModel implements EmbeddingModel {
 
+    /**
+     * Maximum number of inputs accepted by the API in a single request.
+     */
+    public static final int MAX_BATCH_SIZE = 2048;
+
+    /**
+     * Default maximum number of estimated tokens sent in a single request.
+     */
+    public static final int DEFAULT_MAX_BATCH_TOKENS = 200_000;
+
+    /**
+     * Default maximum number of batches in flight at once in {@link #embedAllAsync(List)}.
+     */
+    public static final int DEFAULT_CONCURRENCY = 4;
+
     private final OpenAiClient openAiClient;
 
     private final OpenAiEmbeddingOptions options;
 
+    private int maxBatchSize = MAX_BATCH_SIZE;
+
+    private int maxBatchTokens = DEFAULT_MAX_BATCH_TOKENS;
+
+    private int concurrency = DEFAULT_CONCURRENCY;
+
     private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
 
     private EmbeddingObservationConvention observationConvention = new DefaultEmbeddingObservationConvention();
@@ -47,47 +78,191 @@ public class OpenAiEmbeddingModel implements EmbeddingModel {
 
     @Override
     public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
-        List<Embedding> embeddings = new ArrayList<>();
+        Assert.notNull(textSegments, "textSegments cannot be null");
+
+        Embedding[] embeddings = new Embedding[textSegments.size()];
         AtomicInteger promptTokens = new AtomicInteger();
 
         EmbeddingObservationContext observationContext = new EmbeddingObservationContext("openai");
         observationContext.setModel(options.getModel());
 
         Response<List<Embedding>> modelResponse = Observation.createNotStarted(observationConvention, () -> observationContext, this.observationRegistry).observe(() -> {
-            textSegments.forEach(textSegment -> {
-                EmbeddingRequest embeddingRequest = EmbeddingRequest.builder()
-                        .input(List.of(textSegment.text()))
-                        .model(options.getModel())
-                        .encodingFormat(options.getEncodingFormat())
-                        .dimensions(options.getDimensions())
-                        .user(options.getUser())
-                        .build();
+            for (Batch batch : toBatches(textSegments)) {
+                EmbeddingResponse embeddingResponse = openAiClient.embeddings(toEmbeddingRequest(batch));
+                collectEmbeddings(batch, embeddingResponse, embeddings, promptTokens);
+            }
+            return toModelResponse(embeddings, promptTokens, observationContext);
+        });
+
+        if (modelResponse == null) {
+            throw new IllegalStateException("Model response is empty");
+        }
+
+        return modelResponse;
+    }
+
+    /**
+     * Embeds all the text segments without blocking. Unlike {@link #embedAll(List)},
+     * up to the concurrency level batches are in flight at once. Each time one completes,
+     * the next one is sent, until all are done or one fails.
+     */
+    public CompletableFuture<Response<List<Embedding>>> embedAllAsync(List<TextSegment> textSegments) {
+        Assert.notNull(textSegments, "textSegments cannot be null");
 
-                EmbeddingResponse embeddingResponse = openAiClient.embeddings(embeddingRequest);
+        Embedding[] embeddings = new Embedding[textSegments.size()];
+        AtomicInteger promptTokens = new AtomicInteger();
 
-                if (embeddingResponse == null) {
-                    throw new IllegalStateException("Embedding response is empty");
-                }
+        EmbeddingObservationContext observationContext = new EmbeddingObservationContext("openai");
+        observationContext.setModel(options.getModel());
 
-                promptTokens.addAndGet(embeddingResponse.usage().promptTokens());
+        Observation observation = Observation.createNotStarted(observationConvention, () -> observationContext, this.observationRegistry).start();
 
-                embeddings.addAll(embeddingResponse.data().stream()
-                        .map(OpenAiAdapters::toEmbedding)
-                        .toList());
-            });
+        try (Observation.Scope scope = observation.openScope()) {
+            List<Batch> batches = toBatches(textSegments);
+            AtomicInteger nextBatch = new AtomicInteger();
+            AtomicBoolean failed = new AtomicBoolean();
 
-            TokenUsage tokenUsage = new TokenUsage(promptTokens.get());
+            CompletableFuture<?>[] lanes = new CompletableFuture<?>[Math.min(concurrency, batches.size())];
+            for (int i = 0; i < lanes.length; i++) {
+                lanes[i] = embedRemainingBatches(batches, nextBatch, failed, embeddings, promptTokens, observation);
+            }
 
-            observationContext.setTokenUsage(tokenUsage);
+            return CompletableFuture.allOf(lanes)
+                    .thenApply(ignored -> toModelResponse(embeddings, promptTokens, observationContext))
+                    .whenComplete((response, ex) -> {
+                        if (ex != null) {
+                            observation.error(ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+                        }
+                        observation.stop();
+                    });
+        }
+        catch (RuntimeException ex) {
+            observation.error(ex);
+            observation.stop();
+            throw ex;
+        }
+    }
 
-            return Response.from(embeddings, tokenUsage);
-        });
+    /**
+     * Sends the next batch not taken yet and, once it completes, the following one, so that
+     * each lane has at most one batch in flight. Follow-up batches are sent in the scope of the
+     * observation, since they're sent from the thread completing the previous one.
+     */
+    private CompletableFuture<Void> embedRemainingBatches(List<Batch> batches, AtomicInteger nextBatch, AtomicBoolean failed,
+            Embedding[] embeddings, AtomicInteger promptTokens, Observation observation) {
+        int batchIndex = nextBatch.getAndIncrement();
+        if (failed.get() || batchIndex >= batches.size()) {
+            return CompletableFuture.completedFuture(null);
+        }
 
-        if (modelResponse == null) {
-            throw new IllegalStateException("Model response is empty");
+        Batch batch = batches.get(batchIndex);
+        return openAiClient.embeddingsAsync(toEmbeddingRequest(batch))
+                .whenComplete((embeddingResponse, ex) -> {
+                    if (ex != null) {
+                        failed.set(true);
+                    }
+                })
+                .thenCompose(embeddingResponse -> {
+                    collectEmbeddings(batch, embeddingResponse, embeddings, promptTokens);
+                    return observation.scoped(() ->
+                            embedRemainingBatches(batches, nextBatch, failed, embeddings, promptTokens, observation));
+                });
+    }
+
+    private EmbeddingRequest toEmbeddingRequest(Batch batch) {
+        return EmbeddingRequest.builder()
+                .input(batch.inputs())
+                .model(options.getModel())
+                .encodingFormat(options.getEncodingFormat())
+                .dimensions(options.getDimensions())
+                .user(options.getUser())
+                .build();
+    }
+
+    private static void collectEmbeddings(Batch batch, @Nullable EmbeddingResponse embeddingResponse, Embedding[] embeddings, AtomicInteger promptTokens) {
+        if (embeddingResponse == null) {
+            throw new IllegalStateException("Embedding response is empty");
         }
 
-        return modelResponse;
+        promptTokens.addAndGet(embeddingResponse.usage().promptTokens());
+
+        // The API doesn't guarantee that the embeddings are returned in the same order as the inputs.
+        embeddingResponse.data().forEach(embeddingData ->
+                embeddings[batch.offset() + embeddingData.index()] = OpenAiAdapters.toEmbedding(embeddingData));
+    }
+
+    private static Response<List<Embedding>> toModelResponse(Embedding[] embeddings, AtomicInteger promptTokens, EmbeddingObservationContext observationContext) {
+        for (int i = 0; i < embeddings.length; i++) {
+            if (embeddings[i] == null) {
+                throw new IllegalStateException("Embedding response is missing the embedding for input " + i);
+            }
+        }
+
+        TokenUsage tokenUsage = new TokenUsage(promptTokens.get());
+
+        observationContext.setTokenUsage(tokenUsage);
+
+        return Response.from(Arrays.asList(embeddings), tokenUsage);
+    }
+
+    /**
+     * Packs consecutive text segments into batches bounded by {@link #maxBatchSize}
+     * items and {@link #maxBatchTokens} estimated tokens. A single segment exceeding
+     * the token bound gets a batch of its own, leaving it to the API to reject it.
+     */
+    private List<Batch> toBatches(List<TextSegment> textSegments) {
+        List<Batch> batches = new ArrayList<>();
+        List<String> inputs = new ArrayList<>();
+        int offset = 0;
+        int batchTokens = 0;
+
+        for (int i = 0; i < textSegments.size(); i++) {
+            String text = textSegments.get(i).text();
+            int tokens = estimateTokenCount(text);
+            if (!inputs.isEmpty() && (inputs.size() >= maxBatchSize || batchTokens + tokens > maxBatchTokens)) {
+                batches.add(new Batch(offset, inputs));
+                inputs = new ArrayList<>();
+                offset = i;
+                batchTokens = 0;
+            }
+            inputs.add(text);
+            batchTokens += tokens;
+        }
+
+        if (!inputs.isEmpty()) {
+            batches.add(new Batch(offset, inputs));
+        }
+
+        return batches;
+    }
+
+    /**
+     * Rough estimate of the number of tokens in the text, assuming about 4 characters per token
+     * as for English text with the OpenAI tokenizers. It's only used to size the batches.
+     */
+    private static int estimateTokenCount(String text) {
+        return (text.length() + 3) / 4;
+    }
+
+    private record Batch(int offset, List<String> inputs) {}
+
+    public OpenAiEmbeddingOptions getOptions() {
+        return options;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        Assert.isTrue(maxBatchSize > 0 && maxBatchSize <= MAX_BATCH_SIZE, "maxBatchSize must be between 1 and " + MAX_BATCH_SIZE);
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public void setMaxBatchTokens(int maxBatchTokens) {
+        Assert.isTrue(maxBatchTokens > 0, "maxBatchTokens must be greater than 0");
+        this.maxBatchTokens = maxBatchTokens;
+    }
+
+    public void setConcurrency(int concurrency) {
+        Assert.isTrue(concurrency > 0, "concurrency must be greater than 0");
+        this.concurrency = concurrency;
     }
 
     public void setObservationRegistry(ObservationRegistry observationRegistry) {
@@ -107,6 +282,9 @@ public class OpenAiEmbeddingModel implements EmbeddingModel {
     public static class Builder {
         private OpenAiClient openAiClient;
         private OpenAiEmbeddingOptions options = OpenAiEmbeddingOptions.builder().build();
+        private Integer maxBatchSize;
+        private Integer maxBatchTokens;
+        private Integer concurrency;
         private ObservationRegistry observationRegistry;
         private EmbeddingObservationConvention observationConvention;
 
@@ -123,6 +301,21 @@ public class OpenAiEmbeddingModel implements EmbeddingModel {
             return this;
         }
 
+        public Builder maxBatchSize(Integer maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        public Builder maxBatchTokens(Integer maxBatchTokens) {
+            this.maxBatchTokens = maxBatchTokens;
+            return this;
+        }
+
+        public Builder concurrency(Integer concurrency) {
+            this.concurrency = concurrency;
+            return this;
+        }
+
         public Builder observationRegistry(ObservationRegistry observationRegistry) {
             this.observationRegistry = observationRegistry;
             return this;
@@ -135,6 +328,15 @@ public class OpenAiEmbeddingModel implements EmbeddingModel {
 
         public OpenAiEmbeddingModel build() {
             var embeddingModel = new OpenAiEmbeddingModel(openAiClient, options);
+            if (maxBatchSize != null) {
+                embeddingModel.setMaxBatchSize(maxBatchSize);
+            }
+            if (maxBatchTokens != null) {
+                embeddingModel.setMaxBatchTokens(maxBatchTokens);
+            }
+            if (concurrency != null) {
+                embeddingModel.setConcurrency(concurrency);
+            }
             if (observationConvention != null) {
                 embeddingModel.setObservationConvention(observationConvention);
             }
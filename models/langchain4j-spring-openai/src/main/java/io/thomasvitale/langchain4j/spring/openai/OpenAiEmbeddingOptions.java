@@ -20,8 +20,9 @@ public class OpenAiEmbeddingOptions {
     private String model = EmbeddingModels.TEXT_EMBEDDING_ADA_002.toString();
     /**
      * The format to return the embeddings in. Can be either 'float' or 'base64'.
+     * Base64 is decoded transparently and makes responses about four times smaller.
      */
-    private String encodingFormat = "float";
+    private String encodingFormat = "base64";
     /**
      * The number of dimensions the resulting output embeddings should have. Only supported in text-embedding-3 and later models.
      */
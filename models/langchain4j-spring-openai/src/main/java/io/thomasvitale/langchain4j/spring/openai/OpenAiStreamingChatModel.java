@@ -0,0 +1,211 @@
+package io.thomasvitale.langchain4j.spring.openai;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+
+import io.thomasvitale.langchain4j.spring.core.chat.observation.ChatObservationContext;
+import io.thomasvitale.langchain4j.spring.core.chat.observation.ChatObservationConvention;
+import io.thomasvitale.langchain4j.spring.core.chat.observation.DefaultChatObservationConvention;
+import io.thomasvitale.langchain4j.spring.openai.api.chat.ChatCompletionRequest;
+import io.thomasvitale.langchain4j.spring.openai.client.OpenAiClient;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * Model for streaming chat completions using OpenAI.
+ * <p>
+ * Tokens are passed to the {@link StreamingResponseHandler} as soon as they are received
+ * from the server. The blocking HTTP exchange runs on the configured {@link Executor},
+ * so that the calling thread is released right away.
+ * <p>
+ * Based on the original LangChain4j implementation.
+ */
+public class OpenAiStreamingChatModel implements StreamingChatLanguageModel {
+
+    private final OpenAiClient openAiClient;
+
+    private final OpenAiChatOptions options;
+
+    private Executor executor = new SimpleAsyncTaskExecutor("openai-streaming-");
+
+    private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+    private ChatObservationConvention observationConvention = new DefaultChatObservationConvention();
+
+    private OpenAiStreamingChatModel(OpenAiClient openAiClient, OpenAiChatOptions options) {
+        Assert.notNull(openAiClient, "openAiClient cannot be null");
+        Assert.notNull(options, "options cannot be null");
+        this.openAiClient = openAiClient;
+        this.options = options;
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages, StreamingResponseHandler<AiMessage> handler) {
+        generate(messages, null, null, handler);
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages, List<ToolSpecification> toolSpecifications, StreamingResponseHandler<AiMessage> handler) {
+        generate(messages, toolSpecifications, null, handler);
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages, ToolSpecification toolSpecification, StreamingResponseHandler<AiMessage> handler) {
+        generate(messages, singletonList(toolSpecification), toolSpecification, handler);
+    }
+
+    private void generate(List<ChatMessage> messages, @Nullable List<ToolSpecification> toolSpecifications, @Nullable ToolSpecification toolThatMustBeExecuted, StreamingResponseHandler<AiMessage> handler) {
+        Assert.notNull(handler, "handler cannot be null");
+
+        ChatCompletionRequest.Builder chatCompletionRequestBuilder = ChatCompletionRequest.builder()
+                .messages(OpenAiAdapters.toOpenAiMessages(messages))
+                .model(options.getModel())
+                .frequencyPenalty(options.getFrequencyPenalty())
+                .logitBias(options.getLogitBias())
+                .logprobs(options.getLogprobs())
+                .topLogprobs(options.getTopLogprobs())
+                .maxTokens(options.getMaxTokens())
+                .n(options.getN())
+                .presencePenalty(options.getPresencePenalty())
+                .responseFormat(options.getResponseFormat())
+                .seed(options.getSeed())
+                .stop(options.getStop())
+                .stream(true)
+                .streamOptions(new ChatCompletionRequest.StreamOptions(true))
+                .temperature(options.getTemperature())
+                .topP(options.getTopP())
+                .user(options.getUser());
+
+        if (!CollectionUtils.isEmpty(toolSpecifications)) {
+            chatCompletionRequestBuilder.tools(OpenAiAdapters.toOpenAiTools(toolSpecifications));
+        }
+
+        if (toolThatMustBeExecuted != null) {
+            chatCompletionRequestBuilder.toolChoice(OpenAiAdapters.toOpenAiToolChoice(toolThatMustBeExecuted));
+        }
+
+        ChatCompletionRequest request = chatCompletionRequestBuilder.build();
+
+        ChatObservationContext observationContext = new ChatObservationContext("openai");
+        observationContext.setModel(options.getModel());
+        observationContext.setMessages(messages);
+        observationContext.setTemperature(options.getTemperature());
+
+        Observation observation = Observation.createNotStarted(observationConvention, () -> observationContext, this.observationRegistry).start();
+
+        executor.execute(() -> {
+            try (Observation.Scope scope = observation.openScope()) {
+                var responseBuilder = new OpenAiStreamingResponseBuilder();
+
+                openAiClient.streamingChatCompletion(request, chunk -> {
+                    String token = responseBuilder.append(chunk);
+                    if (token != null) {
+                        handler.onNext(token);
+                    }
+                });
+
+                Response<AiMessage> modelResponse = responseBuilder.build();
+
+                if (modelResponse.tokenUsage() != null) {
+                    observationContext.setTokenUsage(modelResponse.tokenUsage());
+                }
+                if (modelResponse.finishReason() != null) {
+                    observationContext.setFinishReason(modelResponse.finishReason());
+                }
+
+                handler.onComplete(modelResponse);
+            }
+            catch (Exception ex) {
+                observation.error(ex);
+                handler.onError(ex);
+            }
+            finally {
+                observation.stop();
+            }
+        });
+    }
+
+    public void setExecutor(Executor executor) {
+        Assert.notNull(executor, "executor cannot be null");
+        this.executor = executor;
+    }
+
+    public void setObservationRegistry(ObservationRegistry observationRegistry) {
+        Assert.notNull(observationRegistry, "observationRegistry cannot be null");
+        this.observationRegistry = observationRegistry;
+    }
+
+    public void setObservationConvention(ChatObservationConvention observationConvention) {
+        Assert.notNull(observationConvention, "observationConvention cannot be null");
+        this.observationConvention = observationConvention;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private OpenAiClient openAiClient;
+        private OpenAiChatOptions options = OpenAiChatOptions.builder().build();
+        private Executor executor;
+        private ObservationRegistry observationRegistry;
+        private ChatObservationConvention observationConvention;
+
+        private Builder() {}
+
+        public Builder client(OpenAiClient openAiClient) {
+            this.openAiClient = openAiClient;
+            return this;
+        }
+
+        public Builder options(OpenAiChatOptions options) {
+            this.options = options;
+            return this;
+        }
+
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public Builder observationRegistry(ObservationRegistry observationRegistry) {
+            this.observationRegistry = observationRegistry;
+            return this;
+        }
+
+        public Builder observationConvention(ChatObservationConvention observationConvention) {
+            this.observationConvention = observationConvention;
+            return this;
+        }
+
+        public OpenAiStreamingChatModel build() {
+            var chatModel = new OpenAiStreamingChatModel(openAiClient, options);
+            if (executor != null) {
+                chatModel.setExecutor(executor);
+            }
+            if (observationConvention != null) {
+                chatModel.setObservationConvention(observationConvention);
+            }
+            if (observationRegistry != null) {
+                chatModel.setObservationRegistry(observationRegistry);
+            }
+            return chatModel;
+        }
+    }
+
+}
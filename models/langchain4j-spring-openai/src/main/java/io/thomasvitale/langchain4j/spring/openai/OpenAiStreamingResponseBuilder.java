@@ -0,0 +1,120 @@
+package io.thomasvitale.langchain4j.spring.openai;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.model.output.FinishReason;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+import io.thomasvitale.langchain4j.spring.openai.api.chat.ChatCompletionChunkResponse;
+
+/**
+ * Accumulates the chunks of a streamed chat completion into a complete {@link Response}.
+ * Text deltas are concatenated, tool call deltas are reassembled by index, and the token usage
+ * is taken from the last chunk when the request asked for it.
+ * <p>
+ * Based on the original LangChain4j implementation.
+ */
+class OpenAiStreamingResponseBuilder {
+
+    private final StringBuilder contentBuilder = new StringBuilder();
+
+    private final Map<Integer, ToolCallBuilder> toolCallBuilders = new TreeMap<>();
+
+    @Nullable
+    private TokenUsage tokenUsage;
+
+    @Nullable
+    private FinishReason finishReason;
+
+    /**
+     * Adds the chunk to the response being built and returns the text token it carries, if any.
+     */
+    @Nullable
+    String append(ChatCompletionChunkResponse chunk) {
+        if (chunk.usage() != null) {
+            tokenUsage = OpenAiAdapters.toTokenUsage(chunk.usage());
+        }
+
+        if (CollectionUtils.isEmpty(chunk.choices())) {
+            return null;
+        }
+
+        var choice = chunk.choices().get(0);
+        if (choice.finishReason() != null) {
+            finishReason = OpenAiAdapters.toFinishReason(choice.finishReason());
+        }
+
+        var delta = choice.delta();
+        if (delta == null) {
+            return null;
+        }
+
+        if (!CollectionUtils.isEmpty(delta.toolCalls())) {
+            delta.toolCalls().forEach(this::appendToolCall);
+        }
+
+        if (StringUtils.hasLength(delta.content())) {
+            contentBuilder.append(delta.content());
+            return delta.content();
+        }
+
+        return null;
+    }
+
+    private void appendToolCall(ChatCompletionChunkResponse.ToolCallDelta toolCallDelta) {
+        int index = toolCallDelta.index() != null ? toolCallDelta.index() : 0;
+        var toolCallBuilder = toolCallBuilders.computeIfAbsent(index, i -> new ToolCallBuilder());
+        if (StringUtils.hasText(toolCallDelta.id())) {
+            toolCallBuilder.id = toolCallDelta.id();
+        }
+        if (toolCallDelta.function() != null) {
+            if (StringUtils.hasText(toolCallDelta.function().name())) {
+                toolCallBuilder.name = toolCallDelta.function().name();
+            }
+            if (toolCallDelta.function().arguments() != null) {
+                toolCallBuilder.arguments.append(toolCallDelta.function().arguments());
+            }
+        }
+    }
+
+    Response<AiMessage> build() {
+        if (!toolCallBuilders.isEmpty()) {
+            List<ToolExecutionRequest> toolExecutionRequests = toolCallBuilders.values().stream()
+                    .map(ToolCallBuilder::build)
+                    .toList();
+            return Response.from(AiMessage.from(toolExecutionRequests), tokenUsage, finishReason);
+        }
+
+        return Response.from(AiMessage.from(contentBuilder.toString()), tokenUsage, finishReason);
+    }
+
+    private static class ToolCallBuilder {
+
+        @Nullable
+        private String id;
+
+        @Nullable
+        private String name;
+
+        private final StringBuilder arguments = new StringBuilder();
+
+        ToolExecutionRequest build() {
+            return ToolExecutionRequest.builder()
+                    .id(id)
+                    .name(name)
+                    .arguments(arguments.toString())
+                    .build();
+        }
+
+    }
+
+}
@@ -6,11 +6,14 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
 
+import io.thomasvitale.langchain4j.spring.openai.api.Usage;
+
 /**
  * Represents a streamed chunk of a chat completion response returned by model, based on the provided input.
  *
  * @param id A unique identifier for the chat completion. Each chunk has the same ID.
  * @param choices A list of chat completion choices. Can be more than one if 'n' is greater than 1.
+ *                Can also be empty for the last chunk if 'stream_options.include_usage' is set.
  * @param created The Unix timestamp (in seconds) of when the chat completion was created.
  *                Each chunk has the same timestamp.
  * @param model The model to generate the completion.
@@ -19,6 +22,8 @@ import com.fasterxml.jackson.databind.annotation.JsonNaming;
  *                          to understand when backend changes have been made that might impact
  *                          determinism.
  * @param object The object type, which is always 'chat.completion.chunk'.
+ * @param usage Usage statistics for the entire request. Only present in the last chunk
+ *              if 'stream_options.include_usage' is set.
  */
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
@@ -28,7 +33,8 @@ public record ChatCompletionChunkResponse(
         Long created,
         String model,
         String systemFingerprint,
-        String object
+        String object,
+        Usage usage
 ) {
 
     /**
@@ -42,10 +48,42 @@ public record ChatCompletionChunkResponse(
     @JsonInclude(JsonInclude.Include.NON_NULL)
     @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
     public record ChunkChoice(
-            ChatCompletionMessage delta,
+            Delta delta,
             LogProbs logprobs,
             ChatCompletionFinishReason finishReason,
             Integer index
     ) {}
 
+    /**
+     * A chat completion delta generated by streamed model responses.
+     *
+     * @param content The contents of the chunk message.
+     * @param role The role of the author of this message. Only present in the first chunk.
+     * @param toolCalls The partial tool calls generated by the model.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record Delta(
+            String content,
+            ChatCompletionMessage.Role role,
+            List<ToolCallDelta> toolCalls
+    ) {}
+
+    /**
+     * Partial tool call generated by the model. The first delta for a given index carries
+     * the id, type and function name, while the following ones carry fragments of the arguments.
+     *
+     * @param index The index of the tool call in the list of tool calls.
+     * @param id The ID of the tool call.
+     * @param type The type of the tool. Currently, only 'function' is supported.
+     * @param function The partial function that the model called.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record ToolCallDelta(
+            Integer index,
+            String id,
+            String type,
+            ChatCompletionMessage.ChatCompletionFunction function
+    ) {}
+
 }
@@ -51,6 +51,7 @@ import org.springframework.util.Assert;
  * @param stream If set, partial message deltas will be sent, like in ChatGPT. Tokens will
  * be sent as data-only server-sent events as they become available, with the stream
  * terminated by a 'data': '[DONE]' message.
+ * @param streamOptions Options for streaming response. Only set this when 'stream' is true.
  * @param temperature What sampling temperature to use, between 0 and 2. Higher values
  * like 0.8 will make the output more random, while lower values like 0.2 will make it
  * more focused and deterministic. We generally recommend altering this or 'top_p' but not
@@ -88,6 +89,7 @@ public record ChatCompletionRequest(
         Integer seed,
         List<String> stop,
         Boolean stream,
+        StreamOptions streamOptions,
         Double temperature,
         Double topP,
         List<Tool> tools,
@@ -118,6 +120,7 @@ public record ChatCompletionRequest(
         private Integer seed;
         private List<String> stop;
         private Boolean stream = false;
+        private StreamOptions streamOptions;
         private Double temperature = 1.0;
         private Double topP;
         private List<Tool> tools;
@@ -191,6 +194,11 @@ public record ChatCompletionRequest(
             return this;
         }
 
+        public Builder streamOptions(StreamOptions streamOptions) {
+            this.streamOptions = streamOptions;
+            return this;
+        }
+
         public Builder temperature(Double temperature) {
             this.temperature = temperature;
             return this;
@@ -217,7 +225,7 @@ public record ChatCompletionRequest(
         }
 
         public ChatCompletionRequest build() {
-            return new ChatCompletionRequest(messages, model, frequencyPenalty, logitBias, logprobs, topLogprobs, maxTokens, n, presencePenalty, responseFormat, seed, stop, stream, temperature, topP, tools, toolChoice, user);
+            return new ChatCompletionRequest(messages, model, frequencyPenalty, logitBias, logprobs, topLogprobs, maxTokens, n, presencePenalty, responseFormat, seed, stop, stream, streamOptions, temperature, topP, tools, toolChoice, user);
         }
 
     }
@@ -255,6 +263,17 @@ public record ChatCompletionRequest(
 
     }
 
+    /**
+     * Options for streaming response.
+     *
+     * @param includeUsage If set, an additional chunk will be streamed before the 'data: [DONE]'
+     * message. The 'usage' field on this chunk shows the token usage statistics for the entire
+     * request, and the 'choices' field will always be an empty array.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record StreamOptions(Boolean includeUsage) {}
+
     /**
      * An object specifying the format that the model must output.
      *
@@ -3,6 +3,7 @@ package io.thomasvitale.langchain4j.spring.openai.api.embedding;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 import io.thomasvitale.langchain4j.spring.openai.api.Usage;
 
@@ -25,17 +26,20 @@ public record EmbeddingResponse(
      * An embedding vector representing the input data.
      *
      * @param index The index of the embedding in the list of embeddings.
-     * @param embedding The embedding vector, which is a list of floats.
-     *                  The length of vector depends on the model.
+     * @param embedding The embedding vector, which is an array of floats.
+     *                  The length of vector depends on the model. It's returned by the API
+     *                  either as a list of numbers or as a base64 string, depending on the
+     *                  requested encoding format.
      * @param object The object type, which is always "embedding".
      */
     @JsonInclude(JsonInclude.Include.NON_NULL)
     public record EmbeddingData(
             Integer index,
-            List<Double> embedding,
+            @JsonDeserialize(using = EmbeddingVectorDeserializer.class)
+            float[] embedding,
             String object
     ) {
-        public EmbeddingData(Integer index, List<Double> embedding) {
+        public EmbeddingData(Integer index, float[] embedding) {
             this(index, embedding, "embedding");
         }
     }
@@ -0,0 +1,41 @@
+package io.thomasvitale.langchain4j.spring.openai.api.embedding;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * Deserializes an embedding vector returned by the OpenAI Embedding API, either as an array
+ * of numbers ('float' encoding format) or as a base64 string ('base64' encoding format).
+ * <p>
+ * A base64 string carries the vector as little-endian 32-bit floats. It's decoded by the parser
+ * straight into bytes, which are then read into a {@code float[]} through a {@link ByteBuffer} view,
+ * without parsing any JSON number.
+ */
+public class EmbeddingVectorDeserializer extends StdDeserializer<float[]> {
+
+    public EmbeddingVectorDeserializer() {
+        super(float[].class);
+    }
+
+    @Override
+    public float[] deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_STRING) {
+            byte[] bytes = parser.getBinaryValue();
+            if (bytes.length % Float.BYTES != 0) {
+                return (float[]) context.handleWeirdStringValue(float[].class, parser.getText(),
+                        "base64 embedding length (%d bytes) is not a multiple of %d", bytes.length, Float.BYTES);
+            }
+            float[] vector = new float[bytes.length / Float.BYTES];
+            ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(vector);
+            return vector;
+        }
+        return context.readValue(parser, float[].class);
+    }
+
+}
@@ -1,21 +1,43 @@
 package io.thomasvitale.langchain4j.spring.openai.client;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.boot.web.client.ClientHttpRequestFactories;
-import org.springframework.boot.web.client.ClientHttpRequestFactorySettings;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
-import org.springframework.http.client.BufferingClientHttpRequestFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 import org.springframework.web.client.ResponseErrorHandler;
 import org.springframework.web.client.RestClient;
 
 import io.thomasvitale.langchain4j.spring.core.http.HttpLoggingInterceptor;
+import io.thomasvitale.langchain4j.spring.core.http.JsonStreamingBody;
+import io.thomasvitale.langchain4j.spring.core.http.PooledClientHttpRequestFactories;
+import io.thomasvitale.langchain4j.spring.core.json.jackson.LangChain4jJacksonProvider;
+import io.thomasvitale.langchain4j.spring.openai.api.chat.ChatCompletionChunkResponse;
 import io.thomasvitale.langchain4j.spring.openai.api.chat.ChatCompletionRequest;
 import io.thomasvitale.langchain4j.spring.openai.api.chat.ChatCompletionResponse;
 import io.thomasvitale.langchain4j.spring.openai.api.embedding.EmbeddingRequest;
@@ -30,31 +52,82 @@ import io.thomasvitale.langchain4j.spring.openai.api.moderation.ModerationRespon
  * <p>
  * Based on the Spring AI implementation.
  * <p>
+ * Besides the blocking methods, backed by {@link RestClient}, the client offers async
+ * variants for chat completions and embeddings, which don't block the calling thread.
+ * They go through the same {@link RestClient}, so customizations, interceptors, logging and
+ * error handling are the same, but they run on a separate executor, where each call still
+ * holds a thread for the whole request. By default, the executor has as many threads as the
+ * maximum number of connections per route (20, unless configured otherwise), so that requests
+ * queue in memory rather than for a connection. The current observation
+ * is propagated to the executor threads.
+ * <p>
+ * The client holds a pool of HTTP connections and the default async executor threads,
+ * released when it's closed.
+ * <p>
+ * When an {@link OpenAiRateLimiter} is set, every request waits for its permit before being sent,
+ * and the rate limit headers of each response are fed back to it. When an {@link OpenAiRetryPolicy}
+ * is set, failed requests are retried according to it, each attempt going through the rate limiter.
+ * Streaming chat completions are never retried, since chunks may have already reached the caller.
+ * When an {@link OpenAiHedgingPolicy} is set, slow embedding and moderation requests are hedged.
  *
  * @see <a href="https://platform.openai.com/docs/api-reference/chat">OpenAI API</a>
  */
-public class OpenAiClient {
+public class OpenAiClient implements AutoCloseable {
+
+    private static final String SSE_DATA_PREFIX = "data:";
+
+    private static final String SSE_DONE_MESSAGE = "[DONE]";
 
     private final Logger logger = LoggerFactory.getLogger(OpenAiClient.class);
 
+    private final ObjectMapper objectMapper = LangChain4jJacksonProvider.getObjectMapper();
+
     private final ResponseErrorHandler responseErrorHandler;
 
     private final RestClient restClient;
 
+    private final ClientHttpRequestFactory clientHttpRequestFactory;
+
+    private final ExecutorService defaultAsyncExecutor;
+
+    private Executor asyncExecutor;
+
+    private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+    @Nullable
+    private OpenAiRateLimiter rateLimiter;
+
+    @Nullable
+    private OpenAiRetryPolicy retryPolicy;
+
+    @Nullable
+    private OpenAiHedgingPolicy hedgingPolicy;
+
     public OpenAiClient(OpenAiClientConfig clientConfig, RestClient.Builder restClientBuilder) {
         Assert.notNull(clientConfig, "clientOptions must not be null");
         Assert.notNull(restClientBuilder, "restClientBuilder must not be null");
 
         this.responseErrorHandler = new OpenAiResponseErrorHandler();
-        this.restClient = buildRestClient(clientConfig, restClientBuilder);
+
+        this.clientHttpRequestFactory = PooledClientHttpRequestFactories.create(clientConfig.toHttpClientConfig());
+
+        this.restClient = buildRestClient(clientConfig, restClientBuilder.clone(), clientHttpRequestFactory);
+
+        this.defaultAsyncExecutor = createDefaultAsyncExecutor(clientConfig.maxConnectionsPerRoute());
+        this.asyncExecutor = defaultAsyncExecutor;
     }
 
-    private RestClient buildRestClient(OpenAiClientConfig clientConfig, RestClient.Builder restClientBuilder) {
-        var clientHttpRequestFactory = new BufferingClientHttpRequestFactory(ClientHttpRequestFactories.get(
-                ClientHttpRequestFactorySettings.DEFAULTS
-                        .withConnectTimeout(clientConfig.connectTimeout())
-                        .withReadTimeout(clientConfig.readTimeout())));
+    private static ExecutorService createDefaultAsyncExecutor(int maxThreads) {
+        var threadFactory = new CustomizableThreadFactory("openai-async-");
+        threadFactory.setDaemon(true);
+        var executor = new ThreadPoolExecutor(maxThreads, maxThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), threadFactory);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
 
+    private RestClient buildRestClient(OpenAiClientConfig clientConfig, RestClient.Builder restClientBuilder,
+            ClientHttpRequestFactory clientHttpRequestFactory) {
         Consumer<HttpHeaders> defaultHeaders = headers -> {
             headers.setContentType(MediaType.APPLICATION_JSON);
             if (StringUtils.hasText(clientConfig.apiKey())) {
@@ -69,7 +142,8 @@ public class OpenAiClient {
                 .requestInterceptors(interceptors -> {
                     if (clientConfig.logRequests() || clientConfig.logResponses()) {
                         interceptors
-                                .add(new HttpLoggingInterceptor(clientConfig.logRequests(), clientConfig.logResponses()));
+                                .add(new HttpLoggingInterceptor(clientConfig.logRequests(), clientConfig.logResponses(),
+                                        clientConfig.logMaxBodySize(), clientConfig.logSamplingRate()));
                     }
                 })
                 .build();
@@ -85,11 +159,101 @@ public class OpenAiClient {
 
         logger.debug("Sending chat completion request: {}", chatCompletionRequest);
 
-        return this.restClient.post()
+        return retried(false, () -> rateLimited(OpenAiTokenEstimator.estimate(chatCompletionRequest), () -> this.restClient.post()
                 .uri("/v1/chat/completions")
                 .body(chatCompletionRequest)
                 .retrieve()
-                .body(ChatCompletionResponse.class);
+                .toEntity(ChatCompletionResponse.class)));
+    }
+
+    /**
+     * Creates a model response for the given chat conversation, without blocking the calling thread.
+     */
+    public CompletableFuture<ChatCompletionResponse> chatCompletionAsync(ChatCompletionRequest chatCompletionRequest) {
+        Assert.notNull(chatCompletionRequest, "chatCompletionRequest cannot be null");
+        Assert.isTrue(!chatCompletionRequest.stream(), "Stream mode must be disabled");
+
+        logger.debug("Sending async chat completion request: {}", chatCompletionRequest);
+
+        return retriedAsync(false, () -> rateLimitedAsync(OpenAiTokenEstimator.estimate(chatCompletionRequest),
+                () -> supplyAsync(() -> this.restClient.post()
+                        .uri("/v1/chat/completions")
+                        .body(chatCompletionRequest)
+                        .retrieve()
+                        .toEntity(ChatCompletionResponse.class))));
+    }
+
+    /**
+     * Creates a model response for the given chat conversation, streaming it back as a
+     * sequence of chunks. Each chunk is parsed and passed to the consumer as soon as the
+     * corresponding server-sent event is received. The method returns when the stream is
+     * complete.
+     */
+    public void streamingChatCompletion(ChatCompletionRequest chatCompletionRequest,
+            Consumer<ChatCompletionChunkResponse> chunkConsumer) {
+        Assert.notNull(chatCompletionRequest, "chatCompletionRequest cannot be null");
+        Assert.notNull(chunkConsumer, "chunkConsumer cannot be null");
+        Assert.isTrue(Boolean.TRUE.equals(chatCompletionRequest.stream()), "Stream mode must be enabled");
+
+        logger.debug("Sending streaming chat completion request: {}", chatCompletionRequest);
+
+        rateLimitedStreaming(OpenAiTokenEstimator.estimate(chatCompletionRequest), () -> this.restClient.post()
+                .uri("/v1/chat/completions")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .body(chatCompletionRequest)
+                .exchange((request, response) -> {
+                    if (rateLimiter != null) {
+                        rateLimiter.update(response.getHeaders());
+                    }
+                    if (responseErrorHandler.hasError(response)) {
+                        responseErrorHandler.handleError(request.getURI(), request.getMethod(), response);
+                    }
+                    readServerSentEvents(response, chunkConsumer);
+                    return null;
+                }));
+    }
+
+    /**
+     * Reads the 'data' fields of the server-sent events in the response body line by line,
+     * without buffering the whole body. Events spanning multiple 'data' lines are joined
+     * before being parsed. The stream ends with a '[DONE]' message.
+     */
+    private void readServerSentEvents(ClientHttpResponse response, Consumer<ChatCompletionChunkResponse> chunkConsumer)
+            throws IOException {
+        try (var reader = new BufferedReader(new InputStreamReader(response.getBody(), StandardCharsets.UTF_8))) {
+            var data = new StringBuilder();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(SSE_DATA_PREFIX)) {
+                    if (!data.isEmpty()) {
+                        data.append('\n');
+                    }
+                    data.append(line.substring(SSE_DATA_PREFIX.length()).stripLeading());
+                }
+                else if (line.isEmpty() && !data.isEmpty()) {
+                    if (!handleServerSentEvent(data.toString(), chunkConsumer)) {
+                        return;
+                    }
+                    data.setLength(0);
+                }
+            }
+            if (!data.isEmpty()) {
+                handleServerSentEvent(data.toString(), chunkConsumer);
+            }
+        }
+    }
+
+    private boolean handleServerSentEvent(String data, Consumer<ChatCompletionChunkResponse> chunkConsumer) {
+        if (SSE_DONE_MESSAGE.equals(data)) {
+            return false;
+        }
+        try {
+            chunkConsumer.accept(objectMapper.readValue(data, ChatCompletionChunkResponse.class));
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException("Failed to parse chat completion chunk: " + data, ex);
+        }
+        return true;
     }
 
     /**
@@ -101,11 +265,27 @@ public class OpenAiClient {
 
         logger.debug("Sending embedding request: {}", embeddingRequest);
 
-        return this.restClient.post()
+        return retried(true, () -> hedged("/v1/embeddings", () -> rateLimited(OpenAiTokenEstimator.estimate(embeddingRequest), () -> this.restClient.post()
                 .uri("/v1/embeddings")
-                .body(embeddingRequest)
+                .body(JsonStreamingBody.of(embeddingRequest))
                 .retrieve()
-                .body(EmbeddingResponse.class);
+                .toEntity(EmbeddingResponse.class))));
+    }
+
+    /**
+     * Creates an embedding vector representing the input text, without blocking the calling thread.
+     */
+    public CompletableFuture<EmbeddingResponse> embeddingsAsync(EmbeddingRequest embeddingRequest) {
+        Assert.notNull(embeddingRequest, "embeddingRequest cannot be null");
+
+        logger.debug("Sending async embedding request: {}", embeddingRequest);
+
+        return retriedAsync(true, () -> hedgedAsync("/v1/embeddings", () -> rateLimitedAsync(OpenAiTokenEstimator.estimate(embeddingRequest),
+                () -> supplyAsync(() -> this.restClient.post()
+                        .uri("/v1/embeddings")
+                        .body(JsonStreamingBody.of(embeddingRequest))
+                        .retrieve()
+                        .toEntity(EmbeddingResponse.class)))));
     }
 
     /**
@@ -117,11 +297,11 @@ public class OpenAiClient {
 
         logger.debug("Sending image generation request: {}", imageGenerationRequest);
 
-        return this.restClient.post()
+        return retried(false, () -> rateLimited(0, () -> this.restClient.post()
                 .uri("v1/images/generations")
                 .body(imageGenerationRequest)
                 .retrieve()
-                .body(ImageGenerationResponse.class);
+                .toEntity(ImageGenerationResponse.class)));
     }
 
     /**
@@ -133,11 +313,130 @@ public class OpenAiClient {
 
         logger.debug("Sending moderation request: {}", moderationRequest);
 
-        return this.restClient.post()
+        return retried(true, () -> hedged("/v1/moderations", () -> rateLimited(OpenAiTokenEstimator.estimate(moderationRequest), () -> this.restClient.post()
                 .uri("v1/moderations")
                 .body(moderationRequest)
                 .retrieve()
-                .body(ModerationResponse.class);
+                .toEntity(ModerationResponse.class))));
+    }
+
+    /**
+     * Sets the rate limiter every request goes through, or disables rate limiting when {@code null}.
+     */
+    public void setRateLimiter(@Nullable OpenAiRateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    /**
+     * Sets the policy for retrying failed requests, or disables retries when {@code null}.
+     */
+    public void setRetryPolicy(@Nullable OpenAiRetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy;
+    }
+
+    /**
+     * Sets the policy for hedging slow embedding and moderation requests, or disables hedging when {@code null}.
+     */
+    public void setHedgingPolicy(@Nullable OpenAiHedgingPolicy hedgingPolicy) {
+        this.hedgingPolicy = hedgingPolicy;
+    }
+
+    /**
+     * Sets the executor running the requests sent by the non-blocking methods.
+     */
+    public void setAsyncExecutor(Executor asyncExecutor) {
+        Assert.notNull(asyncExecutor, "asyncExecutor cannot be null");
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    /**
+     * Sets the registry used to propagate the current observation to the requests sent
+     * by the non-blocking methods.
+     */
+    public void setObservationRegistry(ObservationRegistry observationRegistry) {
+        Assert.notNull(observationRegistry, "observationRegistry cannot be null");
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Nullable
+    private <T> T hedged(String endpoint, Supplier<T> call) {
+        return hedgingPolicy != null ? hedgingPolicy.execute(endpoint, call) : call.get();
+    }
+
+    private <T> CompletableFuture<T> hedgedAsync(String endpoint, Supplier<CompletableFuture<T>> call) {
+        return hedgingPolicy != null ? hedgingPolicy.executeAsync(endpoint, call) : call.get();
+    }
+
+    @Nullable
+    private <T> T retried(boolean idempotent, Supplier<T> call) {
+        return retryPolicy != null ? retryPolicy.execute(idempotent, call) : call.get();
+    }
+
+    private <T> CompletableFuture<T> retriedAsync(boolean idempotent, Supplier<CompletableFuture<T>> call) {
+        return retryPolicy != null ? retryPolicy.executeAsync(idempotent, call) : call.get();
+    }
+
+    @Nullable
+    private <T> T rateLimited(int estimatedTokens, Supplier<ResponseEntity<T>> call) {
+        if (rateLimiter == null) {
+            return call.get().getBody();
+        }
+        try (OpenAiRateLimiter.Permit permit = rateLimiter.acquire(estimatedTokens)) {
+            ResponseEntity<T> response = call.get();
+            rateLimiter.update(response.getHeaders());
+            return response.getBody();
+        }
+    }
+
+    private void rateLimitedStreaming(int estimatedTokens, Runnable call) {
+        if (rateLimiter == null) {
+            call.run();
+            return;
+        }
+        try (OpenAiRateLimiter.Permit permit = rateLimiter.acquire(estimatedTokens)) {
+            call.run();
+        }
+    }
+
+    private <T> CompletableFuture<T> rateLimitedAsync(int estimatedTokens, Supplier<CompletableFuture<ResponseEntity<T>>> call) {
+        if (rateLimiter == null) {
+            return call.get().thenApply(ResponseEntity::getBody);
+        }
+        OpenAiRateLimiter limiter = rateLimiter;
+        return limiter.acquireAsync(estimatedTokens)
+                .thenCompose(permit -> {
+                    CompletableFuture<ResponseEntity<T>> response;
+                    try {
+                        response = call.get();
+                    }
+                    catch (RuntimeException ex) {
+                        permit.close();
+                        throw ex;
+                    }
+                    return response.whenComplete((result, ex) -> permit.close());
+                })
+                .thenApply(response -> {
+                    limiter.update(response.getHeaders());
+                    return response.getBody();
+                });
+    }
+
+    /**
+     * Runs the blocking call on the async executor, in the scope of the current observation.
+     */
+    private <T> CompletableFuture<T> supplyAsync(Supplier<T> call) {
+        Observation parentObservation = observationRegistry.getCurrentObservation();
+        Supplier<T> scopedCall = parentObservation != null ? () -> parentObservation.scoped(call) : call;
+        return CompletableFuture.supplyAsync(scopedCall, asyncExecutor);
+    }
+
+    /**
+     * Releases the pooled HTTP connections and shuts down the default async executor.
+     */
+    @Override
+    public void close() {
+        defaultAsyncExecutor.shutdown();
+        PooledClientHttpRequestFactories.close(clientHttpRequestFactory);
     }
 
 }
@@ -6,6 +6,9 @@ import java.time.Duration;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
+import io.thomasvitale.langchain4j.spring.core.http.HttpClientConfig;
+import io.thomasvitale.langchain4j.spring.core.http.HttpLoggingInterceptor;
+
 /**
  * Options for configuring the OpenAI client.
  */
@@ -19,16 +22,44 @@ public record OpenAiClientConfig(
         String organizationId,
         String user,
         boolean logRequests,
-        boolean logResponses
+        boolean logResponses,
+        int logMaxBodySize,
+        double logSamplingRate,
+        int maxConnectionsPerRoute,
+        Duration connectionIdleTimeout,
+        boolean http2Enabled,
+        boolean tcpKeepAlive
 ) {
 
     public OpenAiClientConfig {
         Assert.notNull(baseUrl, "baseUrl must not be null");
         Assert.notNull(connectTimeout, "connectTimeout must not be null");
         Assert.notNull(readTimeout, "readTimeout must not be null");
+        Assert.isTrue(logMaxBodySize >= 0, "logMaxBodySize must be greater than or equal to 0");
+        Assert.isTrue(logSamplingRate >= 0 && logSamplingRate <= 1, "logSamplingRate must be between 0 and 1");
+        Assert.isTrue(maxConnectionsPerRoute > 0, "maxConnectionsPerRoute must be greater than 0");
+        Assert.notNull(connectionIdleTimeout, "connectionIdleTimeout must not be null");
         Assert.hasText(apiKey, "apiKey must not be null or empty");
     }
 
+    /**
+     * Returns the configuration of the underlying HTTP client.
+     */
+    public HttpClientConfig toHttpClientConfig() {
+        return HttpClientConfig.create()
+                .withConnectTimeout(connectTimeout)
+                .withReadTimeout(readTimeout)
+                .withSslBundle(sslBundle)
+                .withLogRequests(logRequests)
+                .withLogResponses(logResponses)
+                .withLogMaxBodySize(logMaxBodySize)
+                .withLogSamplingRate(logSamplingRate)
+                .withMaxConnectionsPerRoute(maxConnectionsPerRoute)
+                .withConnectionIdleTimeout(connectionIdleTimeout)
+                .withHttp2Enabled(http2Enabled)
+                .withTcpKeepAlive(tcpKeepAlive);
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -44,6 +75,12 @@ public record OpenAiClientConfig(
         private String sslBundle;
         private boolean logRequests = false;
         private boolean logResponses = false;
+        private int logMaxBodySize = HttpLoggingInterceptor.DEFAULT_MAX_BODY_SIZE;
+        private double logSamplingRate = HttpLoggingInterceptor.DEFAULT_SAMPLING_RATE;
+        private int maxConnectionsPerRoute = 20;
+        private Duration connectionIdleTimeout = Duration.ofSeconds(30);
+        private boolean http2Enabled = false;
+        private boolean tcpKeepAlive = true;
 
         private Builder() {}
 
@@ -92,8 +129,39 @@ public record OpenAiClientConfig(
             return this;
         }
 
+        public Builder logMaxBodySize(int logMaxBodySize) {
+            this.logMaxBodySize = logMaxBodySize;
+            return this;
+        }
+
+        public Builder logSamplingRate(double logSamplingRate) {
+            this.logSamplingRate = logSamplingRate;
+            return this;
+        }
+
+        public Builder maxConnectionsPerRoute(int maxConnectionsPerRoute) {
+            this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+            return this;
+        }
+
+        public Builder connectionIdleTimeout(Duration connectionIdleTimeout) {
+            this.connectionIdleTimeout = connectionIdleTimeout;
+            return this;
+        }
+
+        public Builder http2Enabled(boolean http2Enabled) {
+            this.http2Enabled = http2Enabled;
+            return this;
+        }
+
+        public Builder tcpKeepAlive(boolean tcpKeepAlive) {
+            this.tcpKeepAlive = tcpKeepAlive;
+            return this;
+        }
+
         public OpenAiClientConfig build() {
-            return new OpenAiClientConfig(baseUrl, connectTimeout, readTimeout, sslBundle, apiKey, organizationId, user, logRequests, logResponses);
+            return new OpenAiClientConfig(baseUrl, connectTimeout, readTimeout, sslBundle, apiKey, organizationId, user, logRequests, logResponses,
+                    logMaxBodySize, logSamplingRate, maxConnectionsPerRoute, connectionIdleTimeout, http2Enabled, tcpKeepAlive);
         }
     }
 
@@ -0,0 +1,405 @@
+package io.thomasvitale.langchain4j.spring.openai.client;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Sends a duplicate of a slow request and returns whichever response arrives first,
+ * trimming the tail latency caused by occasional slow upstream replicas.
+ * <p>
+ * A call is hedged when it hasn't completed after the configured {@code percentile} of the
+ * latencies recently observed for the same endpoint, computed over a rolling window of the
+ * last {@code windowSize} calls, and never earlier than {@code minDelay}. No call is hedged
+ * until {@code minSamples} latencies have been observed. Hedges are capped to a
+ * {@code maxHedgeRatio} fraction of the calls, so that a slow upstream doesn't get twice
+ * the load. Only idempotent and cheap calls, such as embeddings and moderations, should be
+ * hedged. Each hedge is recorded as a {@code hedge} event on the current observation.
+ * <p>
+ * Once an endpoint has enough samples, the blocking variant runs the requests on the
+ * configured {@link Executor}, while the calling thread waits for the first response.
+ * By default, it's a pool of at most {@value #DEFAULT_MAX_THREADS} threads, matching the
+ * default maximum number of connections per route. When the executor rejects a request,
+ * it runs on the calling thread without being hedged. The current observation is
+ * propagated to the requests, including the hedges.
+ */
+public class OpenAiHedgingPolicy {
+
+    static final String HEDGE_EVENT_NAME = "hedge";
+
+    static final int DEFAULT_MAX_THREADS = 20;
+
+    private static final Logger logger = LoggerFactory.getLogger(OpenAiHedgingPolicy.class);
+
+    private final double percentile;
+
+    private final int windowSize;
+
+    private final int minSamples;
+
+    private final Duration minDelay;
+
+    private final double maxHedgeRatio;
+
+    private final Map<String, LatencyWindow> latencyWindows = new ConcurrentHashMap<>();
+
+    private final AtomicLong calls = new AtomicLong();
+
+    private final AtomicLong hedges = new AtomicLong();
+
+    private Executor executor = createDefaultExecutor();
+
+    private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+    private OpenAiHedgingPolicy(double percentile, int windowSize, int minSamples, Duration minDelay, double maxHedgeRatio) {
+        Assert.isTrue(percentile > 0 && percentile < 1, "percentile must be between 0 and 1");
+        Assert.isTrue(windowSize > 0, "windowSize must be greater than 0");
+        Assert.isTrue(minSamples > 0 && minSamples <= windowSize, "minSamples must be between 1 and windowSize");
+        Assert.notNull(minDelay, "minDelay cannot be null");
+        Assert.isTrue(!minDelay.isNegative(), "minDelay cannot be negative");
+        Assert.isTrue(maxHedgeRatio >= 0 && maxHedgeRatio <= 1, "maxHedgeRatio must be between 0 and 1");
+
+        this.percentile = percentile;
+        this.windowSize = windowSize;
+        this.minSamples = minSamples;
+        this.minDelay = minDelay;
+        this.maxHedgeRatio = maxHedgeRatio;
+    }
+
+    private static Executor createDefaultExecutor() {
+        var threadFactory = new CustomizableThreadFactory("openai-hedging-");
+        threadFactory.setDaemon(true);
+        var executor = new ThreadPoolExecutor(DEFAULT_MAX_THREADS, DEFAULT_MAX_THREADS, 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), threadFactory);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Runs the call, hedging it if it's slower than usual for the given endpoint.
+     */
+    public <T> T execute(String endpoint, Supplier<T> call) {
+        Assert.hasText(endpoint, "endpoint cannot be null or empty");
+        Assert.notNull(call, "call cannot be null");
+
+        LatencyWindow latencyWindow = latencyWindow(endpoint);
+        long thresholdNanos = latencyWindow.thresholdNanos();
+        calls.incrementAndGet();
+        Supplier<T> timedCall = timed(latencyWindow, call);
+        if (thresholdNanos < 0) {
+            return timedCall.get();
+        }
+
+        Observation observation = observationRegistry.getCurrentObservation();
+        Supplier<T> scopedCall = observation != null ? () -> observation.scoped(timedCall) : timedCall;
+        CompletableFuture<T> primary;
+        try {
+            primary = CompletableFuture.supplyAsync(scopedCall, executor);
+        }
+        catch (RejectedExecutionException ex) {
+            logger.debug("Hedging executor saturated, calling {} without hedging", endpoint);
+            return timedCall.get();
+        }
+        try {
+            try {
+                return primary.get(thresholdNanos, TimeUnit.NANOSECONDS);
+            }
+            catch (TimeoutException ex) {
+                if (!tryHedge(endpoint, thresholdNanos, observation)) {
+                    return primary.get();
+                }
+                CompletableFuture<T> hedge;
+                try {
+                    hedge = CompletableFuture.supplyAsync(scopedCall, executor);
+                }
+                catch (RejectedExecutionException rejectedEx) {
+                    return primary.get();
+                }
+                return firstSuccessful(primary, hedge).get();
+            }
+        }
+        catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new CompletionException(ex.getCause());
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(ex);
+        }
+    }
+
+    /**
+     * Runs the asynchronous call, hedging it if it's slower than usual for the given endpoint.
+     * Waiting for the threshold doesn't hold any thread. The hedge is started in the scope
+     * of the observation current when this method is called.
+     */
+    public <T> CompletableFuture<T> executeAsync(String endpoint, Supplier<CompletableFuture<T>> call) {
+        Assert.hasText(endpoint, "endpoint cannot be null or empty");
+        Assert.notNull(call, "call cannot be null");
+
+        LatencyWindow latencyWindow = latencyWindow(endpoint);
+        long thresholdNanos = latencyWindow.thresholdNanos();
+        calls.incrementAndGet();
+        CompletableFuture<T> primary = timedAsync(latencyWindow, call);
+        if (thresholdNanos < 0) {
+            return primary;
+        }
+
+        Observation observation = observationRegistry.getCurrentObservation();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        CompletableFuture.delayedExecutor(thresholdNanos, TimeUnit.NANOSECONDS).execute(() -> {
+            if (primary.isDone() || !tryHedge(endpoint, thresholdNanos, observation)) {
+                propagate(primary, result);
+                return;
+            }
+            CompletableFuture<T> hedge = observation != null
+                    ? observation.scoped(() -> timedAsync(latencyWindow, call))
+                    : timedAsync(latencyWindow, call);
+            propagate(firstSuccessful(primary, hedge), result);
+        });
+        return result;
+    }
+
+    private boolean tryHedge(String endpoint, long thresholdNanos, @Nullable Observation observation) {
+        if (hedges.get() >= calls.get() * maxHedgeRatio) {
+            return false;
+        }
+        hedges.incrementAndGet();
+        logger.debug("Hedging the call to {} after {} ms", endpoint, TimeUnit.NANOSECONDS.toMillis(thresholdNanos));
+        if (observation != null) {
+            observation.event(Observation.Event.of(HEDGE_EVENT_NAME, "hedge " + endpoint));
+        }
+        return true;
+    }
+
+    private LatencyWindow latencyWindow(String endpoint) {
+        return latencyWindows.computeIfAbsent(endpoint, e -> new LatencyWindow(windowSize, minSamples, percentile, minDelay.toNanos()));
+    }
+
+    private static <T> Supplier<T> timed(LatencyWindow latencyWindow, Supplier<T> call) {
+        return () -> {
+            long start = System.nanoTime();
+            T result = call.get();
+            latencyWindow.record(System.nanoTime() - start);
+            return result;
+        };
+    }
+
+    private static <T> CompletableFuture<T> timedAsync(LatencyWindow latencyWindow, Supplier<CompletableFuture<T>> call) {
+        long start = System.nanoTime();
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        }
+        catch (RuntimeException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+        return future.whenComplete((value, ex) -> {
+            if (ex == null) {
+                latencyWindow.record(System.nanoTime() - start);
+            }
+        });
+    }
+
+    /**
+     * Completes with the first of the two futures completing successfully,
+     * or with the failure of the primary one if both fail.
+     */
+    private static <T> CompletableFuture<T> firstSuccessful(CompletableFuture<T> primary, CompletableFuture<T> hedge) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        primary.whenComplete((value, ex) -> {
+            if (ex == null) {
+                result.complete(value);
+            }
+            else {
+                hedge.whenComplete((hedgeValue, hedgeEx) -> {
+                    if (hedgeEx == null) {
+                        result.complete(hedgeValue);
+                    }
+                    else {
+                        result.completeExceptionally(ex);
+                    }
+                });
+            }
+        });
+        hedge.thenAccept(result::complete);
+        return result;
+    }
+
+    private static <T> void propagate(CompletableFuture<T> source, CompletableFuture<T> target) {
+        source.whenComplete((value, ex) -> {
+            if (ex == null) {
+                target.complete(value);
+            }
+            else {
+                target.completeExceptionally(ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+            }
+        });
+    }
+
+    public void setExecutor(Executor executor) {
+        Assert.notNull(executor, "executor cannot be null");
+        this.executor = executor;
+    }
+
+    public void setObservationRegistry(ObservationRegistry observationRegistry) {
+        Assert.notNull(observationRegistry, "observationRegistry cannot be null");
+        this.observationRegistry = observationRegistry;
+    }
+
+    /**
+     * Rolling window of the latest latencies of an endpoint. The percentile is recomputed
+     * every tenth of the window rather than on each call, since sorting the window is the
+     * expensive part and the threshold moves slowly.
+     */
+    static final class LatencyWindow {
+
+        private final long[] latencies;
+
+        private final int minSamples;
+
+        private final double percentile;
+
+        private final long minDelayNanos;
+
+        private final int recomputeInterval;
+
+        private int next;
+
+        private int count;
+
+        private int sinceRecompute;
+
+        private volatile long thresholdNanos = -1;
+
+        LatencyWindow(int windowSize, int minSamples, double percentile, long minDelayNanos) {
+            this.latencies = new long[windowSize];
+            this.minSamples = minSamples;
+            this.percentile = percentile;
+            this.minDelayNanos = minDelayNanos;
+            this.recomputeInterval = Math.max(1, windowSize / 10);
+        }
+
+        synchronized void record(long latencyNanos) {
+            latencies[next] = latencyNanos;
+            next = (next + 1) % latencies.length;
+            count = Math.min(count + 1, latencies.length);
+            if (count >= minSamples && (thresholdNanos < 0 || ++sinceRecompute >= recomputeInterval)) {
+                sinceRecompute = 0;
+                long[] sorted = Arrays.copyOf(latencies, count);
+                Arrays.sort(sorted);
+                int index = (int) Math.min(count - 1, Math.ceil(percentile * count) - 1);
+                thresholdNanos = Math.max(sorted[Math.max(index, 0)], minDelayNanos);
+            }
+        }
+
+        /**
+         * Returns the latency after which a call is hedged, or -1 if there aren't enough samples yet.
+         */
+        long thresholdNanos() {
+            return thresholdNanos;
+        }
+
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private double percentile = 0.95;
+        private int windowSize = 1000;
+        private int minSamples = 100;
+        private Duration minDelay = Duration.ofMillis(50);
+        private double maxHedgeRatio = 0.1;
+        private Executor executor;
+        private ObservationRegistry observationRegistry;
+
+        private Builder() {}
+
+        /**
+         * Percentile of the recent latencies after which a call is hedged, between 0 and 1.
+         */
+        public Builder percentile(double percentile) {
+            this.percentile = percentile;
+            return this;
+        }
+
+        /**
+         * Number of recent latencies per endpoint the percentile is computed from.
+         */
+        public Builder windowSize(int windowSize) {
+            this.windowSize = windowSize;
+            return this;
+        }
+
+        /**
+         * Number of latencies to observe for an endpoint before hedging its calls.
+         */
+        public Builder minSamples(int minSamples) {
+            this.minSamples = minSamples;
+            return this;
+        }
+
+        /**
+         * Minimum time to wait before hedging a call.
+         */
+        public Builder minDelay(Duration minDelay) {
+            this.minDelay = minDelay;
+            return this;
+        }
+
+        /**
+         * Maximum fraction of the calls that can be hedged, between 0 and 1.
+         */
+        public Builder maxHedgeRatio(double maxHedgeRatio) {
+            this.maxHedgeRatio = maxHedgeRatio;
+            return this;
+        }
+
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public Builder observationRegistry(ObservationRegistry observationRegistry) {
+            this.observationRegistry = observationRegistry;
+            return this;
+        }
+
+        public OpenAiHedgingPolicy build() {
+            var hedgingPolicy = new OpenAiHedgingPolicy(percentile, windowSize, minSamples, minDelay, maxHedgeRatio);
+            if (executor != null) {
+                hedgingPolicy.setExecutor(executor);
+            }
+            if (observationRegistry != null) {
+                hedgingPolicy.setObservationRegistry(observationRegistry);
+            }
+            return hedgingPolicy;
+        }
+    }
+
+}
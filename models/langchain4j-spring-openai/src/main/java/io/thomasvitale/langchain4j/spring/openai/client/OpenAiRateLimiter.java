@@ -0,0 +1,520 @@
+package io.thomasvitale.langchain4j.spring.openai.client;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import io.thomasvitale.langchain4j.spring.openai.client.observation.DefaultRateLimiterObservationConvention;
+import io.thomasvitale.langchain4j.spring.openai.client.observation.RateLimiterObservationContext;
+import io.thomasvitale.langchain4j.spring.openai.client.observation.RateLimiterObservationConvention;
+
+/**
+ * Client-side limiter keeping the requests sent to OpenAI within the requests-per-minute
+ * and tokens-per-minute budgets of the account, and within a maximum number of concurrent
+ * requests.
+ * <p>
+ * A request first takes one of the concurrent request slots, queuing in arrival order
+ * when none is free. Each budget is a token bucket refilled continuously. Once it has a slot,
+ * the request reserves one request and its estimated number of tokens, then waits until the
+ * reservation is covered, so that requests are sent at the pace of the quota instead of bursting
+ * into 429 responses. When the overall wait would exceed {@code maxWait}, the request is rejected
+ * with a {@link RateLimitExceededException} without consuming any budget.
+ * <p>
+ * {@link #acquireAsync(int)} doesn't hold any thread while waiting, neither for a slot nor
+ * for the budget: the permit is completed on the configured {@link Executor} once available.
+ * <p>
+ * The buckets are adjusted down to the {@code x-ratelimit-remaining-requests} and
+ * {@code x-ratelimit-remaining-tokens} headers returned by OpenAI, so that the limiter
+ * accounts for other clients sharing the same quota.
+ */
+public class OpenAiRateLimiter {
+
+    static final String REMAINING_REQUESTS_HEADER = "x-ratelimit-remaining-requests";
+
+    static final String REMAINING_TOKENS_HEADER = "x-ratelimit-remaining-tokens";
+
+    private static final Logger logger = LoggerFactory.getLogger(OpenAiRateLimiter.class);
+
+    @Nullable
+    private final TokenBucket requestBucket;
+
+    @Nullable
+    private final TokenBucket tokenBucket;
+
+    @Nullable
+    private final ConcurrencyLimiter concurrencyLimiter;
+
+    private final Duration maxWait;
+
+    private final LongSupplier nanoClock;
+
+    private Executor executor = ForkJoinPool.commonPool();
+
+    private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+    private RateLimiterObservationConvention observationConvention = new DefaultRateLimiterObservationConvention();
+
+    OpenAiRateLimiter(int requestsPerMinute, int tokensPerMinute, int maxConcurrentRequests, Duration maxWait, LongSupplier nanoClock) {
+        Assert.isTrue(requestsPerMinute >= 0, "requestsPerMinute must be greater than or equal to 0");
+        Assert.isTrue(tokensPerMinute >= 0, "tokensPerMinute must be greater than or equal to 0");
+        Assert.isTrue(maxConcurrentRequests >= 0, "maxConcurrentRequests must be greater than or equal to 0");
+        Assert.notNull(maxWait, "maxWait cannot be null");
+        Assert.isTrue(!maxWait.isNegative(), "maxWait cannot be negative");
+        Assert.notNull(nanoClock, "nanoClock cannot be null");
+
+        long now = nanoClock.getAsLong();
+        this.requestBucket = requestsPerMinute > 0 ? new TokenBucket(requestsPerMinute, now) : null;
+        this.tokenBucket = tokensPerMinute > 0 ? new TokenBucket(tokensPerMinute, now) : null;
+        this.concurrencyLimiter = maxConcurrentRequests > 0 ? new ConcurrencyLimiter(maxConcurrentRequests) : null;
+        this.maxWait = maxWait;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Waits until a request with the given estimated number of tokens can be sent.
+     * The returned permit must be closed once the response has been received.
+     *
+     * @throws RateLimitExceededException if the request can't be sent within the maximum wait time
+     */
+    public Permit acquire(int estimatedTokens) {
+        Assert.isTrue(estimatedTokens >= 0, "estimatedTokens must be greater than or equal to 0");
+
+        RateLimiterObservationContext observationContext = new RateLimiterObservationContext(estimatedTokens);
+        Observation observation = Observation.createNotStarted(observationConvention, () -> observationContext, this.observationRegistry);
+
+        return observation.observe(() -> {
+            try {
+                return doAcquire(estimatedTokens);
+            }
+            catch (RateLimitExceededException ex) {
+                observationContext.setOutcome(RateLimiterObservationContext.OUTCOME_REJECTED);
+                throw ex;
+            }
+        });
+    }
+
+    /**
+     * Returns a permit completed once a request with the given estimated number of tokens
+     * can be sent, without blocking the calling thread. The returned permit must be closed
+     * once the response has been received. The future fails with a {@link RateLimitExceededException}
+     * if the request can't be sent within the maximum wait time. Cancelling it gives up the place
+     * in the queue, or the permit if it has been granted in the meantime.
+     */
+    public CompletableFuture<Permit> acquireAsync(int estimatedTokens) {
+        Assert.isTrue(estimatedTokens >= 0, "estimatedTokens must be greater than or equal to 0");
+
+        RateLimiterObservationContext observationContext = new RateLimiterObservationContext(estimatedTokens);
+        Observation observation = Observation.createNotStarted(observationConvention, () -> observationContext, this.observationRegistry).start();
+
+        long start = nanoClock.getAsLong();
+        CompletableFuture<Permit> slot = acquireSlot();
+        CompletableFuture<Permit> result = new CompletableFuture<>();
+        slot
+                .thenCompose(permit -> {
+                    long waitNanos = reserve(estimatedTokens, nanoClock.getAsLong(), remainingNanos(start));
+                    if (waitNanos < 0) {
+                        permit.close();
+                        return CompletableFuture.failedFuture(rateLimitExceeded(estimatedTokens));
+                    }
+                    if (waitNanos == 0) {
+                        return CompletableFuture.completedFuture(permit);
+                    }
+                    logger.debug("Delaying request by {} ms to stay within the rate limits", TimeUnit.NANOSECONDS.toMillis(waitNanos));
+                    CompletableFuture<Permit> delayedPermit = new CompletableFuture<>();
+                    CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS, executor)
+                            .execute(() -> delayedPermit.complete(permit));
+                    return delayedPermit;
+                })
+                .whenComplete((permit, ex) -> {
+                    if (ex != null) {
+                        result.completeExceptionally(ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+                    }
+                    else if (!result.complete(permit)) {
+                        // The caller cancelled the request after the permit was granted.
+                        permit.close();
+                    }
+                });
+
+        result.whenComplete((permit, ex) -> {
+            if (result.isCancelled()) {
+                // A slot not granted yet is skipped when released.
+                slot.cancel(false);
+            }
+            if (ex != null) {
+                Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                if (cause instanceof RateLimitExceededException) {
+                    observationContext.setOutcome(RateLimiterObservationContext.OUTCOME_REJECTED);
+                }
+                observation.error(cause);
+            }
+            observation.stop();
+        });
+        return result;
+    }
+
+    private Permit doAcquire(int estimatedTokens) {
+        long start = nanoClock.getAsLong();
+        CompletableFuture<Permit> slot = acquireSlot();
+
+        Permit permit;
+        try {
+            permit = slot.get();
+        }
+        catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+        catch (InterruptedException ex) {
+            // A slot granted in the meantime must be given back.
+            if (!slot.cancel(false)) {
+                slot.thenAccept(Permit::close);
+            }
+            Thread.currentThread().interrupt();
+            throw new RateLimitExceededException("Interrupted while waiting for the rate limiter", ex);
+        }
+
+        try {
+            long waitNanos = reserve(estimatedTokens, nanoClock.getAsLong(), remainingNanos(start));
+            if (waitNanos < 0) {
+                throw rateLimitExceeded(estimatedTokens);
+            }
+            if (waitNanos > 0) {
+                logger.debug("Delaying request by {} ms to stay within the rate limits", TimeUnit.NANOSECONDS.toMillis(waitNanos));
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+            return permit;
+        }
+        catch (InterruptedException ex) {
+            permit.close();
+            Thread.currentThread().interrupt();
+            throw new RateLimitExceededException("Interrupted while waiting for the rate limiter", ex);
+        }
+        catch (RuntimeException ex) {
+            permit.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Takes a concurrent request slot, completed when one is free. The slot is taken before
+     * reserving any budget, so that a request rejected for lack of slots doesn't consume it.
+     */
+    private CompletableFuture<Permit> acquireSlot() {
+        if (concurrencyLimiter == null) {
+            return CompletableFuture.completedFuture(new Permit(null));
+        }
+        return concurrencyLimiter.acquire(maxWait);
+    }
+
+    private long remainingNanos(long start) {
+        return Math.max(maxWait.toNanos() - (nanoClock.getAsLong() - start), 0);
+    }
+
+    private RateLimitExceededException rateLimitExceeded(int estimatedTokens) {
+        return new RateLimitExceededException("Rate limit exceeded: a request estimated at %d tokens can't be sent within %s"
+                .formatted(estimatedTokens, maxWait));
+    }
+
+    /**
+     * Reserves the budget for a request and returns how long to wait before sending it,
+     * or -1 if the wait would exceed the given maximum and nothing has been reserved.
+     */
+    private synchronized long reserve(int estimatedTokens, long now, long maxWaitNanos) {
+        long requestWait = requestBucket != null ? requestBucket.waitFor(1, now) : 0;
+        long tokenWait = tokenBucket != null ? tokenBucket.waitFor(estimatedTokens, now) : 0;
+        long wait = Math.max(requestWait, tokenWait);
+        if (wait > maxWaitNanos) {
+            return -1;
+        }
+        if (requestBucket != null) {
+            requestBucket.take(1);
+        }
+        if (tokenBucket != null) {
+            tokenBucket.take(estimatedTokens);
+        }
+        return wait;
+    }
+
+    /**
+     * Adjusts the remaining budgets to the rate limit headers of an OpenAI response.
+     */
+    public synchronized void update(HttpHeaders headers) {
+        Assert.notNull(headers, "headers cannot be null");
+        long now = nanoClock.getAsLong();
+        if (requestBucket != null) {
+            Long remainingRequests = parseHeader(headers.getFirst(REMAINING_REQUESTS_HEADER));
+            if (remainingRequests != null) {
+                requestBucket.limit(remainingRequests, now);
+            }
+        }
+        if (tokenBucket != null) {
+            Long remainingTokens = parseHeader(headers.getFirst(REMAINING_TOKENS_HEADER));
+            if (remainingTokens != null) {
+                tokenBucket.limit(remainingTokens, now);
+            }
+        }
+    }
+
+    @Nullable
+    private static Long parseHeader(@Nullable String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        }
+        catch (NumberFormatException ex) {
+            logger.debug("Ignoring invalid rate limit header value: {}", value);
+            return null;
+        }
+    }
+
+    /**
+     * Sets the executor completing the permits delayed to stay within the rate limits.
+     * The waiting itself doesn't hold any of its threads.
+     */
+    public void setExecutor(Executor executor) {
+        Assert.notNull(executor, "executor cannot be null");
+        this.executor = executor;
+    }
+
+    public void setObservationRegistry(ObservationRegistry observationRegistry) {
+        Assert.notNull(observationRegistry, "observationRegistry cannot be null");
+        this.observationRegistry = observationRegistry;
+    }
+
+    public void setObservationConvention(RateLimiterObservationConvention observationConvention) {
+        Assert.notNull(observationConvention, "observationConvention cannot be null");
+        this.observationConvention = observationConvention;
+    }
+
+    /**
+     * Slot for a request in flight, released when closed.
+     */
+    public static final class Permit implements AutoCloseable {
+
+        @Nullable
+        private final ConcurrencyLimiter concurrencyLimiter;
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(@Nullable ConcurrencyLimiter concurrencyLimiter) {
+            this.concurrencyLimiter = concurrencyLimiter;
+        }
+
+        @Override
+        public void close() {
+            if (concurrencyLimiter != null && released.compareAndSet(false, true)) {
+                concurrencyLimiter.release();
+            }
+        }
+
+    }
+
+    /**
+     * Fixed number of request slots, handed over to the waiting requests in arrival order.
+     * Waiting requests are futures rather than blocked threads, failed when they don't get
+     * a slot within the maximum wait.
+     */
+    private static final class ConcurrencyLimiter {
+
+        private final Deque<CompletableFuture<Permit>> waiters = new ArrayDeque<>();
+
+        private int available;
+
+        ConcurrencyLimiter(int maxConcurrentRequests) {
+            this.available = maxConcurrentRequests;
+        }
+
+        CompletableFuture<Permit> acquire(Duration maxWait) {
+            CompletableFuture<Permit> waiter = new CompletableFuture<>();
+            synchronized (this) {
+                if (available > 0 && waiters.isEmpty()) {
+                    available--;
+                    return CompletableFuture.completedFuture(new Permit(this));
+                }
+                if (maxWait.isZero()) {
+                    return CompletableFuture.failedFuture(concurrencyLimitExceeded(maxWait));
+                }
+                waiters.add(waiter);
+            }
+
+            CompletableFuture.delayedExecutor(maxWait.toNanos(), TimeUnit.NANOSECONDS).execute(() -> {
+                boolean expired;
+                synchronized (this) {
+                    expired = waiters.remove(waiter);
+                }
+                if (expired) {
+                    waiter.completeExceptionally(concurrencyLimitExceeded(maxWait));
+                }
+            });
+            return waiter;
+        }
+
+        void release() {
+            while (true) {
+                CompletableFuture<Permit> waiter;
+                synchronized (this) {
+                    waiter = waiters.poll();
+                    if (waiter == null) {
+                        available++;
+                        return;
+                    }
+                }
+                // Waiters cancelled by the caller are skipped, so that the slot isn't lost.
+                if (waiter.complete(new Permit(this))) {
+                    return;
+                }
+            }
+        }
+
+        private static RateLimitExceededException concurrencyLimitExceeded(Duration maxWait) {
+            return new RateLimitExceededException("Concurrency limit exceeded: no request slot freed up within %s"
+                    .formatted(maxWait));
+        }
+
+    }
+
+    /**
+     * Bucket holding up to a minute worth of budget, refilled continuously. The available
+     * budget goes negative when reserved ahead of time by waiting requests.
+     */
+    private static final class TokenBucket {
+
+        private final long capacity;
+
+        private final double refillPerNano;
+
+        private double available;
+
+        private long lastRefill;
+
+        TokenBucket(long perMinute, long now) {
+            this.capacity = perMinute;
+            this.refillPerNano = perMinute / (double) TimeUnit.MINUTES.toNanos(1);
+            this.available = perMinute;
+            this.lastRefill = now;
+        }
+
+        long waitFor(long permits, long now) {
+            refill(now);
+            // A request larger than the whole budget would wait forever, so it's capped to a full bucket.
+            double missing = Math.min(permits, capacity) - available;
+            return missing <= 0 ? 0 : (long) Math.ceil(missing / refillPerNano);
+        }
+
+        void take(long permits) {
+            available -= Math.min(permits, capacity);
+        }
+
+        void limit(long remaining, long now) {
+            refill(now);
+            available = Math.min(available, remaining);
+        }
+
+        private void refill(long now) {
+            if (now > lastRefill) {
+                available = Math.min(capacity, available + (now - lastRefill) * refillPerNano);
+                lastRefill = now;
+            }
+        }
+
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private int requestsPerMinute;
+        private int tokensPerMinute;
+        private int maxConcurrentRequests;
+        private Duration maxWait = Duration.ofSeconds(30);
+        private Executor executor;
+        private ObservationRegistry observationRegistry;
+        private RateLimiterObservationConvention observationConvention;
+
+        private Builder() {}
+
+        /**
+         * Maximum number of requests per minute. Unlimited when 0.
+         */
+        public Builder requestsPerMinute(int requestsPerMinute) {
+            this.requestsPerMinute = requestsPerMinute;
+            return this;
+        }
+
+        /**
+         * Maximum number of tokens per minute. Unlimited when 0.
+         */
+        public Builder tokensPerMinute(int tokensPerMinute) {
+            this.tokensPerMinute = tokensPerMinute;
+            return this;
+        }
+
+        /**
+         * Maximum number of requests in flight at the same time. Unlimited when 0.
+         */
+        public Builder maxConcurrentRequests(int maxConcurrentRequests) {
+            this.maxConcurrentRequests = maxConcurrentRequests;
+            return this;
+        }
+
+        /**
+         * Maximum time a request can wait before being sent. Requests are rejected right away when 0.
+         */
+        public Builder maxWait(Duration maxWait) {
+            this.maxWait = maxWait;
+            return this;
+        }
+
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public Builder observationRegistry(ObservationRegistry observationRegistry) {
+            this.observationRegistry = observationRegistry;
+            return this;
+        }
+
+        public Builder observationConvention(RateLimiterObservationConvention observationConvention) {
+            this.observationConvention = observationConvention;
+            return this;
+        }
+
+        public OpenAiRateLimiter build() {
+            var rateLimiter = new OpenAiRateLimiter(requestsPerMinute, tokensPerMinute, maxConcurrentRequests, maxWait, System::nanoTime);
+            if (executor != null) {
+                rateLimiter.setExecutor(executor);
+            }
+            if (observationConvention != null) {
+                rateLimiter.setObservationConvention(observationConvention);
+            }
+            if (observationRegistry != null) {
+                rateLimiter.setObservationRegistry(observationRegistry);
+            }
+            return rateLimiter;
+        }
+    }
+
+}
@@ -1,22 +1,35 @@
 package io.thomasvitale.langchain4j.spring.openai.client;
 
 import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 
-import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.core.JacksonException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import org.springframework.http.HttpMethod;
 import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.StringUtils;
 import org.springframework.web.client.ResponseErrorHandler;
 
+import io.thomasvitale.langchain4j.spring.core.json.jackson.LangChain4jJacksonProvider;
+
 /**
  * Handles errors from HTTP interactions with the OpenAI API.
  * <p>
+ * Error responses are always turned into an {@link OpenAiResponseException} carrying the status
+ * code and the delay requested by the server, so that they can be retried. When the body is not
+ * an OpenAI error object, as for the HTML or plain text pages returned by proxies and gateways,
+ * the raw body is used as the error message.
+ * <p>
  * Based on the Spring AI implementation.
  */
 public class OpenAiResponseErrorHandler implements ResponseErrorHandler {
 
-    private final ObjectMapper objectMapper = new ObjectMapper()
-            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private static final int MAX_RAW_BODY_LENGTH = 1000;
+
+    private final ObjectMapper objectMapper = LangChain4jJacksonProvider.getObjectMapper();
 
     @Override
     public boolean hasError(ClientHttpResponse response) throws IOException {
@@ -24,11 +37,30 @@ public class OpenAiResponseErrorHandler implements ResponseErrorHandler {
     }
 
     @Override
-    public void handleError(ClientHttpResponse response) throws IOException {
+    public void handleError(URI url, HttpMethod method, ClientHttpResponse response) throws IOException {
         if (response.getStatusCode().isError()) {
-            throw new OpenAiResponseException(String.format("%s - %s", response.getStatusCode().value(),
-                    objectMapper.readValue(response.getBody(), ResponseError.class)));
+            int statusCode = response.getStatusCode().value();
+            String body = StreamUtils.copyToString(response.getBody(), StandardCharsets.UTF_8);
+            throw new OpenAiResponseException(String.format("%s - %s", statusCode, describeError(body)),
+                    statusCode, OpenAiRetryPolicy.parseRetryAfter(response.getHeaders()));
+        }
+    }
+
+    private String describeError(String body) {
+        try {
+            ResponseError responseError = objectMapper.readValue(body, ResponseError.class);
+            if (responseError != null && responseError.error() != null) {
+                return responseError.toString();
+            }
+        }
+        catch (JacksonException ex) {
+            // Not an OpenAI error object, so the raw body is used instead.
+        }
+        String rawBody = body.strip();
+        if (!StringUtils.hasText(rawBody)) {
+            return "<empty body>";
         }
+        return rawBody.length() > MAX_RAW_BODY_LENGTH ? rawBody.substring(0, MAX_RAW_BODY_LENGTH) + "..." : rawBody;
     }
 
 }
@@ -1,16 +1,48 @@
 package io.thomasvitale.langchain4j.spring.openai.client;
 
+import java.time.Duration;
+
+import org.springframework.lang.Nullable;
+
 /**
  * Thrown when the OpenAI API returns an error response.
  */
 public class OpenAiResponseException extends RuntimeException {
 
+    private final int statusCode;
+
+    @Nullable
+    private final Duration retryAfter;
+
     public OpenAiResponseException(String message) {
-        super(message);
+        this(message, 0, null);
     }
 
     public OpenAiResponseException(String message, Throwable cause) {
         super(message, cause);
+        this.statusCode = 0;
+        this.retryAfter = null;
+    }
+
+    public OpenAiResponseException(String message, int statusCode, @Nullable Duration retryAfter) {
+        super(message);
+        this.statusCode = statusCode;
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * The HTTP status code of the response, or 0 if unknown.
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * How long the server asked to wait before retrying, if it did.
+     */
+    @Nullable
+    public Duration getRetryAfter() {
+        return retryAfter;
     }
 
 }
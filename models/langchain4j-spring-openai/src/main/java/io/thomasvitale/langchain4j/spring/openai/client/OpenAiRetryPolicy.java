@@ -0,0 +1,313 @@
+package io.thomasvitale.langchain4j.spring.openai.client;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * Retries the calls to the OpenAI API failing with a transient error, that is an I/O error
+ * or a response with one of the retryable status codes (by default 408, 429 and 5xx gateway errors).
+ * <p>
+ * The delay between attempts grows exponentially from {@code initialBackoff} up to {@code maxBackoff},
+ * with full jitter so that clients failing together don't retry together. When the server sends
+ * a {@code Retry-After} or {@code retry-after-ms} header, that delay is used instead. No attempt is
+ * started past the per-call {@code deadline}.
+ * <p>
+ * Only idempotent calls, such as embeddings and moderations, are retried unless
+ * {@code retryNonIdempotent} is enabled, since retrying a chat completion or an image generation
+ * that failed after reaching the model is billed twice. Each retry is recorded as a {@code retry}
+ * event on the current observation.
+ */
+public class OpenAiRetryPolicy {
+
+    static final String RETRY_EVENT_NAME = "retry";
+
+    static final String ATTEMPTS_KEY = "langchain4j.openai.client.attempts";
+
+    private static final Logger logger = LoggerFactory.getLogger(OpenAiRetryPolicy.class);
+
+    private static final String RETRY_AFTER_MS_HEADER = "retry-after-ms";
+
+    private final int maxAttempts;
+
+    private final Duration initialBackoff;
+
+    private final Duration maxBackoff;
+
+    private final double multiplier;
+
+    private final Duration deadline;
+
+    private final Set<Integer> retryableStatusCodes;
+
+    private final boolean retryNonIdempotent;
+
+    private ObservationRegistry observationRegistry = ObservationRegistry.NOOP;
+
+    private OpenAiRetryPolicy(int maxAttempts, Duration initialBackoff, Duration maxBackoff, double multiplier,
+            Duration deadline, Set<Integer> retryableStatusCodes, boolean retryNonIdempotent) {
+        Assert.isTrue(maxAttempts > 0, "maxAttempts must be greater than 0");
+        Assert.notNull(initialBackoff, "initialBackoff cannot be null");
+        Assert.notNull(maxBackoff, "maxBackoff cannot be null");
+        Assert.isTrue(!initialBackoff.isNegative(), "initialBackoff cannot be negative");
+        Assert.isTrue(maxBackoff.compareTo(initialBackoff) >= 0, "maxBackoff must be greater than or equal to initialBackoff");
+        Assert.isTrue(multiplier >= 1, "multiplier must be greater than or equal to 1");
+        Assert.notNull(deadline, "deadline cannot be null");
+        Assert.isTrue(!deadline.isNegative() && !deadline.isZero(), "deadline must be positive");
+        Assert.notNull(retryableStatusCodes, "retryableStatusCodes cannot be null");
+
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.multiplier = multiplier;
+        this.deadline = deadline;
+        this.retryableStatusCodes = Set.copyOf(retryableStatusCodes);
+        this.retryNonIdempotent = retryNonIdempotent;
+    }
+
+    /**
+     * Runs the call, retrying it on transient errors.
+     */
+    public <T> T execute(boolean idempotent, Supplier<T> call) {
+        Assert.notNull(call, "call cannot be null");
+
+        Observation observation = observationRegistry.getCurrentObservation();
+        long start = System.nanoTime();
+        for (int attempt = 1;; attempt++) {
+            try {
+                return call.get();
+            }
+            catch (RuntimeException ex) {
+                long delayNanos = nextDelayNanos(idempotent, attempt, ex, start);
+                if (delayNanos < 0) {
+                    throw ex;
+                }
+                recordRetry(observation, attempt, ex, delayNanos);
+                try {
+                    TimeUnit.NANOSECONDS.sleep(delayNanos);
+                }
+                catch (InterruptedException interruptedException) {
+                    Thread.currentThread().interrupt();
+                    ex.addSuppressed(interruptedException);
+                    throw ex;
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs the asynchronous call, retrying it on transient errors. The delays between attempts
+     * don't hold any thread.
+     */
+    public <T> CompletableFuture<T> executeAsync(boolean idempotent, Supplier<CompletableFuture<T>> call) {
+        Assert.notNull(call, "call cannot be null");
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        attemptAsync(idempotent, call, 1, System.nanoTime(), observationRegistry.getCurrentObservation(), result);
+        return result;
+    }
+
+    private <T> void attemptAsync(boolean idempotent, Supplier<CompletableFuture<T>> call, int attempt, long start,
+            @Nullable Observation observation, CompletableFuture<T> result) {
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        }
+        catch (RuntimeException ex) {
+            future = CompletableFuture.failedFuture(ex);
+        }
+
+        future.whenComplete((value, ex) -> {
+            if (ex == null) {
+                result.complete(value);
+                return;
+            }
+            Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+            long delayNanos = nextDelayNanos(idempotent, attempt, cause, start);
+            if (delayNanos < 0) {
+                result.completeExceptionally(cause);
+                return;
+            }
+            recordRetry(observation, attempt, cause, delayNanos);
+            CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS)
+                    .execute(() -> attemptAsync(idempotent, call, attempt + 1, start, observation, result));
+        });
+    }
+
+    /**
+     * Returns how long to wait before the next attempt, or -1 if the call must not be retried.
+     */
+    long nextDelayNanos(boolean idempotent, int attempt, Throwable ex, long start) {
+        if ((!idempotent && !retryNonIdempotent) || attempt >= maxAttempts || !isRetryable(ex)) {
+            return -1;
+        }
+
+        Duration retryAfter = ex instanceof OpenAiResponseException responseException ? responseException.getRetryAfter() : null;
+        long delayNanos = retryAfter != null ? retryAfter.toNanos() : backoffNanos(attempt);
+
+        long remainingNanos = deadline.toNanos() - (System.nanoTime() - start);
+        if (delayNanos >= remainingNanos) {
+            logger.debug("Not retrying the OpenAI call: the next attempt would start past the deadline of {}", deadline);
+            return -1;
+        }
+        return delayNanos;
+    }
+
+    private long backoffNanos(int attempt) {
+        double exponentialNanos = initialBackoff.toNanos() * Math.pow(multiplier, attempt - 1);
+        long cappedNanos = (long) Math.min(exponentialNanos, maxBackoff.toNanos());
+        return cappedNanos > 0 ? ThreadLocalRandom.current().nextLong(cappedNanos + 1) : 0;
+    }
+
+    private boolean isRetryable(Throwable ex) {
+        if (ex instanceof OpenAiResponseException responseException) {
+            return retryableStatusCodes.contains(responseException.getStatusCode());
+        }
+        // I/O errors are wrapped by RestClient, but not necessarily by other asynchronous calls.
+        return ex instanceof ResourceAccessException || ex instanceof IOException;
+    }
+
+    private void recordRetry(@Nullable Observation observation, int attempt, Throwable ex, long delayNanos) {
+        logger.debug("Retrying the OpenAI call in {} ms after attempt {} failed: {}",
+                TimeUnit.NANOSECONDS.toMillis(delayNanos), attempt, ex.getMessage());
+        if (observation != null) {
+            observation.event(Observation.Event.of(RETRY_EVENT_NAME, "retry after attempt " + attempt));
+            observation.highCardinalityKeyValue(ATTEMPTS_KEY, String.valueOf(attempt + 1));
+        }
+    }
+
+    /**
+     * Reads the delay requested by the server from the {@code retry-after-ms} or
+     * {@code Retry-After} header, the latter in seconds or as an HTTP date.
+     */
+    @Nullable
+    static Duration parseRetryAfter(HttpHeaders headers) {
+        String retryAfterMs = headers.getFirst(RETRY_AFTER_MS_HEADER);
+        if (retryAfterMs != null) {
+            try {
+                return Duration.ofMillis((long) Double.parseDouble(retryAfterMs.trim()));
+            }
+            catch (NumberFormatException ex) {
+                logger.debug("Ignoring invalid {} header value: {}", RETRY_AFTER_MS_HEADER, retryAfterMs);
+            }
+        }
+
+        String retryAfter = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter == null) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(retryAfter.trim()));
+        }
+        catch (NumberFormatException ex) {
+            try {
+                Duration delay = Duration.between(ZonedDateTime.now(),
+                        ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+                return delay.isNegative() ? Duration.ZERO : delay;
+            }
+            catch (DateTimeParseException dateTimeParseException) {
+                logger.debug("Ignoring invalid {} header value: {}", HttpHeaders.RETRY_AFTER, retryAfter);
+                return null;
+            }
+        }
+    }
+
+    public void setObservationRegistry(ObservationRegistry observationRegistry) {
+        Assert.notNull(observationRegistry, "observationRegistry cannot be null");
+        this.observationRegistry = observationRegistry;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private int maxAttempts = 3;
+        private Duration initialBackoff = Duration.ofMillis(500);
+        private Duration maxBackoff = Duration.ofSeconds(30);
+        private double multiplier = 2.0;
+        private Duration deadline = Duration.ofMinutes(2);
+        private Set<Integer> retryableStatusCodes = Set.of(408, 429, 500, 502, 503, 504);
+        private boolean retryNonIdempotent = false;
+        private ObservationRegistry observationRegistry;
+
+        private Builder() {}
+
+        /**
+         * Maximum number of attempts, including the first one.
+         */
+        public Builder maxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        public Builder initialBackoff(Duration initialBackoff) {
+            this.initialBackoff = initialBackoff;
+            return this;
+        }
+
+        public Builder maxBackoff(Duration maxBackoff) {
+            this.maxBackoff = maxBackoff;
+            return this;
+        }
+
+        public Builder multiplier(double multiplier) {
+            this.multiplier = multiplier;
+            return this;
+        }
+
+        /**
+         * Maximum time from the first attempt after which no more attempts are started.
+         */
+        public Builder deadline(Duration deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+
+        public Builder retryableStatusCodes(Set<Integer> retryableStatusCodes) {
+            this.retryableStatusCodes = retryableStatusCodes;
+            return this;
+        }
+
+        /**
+         * Whether to also retry chat completions and image generations.
+         */
+        public Builder retryNonIdempotent(boolean retryNonIdempotent) {
+            this.retryNonIdempotent = retryNonIdempotent;
+            return this;
+        }
+
+        public Builder observationRegistry(ObservationRegistry observationRegistry) {
+            this.observationRegistry = observationRegistry;
+            return this;
+        }
+
+        public OpenAiRetryPolicy build() {
+            var retryPolicy = new OpenAiRetryPolicy(maxAttempts, initialBackoff, maxBackoff, multiplier, deadline,
+                    retryableStatusCodes, retryNonIdempotent);
+            if (observationRegistry != null) {
+                retryPolicy.setObservationRegistry(observationRegistry);
+            }
+            return retryPolicy;
+        }
+    }
+
+}
@@ -0,0 +1,69 @@
+package io.thomasvitale.langchain4j.spring.openai.client;
+
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+
+import io.thomasvitale.langchain4j.spring.openai.api.chat.ChatCompletionMessage;
+import io.thomasvitale.langchain4j.spring.openai.api.chat.ChatCompletionRequest;
+import io.thomasvitale.langchain4j.spring.openai.api.embedding.EmbeddingRequest;
+import io.thomasvitale.langchain4j.spring.openai.api.moderation.ModerationRequest;
+
+/**
+ * Estimates the number of tokens a request counts against the tokens-per-minute budget.
+ * <p>
+ * Like the OpenAI rate limiter, it uses roughly 4 characters per token for the input and
+ * adds the maximum number of tokens the completion can generate. The estimate doesn't need
+ * a tokenizer, since the budget is corrected with the rate limit headers of each response.
+ */
+final class OpenAiTokenEstimator {
+
+    private static final int CHARACTERS_PER_TOKEN = 4;
+
+    private static final int TOKENS_PER_MESSAGE = 4;
+
+    private OpenAiTokenEstimator() {
+    }
+
+    static int estimate(ChatCompletionRequest request) {
+        long tokens = 0;
+        for (ChatCompletionMessage message : request.messages()) {
+            tokens += TOKENS_PER_MESSAGE;
+            if (message.content() instanceof String text) {
+                tokens += estimate(text);
+            }
+            else if (message.content() instanceof List<?> contents) {
+                for (Object content : contents) {
+                    if (content instanceof ChatCompletionMessage.Content textContent) {
+                        tokens += estimate(textContent.text());
+                    }
+                }
+            }
+        }
+        if (request.maxTokens() != null) {
+            tokens += (long) request.maxTokens() * (request.n() != null ? request.n() : 1);
+        }
+        return (int) Math.min(tokens, Integer.MAX_VALUE);
+    }
+
+    static int estimate(EmbeddingRequest request) {
+        return estimate(request.input());
+    }
+
+    static int estimate(ModerationRequest request) {
+        return estimate(request.input());
+    }
+
+    private static int estimate(List<String> texts) {
+        long tokens = 0;
+        for (String text : texts) {
+            tokens += estimate(text);
+        }
+        return (int) Math.min(tokens, Integer.MAX_VALUE);
+    }
+
+    private static int estimate(@Nullable String text) {
+        return text == null ? 0 : (text.length() + CHARACTERS_PER_TOKEN - 1) / CHARACTERS_PER_TOKEN;
+    }
+
+}
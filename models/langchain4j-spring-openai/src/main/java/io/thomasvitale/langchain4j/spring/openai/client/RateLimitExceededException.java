@@ -0,0 +1,17 @@
+package io.thomasvitale.langchain4j.spring.openai.client;
+
+/**
+ * Thrown when a request is rejected by the {@link OpenAiRateLimiter} because it could not
+ * be sent within the maximum wait time.
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    public RateLimitExceededException(String message) {
+        super(message);
+    }
+
+    public RateLimitExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
@@ -0,0 +1,34 @@
+package io.thomasvitale.langchain4j.spring.openai.client.observation;
+
+import io.micrometer.common.KeyValues;
+
+/**
+ * Default {@link RateLimiterObservationConvention} implementation.
+ */
+public final class DefaultRateLimiterObservationConvention implements RateLimiterObservationConvention {
+
+    @Override
+    public String getName() {
+        return RateLimiterObservation.RATE_LIMITER_OBSERVATION.getName();
+    }
+
+    @Override
+    public String getContextualName(RateLimiterObservationContext context) {
+        return RateLimiterObservation.RATE_LIMITER_OBSERVATION.getContextualName();
+    }
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(RateLimiterObservationContext context) {
+        return KeyValues.of(
+                RateLimiterObservation.RateLimiterLowCardinalityTags.OUTCOME.withValue(context.getOutcome())
+        );
+    }
+
+    @Override
+    public KeyValues getHighCardinalityKeyValues(RateLimiterObservationContext context) {
+        return KeyValues.of(
+                RateLimiterObservation.RateLimiterHighCardinalityTags.ESTIMATED_TOKENS.withValue(String.valueOf(context.getEstimatedTokens()))
+        );
+    }
+
+}
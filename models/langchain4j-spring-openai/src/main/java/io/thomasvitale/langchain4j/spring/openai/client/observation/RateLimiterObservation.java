@@ -0,0 +1,69 @@
+package io.thomasvitale.langchain4j.spring.openai.client.observation;
+
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.observation.docs.ObservationDocumentation;
+
+/**
+ * Observation created around the acquisition of a permit from the OpenAI rate limiter.
+ * <p>
+ * Its duration is the time a request waited before being sent, which a meter observation
+ * handler exports as the {@code langchain4j.openai.rate.limiter} timer, tagged with the outcome.
+ */
+public enum RateLimiterObservation implements ObservationDocumentation {
+
+    RATE_LIMITER_OBSERVATION {
+        @Override
+        public String getName() {
+            return "langchain4j.openai.rate.limiter";
+        }
+
+        @Override
+        public String getContextualName() {
+            return "openai rate limiter";
+        }
+
+        @Override
+        public KeyName[] getLowCardinalityKeyNames() {
+            return RateLimiterLowCardinalityTags.values();
+        }
+
+        @Override
+        public KeyName[] getHighCardinalityKeyNames() {
+            return RateLimiterHighCardinalityTags.values();
+        }
+
+        @Override
+        public String getPrefix() {
+            return "langchain4j";
+        }
+    };
+
+    enum RateLimiterLowCardinalityTags implements KeyName {
+
+        /**
+         * Whether the permit was acquired or the request was rejected.
+         */
+        OUTCOME {
+            @Override
+            public String asString() {
+                return "langchain4j.openai.rate.limiter.outcome";
+            }
+        }
+
+    }
+
+    enum RateLimiterHighCardinalityTags implements KeyName {
+
+        /**
+         * Number of tokens estimated for the request.
+         */
+        ESTIMATED_TOKENS {
+            @Override
+            public String asString() {
+                return "langchain4j.openai.rate.limiter.estimated.tokens";
+            }
+        }
+
+    }
+
+}
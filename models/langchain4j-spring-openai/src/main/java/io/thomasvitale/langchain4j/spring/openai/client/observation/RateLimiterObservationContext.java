@@ -0,0 +1,33 @@
+package io.thomasvitale.langchain4j.spring.openai.client.observation;
+
+import io.micrometer.observation.Observation;
+
+/**
+ * Observation context for the acquisition of a permit from the OpenAI rate limiter.
+ */
+public class RateLimiterObservationContext extends Observation.Context {
+
+    public static final String OUTCOME_ACQUIRED = "acquired";
+
+    public static final String OUTCOME_REJECTED = "rejected";
+
+    private final int estimatedTokens;
+
+    private String outcome = OUTCOME_ACQUIRED;
+
+    public RateLimiterObservationContext(int estimatedTokens) {
+        this.estimatedTokens = estimatedTokens;
+    }
+
+    public int getEstimatedTokens() {
+        return estimatedTokens;
+    }
+
+    public String getOutcome() {
+        return outcome;
+    }
+
+    public void setOutcome(String outcome) {
+        this.outcome = outcome;
+    }
+}
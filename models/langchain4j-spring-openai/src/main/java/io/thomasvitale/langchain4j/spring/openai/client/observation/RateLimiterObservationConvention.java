@@ -0,0 +1,16 @@
+package io.thomasvitale.langchain4j.spring.openai.client.observation;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationConvention;
+
+/**
+ * {@link ObservationConvention} for {@link RateLimiterObservationContext}.
+ */
+public interface RateLimiterObservationConvention extends ObservationConvention<RateLimiterObservationContext> {
+
+    @Override
+    default boolean supportsContext(Observation.Context context) {
+        return context instanceof RateLimiterObservationContext;
+    }
+
+}
@@ -1,6 +1,7 @@
 package io.thomasvitale.langchain4j.spring.openai;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import dev.langchain4j.agent.tool.ToolExecutionRequest;
 import dev.langchain4j.agent.tool.ToolSpecification;
@@ -86,6 +87,29 @@ class OpenAiChatModelIT {
         assertThat(response.finishReason().name()).isEqualToIgnoringCase(ChatCompletionFinishReason.STOP.name());
     }
 
+    @Test
+    void generateTextAsync() throws Exception {
+        OpenAiChatModel chatModel = OpenAiChatModel.builder()
+            .client(openAiClient)
+            .options(OpenAiChatOptions.builder().build())
+            .build();
+
+        UserMessage userMessage = UserMessage.from("What is the capital of Italy?");
+
+        Response<AiMessage> response = chatModel.generateAsync(List.of(userMessage)).get(30, TimeUnit.SECONDS);
+        logger.info("Response: \n" + response);
+
+        AiMessage aiMessage = response.content();
+        assertThat(aiMessage.text()).contains("Rome");
+        assertThat(aiMessage.toolExecutionRequests()).isNull();
+
+        TokenUsage tokenUsage = response.tokenUsage();
+        assertThat(tokenUsage.inputTokenCount()).isGreaterThan(0);
+        assertThat(tokenUsage.outputTokenCount()).isGreaterThan(0);
+
+        assertThat(response.finishReason()).isEqualTo(STOP);
+    }
+
     @Test
     void generateTextTooLong() {
         OpenAiChatModel chatModel = OpenAiChatModel.builder()
@@ -1,11 +1,13 @@
 package io.thomasvitale.langchain4j.spring.openai;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.output.Response;
 import dev.langchain4j.model.output.TokenUsage;
+import dev.langchain4j.store.embedding.CosineSimilarity;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -17,6 +19,7 @@ import io.thomasvitale.langchain4j.spring.openai.client.OpenAiClient;
 import io.thomasvitale.langchain4j.spring.openai.client.OpenAiClientConfig;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withinPercentage;
 
 /**
  * Integration tests for {@link OpenAiEmbeddingModel}.
@@ -58,6 +61,26 @@ class OpenAiEmbeddingModelIT {
         assertThat(response.finishReason()).isNull();
     }
 
+    @Test
+    void generateSameEmbeddingWithFloatAndBase64EncodingFormats() {
+        OpenAiEmbeddingModel floatEmbeddingModel = OpenAiEmbeddingModel.builder()
+                .client(openAiClient)
+                .options(OpenAiEmbeddingOptions.builder().encodingFormat("float").build())
+                .build();
+        OpenAiEmbeddingModel base64EmbeddingModel = OpenAiEmbeddingModel.builder()
+                .client(openAiClient)
+                .options(OpenAiEmbeddingOptions.builder().encodingFormat("base64").build())
+                .build();
+
+        String text = "Welcome to the jungle";
+
+        Embedding floatEmbedding = floatEmbeddingModel.embed(text).content();
+        Embedding base64Embedding = base64EmbeddingModel.embed(text).content();
+
+        assertThat(base64Embedding.dimension()).isEqualTo(floatEmbedding.dimension());
+        assertThat(CosineSimilarity.between(floatEmbedding, base64Embedding)).isCloseTo(1.0, withinPercentage(1));
+    }
+
     @Test
     void generateMultipleEmbeddings() {
         OpenAiEmbeddingModel embeddingModel = OpenAiEmbeddingModel.builder()
@@ -82,6 +105,53 @@ class OpenAiEmbeddingModelIT {
         assertThat(response.finishReason()).isNull();
     }
 
+    @Test
+    void generateMultipleEmbeddingsInBatches() {
+        OpenAiEmbeddingModel embeddingModel = OpenAiEmbeddingModel.builder()
+                .client(openAiClient)
+                .options(OpenAiEmbeddingOptions.builder().build())
+                .maxBatchSize(2)
+                .build();
+
+        List<TextSegment> textSegments = List.of(
+                TextSegment.from("Welcome to the jungle"),
+                TextSegment.from("Welcome to Jumanji"),
+                TextSegment.from("Welcome to the jungle"));
+
+        Response<List<Embedding>> response = embeddingModel.embedAll(textSegments);
+
+        assertThat(response.content()).hasSize(3);
+        // Embeddings are mapped back to the segments they belong to across batches.
+        assertThat(CosineSimilarity.between(response.content().get(0), response.content().get(2)))
+                .isGreaterThan(CosineSimilarity.between(response.content().get(0), response.content().get(1)));
+
+        TokenUsage tokenUsage = response.tokenUsage();
+        assertThat(tokenUsage.inputTokenCount()).isEqualTo(13);
+    }
+
+    @Test
+    void generateMultipleEmbeddingsAsync() throws Exception {
+        OpenAiEmbeddingModel embeddingModel = OpenAiEmbeddingModel.builder()
+                .client(openAiClient)
+                .options(OpenAiEmbeddingOptions.builder().build())
+                .maxBatchSize(2)
+                .build();
+
+        List<TextSegment> textSegments = List.of(
+                TextSegment.from("Welcome to the jungle"),
+                TextSegment.from("Welcome to Jumanji"),
+                TextSegment.from("Welcome to the jungle"));
+
+        Response<List<Embedding>> response = embeddingModel.embedAllAsync(textSegments).get(30, TimeUnit.SECONDS);
+
+        assertThat(response.content()).hasSize(3);
+        assertThat(CosineSimilarity.between(response.content().get(0), response.content().get(2)))
+                .isGreaterThan(CosineSimilarity.between(response.content().get(0), response.content().get(1)));
+
+        TokenUsage tokenUsage = response.tokenUsage();
+        assertThat(tokenUsage.inputTokenCount()).isEqualTo(13);
+    }
+
     @Test
     void generateEmbeddingWithDimension() {
         int dimensions = 42;
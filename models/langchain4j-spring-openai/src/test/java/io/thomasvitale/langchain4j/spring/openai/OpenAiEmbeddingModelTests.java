@@ -0,0 +1,102 @@
+package io.thomasvitale.langchain4j.spring.openai;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.output.Response;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+import io.thomasvitale.langchain4j.spring.openai.client.MockOpenAiServer;
+import io.thomasvitale.langchain4j.spring.openai.client.OpenAiClient;
+import io.thomasvitale.langchain4j.spring.openai.client.OpenAiClientConfig;
+import io.thomasvitale.langchain4j.spring.openai.client.OpenAiResponseException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link OpenAiEmbeddingModel}.
+ */
+class OpenAiEmbeddingModelTests {
+
+    private static final String EMBEDDING_RESPONSE = """
+            {"object":"list","model":"test","data":[{"object":"embedding","index":0,"embedding":[0.1,0.2]}],
+            "usage":{"prompt_tokens":1,"total_tokens":1}}
+            """;
+
+    private final MockOpenAiServer server = MockOpenAiServer.start();
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private final OpenAiClient openAiClient = new OpenAiClient(
+            OpenAiClientConfig.builder().baseUrl(server.baseUrl()).apiKey("demo").build(),
+            RestClient.builder().requestInterceptor((request, body, execution) -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(50);
+                    return execution.execute(request, body);
+                }
+                catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(ex);
+                }
+                finally {
+                    inFlight.decrementAndGet();
+                }
+            }));
+
+    @AfterEach
+    void stopServer() {
+        server.close();
+    }
+
+    @Test
+    void embedAllAsyncBoundsBatchesInFlight() throws Exception {
+        var embeddingModel = OpenAiEmbeddingModel.builder()
+                .client(openAiClient)
+                .maxBatchSize(1)
+                .concurrency(2)
+                .build();
+        IntStream.range(0, 5).forEach(i -> server.enqueueJson(EMBEDDING_RESPONSE));
+
+        Response<List<Embedding>> response = embeddingModel.embedAllAsync(textSegments(5)).get(5, TimeUnit.SECONDS);
+
+        assertThat(response.content()).hasSize(5).allSatisfy(embedding -> assertThat(embedding.vector()).containsExactly(0.1f, 0.2f));
+        assertThat(response.tokenUsage().inputTokenCount()).isEqualTo(5);
+        assertThat(server.requests()).hasSize(5);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void embedAllAsyncStopsSendingBatchesAfterFailure() {
+        var embeddingModel = OpenAiEmbeddingModel.builder()
+                .client(openAiClient)
+                .maxBatchSize(1)
+                .concurrency(1)
+                .build();
+        server.enqueue(400, "application/json", """
+                {"error":{"message":"Invalid input","type":"invalid_request_error"}}
+                """);
+
+        assertThat(embeddingModel.embedAllAsync(textSegments(3)))
+                .failsWithin(Duration.ofSeconds(5))
+                .withThrowableThat()
+                .havingCause()
+                .isInstanceOf(OpenAiResponseException.class);
+        assertThat(server.requests()).hasSize(1);
+    }
+
+    private static List<TextSegment> textSegments(int count) {
+        return IntStream.range(0, count).mapToObj(i -> TextSegment.from("text " + i)).toList();
+    }
+
+}
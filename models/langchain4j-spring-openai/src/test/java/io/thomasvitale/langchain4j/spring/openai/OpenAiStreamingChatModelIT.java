@@ -0,0 +1,187 @@
+package io.thomasvitale.langchain4j.spring.openai;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+
+import org.json.JSONException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.skyscreamer.jsonassert.JSONAssert;
+import org.skyscreamer.jsonassert.JSONCompareMode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.client.RestClient;
+
+import io.thomasvitale.langchain4j.spring.openai.client.OpenAiClient;
+import io.thomasvitale.langchain4j.spring.openai.client.OpenAiClientConfig;
+
+import static dev.langchain4j.agent.tool.JsonSchemaProperty.INTEGER;
+import static dev.langchain4j.data.message.UserMessage.userMessage;
+import static dev.langchain4j.model.output.FinishReason.LENGTH;
+import static dev.langchain4j.model.output.FinishReason.STOP;
+import static dev.langchain4j.model.output.FinishReason.TOOL_EXECUTION;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for {@link OpenAiStreamingChatModel}.
+ * <p>
+ * Adapted from OpenAiStreamingChatModelIT in the LangChain4j project.
+ */
+@EnabledIfEnvironmentVariable(named = "LANGCHAIN4J_OPENAI_CLIENT_API_KEY", matches = ".*")
+class OpenAiStreamingChatModelIT {
+
+    private static final Logger logger = LoggerFactory.getLogger(OpenAiStreamingChatModelIT.class);
+
+    private static OpenAiClient openAiClient;
+
+    private ToolSpecification calculator = ToolSpecification.builder()
+            .name("calculator")
+            .description("returns a sum of two numbers")
+            .addParameter("first", INTEGER)
+            .addParameter("second", INTEGER)
+            .build();
+
+    @BeforeAll
+    static void beforeAll() {
+        var apiKey = System.getenv("LANGCHAIN4J_OPENAI_CLIENT_API_KEY");
+        openAiClient = new OpenAiClient(OpenAiClientConfig.builder().apiKey(apiKey).build(), RestClient.builder());
+    }
+
+    @Test
+    void generateText() throws Exception {
+        OpenAiStreamingChatModel chatModel = OpenAiStreamingChatModel.builder()
+                .client(openAiClient)
+                .options(OpenAiChatOptions.builder().build())
+                .build();
+
+        StringBuilder tokens = new StringBuilder();
+        CompletableFuture<Response<AiMessage>> futureResponse = new CompletableFuture<>();
+
+        chatModel.generate("What is the capital of Italy?", new TestStreamingResponseHandler(tokens, futureResponse));
+
+        Response<AiMessage> response = futureResponse.get(30, TimeUnit.SECONDS);
+        logger.info("Response: \n" + response);
+
+        AiMessage aiMessage = response.content();
+        assertThat(aiMessage.text()).contains("Rome");
+        assertThat(aiMessage.text()).isEqualTo(tokens.toString());
+        assertThat(aiMessage.toolExecutionRequests()).isNull();
+
+        TokenUsage tokenUsage = response.tokenUsage();
+        assertThat(tokenUsage.inputTokenCount()).isGreaterThan(0);
+        assertThat(tokenUsage.outputTokenCount()).isGreaterThan(0);
+        assertThat(tokenUsage.totalTokenCount())
+                .isEqualTo(tokenUsage.inputTokenCount() + tokenUsage.outputTokenCount());
+
+        assertThat(response.finishReason()).isEqualTo(STOP);
+    }
+
+    @Test
+    void generateTextTooLong() throws Exception {
+        OpenAiStreamingChatModel chatModel = OpenAiStreamingChatModel.builder()
+                .client(openAiClient)
+                .options(OpenAiChatOptions.builder().maxTokens(1).build())
+                .build();
+
+        CompletableFuture<Response<AiMessage>> futureResponse = new CompletableFuture<>();
+
+        chatModel.generate("What is the capital of Denmark?", new TestStreamingResponseHandler(new StringBuilder(), futureResponse));
+
+        Response<AiMessage> response = futureResponse.get(30, TimeUnit.SECONDS);
+        logger.info("Response: \n" + response);
+
+        assertThat(response.content().text()).isNotBlank();
+        assertThat(response.tokenUsage().outputTokenCount()).isEqualTo(1);
+        assertThat(response.finishReason()).isEqualTo(LENGTH);
+    }
+
+    @Test
+    void executeToolExplicitlyAndThenGenerateAnswer() throws Exception {
+        OpenAiStreamingChatModel chatModel = OpenAiStreamingChatModel.builder()
+                .client(openAiClient)
+                .options(OpenAiChatOptions.builder().build())
+                .build();
+
+        // Execute tool
+
+        UserMessage userMessage = userMessage("2+2=?");
+
+        CompletableFuture<Response<AiMessage>> futureResponse = new CompletableFuture<>();
+
+        chatModel.generate(List.of(userMessage), List.of(calculator), new TestStreamingResponseHandler(new StringBuilder(), futureResponse));
+
+        Response<AiMessage> response = futureResponse.get(30, TimeUnit.SECONDS);
+
+        AiMessage aiMessage = response.content();
+        assertThat(aiMessage.text()).isNull();
+        assertThat(aiMessage.toolExecutionRequests()).hasSize(1);
+
+        ToolExecutionRequest toolExecutionRequest = aiMessage.toolExecutionRequests().get(0);
+        assertToolExecutionRequest(toolExecutionRequest);
+
+        assertThat(response.tokenUsage().inputTokenCount()).isGreaterThan(0);
+        assertThat(response.finishReason()).isEqualTo(TOOL_EXECUTION);
+
+        // Then answer
+
+        ToolExecutionResultMessage toolExecutionResultMessage = ToolExecutionResultMessage.from(toolExecutionRequest, "4");
+        List<ChatMessage> messages = List.of(userMessage, aiMessage, toolExecutionResultMessage);
+
+        CompletableFuture<Response<AiMessage>> secondFutureResponse = new CompletableFuture<>();
+
+        chatModel.generate(messages, new TestStreamingResponseHandler(new StringBuilder(), secondFutureResponse));
+
+        Response<AiMessage> secondResponse = secondFutureResponse.get(30, TimeUnit.SECONDS);
+
+        AiMessage secondAiMessage = secondResponse.content();
+        assertThat(secondAiMessage.text()).contains("4");
+        assertThat(secondAiMessage.toolExecutionRequests()).isNull();
+        assertThat(secondResponse.finishReason()).isEqualTo(STOP);
+    }
+
+    private void assertToolExecutionRequest(ToolExecutionRequest toolExecutionRequest) throws JSONException {
+        assertThat(toolExecutionRequest.id()).isNotBlank();
+        assertThat(toolExecutionRequest.name()).isEqualTo("calculator");
+        JSONAssert.assertEquals("""
+                {
+                  "first": 2,
+                  "second": 2
+                }
+                """, toolExecutionRequest.arguments(), JSONCompareMode.STRICT);
+    }
+
+    private record TestStreamingResponseHandler(
+            StringBuilder tokens,
+            CompletableFuture<Response<AiMessage>> futureResponse
+    ) implements StreamingResponseHandler<AiMessage> {
+
+        @Override
+        public void onNext(String token) {
+            tokens.append(token);
+        }
+
+        @Override
+        public void onComplete(Response<AiMessage> response) {
+            futureResponse.complete(response);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            futureResponse.completeExceptionally(error);
+        }
+
+    }
+
+}
@@ -0,0 +1,164 @@
+package io.thomasvitale.langchain4j.spring.openai;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.agent.tool.ToolSpecification;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.output.FinishReason;
+import dev.langchain4j.model.output.Response;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+import io.thomasvitale.langchain4j.spring.openai.client.MockOpenAiServer;
+import io.thomasvitale.langchain4j.spring.openai.client.OpenAiClient;
+import io.thomasvitale.langchain4j.spring.openai.client.OpenAiClientConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link OpenAiStreamingChatModel}, parsing canned server-sent events.
+ */
+class OpenAiStreamingChatModelTests {
+
+    private final MockOpenAiServer server = MockOpenAiServer.start();
+
+    private final OpenAiStreamingChatModel chatModel = OpenAiStreamingChatModel.builder()
+            .client(new OpenAiClient(OpenAiClientConfig.builder().baseUrl(server.baseUrl()).apiKey("demo").build(),
+                    RestClient.builder()))
+            .executor(Runnable::run)
+            .build();
+
+    @AfterEach
+    void stopServer() {
+        server.close();
+    }
+
+    @Test
+    void streamTextTokens() throws Exception {
+        server.enqueue(200, "text/event-stream", """
+                data: {"id":"1","object":"chat.completion.chunk","choices":[{"index":0,"delta":{"role":"assistant","content":""}}]}
+
+                data: {"id":"1","object":"chat.completion.chunk","choices":[{"index":0,"delta":{"content":"Hello"}}]}
+
+                : keep-alive comment
+
+                data: {"id":"1","object":"chat.completion.chunk","choices":[{"index":0,"delta":{"content":" world"}}]}
+
+                data: {"id":"1","object":"chat.completion.chunk","choices":[{"index":0,"delta":{},"finish_reason":"stop"}]}
+
+                data: {"id":"1","object":"chat.completion.chunk","choices":[],"usage":{"prompt_tokens":5,"completion_tokens":2,"total_tokens":7}}
+
+                data: [DONE]
+
+                data: {"id":"ignored","choices":[{"index":0,"delta":{"content":" after done"}}]}
+
+                """);
+
+        var handler = new RecordingHandler();
+        chatModel.generate(List.of(UserMessage.from("Hi")), handler);
+        Response<AiMessage> response = handler.response.get(5, TimeUnit.SECONDS);
+
+        assertThat(handler.tokens).containsExactly("Hello", " world");
+        assertThat(response.content().text()).isEqualTo("Hello world");
+        assertThat(response.finishReason()).isEqualTo(FinishReason.STOP);
+        assertThat(response.tokenUsage().inputTokenCount()).isEqualTo(5);
+        assertThat(response.tokenUsage().outputTokenCount()).isEqualTo(2);
+        assertThat(server.requests()).singleElement().satisfies(request -> {
+            assertThat(request.path()).isEqualTo("/v1/chat/completions");
+            assertThat(request.body()).contains("\"stream\":true");
+        });
+    }
+
+    @Test
+    void eventSpanningMultipleDataLines() throws Exception {
+        server.enqueue(200, "text/event-stream", """
+                data: {"id":"1","object":"chat.completion.chunk",
+                data: "choices":[{"index":0,"delta":{"content":"Hi"},"finish_reason":"stop"}]}
+
+                data: [DONE]
+                """);
+
+        var handler = new RecordingHandler();
+        chatModel.generate(List.of(UserMessage.from("Hi")), handler);
+        Response<AiMessage> response = handler.response.get(5, TimeUnit.SECONDS);
+
+        assertThat(handler.tokens).containsExactly("Hi");
+        assertThat(response.content().text()).isEqualTo("Hi");
+    }
+
+    @Test
+    void reassembleToolCallDeltas() throws Exception {
+        server.enqueue(200, "text/event-stream", """
+                data: {"id":"1","choices":[{"index":0,"delta":{"role":"assistant","tool_calls":[{"index":0,"id":"call_1","type":"function","function":{"name":"weather","arguments":""}}]}}]}
+
+                data: {"id":"1","choices":[{"index":0,"delta":{"tool_calls":[{"index":0,"function":{"arguments":"{\\"city\\":"}}]}}]}
+
+                data: {"id":"1","choices":[{"index":0,"delta":{"tool_calls":[{"index":1,"id":"call_2","type":"function","function":{"name":"time","arguments":"{}"}}]}}]}
+
+                data: {"id":"1","choices":[{"index":0,"delta":{"tool_calls":[{"index":0,"function":{"arguments":"\\"Rome\\"}"}}]}}]}
+
+                data: {"id":"1","choices":[{"index":0,"delta":{},"finish_reason":"tool_calls"}]}
+
+                data: [DONE]
+
+                """);
+
+        var handler = new RecordingHandler();
+        chatModel.generate(List.of(UserMessage.from("Weather in Rome?")),
+                List.of(ToolSpecification.builder().name("weather").build(), ToolSpecification.builder().name("time").build()),
+                handler);
+        Response<AiMessage> response = handler.response.get(5, TimeUnit.SECONDS);
+
+        assertThat(handler.tokens).isEmpty();
+        assertThat(response.finishReason()).isEqualTo(FinishReason.TOOL_EXECUTION);
+        assertThat(response.content().toolExecutionRequests()).containsExactly(
+                ToolExecutionRequest.builder().id("call_1").name("weather").arguments("{\"city\":\"Rome\"}").build(),
+                ToolExecutionRequest.builder().id("call_2").name("time").arguments("{}").build());
+    }
+
+    @Test
+    void whenErrorResponseThenHandlerNotified() throws Exception {
+        server.enqueue(400, "application/json", """
+                {"error":{"message":"Invalid model","type":"invalid_request_error"}}
+                """);
+
+        var handler = new RecordingHandler();
+        chatModel.generate(List.of(UserMessage.from("Hi")), handler);
+
+        assertThat(handler.response).failsWithin(5, TimeUnit.SECONDS)
+                .withThrowableThat()
+                .withMessageContaining("Invalid model");
+    }
+
+    private static class RecordingHandler implements StreamingResponseHandler<AiMessage> {
+
+        private final List<String> tokens = new ArrayList<>();
+
+        private final CompletableFuture<Response<AiMessage>> response = new CompletableFuture<>();
+
+        @Override
+        public void onNext(String token) {
+            tokens.add(token);
+        }
+
+        @Override
+        public void onComplete(Response<AiMessage> response) {
+            this.response.complete(response);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            response.completeExceptionally(error);
+        }
+
+    }
+
+}
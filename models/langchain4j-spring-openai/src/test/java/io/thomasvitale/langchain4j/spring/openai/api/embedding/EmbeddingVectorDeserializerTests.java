@@ -0,0 +1,73 @@
+package io.thomasvitale.langchain4j.spring.openai.api.embedding;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Base64;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link EmbeddingVectorDeserializer}.
+ */
+class EmbeddingVectorDeserializerTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void whenFloatEncodingThenDeserialize() throws Exception {
+        var json = """
+                {
+                  "index": 0,
+                  "embedding": [0.1, -0.25, 3.5],
+                  "object": "embedding"
+                }
+                """;
+
+        var embeddingData = objectMapper.readValue(json, EmbeddingResponse.EmbeddingData.class);
+
+        assertThat(embeddingData.embedding()).containsExactly(0.1f, -0.25f, 3.5f);
+    }
+
+    @Test
+    void whenBase64EncodingThenDeserialize() throws Exception {
+        var json = """
+                {
+                  "index": 0,
+                  "embedding": "%s",
+                  "object": "embedding"
+                }
+                """.formatted(toBase64(0.1f, -0.25f, 3.5f));
+
+        var embeddingData = objectMapper.readValue(json, EmbeddingResponse.EmbeddingData.class);
+
+        assertThat(embeddingData.embedding()).containsExactly(0.1f, -0.25f, 3.5f);
+    }
+
+    @Test
+    void whenBase64LengthNotMultipleOfFloatSizeThenThrow() {
+        var json = """
+                {
+                  "index": 0,
+                  "embedding": "%s",
+                  "object": "embedding"
+                }
+                """.formatted(Base64.getEncoder().encodeToString(new byte[] { 1, 2, 3 }));
+
+        assertThatThrownBy(() -> objectMapper.readValue(json, EmbeddingResponse.EmbeddingData.class))
+            .isInstanceOf(JsonMappingException.class)
+            .hasMessageContaining("not a multiple of 4");
+    }
+
+    private static String toBase64(float... vector) {
+        ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(vector);
+        return Base64.getEncoder().encodeToString(buffer.array());
+    }
+
+}
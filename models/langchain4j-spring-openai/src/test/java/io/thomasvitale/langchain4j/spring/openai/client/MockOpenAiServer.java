@@ -0,0 +1,103 @@
+package io.thomasvitale.langchain4j.spring.openai.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * HTTP server replying to each request with the next enqueued response, for testing
+ * the OpenAI client without a real API. Requests without a response left get a 500 error.
+ */
+public class MockOpenAiServer implements AutoCloseable {
+
+    private final HttpServer server;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    private final Queue<MockResponse> responses = new ConcurrentLinkedQueue<>();
+
+    private final List<RecordedRequest> requests = new CopyOnWriteArrayList<>();
+
+    private MockOpenAiServer() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    public static MockOpenAiServer start() {
+        try {
+            return new MockOpenAiServer();
+        }
+        catch (IOException ex) {
+            throw new IllegalStateException("Failed to start the mock OpenAI server", ex);
+        }
+    }
+
+    public URI baseUrl() {
+        return URI.create("http://localhost:" + server.getAddress().getPort());
+    }
+
+    public MockOpenAiServer enqueue(int status, String contentType, String body) {
+        return enqueue(status, contentType, body, Map.of());
+    }
+
+    public MockOpenAiServer enqueue(int status, String contentType, String body, Map<String, String> headers) {
+        responses.add(new MockResponse(status, contentType, body, headers));
+        return this;
+    }
+
+    public MockOpenAiServer enqueueJson(String body) {
+        return enqueue(200, "application/json", body);
+    }
+
+    public List<RecordedRequest> requests() {
+        return requests;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange; InputStream requestBody = exchange.getRequestBody()) {
+            requests.add(new RecordedRequest(exchange.getRequestMethod(), exchange.getRequestURI().getPath(),
+                    exchange.getRequestHeaders().getFirst("Authorization"),
+                    new String(requestBody.readAllBytes(), StandardCharsets.UTF_8)));
+
+            MockResponse response = responses.poll();
+            if (response == null) {
+                response = new MockResponse(500, "text/plain", "No response enqueued", Map.of());
+            }
+
+            byte[] body = response.body().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", response.contentType());
+            response.headers().forEach(exchange.getResponseHeaders()::set);
+            exchange.sendResponseHeaders(response.status(), body.length);
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(body);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private record MockResponse(int status, String contentType, String body, Map<String, String> headers) {}
+
+    public record RecordedRequest(String method, String path, String authorization, String body) {}
+
+}
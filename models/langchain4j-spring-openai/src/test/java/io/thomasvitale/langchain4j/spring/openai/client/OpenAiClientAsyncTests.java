@@ -0,0 +1,155 @@
+package io.thomasvitale.langchain4j.spring.openai.client;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+import io.thomasvitale.langchain4j.spring.openai.api.embedding.EmbeddingRequest;
+import io.thomasvitale.langchain4j.spring.openai.api.embedding.EmbeddingResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the non-blocking methods of {@link OpenAiClient}.
+ */
+class OpenAiClientAsyncTests {
+
+    private static final String EMBEDDING_RESPONSE = """
+            {"object":"list","model":"test","data":[{"object":"embedding","index":0,"embedding":[0.1,0.2]}],
+            "usage":{"prompt_tokens":1,"total_tokens":1}}
+            """;
+
+    private final MockOpenAiServer server = MockOpenAiServer.start();
+
+    private final OpenAiClientConfig clientConfig = OpenAiClientConfig.builder()
+            .baseUrl(server.baseUrl())
+            .apiKey("demo")
+            .build();
+
+    @AfterEach
+    void stopServer() {
+        server.close();
+    }
+
+    @Test
+    void asyncRequestGoesThroughRestClientCustomizations() throws Exception {
+        List<String> interceptedPaths = new CopyOnWriteArrayList<>();
+        var restClientBuilder = RestClient.builder().requestInterceptor((request, body, execution) -> {
+            interceptedPaths.add(request.getURI().getPath());
+            return execution.execute(request, body);
+        });
+        var openAiClient = new OpenAiClient(clientConfig, restClientBuilder);
+        server.enqueueJson(EMBEDDING_RESPONSE);
+
+        EmbeddingResponse response = openAiClient.embeddingsAsync(embeddingRequest()).get(5, TimeUnit.SECONDS);
+
+        assertThat(response.data()).singleElement().satisfies(data -> assertThat(data.embedding()).containsExactly(0.1f, 0.2f));
+        assertThat(interceptedPaths).containsExactly("/v1/embeddings");
+        assertThat(server.requests()).singleElement().satisfies(request -> {
+            assertThat(request.authorization()).isEqualTo("Bearer demo");
+            assertThat(request.body()).contains("\"input\":[\"Hello\"]");
+        });
+    }
+
+    @Test
+    void asyncErrorPropagatedWithStatusAndRetryAfter() {
+        var openAiClient = new OpenAiClient(clientConfig, RestClient.builder());
+        server.enqueue(429, "application/json", """
+                {"error":{"message":"Rate limit reached","type":"requests","code":"rate_limit_exceeded"}}
+                """, Map.of("Retry-After", "2"));
+
+        assertThat(openAiClient.embeddingsAsync(embeddingRequest()))
+                .failsWithin(Duration.ofSeconds(5))
+                .withThrowableThat()
+                .havingCause()
+                .isInstanceOfSatisfying(OpenAiResponseException.class, ex -> {
+                    assertThat(ex.getStatusCode()).isEqualTo(429);
+                    assertThat(ex.getRetryAfter()).isEqualTo(Duration.ofSeconds(2));
+                    assertThat(ex.getMessage()).contains("Rate limit reached");
+                });
+    }
+
+    @Test
+    void asyncHtmlErrorPropagatedWithStatusAndRetryAfter() {
+        var openAiClient = new OpenAiClient(clientConfig, RestClient.builder());
+        server.enqueue(503, "text/html", "<html><body>Service Unavailable</body></html>", Map.of("Retry-After", "3"));
+
+        assertThat(openAiClient.embeddingsAsync(embeddingRequest()))
+                .failsWithin(Duration.ofSeconds(5))
+                .withThrowableThat()
+                .havingCause()
+                .isInstanceOfSatisfying(OpenAiResponseException.class, ex -> {
+                    assertThat(ex.getStatusCode()).isEqualTo(503);
+                    assertThat(ex.getRetryAfter()).isEqualTo(Duration.ofSeconds(3));
+                    assertThat(ex.getMessage()).contains("Service Unavailable");
+                });
+    }
+
+    @Test
+    void asyncRequestObservedInScopeOfCurrentObservation() throws Exception {
+        var observationRegistry = ObservationRegistry.create();
+        List<Observation.Context> stoppedContexts = new CopyOnWriteArrayList<>();
+        observationRegistry.observationConfig().observationHandler(new ObservationHandler<>() {
+            @Override
+            public void onStop(Observation.Context context) {
+                stoppedContexts.add(context);
+            }
+
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+        });
+
+        var openAiClient = new OpenAiClient(clientConfig, RestClient.builder().observationRegistry(observationRegistry));
+        openAiClient.setObservationRegistry(observationRegistry);
+        server.enqueueJson(EMBEDDING_RESPONSE);
+
+        Observation parentObservation = Observation.start("parent", observationRegistry);
+        try (Observation.Scope scope = parentObservation.openScope()) {
+            openAiClient.embeddingsAsync(embeddingRequest()).get(5, TimeUnit.SECONDS);
+        }
+        finally {
+            parentObservation.stop();
+        }
+
+        assertThat(stoppedContexts)
+                .filteredOn(context -> "http.client.requests".equals(context.getName()))
+                .singleElement()
+                .satisfies(context -> assertThat(context.getParentObservation().getContextView())
+                        .isSameAs(parentObservation.getContext()));
+    }
+
+    @Test
+    void asyncRequestRejectedThenRateLimiterPermitReleased() {
+        var openAiClient = new OpenAiClient(clientConfig, RestClient.builder());
+        var rateLimiter = OpenAiRateLimiter.builder().maxConcurrentRequests(1).maxWait(Duration.ZERO).build();
+        openAiClient.setRateLimiter(rateLimiter);
+        openAiClient.setAsyncExecutor(task -> {
+            throw new RejectedExecutionException("Executor saturated");
+        });
+
+        assertThat(openAiClient.embeddingsAsync(embeddingRequest()))
+                .failsWithin(Duration.ofSeconds(5))
+                .withThrowableThat()
+                .havingCause()
+                .isInstanceOf(RejectedExecutionException.class);
+        rateLimiter.acquire(1).close();
+    }
+
+    private static EmbeddingRequest embeddingRequest() {
+        return EmbeddingRequest.builder().input(List.of("Hello")).model("test").build();
+    }
+
+}
@@ -0,0 +1,182 @@
+package io.thomasvitale.langchain4j.spring.openai.client;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link OpenAiHedgingPolicy}.
+ */
+class OpenAiHedgingPolicyTests {
+
+    private final ObservationRegistry observationRegistry = ObservationRegistry.create();
+
+    private final OpenAiHedgingPolicy hedgingPolicy = OpenAiHedgingPolicy.builder()
+            .percentile(0.5)
+            .windowSize(10)
+            .minSamples(3)
+            .minDelay(Duration.ofMillis(20))
+            .maxHedgeRatio(1.0)
+            .observationRegistry(observationRegistry)
+            .build();
+
+    @Test
+    void whenNotEnoughSamplesThenThresholdUnknown() {
+        var latencyWindow = new OpenAiHedgingPolicy.LatencyWindow(10, 3, 0.5, 0);
+
+        latencyWindow.record(100);
+        latencyWindow.record(200);
+        assertThat(latencyWindow.thresholdNanos()).isEqualTo(-1);
+
+        latencyWindow.record(300);
+        assertThat(latencyWindow.thresholdNanos()).isEqualTo(200);
+    }
+
+    @Test
+    void thresholdIsNeverLowerThanMinDelay() {
+        var latencyWindow = new OpenAiHedgingPolicy.LatencyWindow(10, 1, 0.5, 1000);
+
+        latencyWindow.record(100);
+
+        assertThat(latencyWindow.thresholdNanos()).isEqualTo(1000);
+    }
+
+    @Test
+    void whenCallIsSlowThenHedgeResponseReturned() {
+        warmUp();
+        var attempts = new AtomicInteger();
+
+        long start = System.nanoTime();
+        String result = hedgingPolicy.execute("/v1/embeddings", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                sleep(Duration.ofSeconds(5));
+                return "slow";
+            }
+            return "fast";
+        });
+
+        assertThat(result).isEqualTo("fast");
+        assertThat(attempts).hasValue(2);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void whenCallIsFastThenNotHedged() {
+        warmUp();
+        var attempts = new AtomicInteger();
+
+        String result = hedgingPolicy.execute("/v1/embeddings", () -> {
+            attempts.incrementAndGet();
+            return "fast";
+        });
+
+        assertThat(result).isEqualTo("fast");
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void whenAsyncCallIsSlowThenHedgeResponseReturned() throws Exception {
+        warmUp();
+        var attempts = new AtomicInteger();
+
+        CompletableFuture<String> result = hedgingPolicy.executeAsync("/v1/embeddings", () -> attempts.incrementAndGet() == 1
+                ? new CompletableFuture<>()
+                : CompletableFuture.completedFuture("fast"));
+
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("fast");
+        assertThat(attempts).hasValue(2);
+    }
+
+    @Test
+    void whenCallIsHedgedThenObservationPropagated() {
+        observationRegistry.observationConfig().observationHandler(context -> true);
+        warmUp();
+        var attempts = new AtomicInteger();
+        List<Observation> currentObservations = new CopyOnWriteArrayList<>();
+
+        Observation parentObservation = Observation.start("parent", observationRegistry);
+        try (Observation.Scope scope = parentObservation.openScope()) {
+            hedgingPolicy.execute("/v1/embeddings", () -> {
+                currentObservations.add(observationRegistry.getCurrentObservation());
+                if (attempts.incrementAndGet() == 1) {
+                    sleep(Duration.ofMillis(500));
+                }
+                return "done";
+            });
+        }
+        finally {
+            parentObservation.stop();
+        }
+
+        assertThat(currentObservations).hasSize(2).containsOnly(parentObservation);
+    }
+
+    @Test
+    void whenAsyncCallIsHedgedThenObservationPropagated() throws Exception {
+        observationRegistry.observationConfig().observationHandler(context -> true);
+        warmUp();
+        var attempts = new AtomicInteger();
+        List<Observation> currentObservations = new CopyOnWriteArrayList<>();
+
+        Observation parentObservation = Observation.start("parent", observationRegistry);
+        CompletableFuture<String> result;
+        try (Observation.Scope scope = parentObservation.openScope()) {
+            result = hedgingPolicy.executeAsync("/v1/embeddings", () -> {
+                currentObservations.add(observationRegistry.getCurrentObservation());
+                return attempts.incrementAndGet() == 1
+                        ? new CompletableFuture<>()
+                        : CompletableFuture.completedFuture("fast");
+            });
+        }
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("fast");
+        parentObservation.stop();
+
+        assertThat(currentObservations).hasSize(2).containsOnly(parentObservation);
+    }
+
+    @Test
+    void whenExecutorSaturatedThenCalledWithoutHedging() {
+        warmUp();
+        hedgingPolicy.setExecutor(task -> {
+            throw new RejectedExecutionException("Executor saturated");
+        });
+        var attempts = new AtomicInteger();
+        Thread callingThread = Thread.currentThread();
+
+        String result = hedgingPolicy.execute("/v1/embeddings", () -> {
+            attempts.incrementAndGet();
+            assertThat(Thread.currentThread()).isSameAs(callingThread);
+            return "done";
+        });
+
+        assertThat(result).isEqualTo("done");
+        assertThat(attempts).hasValue(1);
+    }
+
+    private void warmUp() {
+        for (int i = 0; i < 3; i++) {
+            hedgingPolicy.execute("/v1/embeddings", () -> "warm-up");
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
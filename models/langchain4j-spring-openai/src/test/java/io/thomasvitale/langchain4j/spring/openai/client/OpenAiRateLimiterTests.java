@@ -0,0 +1,197 @@
+package io.thomasvitale.langchain4j.spring.openai.client;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpHeaders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link OpenAiRateLimiter}.
+ */
+class OpenAiRateLimiterTests {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    @Test
+    void whenWithinRequestBudgetThenAcquired() {
+        var rateLimiter = new OpenAiRateLimiter(2, 0, 0, Duration.ZERO, nanoTime::get);
+
+        rateLimiter.acquire(10).close();
+        rateLimiter.acquire(10).close();
+
+        assertThatThrownBy(() -> rateLimiter.acquire(10))
+                .isInstanceOf(RateLimitExceededException.class);
+    }
+
+    @Test
+    void whenBudgetRefilledThenAcquired() {
+        var rateLimiter = new OpenAiRateLimiter(1, 0, 0, Duration.ZERO, nanoTime::get);
+
+        rateLimiter.acquire(10).close();
+        assertThatThrownBy(() -> rateLimiter.acquire(10))
+                .isInstanceOf(RateLimitExceededException.class);
+
+        nanoTime.addAndGet(TimeUnit.MINUTES.toNanos(1));
+        rateLimiter.acquire(10).close();
+    }
+
+    @Test
+    void whenTokenBudgetExceededThenRejected() {
+        var rateLimiter = new OpenAiRateLimiter(0, 100, 0, Duration.ZERO, nanoTime::get);
+
+        rateLimiter.acquire(80).close();
+
+        assertThatThrownBy(() -> rateLimiter.acquire(30))
+                .isInstanceOf(RateLimitExceededException.class);
+        rateLimiter.acquire(20).close();
+    }
+
+    @Test
+    void whenRejectedThenNoBudgetConsumed() {
+        var rateLimiter = new OpenAiRateLimiter(2, 100, 0, Duration.ZERO, nanoTime::get);
+
+        rateLimiter.acquire(50).close();
+        assertThatThrownBy(() -> rateLimiter.acquire(60))
+                .isInstanceOf(RateLimitExceededException.class);
+        rateLimiter.acquire(50).close();
+    }
+
+    @Test
+    void whenRemainingHeadersLowerThenBudgetAdjusted() {
+        var rateLimiter = new OpenAiRateLimiter(100, 1000, 0, Duration.ZERO, nanoTime::get);
+        var headers = new HttpHeaders();
+        headers.add(OpenAiRateLimiter.REMAINING_REQUESTS_HEADER, "50");
+        headers.add(OpenAiRateLimiter.REMAINING_TOKENS_HEADER, "0");
+
+        rateLimiter.update(headers);
+
+        assertThatThrownBy(() -> rateLimiter.acquire(1))
+                .isInstanceOf(RateLimitExceededException.class);
+    }
+
+    @Test
+    void whenInvalidHeadersThenIgnored() {
+        var rateLimiter = new OpenAiRateLimiter(100, 1000, 0, Duration.ZERO, nanoTime::get);
+        var headers = new HttpHeaders();
+        headers.add(OpenAiRateLimiter.REMAINING_TOKENS_HEADER, "unknown");
+
+        rateLimiter.update(headers);
+
+        rateLimiter.acquire(1000).close();
+    }
+
+    @Test
+    void whenConcurrencyLimitReachedThenRejectedUntilReleased() {
+        var rateLimiter = new OpenAiRateLimiter(0, 0, 1, Duration.ZERO, nanoTime::get);
+
+        OpenAiRateLimiter.Permit permit = rateLimiter.acquire(0);
+        assertThatThrownBy(() -> rateLimiter.acquire(0))
+                .isInstanceOf(RateLimitExceededException.class);
+
+        permit.close();
+        permit.close();
+        rateLimiter.acquire(0).close();
+    }
+
+    @Test
+    void whenAsyncThenPermitCompletedOnExecutor() throws Exception {
+        var rateLimiter = new OpenAiRateLimiter(1, 0, 0, Duration.ZERO, nanoTime::get);
+
+        assertThat(rateLimiter.acquireAsync(1).get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(rateLimiter.acquireAsync(1))
+                .failsWithin(5, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(RateLimitExceededException.class);
+    }
+
+    @Test
+    void whenWaitWithinMaxWaitThenDelayed() {
+        // 600 requests per minute is one every 100 ms.
+        var rateLimiter = new OpenAiRateLimiter(600, 0, 0, Duration.ofMillis(150), nanoTime::get);
+        rateLimiter.update(remainingRequests(0));
+
+        long start = System.nanoTime();
+        rateLimiter.acquire(0).close();
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(90));
+
+        // The next request would have to wait 200 ms, since the previous one was reserved ahead of time.
+        assertThatThrownBy(() -> rateLimiter.acquire(0))
+                .isInstanceOf(RateLimitExceededException.class);
+
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(200));
+        rateLimiter.acquire(0).close();
+    }
+
+    @Test
+    void whenAsyncWaitWithinMaxWaitThenPermitDelayed() throws Exception {
+        var rateLimiter = new OpenAiRateLimiter(600, 0, 0, Duration.ofMillis(150), nanoTime::get);
+        rateLimiter.update(remainingRequests(0));
+
+        CompletableFuture<OpenAiRateLimiter.Permit> permit = rateLimiter.acquireAsync(0);
+
+        assertThat(permit).isNotDone();
+        assertThat(permit.get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(rateLimiter.acquireAsync(0))
+                .failsWithin(5, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(RateLimitExceededException.class);
+    }
+
+    @Test
+    void whenConcurrencyLimitTimesOutThenNoBudgetConsumed() {
+        var rateLimiter = new OpenAiRateLimiter(2, 0, 1, Duration.ofMillis(50), nanoTime::get);
+
+        OpenAiRateLimiter.Permit permit = rateLimiter.acquire(0);
+        assertThatThrownBy(() -> rateLimiter.acquire(0))
+                .isInstanceOf(RateLimitExceededException.class)
+                .hasMessageContaining("Concurrency limit exceeded");
+        permit.close();
+
+        // The rejected request didn't reserve any budget, so the second request is sent right away.
+        rateLimiter.acquire(0).close();
+    }
+
+    @Test
+    void whenSlotReleasedThenAsyncWaiterGranted() throws Exception {
+        var rateLimiter = new OpenAiRateLimiter(0, 0, 1, Duration.ofSeconds(5), nanoTime::get);
+
+        OpenAiRateLimiter.Permit permit = rateLimiter.acquire(0);
+        CompletableFuture<OpenAiRateLimiter.Permit> waiting = rateLimiter.acquireAsync(0);
+        CompletableFuture<OpenAiRateLimiter.Permit> cancelled = rateLimiter.acquireAsync(0);
+        cancelled.cancel(false);
+
+        assertThat(waiting).isNotDone();
+        permit.close();
+        waiting.get(5, TimeUnit.SECONDS).close();
+
+        // The slot released by the waiter skips the cancelled request.
+        rateLimiter.acquireAsync(0).get(5, TimeUnit.SECONDS).close();
+    }
+
+    @Test
+    void whenAsyncWaiterCancelledThenSlotReturned() {
+        var rateLimiter = new OpenAiRateLimiter(0, 0, 1, Duration.ofSeconds(5), nanoTime::get);
+
+        OpenAiRateLimiter.Permit permit = rateLimiter.acquire(0);
+        rateLimiter.acquireAsync(0).cancel(false);
+        permit.close();
+
+        // No waiter is left in the queue, so the slot is free right away.
+        assertThat(rateLimiter.acquireAsync(0)).isCompleted();
+    }
+
+    private static HttpHeaders remainingRequests(int remainingRequests) {
+        var headers = new HttpHeaders();
+        headers.add(OpenAiRateLimiter.REMAINING_REQUESTS_HEADER, String.valueOf(remainingRequests));
+        return headers;
+    }
+
+}
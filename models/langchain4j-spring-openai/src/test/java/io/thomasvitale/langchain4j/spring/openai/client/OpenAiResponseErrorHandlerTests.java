@@ -0,0 +1,86 @@
+package io.thomasvitale.langchain4j.spring.openai.client;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link OpenAiResponseErrorHandler}.
+ */
+class OpenAiResponseErrorHandlerTests {
+
+    private static final URI REQUEST_URI = URI.create("https://api.openai.com/v1/chat/completions");
+
+    private final OpenAiResponseErrorHandler errorHandler = new OpenAiResponseErrorHandler();
+
+    @Test
+    void whenJsonErrorThenParsed() {
+        var response = response(HttpStatus.BAD_REQUEST, MediaType.APPLICATION_JSON, """
+                {"error":{"message":"Invalid model","type":"invalid_request_error","code":"model_not_found"}}
+                """);
+
+        assertThatThrownBy(() -> errorHandler.handleError(REQUEST_URI, HttpMethod.POST, response))
+                .isInstanceOfSatisfying(OpenAiResponseException.class, ex -> {
+                    assertThat(ex.getStatusCode()).isEqualTo(400);
+                    assertThat(ex.getRetryAfter()).isNull();
+                    assertThat(ex.getMessage()).startsWith("400 - ").contains("Invalid model", "model_not_found");
+                });
+    }
+
+    @Test
+    void whenHtmlErrorThenRawBodyWithStatusAndRetryAfter() {
+        var response = response(HttpStatus.SERVICE_UNAVAILABLE, MediaType.TEXT_HTML, """
+                <html><head><title>503 Service Temporarily Unavailable</title></head>
+                <body><h1>Service Temporarily Unavailable</h1></body></html>
+                """);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, "7");
+
+        assertThatThrownBy(() -> errorHandler.handleError(REQUEST_URI, HttpMethod.POST, response))
+                .isInstanceOfSatisfying(OpenAiResponseException.class, ex -> {
+                    assertThat(ex.getStatusCode()).isEqualTo(503);
+                    assertThat(ex.getRetryAfter()).isEqualTo(Duration.ofSeconds(7));
+                    assertThat(ex.getMessage()).startsWith("503 - <html>").contains("Service Temporarily Unavailable");
+                });
+    }
+
+    @Test
+    void whenJsonWithoutErrorObjectThenRawBody() {
+        var response = response(HttpStatus.BAD_GATEWAY, MediaType.APPLICATION_JSON, "{\"message\":\"upstream failed\"}");
+
+        assertThatThrownBy(() -> errorHandler.handleError(REQUEST_URI, HttpMethod.POST, response))
+                .isInstanceOfSatisfying(OpenAiResponseException.class, ex -> {
+                    assertThat(ex.getStatusCode()).isEqualTo(502);
+                    assertThat(ex.getMessage()).isEqualTo("502 - {\"message\":\"upstream failed\"}");
+                });
+    }
+
+    @Test
+    void whenEmptyBodyThenStatusOnly() {
+        var response = response(HttpStatus.TOO_MANY_REQUESTS, MediaType.TEXT_PLAIN, "");
+        response.getHeaders().set("retry-after-ms", "1500");
+
+        assertThatThrownBy(() -> errorHandler.handleError(REQUEST_URI, HttpMethod.POST, response))
+                .isInstanceOfSatisfying(OpenAiResponseException.class, ex -> {
+                    assertThat(ex.getStatusCode()).isEqualTo(429);
+                    assertThat(ex.getRetryAfter()).isEqualTo(Duration.ofMillis(1500));
+                    assertThat(ex.getMessage()).isEqualTo("429 - <empty body>");
+                });
+    }
+
+    private static MockClientHttpResponse response(HttpStatus status, MediaType contentType, String body) {
+        var response = new MockClientHttpResponse(body.getBytes(StandardCharsets.UTF_8), status);
+        response.getHeaders().setContentType(contentType);
+        return response;
+    }
+
+}
@@ -0,0 +1,182 @@
+package io.thomasvitale.langchain4j.spring.openai.client;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.client.ResourceAccessException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link OpenAiRetryPolicy}.
+ */
+class OpenAiRetryPolicyTests {
+
+    private final OpenAiRetryPolicy retryPolicy = OpenAiRetryPolicy.builder()
+            .maxAttempts(3)
+            .initialBackoff(Duration.ofMillis(1))
+            .maxBackoff(Duration.ofMillis(5))
+            .build();
+
+    @Test
+    void whenTransientErrorThenRetried() {
+        var attempts = new AtomicInteger();
+
+        String result = retryPolicy.execute(true, () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new OpenAiResponseException("503 - unavailable", 503, null);
+            }
+            return "ok";
+        });
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void whenAttemptsExhaustedThenLastErrorThrown() {
+        var attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> retryPolicy.execute(true, () -> {
+            attempts.incrementAndGet();
+            throw new ResourceAccessException("connection reset");
+        })).isInstanceOf(ResourceAccessException.class);
+
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void whenClientErrorThenNotRetried() {
+        var attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> retryPolicy.execute(true, () -> {
+            attempts.incrementAndGet();
+            throw new OpenAiResponseException("400 - bad request", 400, null);
+        })).isInstanceOf(OpenAiResponseException.class);
+
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void whenNonIdempotentThenNotRetriedByDefault() {
+        var attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> retryPolicy.execute(false, () -> {
+            attempts.incrementAndGet();
+            throw new OpenAiResponseException("429 - too many requests", 429, null);
+        })).isInstanceOf(OpenAiResponseException.class);
+
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void whenRetryAfterBeyondDeadlineThenNotRetried() {
+        var retryPolicy = OpenAiRetryPolicy.builder().deadline(Duration.ofSeconds(1)).build();
+        var attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> retryPolicy.execute(true, () -> {
+            attempts.incrementAndGet();
+            throw new OpenAiResponseException("429 - too many requests", 429, Duration.ofSeconds(5));
+        })).isInstanceOf(OpenAiResponseException.class);
+
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void whenAsyncTransientErrorThenRetried() throws Exception {
+        var attempts = new AtomicInteger();
+
+        CompletableFuture<String> result = retryPolicy.executeAsync(true, () -> attempts.incrementAndGet() < 2
+                ? CompletableFuture.failedFuture(new ConnectException("refused"))
+                : CompletableFuture.completedFuture("ok"));
+
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+        assertThat(attempts).hasValue(2);
+    }
+
+    @Test
+    void whenAsyncAttemptsExhaustedThenFailedWithCause() {
+        CompletableFuture<String> result = retryPolicy.executeAsync(true,
+                () -> CompletableFuture.failedFuture(new IOException("timeout")));
+
+        assertThat(result).failsWithin(5, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    void whenRetriedThenEventRecordedOnCurrentObservation() {
+        TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+        var retryPolicy = OpenAiRetryPolicy.builder()
+                .initialBackoff(Duration.ofMillis(1))
+                .maxBackoff(Duration.ofMillis(1))
+                .observationRegistry(observationRegistry)
+                .build();
+        var attempts = new AtomicInteger();
+        List<String> events = new CopyOnWriteArrayList<>();
+        observationRegistry.observationConfig().observationHandler(new ObservationHandler<>() {
+            @Override
+            public void onEvent(Observation.Event event, Observation.Context context) {
+                events.add(event.getName());
+            }
+
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+        });
+
+        Observation.createNotStarted("test", observationRegistry).observe(() -> retryPolicy.execute(true, () -> {
+            if (attempts.incrementAndGet() < 2) {
+                throw new OpenAiResponseException("500 - error", 500, null);
+            }
+            return "ok";
+        }));
+
+        TestObservationRegistryAssert.assertThat(observationRegistry)
+                .hasObservationWithNameEqualTo("test")
+                .that()
+                .hasHighCardinalityKeyValue(OpenAiRetryPolicy.ATTEMPTS_KEY, "2");
+        assertThat(events).containsExactly(OpenAiRetryPolicy.RETRY_EVENT_NAME);
+    }
+
+    @Test
+    void parseRetryAfterInSeconds() {
+        var headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "7");
+        assertThat(OpenAiRetryPolicy.parseRetryAfter(headers)).isEqualTo(Duration.ofSeconds(7));
+    }
+
+    @Test
+    void parseRetryAfterInMillisecondsTakesPrecedence() {
+        var headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "7");
+        headers.set("retry-after-ms", "250");
+        assertThat(OpenAiRetryPolicy.parseRetryAfter(headers)).isEqualTo(Duration.ofMillis(250));
+    }
+
+    @Test
+    void parseRetryAfterWhenMissingOrInvalid() {
+        var headers = new HttpHeaders();
+        assertThat(OpenAiRetryPolicy.parseRetryAfter(headers)).isNull();
+        headers.set(HttpHeaders.RETRY_AFTER, "soon");
+        assertThat(OpenAiRetryPolicy.parseRetryAfter(headers)).isNull();
+    }
+
+}
@@ -22,7 +22,7 @@ public final class ChromaAdapters {
 
     private record ChromaEmbedding(
             String id,
-            List<Float> embedding,
+            float[] embedding,
             String document,
             Map<String, String> metadata,
             Double distance
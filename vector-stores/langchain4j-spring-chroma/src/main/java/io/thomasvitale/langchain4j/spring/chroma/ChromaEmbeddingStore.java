@@ -1,6 +1,7 @@
 package io.thomasvitale.langchain4j.spring.chroma;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.embedding.Embedding;
@@ -11,6 +12,7 @@ import dev.langchain4j.store.embedding.EmbeddingSearchResult;
 import dev.langchain4j.store.embedding.EmbeddingStore;
 
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
@@ -21,24 +23,36 @@ import io.thomasvitale.langchain4j.spring.chroma.api.CreateCollectionRequest;
 import io.thomasvitale.langchain4j.spring.chroma.api.Include;
 import io.thomasvitale.langchain4j.spring.chroma.api.QueryRequest;
 import io.thomasvitale.langchain4j.spring.chroma.client.ChromaClient;
+import io.thomasvitale.langchain4j.spring.core.concurrent.ConcurrentBatches;
 
 import static dev.langchain4j.internal.Utils.randomUUID;
 
 /**
  * Represents a store for embeddings using the Chroma vector store.
  * <p>
+ * Embeddings are upserted in batches of bounded size, optionally sent in parallel,
+ * to stay within the Chroma maximum batch size and keep memory usage steady on large ingests.
+ * <p>
  * Based on the original LangChain4j implementation.
  */
 public class ChromaEmbeddingStore implements EmbeddingStore<TextSegment>, InitializingBean {
 
     public static final String DEFAULT_COLLECTION_NAME = "LangChain4jCollection";
 
+    public static final int DEFAULT_MAX_BATCH_SIZE = 1000;
+
     private final ChromaClient chromaClient;
 
     private final String collectionName;
 
     private String collectionId;
 
+    private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+    private int concurrency = 1;
+
+    private Executor executor = new SimpleAsyncTaskExecutor("chroma-upsert-");
+
     private ChromaEmbeddingStore(ChromaClient chromaClient, @Nullable String collectionName) {
         Assert.notNull(chromaClient, "chromaClient cannot be null");
         this.chromaClient = chromaClient;
@@ -84,15 +98,36 @@ public class ChromaEmbeddingStore implements EmbeddingStore<TextSegment>, Initia
         return ids;
     }
 
+    /**
+     * Upserts the embeddings in batches of at most {@link #maxBatchSize} items, so that
+     * only the request bodies of the batches in flight are kept in memory. Batches are
+     * sent one at a time, or by up to {@link #concurrency} workers in parallel.
+     */
     private void sendAddEmbeddingsRequest(List<String> ids, List<Embedding> embeddings,
             @Nullable List<TextSegment> textSegments) {
+        Assert.isTrue(CollectionUtils.isEmpty(textSegments) || textSegments.size() == embeddings.size(),
+                "textSegments must have the same size as embeddings");
+
+        int batchCount = ConcurrentBatches.batchCount(ids.size(), maxBatchSize);
+
+        ConcurrentBatches.forEach(batchCount, concurrency, executor,
+                batchIndex -> sendAddEmbeddingsBatch(ids, embeddings, textSegments, batchIndex));
+    }
+
+    private void sendAddEmbeddingsBatch(List<String> ids, List<Embedding> embeddings,
+            @Nullable List<TextSegment> textSegments, int batchIndex) {
+        int fromIndex = batchIndex * maxBatchSize;
+        int toIndex = Math.min(fromIndex + maxBatchSize, ids.size());
+        List<TextSegment> batchTextSegments = CollectionUtils.isEmpty(textSegments) ? null
+                : textSegments.subList(fromIndex, toIndex);
+
         var addEmbeddingsRequest = AddEmbeddingsRequest.builder()
-            .ids(ids)
-            .embeddings(embeddings.stream().map(Embedding::vector).toList())
-            .metadata(CollectionUtils.isEmpty(textSegments) ? null
-                    : textSegments.stream().map(TextSegment::metadata).map(Metadata::asMap).toList())
-            .documents(CollectionUtils.isEmpty(textSegments) ? null
-                    : textSegments.stream().map(TextSegment::text).toList())
+            .ids(ids.subList(fromIndex, toIndex))
+            .embeddings(embeddings.subList(fromIndex, toIndex).stream().map(Embedding::vector).toList())
+            .metadata(batchTextSegments == null ? null
+                    : batchTextSegments.stream().map(TextSegment::metadata).map(Metadata::asMap).toList())
+            .documents(batchTextSegments == null ? null
+                    : batchTextSegments.stream().map(TextSegment::text).toList())
             .build();
 
         chromaClient.upsertEmbeddings(collectionId, addEmbeddingsRequest);
@@ -103,7 +138,7 @@ public class ChromaEmbeddingStore implements EmbeddingStore<TextSegment>, Initia
         Assert.notNull(embeddingSearchRequest, "embeddingSearchRequest cannot be null");
 
         var queryRequest = QueryRequest.builder()
-                .queryEmbeddings(List.of(embeddingSearchRequest.queryEmbedding().vectorAsList()))
+                .queryEmbeddings(List.of(embeddingSearchRequest.queryEmbedding().vector()))
                 .nResults(embeddingSearchRequest.maxResults())
                 .include(List.of(Include.METADATAS, Include.DOCUMENTS, Include.DISTANCES, Include.EMBEDDINGS))
                 .build();
@@ -132,6 +167,21 @@ public class ChromaEmbeddingStore implements EmbeddingStore<TextSegment>, Initia
         collectionId = collection.id();
     }
 
+    public void setMaxBatchSize(int maxBatchSize) {
+        Assert.isTrue(maxBatchSize > 0, "maxBatchSize must be greater than 0");
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public void setConcurrency(int concurrency) {
+        Assert.isTrue(concurrency > 0, "concurrency must be greater than 0");
+        this.concurrency = concurrency;
+    }
+
+    public void setExecutor(Executor executor) {
+        Assert.notNull(executor, "executor cannot be null");
+        this.executor = executor;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -139,6 +189,9 @@ public class ChromaEmbeddingStore implements EmbeddingStore<TextSegment>, Initia
     public static class Builder {
         private ChromaClient chromaClient;
         private String collectionName;
+        private Integer maxBatchSize;
+        private Integer concurrency;
+        private Executor executor;
 
         private Builder() {}
 
@@ -152,8 +205,33 @@ public class ChromaEmbeddingStore implements EmbeddingStore<TextSegment>, Initia
             return this;
         }
 
+        public Builder maxBatchSize(Integer maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        public Builder concurrency(Integer concurrency) {
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
         public ChromaEmbeddingStore build() {
-            return new ChromaEmbeddingStore(chromaClient, collectionName);
+            var embeddingStore = new ChromaEmbeddingStore(chromaClient, collectionName);
+            if (maxBatchSize != null) {
+                embeddingStore.setMaxBatchSize(maxBatchSize);
+            }
+            if (concurrency != null) {
+                embeddingStore.setConcurrency(concurrency);
+            }
+            if (executor != null) {
+                embeddingStore.setExecutor(executor);
+            }
+            return embeddingStore;
         }
     }
 
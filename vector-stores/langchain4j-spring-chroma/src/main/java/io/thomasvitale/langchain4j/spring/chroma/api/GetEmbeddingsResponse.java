@@ -17,7 +17,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public record GetEmbeddingsResponse(
         List<List<String>> ids,
-        List<List<List<Float>>> embeddings,
+        List<List<float[]>> embeddings,
         List<List<String>> documents,
         @JsonProperty("metadatas")
         List<List<Map<String, Object>>> metadata
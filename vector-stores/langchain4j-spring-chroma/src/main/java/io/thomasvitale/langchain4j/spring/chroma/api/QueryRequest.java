@@ -18,7 +18,7 @@ import com.fasterxml.jackson.databind.annotation.JsonNaming;
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
 public record QueryRequest(
-        List<List<Float>> queryEmbeddings,
+        List<float[]> queryEmbeddings,
         int nResults,
         Map<String, Object> where,
         List<Include> include
@@ -32,14 +32,14 @@ public record QueryRequest(
     }
 
     public static class Builder {
-        private List<List<Float>> queryEmbeddings;
+        private List<float[]> queryEmbeddings;
         private int nResults = 10;
         private Map<String, Object> where;
         private List<Include> include = DEFAULT_INCLUDES;
 
         private Builder() {}
 
-        public Builder queryEmbeddings(List<List<Float>> queryEmbeddings) {
+        public Builder queryEmbeddings(List<float[]> queryEmbeddings) {
             this.queryEmbeddings = queryEmbeddings;
             return this;
         }
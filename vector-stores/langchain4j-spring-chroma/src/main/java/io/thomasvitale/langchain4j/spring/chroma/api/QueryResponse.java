@@ -18,7 +18,7 @@ import java.util.Map;
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public record QueryResponse(
         List<List<String>> ids,
-        List<List<List<Float>>> embeddings,
+        List<List<float[]>> embeddings,
         List<List<String>> documents,
         @JsonProperty("metadatas")
         List<List<Map<String, String>>> metadata,
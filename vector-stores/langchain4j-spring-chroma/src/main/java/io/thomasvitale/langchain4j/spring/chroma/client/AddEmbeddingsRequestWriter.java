@@ -0,0 +1,62 @@
+package io.thomasvitale.langchain4j.spring.chroma.client;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.thomasvitale.langchain4j.spring.chroma.api.AddEmbeddingsRequest;
+import io.thomasvitale.langchain4j.spring.core.http.JsonStreamingBody;
+
+/**
+ * Writes an {@link AddEmbeddingsRequest} as JSON one float at a time, so that no
+ * intermediate representation of the embeddings is created during serialization.
+ * The output is equivalent to the Jackson serialization of the request.
+ */
+final class AddEmbeddingsRequestWriter implements JsonStreamingBody.JsonBodyWriter<AddEmbeddingsRequest> {
+
+    static final AddEmbeddingsRequestWriter INSTANCE = new AddEmbeddingsRequestWriter();
+
+    private AddEmbeddingsRequestWriter() {}
+
+    @Override
+    public void write(AddEmbeddingsRequest request, JsonGenerator generator, ObjectMapper objectMapper) throws IOException {
+        generator.writeStartObject();
+
+        writeStrings("ids", request.ids(), generator);
+
+        if (request.embeddings() != null) {
+            generator.writeArrayFieldStart("embeddings");
+            for (float[] embedding : request.embeddings()) {
+                generator.writeStartArray();
+                for (float value : embedding) {
+                    generator.writeNumber(value);
+                }
+                generator.writeEndArray();
+            }
+            generator.writeEndArray();
+        }
+
+        if (request.metadata() != null) {
+            generator.writeFieldName("metadatas");
+            objectMapper.writeValue(generator, request.metadata());
+        }
+
+        writeStrings("documents", request.documents(), generator);
+
+        generator.writeEndObject();
+    }
+
+    private static void writeStrings(String fieldName, List<String> values, JsonGenerator generator) throws IOException {
+        if (values == null) {
+            return;
+        }
+        generator.writeArrayFieldStart(fieldName);
+        for (String value : values) {
+            generator.writeString(value);
+        }
+        generator.writeEndArray();
+    }
+
+}
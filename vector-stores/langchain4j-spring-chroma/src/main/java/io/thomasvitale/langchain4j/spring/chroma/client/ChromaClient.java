@@ -27,6 +27,7 @@ import io.thomasvitale.langchain4j.spring.chroma.api.GetEmbeddingsResponse;
 import io.thomasvitale.langchain4j.spring.chroma.api.QueryRequest;
 import io.thomasvitale.langchain4j.spring.chroma.api.QueryResponse;
 import io.thomasvitale.langchain4j.spring.core.http.HttpResponseErrorHandler;
+import io.thomasvitale.langchain4j.spring.core.http.JsonStreamingBody;
 
 /**
  * Client for the Chroma API.
@@ -195,6 +196,7 @@ public class ChromaClient {
 
     /**
      * Add embeddings to a Chroma collection or update them if already present.
+     * The request body is streamed to the server while being serialized.
      */
     @Nullable
     public Boolean upsertEmbeddings(String collectionName, AddEmbeddingsRequest addEmbeddingsRequest) {
@@ -205,7 +207,7 @@ public class ChromaClient {
 
         return this.restClient.post()
             .uri("/api/v1/collections/{name}/upsert", collectionName)
-            .body(addEmbeddingsRequest)
+            .body(JsonStreamingBody.of(addEmbeddingsRequest, AddEmbeddingsRequestWriter.INSTANCE))
             .retrieve()
             .onStatus(this.responseErrorHandler)
             .body(Boolean.class);
@@ -1,11 +1,13 @@
 package io.thomasvitale.langchain4j.spring.chroma;
 
 import java.net.URI;
+import java.util.stream.Stream;
 
 import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.AllMiniLmL6V2QuantizedEmbeddingModel;
 import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -74,4 +76,29 @@ class ChromaEmbeddingStoreIT {
         assertThat(textSegmentEmbeddingMatch.embedded()).isEqualTo(textSegment);
     }
 
+    @Test
+    void addAllInParallelBatches() {
+        var batchingEmbeddingStore = ChromaEmbeddingStore.builder()
+            .client(chromaClient)
+            .collectionName("LangChain4jBatchCollection")
+            .maxBatchSize(2)
+            .concurrency(2)
+            .build();
+        batchingEmbeddingStore.afterPropertiesSet();
+
+        var textSegments = Stream.of("one", "two", "three", "four", "five").map(TextSegment::from).toList();
+        var embeddings = embeddingModel.embedAll(textSegments).content();
+
+        var ids = batchingEmbeddingStore.addAll(embeddings, textSegments);
+        assertThat(ids).hasSize(textSegments.size());
+
+        var matches = batchingEmbeddingStore.search(EmbeddingSearchRequest.builder()
+            .queryEmbedding(embeddings.get(4))
+            .maxResults(textSegments.size())
+            .build()).matches();
+        assertThat(matches).hasSize(textSegments.size());
+        assertThat(matches.get(0).embeddingId()).isEqualTo(ids.get(4));
+        assertThat(matches.get(0).embedded()).isEqualTo(textSegments.get(4));
+    }
+
 }
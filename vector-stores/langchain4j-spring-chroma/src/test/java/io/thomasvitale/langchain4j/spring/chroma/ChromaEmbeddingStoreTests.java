@@ -0,0 +1,164 @@
+package io.thomasvitale.langchain4j.spring.chroma;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+import io.thomasvitale.langchain4j.spring.chroma.client.ChromaClient;
+import io.thomasvitale.langchain4j.spring.chroma.client.ChromaClientConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link ChromaEmbeddingStore}, run against a local HTTP stub of the Chroma API
+ * recording the upserted batches.
+ */
+class ChromaEmbeddingStoreTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final ExecutorService serverExecutor = Executors.newCachedThreadPool();
+
+    private final List<List<String>> upsertedBatches = new CopyOnWriteArrayList<>();
+
+    private final Map<String, String> upsertedDocuments = new ConcurrentHashMap<>();
+
+    private HttpServer server;
+
+    @AfterEach
+    void stopServer() {
+        if (server != null) {
+            server.stop(0);
+        }
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void addAllInBatches() throws IOException {
+        var embeddingStore = embeddingStore(startServer(200), 1);
+
+        List<String> ids = embeddingStore.addAll(embeddings(5), textSegments(5));
+
+        assertThat(upsertedBatches).containsExactly(ids.subList(0, 2), ids.subList(2, 4), ids.subList(4, 5));
+        assertIdsMatchTextSegments(ids);
+    }
+
+    @Test
+    void addAllInBatchesConcurrently() throws IOException {
+        var embeddingStore = embeddingStore(startServer(200), 3);
+
+        List<String> ids = embeddingStore.addAll(embeddings(9), textSegments(9));
+
+        assertThat(upsertedBatches).hasSize(5).allSatisfy(batch -> assertThat(batch).hasSizeBetween(1, 2));
+        assertThat(upsertedBatches.stream().flatMap(List::stream)).containsExactlyInAnyOrderElementsOf(ids);
+        assertIdsMatchTextSegments(ids);
+    }
+
+    @Test
+    void addAllWithoutTextSegments() throws IOException {
+        var embeddingStore = embeddingStore(startServer(200), 1);
+
+        List<String> ids = embeddingStore.addAll(embeddings(3));
+
+        assertThat(upsertedBatches).containsExactly(ids.subList(0, 2), ids.subList(2, 3));
+        assertThat(upsertedDocuments).isEmpty();
+    }
+
+    @Test
+    void whenUpsertFailsThenThrow() throws IOException {
+        var embeddingStore = embeddingStore(startServer(500), 2);
+
+        assertThatThrownBy(() -> embeddingStore.addAll(embeddings(5), textSegments(5)))
+            .hasMessageContaining("500");
+    }
+
+    private void assertIdsMatchTextSegments(List<String> ids) {
+        assertThat(ids).hasSize(upsertedDocuments.size()).doesNotHaveDuplicates();
+        for (int i = 0; i < ids.size(); i++) {
+            assertThat(upsertedDocuments).containsEntry(ids.get(i), "text " + i);
+        }
+    }
+
+    private static List<Embedding> embeddings(int count) {
+        return IntStream.range(0, count).mapToObj(i -> Embedding.from(new float[] { i, 1 })).toList();
+    }
+
+    private static List<TextSegment> textSegments(int count) {
+        return IntStream.range(0, count).mapToObj(i -> TextSegment.from("text " + i)).toList();
+    }
+
+    private ChromaEmbeddingStore embeddingStore(ChromaClient chromaClient, int concurrency) {
+        var embeddingStore = ChromaEmbeddingStore.builder()
+            .client(chromaClient)
+            .collectionName("test")
+            .maxBatchSize(2)
+            .concurrency(concurrency)
+            .build();
+        embeddingStore.afterPropertiesSet();
+        return embeddingStore;
+    }
+
+    private ChromaClient startServer(int upsertStatus) throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(serverExecutor);
+
+        server.createContext("/api/v1/collections/test", exchange ->
+                respond(exchange, 200, "{\"id\":\"c1\",\"name\":\"test\"}"));
+
+        server.createContext("/api/v1/collections/c1/upsert", exchange -> {
+            if (upsertStatus != 200) {
+                respond(exchange, upsertStatus, "{\"error\":\"upsert failed\"}");
+                return;
+            }
+            JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+            List<String> ids = new ArrayList<>();
+            request.get("ids").forEach(id -> ids.add(id.asText()));
+            upsertedBatches.add(ids);
+            JsonNode documents = request.get("documents");
+            if (documents != null && !documents.isNull()) {
+                for (int i = 0; i < ids.size(); i++) {
+                    upsertedDocuments.put(ids.get(i), documents.get(i).asText());
+                }
+            }
+            respond(exchange, 200, "true");
+        });
+
+        server.start();
+
+        return new ChromaClient(ChromaClientConfig.builder()
+            .url(URI.create("http://localhost:" + server.getAddress().getPort()))
+            .build(), RestClient.builder());
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (var responseBody = exchange.getResponseBody()) {
+            responseBody.write(bytes);
+        }
+    }
+
+}
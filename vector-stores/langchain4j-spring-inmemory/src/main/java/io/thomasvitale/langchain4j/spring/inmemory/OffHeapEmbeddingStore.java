@@ -0,0 +1,403 @@
+package io.thomasvitale.langchain4j.spring.inmemory;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.RelevanceScore;
+import dev.langchain4j.store.embedding.filter.Filter;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+
+import static dev.langchain4j.internal.Utils.randomUUID;
+
+/**
+ * Represents a store for embeddings kept in memory, with the vectors stored off-heap.
+ * <p>
+ * Vectors are stored in contiguous blocks of direct memory, so that large stores don't weigh
+ * on the garbage collector. Searches compare the query with every vector in place, scoring them with
+ * the Vector API when the {@code jdk.incubator.vector} module is added at runtime
+ * ({@code --add-modules jdk.incubator.vector}), and splitting the work across {@code parallelism}
+ * tasks when the store holds at least {@code parallelThreshold} vectors. Direct memory is released
+ * when the store is garbage collected, and is bounded by {@code -XX:MaxDirectMemorySize}.
+ * <p>
+ * Scores and metadata filtering work like in the LangChain4j {@code InMemoryEmbeddingStore}.
+ */
+public class OffHeapEmbeddingStore implements EmbeddingStore<TextSegment> {
+
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 10_000;
+
+    // Vectors are allocated in blocks of up to 64 MB, so that large stores grow without copying them.
+    // The last block starts from 64 KB and doubles until then, so that small stores stay small.
+    private static final int MAX_BLOCK_SIZE = 64 * 1024 * 1024;
+
+    private static final int MIN_BLOCK_SIZE = 64 * 1024;
+
+    private static final Comparator<Candidate> CANDIDATE_COMPARATOR = Comparator.comparingDouble(Candidate::score);
+
+    private final VectorScorer scorer = VectorScorer.create();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final List<ByteBuffer> blocks = new ArrayList<>();
+
+    private final List<String> ids = new ArrayList<>();
+
+    private final List<TextSegment> textSegments = new ArrayList<>();
+
+    private float[] norms = new float[16];
+
+    private int dimension;
+
+    /**
+     * Number of vectors in a full block.
+     */
+    private int blockCapacity;
+
+    private int size;
+
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+    private Executor executor = ForkJoinPool.commonPool();
+
+    private OffHeapEmbeddingStore(@Nullable Integer dimension) {
+        if (dimension != null) {
+            Assert.isTrue(dimension > 0, "dimension must be greater than 0");
+            initDimension(dimension);
+        }
+    }
+
+    @Override
+    public String add(Embedding embedding) {
+        Assert.notNull(embedding, "embedding cannot be null");
+        String id = randomUUID();
+        addAll(List.of(id), List.of(embedding), null);
+        return id;
+    }
+
+    @Override
+    public void add(String id, Embedding embedding) {
+        Assert.hasText(id, "id cannot be null or empty");
+        Assert.notNull(embedding, "embedding cannot be null");
+        addAll(List.of(id), List.of(embedding), null);
+    }
+
+    @Override
+    public String add(Embedding embedding, @Nullable TextSegment textSegment) {
+        Assert.notNull(embedding, "embedding cannot be null");
+        String id = randomUUID();
+        addAll(List.of(id), List.of(embedding), textSegment == null ? null : List.of(textSegment));
+        return id;
+    }
+
+    @Override
+    public List<String> addAll(List<Embedding> embeddings) {
+        Assert.notNull(embeddings, "embeddings cannot be null");
+        List<String> ids = embeddings.stream().map(embedding -> randomUUID()).toList();
+        addAll(ids, embeddings, null);
+        return ids;
+    }
+
+    @Override
+    public List<String> addAll(List<Embedding> embeddings, @Nullable List<TextSegment> textSegments) {
+        Assert.notNull(embeddings, "embeddings cannot be null");
+        List<String> ids = embeddings.stream().map(embedding -> randomUUID()).toList();
+        addAll(ids, embeddings, textSegments);
+        return ids;
+    }
+
+    private void addAll(List<String> ids, List<Embedding> embeddings, @Nullable List<TextSegment> textSegments) {
+        Assert.noNullElements(embeddings, "embeddings cannot contain null elements");
+        Assert.isTrue(CollectionUtils.isEmpty(textSegments) || textSegments.size() == embeddings.size(),
+                "textSegments must have the same size as embeddings");
+
+        lock.writeLock().lock();
+        try {
+            if (dimension == 0 && !embeddings.isEmpty()) {
+                Assert.isTrue(embeddings.get(0).dimension() > 0, "embeddings cannot be empty");
+                initDimension(embeddings.get(0).dimension());
+            }
+            for (Embedding embedding : embeddings) {
+                Assert.isTrue(embedding.dimension() == dimension,
+                        () -> "Embedding dimension " + embedding.dimension() + " doesn't match the store dimension " + dimension);
+            }
+
+            for (int i = 0; i < embeddings.size(); i++) {
+                float[] vector = embeddings.get(i).vector();
+                ByteBuffer block = ensureBlockCapacity(size / blockCapacity, size % blockCapacity + 1);
+                block.asFloatBuffer().put((size % blockCapacity) * dimension, vector);
+
+                if (size == norms.length) {
+                    norms = Arrays.copyOf(norms, norms.length * 2);
+                }
+                norms[size] = (float) Math.sqrt(scorer.dotProduct(vector, vector, dimension));
+
+                this.ids.add(ids.get(i));
+                this.textSegments.add(CollectionUtils.isEmpty(textSegments) ? null : textSegments.get(i));
+                size++;
+            }
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the block with the given index, allocating it or growing it so that it holds
+     * at least {@code vectors} vectors.
+     */
+    private ByteBuffer ensureBlockCapacity(int blockIndex, int vectors) {
+        int vectorSize = dimension * Float.BYTES;
+        if (blockIndex == blocks.size()) {
+            int initialCapacity = Math.min(blockCapacity, Math.max(1, MIN_BLOCK_SIZE / vectorSize));
+            blocks.add(ByteBuffer.allocateDirect(initialCapacity * vectorSize).order(ByteOrder.nativeOrder()));
+        }
+        ByteBuffer block = blocks.get(blockIndex);
+        int capacity = block.capacity() / vectorSize;
+        if (vectors > capacity) {
+            int newCapacity = (int) Math.min(blockCapacity, Math.max(vectors, 2L * capacity));
+            ByteBuffer newBlock = ByteBuffer.allocateDirect(newCapacity * vectorSize).order(ByteOrder.nativeOrder());
+            newBlock.put(0, block, 0, block.capacity());
+            blocks.set(blockIndex, newBlock);
+            block = newBlock;
+        }
+        return block;
+    }
+
+    private void initDimension(int dimension) {
+        this.dimension = dimension;
+        this.blockCapacity = Math.max(1, MAX_BLOCK_SIZE / (dimension * Float.BYTES));
+    }
+
+    @Override
+    public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest embeddingSearchRequest) {
+        Assert.notNull(embeddingSearchRequest, "embeddingSearchRequest cannot be null");
+
+        float[] query = embeddingSearchRequest.queryEmbedding().vector();
+        int maxResults = embeddingSearchRequest.maxResults();
+        double minScore = embeddingSearchRequest.minScore();
+        Filter filter = embeddingSearchRequest.filter();
+
+        lock.readLock().lock();
+        try {
+            if (size == 0) {
+                return new EmbeddingSearchResult<>(List.of());
+            }
+            Assert.isTrue(query.length == dimension,
+                    () -> "Query dimension " + query.length + " doesn't match the store dimension " + dimension);
+
+            float queryNorm = (float) Math.sqrt(scorer.dotProduct(query, query, dimension));
+            int tasks = size < parallelThreshold ? 1 : Math.min(parallelism, size);
+            int chunkSize = (size + tasks - 1) / tasks;
+
+            List<CompletableFuture<PriorityQueue<Candidate>>> forkedScans = new ArrayList<>(tasks - 1);
+            for (int from = chunkSize; from < size; from += chunkSize) {
+                int start = from;
+                int end = Math.min(from + chunkSize, size);
+                forkedScans.add(CompletableFuture.supplyAsync(
+                        () -> scan(start, end, query, queryNorm, maxResults, minScore, filter), executor));
+            }
+
+            // The calling thread scans the first chunk, instead of waiting idle.
+            PriorityQueue<Candidate> candidates = scan(0, Math.min(chunkSize, size), query, queryNorm, maxResults,
+                    minScore, filter);
+            for (CompletableFuture<PriorityQueue<Candidate>> forkedScan : forkedScans) {
+                for (Candidate candidate : await(forkedScan)) {
+                    offer(candidates, candidate, maxResults);
+                }
+            }
+
+            List<EmbeddingMatch<TextSegment>> matches = new ArrayList<>(candidates.size());
+            for (Candidate candidate : candidates) {
+                matches.add(new EmbeddingMatch<>(candidate.score(), ids.get(candidate.index()),
+                        Embedding.from(vector(candidate.index(), new float[dimension])),
+                        textSegments.get(candidate.index())));
+            }
+            matches.sort(Comparator.comparingDouble(EmbeddingMatch<TextSegment>::score).reversed());
+            return new EmbeddingSearchResult<>(matches);
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Scores the vectors from index {@code from} to {@code to}, keeping the {@code maxResults}
+     * best ones in a queue where the lowest score comes first.
+     */
+    private PriorityQueue<Candidate> scan(int from, int to, float[] query, float queryNorm, int maxResults,
+            double minScore, @Nullable Filter filter) {
+        var candidates = new PriorityQueue<>(Math.min(maxResults, to - from) + 1, CANDIDATE_COMPARATOR);
+        int vectorSize = dimension * Float.BYTES;
+        for (int i = from; i < to; i++) {
+            TextSegment textSegment = textSegments.get(i);
+            if (filter != null && textSegment != null && !filter.test(textSegment.metadata())) {
+                continue;
+            }
+            float normProduct = queryNorm * norms[i];
+            double cosineSimilarity = normProduct == 0 ? 0
+                    : scorer.dotProduct(query, blocks.get(i / blockCapacity), (i % blockCapacity) * vectorSize,
+                            dimension) / normProduct;
+            double score = RelevanceScore.fromCosineSimilarity(cosineSimilarity);
+            if (score >= minScore) {
+                offer(candidates, new Candidate(i, score), maxResults);
+            }
+        }
+        return candidates;
+    }
+
+    private static void offer(PriorityQueue<Candidate> candidates, Candidate candidate, int maxResults) {
+        if (candidates.size() < maxResults) {
+            candidates.add(candidate);
+        }
+        else if (candidates.peek().score() < candidate.score()) {
+            candidates.poll();
+            candidates.add(candidate);
+        }
+    }
+
+    private float[] vector(int index, float[] target) {
+        blocks.get(index / blockCapacity).asFloatBuffer().get((index % blockCapacity) * dimension, target);
+        return target;
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        }
+        catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Number of embeddings in the store.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Direct memory allocated for the vectors, in bytes.
+     */
+    long allocatedBytes() {
+        lock.readLock().lock();
+        try {
+            return blocks.stream().mapToLong(ByteBuffer::capacity).sum();
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    VectorScorer getScorer() {
+        return scorer;
+    }
+
+    public void setParallelism(int parallelism) {
+        Assert.isTrue(parallelism > 0, "parallelism must be greater than 0");
+        this.parallelism = parallelism;
+    }
+
+    public void setParallelThreshold(int parallelThreshold) {
+        Assert.isTrue(parallelThreshold > 0, "parallelThreshold must be greater than 0");
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    public void setExecutor(Executor executor) {
+        Assert.notNull(executor, "executor cannot be null");
+        this.executor = executor;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private record Candidate(int index, double score) {}
+
+    public static class Builder {
+        private Integer dimension;
+        private Integer parallelism;
+        private Integer parallelThreshold;
+        private Executor executor;
+
+        private Builder() {}
+
+        /**
+         * Dimension of the embeddings. If not set, it's the dimension of the first embedding added.
+         */
+        public Builder dimension(Integer dimension) {
+            this.dimension = dimension;
+            return this;
+        }
+
+        /**
+         * Maximum number of tasks a search is split into. Defaults to the number of available processors.
+         */
+        public Builder parallelism(Integer parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Number of embeddings in the store from which searches are split into parallel tasks.
+         */
+        public Builder parallelThreshold(Integer parallelThreshold) {
+            this.parallelThreshold = parallelThreshold;
+            return this;
+        }
+
+        /**
+         * Executor running the parallel search tasks. Defaults to the common fork-join pool,
+         * since the tasks are CPU-bound.
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public OffHeapEmbeddingStore build() {
+            var embeddingStore = new OffHeapEmbeddingStore(dimension);
+            if (parallelism != null) {
+                embeddingStore.setParallelism(parallelism);
+            }
+            if (parallelThreshold != null) {
+                embeddingStore.setParallelThreshold(parallelThreshold);
+            }
+            if (executor != null) {
+                embeddingStore.setExecutor(executor);
+            }
+            return embeddingStore;
+        }
+    }
+
+}
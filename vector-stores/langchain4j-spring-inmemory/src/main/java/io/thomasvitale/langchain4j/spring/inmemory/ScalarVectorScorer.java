@@ -0,0 +1,28 @@
+package io.thomasvitale.langchain4j.spring.inmemory;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link VectorScorer} computing one element at a time.
+ */
+class ScalarVectorScorer implements VectorScorer {
+
+    @Override
+    public float dotProduct(float[] a, float[] b, int length) {
+        float result = 0;
+        for (int i = 0; i < length; i++) {
+            result += a[i] * b[i];
+        }
+        return result;
+    }
+
+    @Override
+    public float dotProduct(float[] a, ByteBuffer b, int offset, int length) {
+        float result = 0;
+        for (int i = 0; i < length; i++) {
+            result += a[i] * b.getFloat(offset + i * Float.BYTES);
+        }
+        return result;
+    }
+
+}
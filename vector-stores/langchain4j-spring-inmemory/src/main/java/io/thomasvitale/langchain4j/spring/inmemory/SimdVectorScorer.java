@@ -0,0 +1,50 @@
+package io.thomasvitale.langchain4j.spring.inmemory;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link VectorScorer} computing as many elements at a time as the CPU registers hold,
+ * using the Vector API. Only instantiated by {@link VectorScorer#create()} when the
+ * {@code jdk.incubator.vector} module is available.
+ */
+class SimdVectorScorer implements VectorScorer {
+
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    private static final ByteOrder BYTE_ORDER = ByteOrder.nativeOrder();
+
+    @Override
+    public float dotProduct(float[] a, float[] b, int length) {
+        var sum = FloatVector.zero(SPECIES);
+        int i = 0;
+        for (int upperBound = SPECIES.loopBound(length); i < upperBound; i += SPECIES.length()) {
+            sum = FloatVector.fromArray(SPECIES, a, i).fma(FloatVector.fromArray(SPECIES, b, i), sum);
+        }
+        float result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            result += a[i] * b[i];
+        }
+        return result;
+    }
+
+    @Override
+    public float dotProduct(float[] a, ByteBuffer b, int offset, int length) {
+        var sum = FloatVector.zero(SPECIES);
+        int i = 0;
+        for (int upperBound = SPECIES.loopBound(length); i < upperBound; i += SPECIES.length()) {
+            sum = FloatVector.fromArray(SPECIES, a, i)
+                .fma(FloatVector.fromByteBuffer(SPECIES, b, offset + i * Float.BYTES, BYTE_ORDER), sum);
+        }
+        float result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            result += a[i] * b.getFloat(offset + i * Float.BYTES);
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,50 @@
+package io.thomasvitale.langchain4j.spring.inmemory;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Computes the dot product of two vectors.
+ */
+interface VectorScorer {
+
+    String SIMD_VECTOR_SCORER_CLASS_NAME = "io.thomasvitale.langchain4j.spring.inmemory.SimdVectorScorer";
+
+    float dotProduct(float[] a, float[] b, int length);
+
+    /**
+     * Computes the dot product of {@code a} and the vector stored in {@code b} from the byte
+     * {@code offset}, without copying it. The buffer must be in native byte order.
+     */
+    float dotProduct(float[] a, ByteBuffer b, int offset, int length);
+
+    /**
+     * Returns a scorer based on the Vector API if the {@code jdk.incubator.vector} module
+     * is available at runtime, or a scalar one otherwise.
+     */
+    static VectorScorer create() {
+        Logger logger = LoggerFactory.getLogger(VectorScorer.class);
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                // Loaded by name, so that classes of the incubating module are never linked when it's missing.
+                var scorer = (VectorScorer) Class.forName(SIMD_VECTOR_SCORER_CLASS_NAME)
+                    .getDeclaredConstructor()
+                    .newInstance();
+                // Both methods are called once, since the incubating API differs across Java versions.
+                scorer.dotProduct(new float[] { 1.0f }, new float[] { 1.0f }, 1);
+                scorer.dotProduct(new float[] { 1.0f },
+                        ByteBuffer.allocateDirect(Float.BYTES).order(ByteOrder.nativeOrder()).putFloat(0, 1.0f), 0, 1);
+                logger.debug("Scoring vectors with the Vector API");
+                return scorer;
+            }
+            catch (ReflectiveOperationException | LinkageError ex) {
+                logger.debug("Vector API not usable, falling back to scalar scoring", ex);
+            }
+        }
+        return new ScalarVectorScorer();
+    }
+
+}
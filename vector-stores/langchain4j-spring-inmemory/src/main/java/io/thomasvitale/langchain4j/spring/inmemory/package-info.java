@@ -0,0 +1,6 @@
+@NonNullApi
+@NonNullFields
+package io.thomasvitale.langchain4j.spring.inmemory;
+
+import org.springframework.lang.NonNullApi;
+import org.springframework.lang.NonNullFields;
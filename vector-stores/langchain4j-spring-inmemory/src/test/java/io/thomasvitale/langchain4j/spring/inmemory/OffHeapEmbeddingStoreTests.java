@@ -0,0 +1,204 @@
+package io.thomasvitale.langchain4j.spring.inmemory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+
+import org.junit.jupiter.api.Test;
+
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for {@link OffHeapEmbeddingStore}.
+ */
+class OffHeapEmbeddingStoreTests {
+
+    private final Random random = new Random(42);
+
+    @Test
+    void searchReturnsSameMatchesAsInMemoryEmbeddingStore() {
+        var embeddingStore = OffHeapEmbeddingStore.builder().build();
+        var referenceEmbeddingStore = new InMemoryEmbeddingStore<TextSegment>();
+        for (int i = 0; i < 200; i++) {
+            Embedding embedding = randomEmbedding(64);
+            TextSegment textSegment = TextSegment.from("text " + i);
+            String id = embeddingStore.add(embedding, textSegment);
+            referenceEmbeddingStore.add(id, embedding, textSegment);
+        }
+        var searchRequest = EmbeddingSearchRequest.builder()
+            .queryEmbedding(randomEmbedding(64))
+            .maxResults(10)
+            .build();
+
+        List<EmbeddingMatch<TextSegment>> matches = embeddingStore.search(searchRequest).matches();
+        List<EmbeddingMatch<TextSegment>> expectedMatches = referenceEmbeddingStore.search(searchRequest).matches();
+
+        assertThat(matches).hasSize(10);
+        for (int i = 0; i < matches.size(); i++) {
+            assertThat(matches.get(i).embeddingId()).isEqualTo(expectedMatches.get(i).embeddingId());
+            assertThat(matches.get(i).score()).isCloseTo(expectedMatches.get(i).score(), within(1e-5));
+            assertThat(matches.get(i).embedding()).isEqualTo(expectedMatches.get(i).embedding());
+            assertThat(matches.get(i).embedded()).isEqualTo(expectedMatches.get(i).embedded());
+        }
+    }
+
+    @Test
+    void parallelSearchReturnsSameMatchesAsSequentialSearch() {
+        var sequentialEmbeddingStore = OffHeapEmbeddingStore.builder().build();
+        var parallelEmbeddingStore = OffHeapEmbeddingStore.builder().parallelism(4).parallelThreshold(1).build();
+        List<Embedding> embeddings = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            embeddings.add(randomEmbedding(32));
+        }
+        List<String> ids = sequentialEmbeddingStore.addAll(embeddings);
+        for (int i = 0; i < embeddings.size(); i++) {
+            parallelEmbeddingStore.add(ids.get(i), embeddings.get(i));
+        }
+        var searchRequest = EmbeddingSearchRequest.builder()
+            .queryEmbedding(randomEmbedding(32))
+            .maxResults(25)
+            .build();
+
+        var sequentialMatches = sequentialEmbeddingStore.search(searchRequest).matches();
+        var parallelMatches = parallelEmbeddingStore.search(searchRequest).matches();
+
+        assertThat(parallelMatches).extracting(EmbeddingMatch::embeddingId)
+            .containsExactlyElementsOf(sequentialMatches.stream().map(EmbeddingMatch::embeddingId).toList());
+    }
+
+    @Test
+    void searchGrowsAcrossBlocks() {
+        // Vectors of 8 MB, so that each block of 64 MB holds 8 of them.
+        var embeddingStore = OffHeapEmbeddingStore.builder().build();
+        Embedding target = randomEmbedding(1 << 21);
+        for (int i = 0; i < 8; i++) {
+            embeddingStore.add(randomEmbedding(1 << 21));
+        }
+        String targetId = embeddingStore.add(target);
+
+        var matches = embeddingStore.search(EmbeddingSearchRequest.builder()
+            .queryEmbedding(target)
+            .maxResults(1)
+            .build()).matches();
+
+        assertThat(embeddingStore.size()).isEqualTo(9);
+        assertThat(matches).singleElement().satisfies(match -> {
+            assertThat(match.embeddingId()).isEqualTo(targetId);
+            assertThat(match.score()).isCloseTo(1.0, within(1e-5));
+            assertThat(match.embedding()).isEqualTo(target);
+        });
+    }
+
+    @Test
+    void blocksGrowGeometrically() {
+        // Vectors of 1 KB, so that the first block of 64 KB holds 64 of them.
+        var embeddingStore = OffHeapEmbeddingStore.builder().build();
+        List<Embedding> embeddings = new ArrayList<>();
+        List<String> ids = new ArrayList<>();
+
+        embeddings.add(randomEmbedding(256));
+        ids.add(embeddingStore.add(embeddings.get(0)));
+        assertThat(embeddingStore.allocatedBytes()).isEqualTo(64 * 1024);
+
+        for (int i = 1; i < 200; i++) {
+            embeddings.add(randomEmbedding(256));
+            ids.add(embeddingStore.add(embeddings.get(i)));
+        }
+        assertThat(embeddingStore.allocatedBytes()).isEqualTo(256 * 1024);
+
+        for (int i : new int[] { 0, 63, 64, 127, 128, 199 }) {
+            var matches = embeddingStore.search(EmbeddingSearchRequest.builder()
+                .queryEmbedding(embeddings.get(i))
+                .maxResults(1)
+                .build()).matches();
+            assertThat(matches).singleElement().satisfies(match -> {
+                assertThat(match.embeddingId()).isEqualTo(ids.get(i));
+                assertThat(match.embedding()).isEqualTo(embeddings.get(i));
+            });
+        }
+    }
+
+    @Test
+    void searchWithMinScore() {
+        var embeddingStore = OffHeapEmbeddingStore.builder().build();
+        String sameId = embeddingStore.add(Embedding.from(new float[] { 1.0f, 0.0f }));
+        embeddingStore.add(Embedding.from(new float[] { 0.0f, 1.0f }));
+        embeddingStore.add(Embedding.from(new float[] { -1.0f, 0.0f }));
+
+        var matches = embeddingStore.search(EmbeddingSearchRequest.builder()
+            .queryEmbedding(Embedding.from(new float[] { 2.0f, 0.0f }))
+            .minScore(0.75)
+            .build()).matches();
+
+        assertThat(matches).extracting(EmbeddingMatch::embeddingId).containsExactly(sameId);
+    }
+
+    @Test
+    void searchWithMetadataFilter() {
+        var embeddingStore = OffHeapEmbeddingStore.builder().build();
+        embeddingStore.add(Embedding.from(new float[] { 1.0f, 0.0f }),
+                TextSegment.from("first", Metadata.from(Map.of("lang", "en"))));
+        String matchingId = embeddingStore.add(Embedding.from(new float[] { 0.5f, 0.5f }),
+                TextSegment.from("second", Metadata.from(Map.of("lang", "it"))));
+
+        var matches = embeddingStore.search(EmbeddingSearchRequest.builder()
+            .queryEmbedding(Embedding.from(new float[] { 1.0f, 0.0f }))
+            .filter(metadataKey("lang").isEqualTo("it"))
+            .build()).matches();
+
+        assertThat(matches).extracting(EmbeddingMatch::embeddingId).containsExactly(matchingId);
+    }
+
+    @Test
+    void searchEmptyStore() {
+        var embeddingStore = OffHeapEmbeddingStore.builder().build();
+
+        var matches = embeddingStore.search(EmbeddingSearchRequest.builder()
+            .queryEmbedding(randomEmbedding(8))
+            .build()).matches();
+
+        assertThat(matches).isEmpty();
+    }
+
+    @Test
+    void whenEmbeddingDimensionDoesNotMatchThenThrow() {
+        var embeddingStore = OffHeapEmbeddingStore.builder().dimension(3).build();
+
+        assertThatThrownBy(() -> embeddingStore.add(randomEmbedding(4)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("doesn't match the store dimension 3");
+        assertThat(embeddingStore.size()).isZero();
+    }
+
+    @Test
+    void whenQueryDimensionDoesNotMatchThenThrow() {
+        var embeddingStore = OffHeapEmbeddingStore.builder().build();
+        embeddingStore.add(randomEmbedding(3));
+
+        assertThatThrownBy(() -> embeddingStore.search(EmbeddingSearchRequest.builder()
+                .queryEmbedding(randomEmbedding(4))
+                .build()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("doesn't match the store dimension 3");
+    }
+
+    private Embedding randomEmbedding(int dimension) {
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = random.nextFloat() * 2 - 1;
+        }
+        return Embedding.from(vector);
+    }
+
+}
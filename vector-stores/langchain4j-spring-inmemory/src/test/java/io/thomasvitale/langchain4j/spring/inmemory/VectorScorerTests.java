@@ -0,0 +1,48 @@
+package io.thomasvitale.langchain4j.spring.inmemory;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Unit tests for {@link VectorScorer}.
+ */
+class VectorScorerTests {
+
+    @Test
+    void vectorApiUsedWhenAvailable() {
+        // The tests run with the jdk.incubator.vector module added.
+        assertThat(VectorScorer.create()).isInstanceOf(SimdVectorScorer.class);
+    }
+
+    @Test
+    void scorersComputeSameDotProduct() {
+        var random = new Random(42);
+        for (int length : new int[] { 1, 7, 8, 31, 384, 1536 }) {
+            float[] a = new float[length];
+            float[] b = new float[length];
+            double expected = 0;
+            for (int i = 0; i < length; i++) {
+                a[i] = random.nextFloat() * 2 - 1;
+                b[i] = random.nextFloat() * 2 - 1;
+                expected += (double) a[i] * b[i];
+            }
+
+            assertThat(new ScalarVectorScorer().dotProduct(a, b, length)).isCloseTo((float) expected, within(1e-3f));
+            assertThat(new SimdVectorScorer().dotProduct(a, b, length)).isCloseTo((float) expected, within(1e-3f));
+
+            // The vector is stored after another one, as in the blocks of the store.
+            ByteBuffer buffer = ByteBuffer.allocateDirect(2 * length * Float.BYTES).order(ByteOrder.nativeOrder());
+            buffer.asFloatBuffer().put(length, b);
+            int offset = length * Float.BYTES;
+            assertThat(new ScalarVectorScorer().dotProduct(a, buffer, offset, length)).isCloseTo((float) expected, within(1e-3f));
+            assertThat(new SimdVectorScorer().dotProduct(a, buffer, offset, length)).isCloseTo((float) expected, within(1e-3f));
+        }
+    }
+
+}